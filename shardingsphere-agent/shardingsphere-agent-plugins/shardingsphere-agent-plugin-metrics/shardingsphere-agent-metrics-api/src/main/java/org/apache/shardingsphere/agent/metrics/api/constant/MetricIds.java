@@ -49,6 +49,10 @@ public final class MetricIds {
     
     public static final String METADATA_INFO = "meta_data_info";
     
+    public static final String PIPELINE_JOB_INFO = "pipeline_job_info";
+    
+    public static final String PROXY_FRONTEND_WRITE_INFO = "proxy_frontend_write_info";
+    
     public static final String PARSE_SQL_SELECT = "parse_sql_dml_select_total";
     
     public static final String PARSE_SQL_UPDATE = "parse_sql_dml_update_total";
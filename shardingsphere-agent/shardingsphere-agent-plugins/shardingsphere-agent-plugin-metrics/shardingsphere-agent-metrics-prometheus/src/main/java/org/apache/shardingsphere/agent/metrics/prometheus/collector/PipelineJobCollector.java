@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.prometheus.collector;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.GaugeMetricFamily;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.api.util.MetricsUtil;
+import org.apache.shardingsphere.agent.metrics.prometheus.wrapper.PrometheusWrapperFactory;
+import org.apache.shardingsphere.data.pipeline.core.metrics.PipelineJobMetricsRegistry;
+import org.apache.shardingsphere.data.pipeline.core.metrics.PipelineTaskMetrics;
+import org.apache.shardingsphere.data.pipeline.core.task.PipelineTask;
+import org.apache.shardingsphere.data.pipeline.scenario.rulealtered.RuleAlteredJobContext;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Pipeline job collector, exposes throughput and lag of pipeline tasks running in current instance.
+ */
+public final class PipelineJobCollector extends Collector {
+    
+    private static final String PIPELINE_METRICS_REGISTRY_CLASS = "org.apache.shardingsphere.data.pipeline.core.metrics.PipelineJobMetricsRegistry";
+    
+    private static final PrometheusWrapperFactory FACTORY = new PrometheusWrapperFactory();
+    
+    @Override
+    public List<MetricFamilySamples> collect() {
+        if (!MetricsUtil.isClassExisted(PIPELINE_METRICS_REGISTRY_CLASS)) {
+            return Collections.emptyList();
+        }
+        Optional<GaugeMetricFamily> pipelineJobInfo = FACTORY.createGaugeMetricFamily(MetricIds.PIPELINE_JOB_INFO);
+        if (!pipelineJobInfo.isPresent()) {
+            return Collections.emptyList();
+        }
+        for (RuleAlteredJobContext each : PipelineJobMetricsRegistry.getJobContexts()) {
+            collectTasks(pipelineJobInfo.get(), each, each.getInventoryTasks());
+            collectTasks(pipelineJobInfo.get(), each, each.getIncrementalTasks());
+        }
+        List<MetricFamilySamples> result = new LinkedList<>();
+        result.add(pipelineJobInfo.get());
+        return result;
+    }
+    
+    private void collectTasks(final GaugeMetricFamily metricFamily, final RuleAlteredJobContext jobContext, final Iterable<? extends PipelineTask> tasks) {
+        String jobId = jobContext.getJobId();
+        String shardingItem = String.valueOf(jobContext.getShardingItem());
+        for (PipelineTask each : tasks) {
+            PipelineTaskMetrics metrics = each.getMetrics();
+            String taskId = each.getTaskId();
+            metricFamily.addMetric(Arrays.asList(jobId, shardingItem, taskId, "dumper_records_total"), metrics.getDumpedRecordCount());
+            metricFamily.addMetric(Arrays.asList(jobId, shardingItem, taskId, "dumper_bytes_total"), metrics.getDumpedByteCount());
+            metricFamily.addMetric(Arrays.asList(jobId, shardingItem, taskId, "importer_records_total"), metrics.getImportedRecordCount());
+            metricFamily.addMetric(Arrays.asList(jobId, shardingItem, taskId, "importer_bytes_total"), metrics.getImportedByteCount());
+            metricFamily.addMetric(Arrays.asList(jobId, shardingItem, taskId, "channel_queue_depth"), metrics.getChannelQueueDepth());
+            metricFamily.addMetric(Arrays.asList(jobId, shardingItem, taskId, "ack_latency_millis"), metrics.getAckLatencyMillis());
+            metricFamily.addMetric(Arrays.asList(jobId, shardingItem, taskId, "lag_seconds"), metrics.getLagSeconds());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.prometheus.collector;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.GaugeMetricFamily;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.api.util.MetricsUtil;
+import org.apache.shardingsphere.agent.metrics.prometheus.wrapper.PrometheusWrapperFactory;
+import org.apache.shardingsphere.proxy.frontend.connection.ConnectionWriteStatistics;
+import org.apache.shardingsphere.proxy.frontend.connection.ConnectionWriteStatisticsContext;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Proxy frontend write collector, exposes query rows written to clients by currently open frontend connections.
+ */
+public final class ProxyFrontendWriteCollector extends Collector {
+    
+    private static final String WRITE_STATISTICS_CONTEXT_CLASS = "org.apache.shardingsphere.proxy.frontend.connection.ConnectionWriteStatisticsContext";
+    
+    private static final PrometheusWrapperFactory FACTORY = new PrometheusWrapperFactory();
+    
+    @Override
+    public List<MetricFamilySamples> collect() {
+        if (!MetricsUtil.isClassExisted(WRITE_STATISTICS_CONTEXT_CLASS)) {
+            return Collections.emptyList();
+        }
+        Optional<GaugeMetricFamily> proxyFrontendWriteInfo = FACTORY.createGaugeMetricFamily(MetricIds.PROXY_FRONTEND_WRITE_INFO);
+        if (!proxyFrontendWriteInfo.isPresent()) {
+            return Collections.emptyList();
+        }
+        Collection<ConnectionWriteStatistics> statistics = ConnectionWriteStatisticsContext.getInstance().getAll().values();
+        long writtenRowCount = 0;
+        long writtenByteCount = 0;
+        long flushCount = 0;
+        long backpressurePauseCount = 0;
+        long backpressurePausedMillis = 0;
+        for (ConnectionWriteStatistics each : statistics) {
+            writtenRowCount += each.getWrittenRowCount();
+            writtenByteCount += each.getWrittenByteCount();
+            flushCount += each.getFlushCount();
+            backpressurePauseCount += each.getBackpressurePauseCount();
+            backpressurePausedMillis += each.getBackpressurePausedMillis();
+        }
+        proxyFrontendWriteInfo.get().addMetric(Collections.singletonList("connections"), statistics.size());
+        proxyFrontendWriteInfo.get().addMetric(Collections.singletonList("written_rows_total"), writtenRowCount);
+        proxyFrontendWriteInfo.get().addMetric(Collections.singletonList("written_bytes_total"), writtenByteCount);
+        proxyFrontendWriteInfo.get().addMetric(Collections.singletonList("flushes_total"), flushCount);
+        proxyFrontendWriteInfo.get().addMetric(Collections.singletonList("backpressure_pauses_total"), backpressurePauseCount);
+        proxyFrontendWriteInfo.get().addMetric(Collections.singletonList("backpressure_paused_millis_total"), backpressurePausedMillis);
+        List<MetricFamilySamples> result = new LinkedList<>();
+        result.add(proxyFrontendWriteInfo.get());
+        return result;
+    }
+}
@@ -26,6 +26,8 @@ import org.apache.shardingsphere.agent.config.PluginConfiguration;
 import org.apache.shardingsphere.agent.metrics.api.MetricsPool;
 import org.apache.shardingsphere.agent.metrics.prometheus.collector.BuildInfoCollector;
 import org.apache.shardingsphere.agent.metrics.prometheus.collector.MetaDataInfoCollector;
+import org.apache.shardingsphere.agent.metrics.prometheus.collector.PipelineJobCollector;
+import org.apache.shardingsphere.agent.metrics.prometheus.collector.ProxyFrontendWriteCollector;
 import org.apache.shardingsphere.agent.metrics.prometheus.collector.ProxyInfoCollector;
 import org.apache.shardingsphere.agent.metrics.prometheus.wrapper.PrometheusWrapperFactory;
 import org.apache.shardingsphere.agent.spi.boot.PluginBootService;
@@ -63,6 +65,8 @@ public final class PrometheusPluginBootService implements PluginBootService {
         new ProxyInfoCollector().register();
         new BuildInfoCollector().register();
         new MetaDataInfoCollector().register();
+        new PipelineJobCollector().register();
+        new ProxyFrontendWriteCollector().register();
         if (enabled) {
             DefaultExports.initialize();
         }
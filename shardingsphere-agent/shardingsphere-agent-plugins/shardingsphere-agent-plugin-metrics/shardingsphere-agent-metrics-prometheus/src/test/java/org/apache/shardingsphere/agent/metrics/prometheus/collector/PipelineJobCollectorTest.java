@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.prometheus.collector;
+
+import io.prometheus.client.Collector.MetricFamilySamples;
+import io.prometheus.client.Collector.MetricFamilySamples.Sample;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.metrics.PipelineJobMetricsRegistry;
+import org.apache.shardingsphere.data.pipeline.core.metrics.PipelineTaskMetrics;
+import org.apache.shardingsphere.data.pipeline.core.task.InventoryTask;
+import org.apache.shardingsphere.data.pipeline.scenario.rulealtered.RuleAlteredJobContext;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class PipelineJobCollectorTest {
+    
+    private static final String JOB_ID = "0130317c30317c3054317c7368617264696e675f6462";
+    
+    @After
+    public void tearDown() {
+        PipelineJobMetricsRegistry.unregister(JOB_ID);
+    }
+    
+    @Test
+    public void assertCollect() {
+        PipelineJobMetricsRegistry.register(mockJobContext());
+        List<MetricFamilySamples> actual = new PipelineJobCollector().collect();
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).name, is("pipeline_job_info"));
+        Map<String, Sample> samples = new HashMap<>();
+        for (Sample each : actual.get(0).samples) {
+            assertThat(each.labelNames, is(Arrays.asList("job_id", "sharding_item", "task_id", "name")));
+            assertThat(each.labelValues.subList(0, 3), is(Arrays.asList(JOB_ID, "1", "ds_0.t_order#0")));
+            samples.put(each.labelValues.get(3), each);
+        }
+        assertThat(samples.size(), is(7));
+        assertThat(samples.get("dumper_records_total").value, is(1D));
+        assertThat(samples.get("dumper_bytes_total").value, is(11D));
+        assertThat(samples.get("importer_records_total").value, is(0D));
+        assertThat(samples.get("importer_bytes_total").value, is(0D));
+        assertThat(samples.get("channel_queue_depth").value, is(1D));
+        assertThat(samples.get("ack_latency_millis").value, is(0D));
+        assertThat(samples.get("lag_seconds").value, is(0D));
+    }
+    
+    private RuleAlteredJobContext mockJobContext() {
+        PipelineTaskMetrics metrics = new PipelineTaskMetrics();
+        DataRecord dataRecord = new DataRecord(new PlaceholderPosition(), 2);
+        dataRecord.addColumn(new Column("id", 1, true, true));
+        dataRecord.addColumn(new Column("name", "foo", true, false));
+        metrics.onPushed(dataRecord);
+        InventoryTask inventoryTask = mock(InventoryTask.class);
+        when(inventoryTask.getTaskId()).thenReturn("ds_0.t_order#0");
+        when(inventoryTask.getMetrics()).thenReturn(metrics);
+        RuleAlteredJobContext result = mock(RuleAlteredJobContext.class);
+        when(result.getJobId()).thenReturn(JOB_ID);
+        when(result.getShardingItem()).thenReturn(1);
+        when(result.getInventoryTasks()).thenReturn(Collections.singletonList(inventoryTask));
+        when(result.getIncrementalTasks()).thenReturn(Collections.emptyList());
+        return result;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.prometheus.collector;
+
+import io.prometheus.client.Collector.MetricFamilySamples;
+import io.prometheus.client.Collector.MetricFamilySamples.Sample;
+import org.apache.shardingsphere.proxy.frontend.connection.ConnectionWriteStatistics;
+import org.apache.shardingsphere.proxy.frontend.connection.ConnectionWriteStatisticsContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ProxyFrontendWriteCollectorTest {
+    
+    @Before
+    public void setUp() {
+        ConnectionWriteStatisticsContext.getInstance().register(1);
+        ConnectionWriteStatisticsContext.getInstance().register(2);
+        ConnectionWriteStatistics statistics = ConnectionWriteStatisticsContext.getInstance().find(1).orElseThrow(IllegalStateException::new);
+        statistics.onRowWritten(100);
+        statistics.onRowWritten(28);
+        statistics.onFlush();
+        statistics.onBackpressurePaused(15L);
+        ConnectionWriteStatisticsContext.getInstance().find(2).orElseThrow(IllegalStateException::new).onRowWritten(10);
+    }
+    
+    @After
+    public void tearDown() {
+        ConnectionWriteStatisticsContext.getInstance().unregister(1);
+        ConnectionWriteStatisticsContext.getInstance().unregister(2);
+    }
+    
+    @Test
+    public void assertCollect() {
+        List<MetricFamilySamples> actual = new ProxyFrontendWriteCollector().collect();
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).name, is("proxy_frontend_write_info"));
+        Map<String, Double> samples = new HashMap<>();
+        for (Sample each : actual.get(0).samples) {
+            samples.put(each.labelValues.get(0), each.value);
+        }
+        assertThat(samples.size(), is(6));
+        assertThat(samples.get("connections"), is(2D));
+        assertThat(samples.get("written_rows_total"), is(3D));
+        assertThat(samples.get("written_bytes_total"), is(138D));
+        assertThat(samples.get("flushes_total"), is(1D));
+        assertThat(samples.get("backpressure_pauses_total"), is(1D));
+        assertThat(samples.get("backpressure_paused_millis_total"), is(15D));
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.row;
+
+import io.netty.buffer.ByteBuf;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Writer for decimal text of integral number, which writes ASCII digits into byte buffer without creating string.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TextNumberWriter {
+    
+    /**
+     * Judge whether value is integral number can be written.
+     *
+     * @param value value
+     * @return is integral number or not
+     */
+    public static boolean isIntegral(final Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    /**
+     * Get length of decimal text.
+     *
+     * @param value value
+     * @return length of decimal text
+     */
+    public static int getLength(final long value) {
+        if (Long.MIN_VALUE == value) {
+            return 20;
+        }
+        int result = value < 0 ? 2 : 1;
+        long remaining = Math.abs(value);
+        while (remaining >= 10) {
+            remaining /= 10;
+            result++;
+        }
+        return result;
+    }
+    
+    /**
+     * Write decimal text.
+     *
+     * @param byteBuf byte buffer
+     * @param value value
+     * @param length length of decimal text, must be calculated by {@link #getLength(long)}
+     */
+    public static void write(final ByteBuf byteBuf, final long value, final int length) {
+        int writerIndex = byteBuf.writerIndex();
+        byteBuf.ensureWritable(length);
+        int position = writerIndex + length - 1;
+        long remaining = value;
+        do {
+            byteBuf.setByte(position--, '0' + (int) Math.abs(remaining % 10));
+            remaining /= 10;
+        } while (0 != remaining);
+        if (value < 0) {
+            byteBuf.setByte(position, '-');
+        }
+        byteBuf.writerIndex(writerIndex + length);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.row;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class TextNumberWriterTest {
+    
+    @Test
+    public void assertIsIntegral() {
+        assertTrue(TextNumberWriter.isIntegral(1L));
+        assertTrue(TextNumberWriter.isIntegral((byte) 1));
+        assertFalse(TextNumberWriter.isIntegral(1.0D));
+        assertFalse(TextNumberWriter.isIntegral("1"));
+    }
+    
+    @Test
+    public void assertWrite() {
+        for (long each : new long[]{0L, 7L, -7L, 10L, -10L, 1234567890L, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            assertWrite(each);
+        }
+    }
+    
+    private void assertWrite(final long value) {
+        ByteBuf byteBuf = Unpooled.buffer(1);
+        byteBuf.writeByte('x');
+        int length = TextNumberWriter.getLength(value);
+        assertThat(length, is(Long.toString(value).length()));
+        TextNumberWriter.write(byteBuf, value, length);
+        assertThat(byteBuf.toString(StandardCharsets.US_ASCII), is("x" + value));
+    }
+}
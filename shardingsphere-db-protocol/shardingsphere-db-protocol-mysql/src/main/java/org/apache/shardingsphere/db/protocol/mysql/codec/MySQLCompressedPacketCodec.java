@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.CombinedChannelDuplexHandler;
+
+/**
+ * Compressed packet codec for MySQL, which should be placed before packet codec of MySQL once compressed protocol is negotiated.
+ *
+ * @see <a href="https://dev.mysql.com/doc/internals/en/compression.html">Compression</a>
+ */
+public final class MySQLCompressedPacketCodec extends CombinedChannelDuplexHandler<MySQLCompressedPacketDecoder, MySQLCompressedPacketEncoder> {
+    
+    private final MySQLCompressionAlgorithm algorithm;
+    
+    public MySQLCompressedPacketCodec(final MySQLCompressionAlgorithm algorithm, final int minCompressLength) {
+        this.algorithm = algorithm;
+        MySQLCompressedPacketEncoder encoder = new MySQLCompressedPacketEncoder(algorithm, minCompressLength);
+        init(new MySQLCompressedPacketDecoder(algorithm, encoder), encoder);
+    }
+    
+    @Override
+    public void handlerRemoved(final ChannelHandlerContext context) throws Exception {
+        try {
+            super.handlerRemoved(context);
+        } finally {
+            algorithm.close();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Compressed packet decoder for MySQL, which unwraps compressed packets into bytes of MySQL packets.
+ *
+ * @see <a href="https://dev.mysql.com/doc/internals/en/compressed-packet-header.html">Compressed Packet Header</a>
+ */
+@RequiredArgsConstructor
+public final class MySQLCompressedPacketDecoder extends ByteToMessageDecoder {
+    
+    private final MySQLCompressionAlgorithm algorithm;
+    
+    private final MySQLCompressedPacketEncoder encoder;
+    
+    @Override
+    protected void decode(final ChannelHandlerContext context, final ByteBuf in, final List<Object> out) {
+        if (in.readableBytes() < MySQLCompressedPacketEncoder.HEADER_LENGTH) {
+            return;
+        }
+        int payloadLength = in.getUnsignedMediumLE(in.readerIndex());
+        if (in.readableBytes() < MySQLCompressedPacketEncoder.HEADER_LENGTH + payloadLength) {
+            return;
+        }
+        in.skipBytes(3);
+        encoder.resetSequenceId(in.readUnsignedByte() + 1);
+        int uncompressedLength = in.readUnsignedMediumLE();
+        if (0 == uncompressedLength) {
+            out.add(in.readRetainedSlice(payloadLength));
+            return;
+        }
+        byte[] compressedPayload = ByteBufUtil.getBytes(in, in.readerIndex(), payloadLength);
+        in.skipBytes(payloadLength);
+        out.add(Unpooled.wrappedBuffer(algorithm.decompress(compressedPayload, uncompressedLength)));
+    }
+}
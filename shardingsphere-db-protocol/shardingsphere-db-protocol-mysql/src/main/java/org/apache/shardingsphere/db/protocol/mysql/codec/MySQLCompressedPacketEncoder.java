@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.CoalescingBufferQueue;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.channels.ClosedChannelException;
+
+/**
+ * Compressed packet encoder for MySQL.
+ *
+ * <p>Bytes of MySQL packets written are coalesced until flush, so that small packets of one response are compressed together.
+ * Pending bytes are written out before any other message written, so the order of writes is kept.</p>
+ *
+ * @see <a href="https://dev.mysql.com/doc/internals/en/compressed-packet-header.html">Compressed Packet Header</a>
+ */
+@RequiredArgsConstructor
+public final class MySQLCompressedPacketEncoder extends ChannelOutboundHandlerAdapter {
+    
+    static final int HEADER_LENGTH = 7;
+    
+    private static final int MAX_PAYLOAD_LENGTH = 0xffffff;
+    
+    private final MySQLCompressionAlgorithm algorithm;
+    
+    private final int minCompressLength;
+    
+    private CoalescingBufferQueue pendingBuffers;
+    
+    private int sequenceId;
+    
+    @Override
+    public void handlerAdded(final ChannelHandlerContext context) {
+        pendingBuffers = new CoalescingBufferQueue(context.channel(), 4, true);
+    }
+    
+    @Override
+    public void handlerRemoved(final ChannelHandlerContext context) {
+        pendingBuffers.releaseAndFailAll(new ClosedChannelException());
+    }
+    
+    @Override
+    public void write(final ChannelHandlerContext context, final Object msg, final ChannelPromise promise) {
+        if (msg instanceof ByteBuf) {
+            pendingBuffers.add((ByteBuf) msg, promise);
+            return;
+        }
+        writePendingBuffers(context);
+        context.write(msg, promise);
+    }
+    
+    @Override
+    public void flush(final ChannelHandlerContext context) {
+        writePendingBuffers(context);
+        context.flush();
+    }
+    
+    private void writePendingBuffers(final ChannelHandlerContext context) {
+        while (!pendingBuffers.isEmpty()) {
+            ChannelPromise promise = context.newPromise();
+            ByteBuf payload = pendingBuffers.remove(context.alloc(), MAX_PAYLOAD_LENGTH, promise);
+            context.write(encode(context.alloc(), payload), promise);
+        }
+    }
+    
+    private ByteBuf encode(final ByteBufAllocator allocator, final ByteBuf payload) {
+        int payloadLength = payload.readableBytes();
+        if (payloadLength >= minCompressLength) {
+            byte[] compressedPayload = algorithm.compress(ByteBufUtil.getBytes(payload));
+            if (compressedPayload.length < payloadLength) {
+                payload.release();
+                return writeHeader(allocator.buffer(HEADER_LENGTH + compressedPayload.length), compressedPayload.length, payloadLength).writeBytes(compressedPayload);
+            }
+        }
+        return allocator.compositeBuffer(2).addComponents(true, writeHeader(allocator.buffer(HEADER_LENGTH), payloadLength, 0), payload);
+    }
+    
+    private ByteBuf writeHeader(final ByteBuf out, final int payloadLength, final int uncompressedLength) {
+        out.writeMediumLE(payloadLength);
+        out.writeByte(sequenceId);
+        out.writeMediumLE(uncompressedLength);
+        sequenceId = (sequenceId + 1) & 0xff;
+        return out;
+    }
+    
+    void resetSequenceId(final int sequenceId) {
+        this.sequenceId = sequenceId & 0xff;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+/**
+ * Compression algorithm of MySQL compressed protocol.
+ */
+public interface MySQLCompressionAlgorithm {
+    
+    /**
+     * Compress payload.
+     *
+     * @param payload payload to be compressed
+     * @return compressed payload
+     */
+    byte[] compress(byte[] payload);
+    
+    /**
+     * Decompress payload.
+     *
+     * @param compressedPayload compressed payload
+     * @param uncompressedLength length of uncompressed payload
+     * @return uncompressed payload
+     */
+    byte[] decompress(byte[] compressedPayload, int uncompressedLength);
+    
+    /**
+     * Release resources held by algorithm.
+     */
+    void close();
+}
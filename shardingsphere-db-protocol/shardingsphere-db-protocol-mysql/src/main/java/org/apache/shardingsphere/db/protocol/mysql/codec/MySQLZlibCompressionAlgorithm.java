@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Zlib compression algorithm of MySQL compressed protocol, which is negotiated by {@code CLIENT_COMPRESS}.
+ */
+public final class MySQLZlibCompressionAlgorithm implements MySQLCompressionAlgorithm {
+    
+    private final Deflater deflater = new Deflater();
+    
+    private final Inflater inflater = new Inflater();
+    
+    private final byte[] buffer = new byte[8192];
+    
+    @Override
+    public byte[] compress(final byte[] payload) {
+        deflater.reset();
+        deflater.setInput(payload);
+        deflater.finish();
+        ByteArrayOutputStream result = new ByteArrayOutputStream(payload.length);
+        while (!deflater.finished()) {
+            result.write(buffer, 0, deflater.deflate(buffer));
+        }
+        return result.toByteArray();
+    }
+    
+    @Override
+    public byte[] decompress(final byte[] compressedPayload, final int uncompressedLength) {
+        inflater.reset();
+        inflater.setInput(compressedPayload);
+        byte[] result = new byte[uncompressedLength];
+        int length = 0;
+        try {
+            while (length < uncompressedLength && !inflater.finished()) {
+                int inflated = inflater.inflate(result, length, uncompressedLength - length);
+                if (0 == inflated && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += inflated;
+            }
+        } catch (final DataFormatException ex) {
+            throw new IllegalStateException("Invalid zlib compressed payload.", ex);
+        }
+        if (length != uncompressedLength) {
+            throw new IllegalStateException(String.format("Expected uncompressed length is %d, but actual is %d.", uncompressedLength, length));
+        }
+        return result;
+    }
+    
+    @Override
+    public void close() {
+        deflater.end();
+        inflater.end();
+    }
+}
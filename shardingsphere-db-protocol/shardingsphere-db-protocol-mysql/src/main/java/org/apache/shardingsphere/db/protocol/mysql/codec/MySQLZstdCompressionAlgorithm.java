@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Zstd compression algorithm of MySQL compressed protocol, which is negotiated by {@code CLIENT_ZSTD_COMPRESSION_ALGORITHM}.
+ */
+@RequiredArgsConstructor
+public final class MySQLZstdCompressionAlgorithm implements MySQLCompressionAlgorithm {
+    
+    private static final int DEFAULT_COMPRESSION_LEVEL = 3;
+    
+    private final int compressionLevel;
+    
+    public MySQLZstdCompressionAlgorithm() {
+        this(DEFAULT_COMPRESSION_LEVEL);
+    }
+    
+    @Override
+    public byte[] compress(final byte[] payload) {
+        return Zstd.compress(payload, compressionLevel);
+    }
+    
+    @Override
+    public byte[] decompress(final byte[] compressedPayload, final int uncompressedLength) {
+        byte[] result;
+        try {
+            result = Zstd.decompress(compressedPayload, uncompressedLength);
+        } catch (final ZstdException ex) {
+            throw new IllegalStateException("Invalid zstd compressed payload.", ex);
+        }
+        if (result.length != uncompressedLength) {
+            throw new IllegalStateException(String.format("Expected uncompressed length is %d, but actual is %d.", uncompressedLength, result.length));
+        }
+        return result;
+    }
+    
+    @Override
+    public void close() {
+    }
+}
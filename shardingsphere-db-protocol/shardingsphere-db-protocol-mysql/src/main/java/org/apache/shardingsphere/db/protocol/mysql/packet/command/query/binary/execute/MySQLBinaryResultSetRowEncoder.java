@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValue;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.row.RowValueReader;
+
+import java.nio.charset.Charset;
+import java.sql.SQLException;
+import java.util.Collection;
+
+/**
+ * Binary result set row encoder for MySQL.
+ * 
+ * <p>Encode values of current row into complete packet directly, without creating {@link MySQLBinaryResultSetRowPacket} and cells for each row.
+ * The null bitmap is reserved before values and filled after all values written.</p>
+ *
+ * @see <a href="https://dev.mysql.com/doc/internals/en/binary-protocol-resultset-row.html">Binary Protocol Resultset Row</a>
+ */
+public final class MySQLBinaryResultSetRowEncoder {
+    
+    private static final int PACKET_HEADER = 0x00;
+    
+    private static final int NULL_BITMAP_OFFSET = 2;
+    
+    private static final int PAYLOAD_LENGTH = 3;
+    
+    private static final int SEQUENCE_LENGTH = 1;
+    
+    private final int[] jdbcTypes;
+    
+    private final MySQLBinaryProtocolValue[] binaryProtocolValues;
+    
+    private final int nullBitmapLength;
+    
+    public MySQLBinaryResultSetRowEncoder(final Collection<Integer> jdbcTypes) {
+        this.jdbcTypes = jdbcTypes.stream().mapToInt(Integer::intValue).toArray();
+        binaryProtocolValues = new MySQLBinaryProtocolValue[this.jdbcTypes.length];
+        nullBitmapLength = (this.jdbcTypes.length + NULL_BITMAP_OFFSET + 7) / 8;
+    }
+    
+    /**
+     * Encode current row.
+     *
+     * @param allocator byte buffer allocator
+     * @param charset charset
+     * @param sequenceId sequence ID
+     * @param rowValueReader row value reader
+     * @return byte buffer of complete packet including header
+     * @throws SQLException SQL exception
+     */
+    public ByteBuf encode(final ByteBufAllocator allocator, final Charset charset, final int sequenceId, final RowValueReader rowValueReader) throws SQLException {
+        ByteBuf result = allocator.ioBuffer();
+        boolean encoded = false;
+        try {
+            result.writeInt(0);
+            result.writeByte(PACKET_HEADER);
+            int nullBitmapIndex = result.writerIndex();
+            result.writeZero(nullBitmapLength);
+            MySQLPacketPayload payload = new MySQLPacketPayload(result, charset);
+            for (int i = 0; i < jdbcTypes.length; i++) {
+                Object value = rowValueReader.getValue(i + 1);
+                if (null == value) {
+                    int bitIndex = i + NULL_BITMAP_OFFSET;
+                    int byteIndex = nullBitmapIndex + bitIndex / 8;
+                    result.setByte(byteIndex, result.getByte(byteIndex) | 1 << bitIndex % 8);
+                } else {
+                    getBinaryProtocolValue(i).write(payload, value);
+                }
+            }
+            result.setMediumLE(0, result.readableBytes() - PAYLOAD_LENGTH - SEQUENCE_LENGTH);
+            result.setByte(PAYLOAD_LENGTH, sequenceId);
+            encoded = true;
+            return result;
+        } finally {
+            if (!encoded) {
+                result.release();
+            }
+        }
+    }
+    
+    private MySQLBinaryProtocolValue getBinaryProtocolValue(final int columnIndex) {
+        if (null == binaryProtocolValues[columnIndex]) {
+            binaryProtocolValues[columnIndex] = MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(MySQLBinaryColumnType.valueOfJDBCType(jdbcTypes[columnIndex]));
+        }
+        return binaryProtocolValues[columnIndex];
+    }
+}
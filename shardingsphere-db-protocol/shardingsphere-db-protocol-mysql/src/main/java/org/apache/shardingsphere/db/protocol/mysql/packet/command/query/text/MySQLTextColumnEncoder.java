@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.row.TextNumberWriter;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Column value encoder of text result set row for MySQL.
+ */
+public enum MySQLTextColumnEncoder {
+    
+    GENERIC {
+        
+        @Override
+        public void write(final MySQLPacketPayload payload, final Object value) {
+            if (value instanceof byte[]) {
+                payload.writeBytesLenenc((byte[]) value);
+            } else if ((value instanceof Timestamp) && (0 == ((Timestamp) value).getNanos())) {
+                payload.writeStringLenenc(value.toString().split("\\.")[0]);
+            } else if (value instanceof BigDecimal) {
+                payload.writeStringLenenc(((BigDecimal) value).toPlainString());
+            } else if (value instanceof Boolean) {
+                payload.writeBytesLenenc((Boolean) value ? new byte[]{1} : new byte[]{0});
+            } else if (value instanceof LocalDateTime) {
+                payload.writeStringLenenc(DT_FMT.format((LocalDateTime) value));
+            } else {
+                payload.writeStringLenenc(value.toString());
+            }
+        }
+    },
+    
+    INTEGRAL {
+        
+        @Override
+        public void write(final MySQLPacketPayload payload, final Object value) {
+            if (!TextNumberWriter.isIntegral(value)) {
+                GENERIC.write(payload, value);
+                return;
+            }
+            long longValue = ((Number) value).longValue();
+            int length = TextNumberWriter.getLength(longValue);
+            payload.writeIntLenenc(length);
+            TextNumberWriter.write(payload.getByteBuf(), longValue, length);
+        }
+    },
+    
+    STRING {
+        
+        @Override
+        public void write(final MySQLPacketPayload payload, final Object value) {
+            if (!(value instanceof String) || !StandardCharsets.UTF_8.equals(payload.getCharset())) {
+                GENERIC.write(payload, value);
+                return;
+            }
+            ByteBuf byteBuf = payload.getByteBuf();
+            int length = ByteBufUtil.utf8Bytes((String) value);
+            payload.writeIntLenenc(length);
+            ByteBufUtil.reserveAndWriteUtf8(byteBuf, (String) value, length);
+        }
+    };
+    
+    private static final DateTimeFormatter DT_FMT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    
+    /**
+     * Write non-null column value.
+     *
+     * @param payload packet payload
+     * @param value column value
+     */
+    public abstract void write(MySQLPacketPayload payload, Object value);
+    
+    /**
+     * Get column encoder of JDBC type.
+     *
+     * @param jdbcType JDBC type
+     * @return column encoder
+     */
+    public static MySQLTextColumnEncoder valueOfJDBCType(final int jdbcType) {
+        switch (jdbcType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return INTEGRAL;
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                return STRING;
+            default:
+                return GENERIC;
+        }
+    }
+}
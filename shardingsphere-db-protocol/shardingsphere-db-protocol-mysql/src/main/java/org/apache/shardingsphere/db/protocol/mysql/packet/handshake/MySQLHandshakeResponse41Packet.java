@@ -51,6 +51,8 @@ public final class MySQLHandshakeResponse41Packet implements MySQLPacket {
     
     private String authPluginName;
     
+    private int zstdCompressionLevel;
+    
     public MySQLHandshakeResponse41Packet(final MySQLPacketPayload payload) {
         sequenceId = payload.readInt1();
         capabilityFlags = payload.readInt4();
@@ -61,6 +63,7 @@ public final class MySQLHandshakeResponse41Packet implements MySQLPacket {
         authResponse = readAuthResponse(payload);
         database = readDatabase(payload);
         authPluginName = readAuthPluginName(payload);
+        zstdCompressionLevel = readZstdCompressionLevel(payload);
     }
     
     private byte[] readAuthResponse(final MySQLPacketPayload payload) {
@@ -82,6 +85,16 @@ public final class MySQLHandshakeResponse41Packet implements MySQLPacket {
         return 0 != (capabilityFlags & MySQLCapabilityFlag.CLIENT_PLUGIN_AUTH.getValue()) ? payload.readStringNul() : null;
     }
     
+    private int readZstdCompressionLevel(final MySQLPacketPayload payload) {
+        if (0 == (capabilityFlags & MySQLCapabilityFlag.CLIENT_ZSTD_COMPRESSION_ALGORITHM.getValue())) {
+            return 0;
+        }
+        if (0 != (capabilityFlags & MySQLCapabilityFlag.CLIENT_CONNECT_ATTRS.getValue())) {
+            payload.skipReserved((int) payload.readIntLenenc());
+        }
+        return payload.readInt1();
+    }
+    
     /**
      * Set database.
      *
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLCompressedPacketCodecTest {
+    
+    @Test
+    public void assertEncodeSmallPayloadUncompressed() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressedPacketCodec(new MySQLZlibCompressionAlgorithm(), 50));
+        channel.writeAndFlush(Unpooled.wrappedBuffer(new byte[]{1, 0, 0, 1, 0x0e}));
+        ByteBuf actual = channel.readOutbound();
+        assertThat(actual.readUnsignedMediumLE(), is(5));
+        assertThat(actual.readUnsignedByte(), is((short) 0));
+        assertThat(actual.readUnsignedMediumLE(), is(0));
+        assertThat(ByteBufUtil.getBytes(actual), is(new byte[]{1, 0, 0, 1, 0x0e}));
+        actual.release();
+        channel.finishAndReleaseAll();
+    }
+    
+    @Test
+    public void assertEncodeCoalescedPayloadCompressed() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressedPacketCodec(new MySQLZlibCompressionAlgorithm(), 50));
+        byte[] packet = createPacket(100);
+        channel.write(Unpooled.wrappedBuffer(packet));
+        channel.write(Unpooled.wrappedBuffer(packet));
+        channel.flush();
+        ByteBuf actual = channel.readOutbound();
+        int payloadLength = actual.readUnsignedMediumLE();
+        assertThat(actual.readUnsignedByte(), is((short) 0));
+        assertThat(actual.readUnsignedMediumLE(), is(packet.length * 2));
+        assertThat(actual.readableBytes(), is(payloadLength));
+        assertTrue(payloadLength < packet.length * 2);
+        byte[] expected = Arrays.copyOf(packet, packet.length * 2);
+        System.arraycopy(packet, 0, expected, packet.length, packet.length);
+        assertThat(new MySQLZlibCompressionAlgorithm().decompress(ByteBufUtil.getBytes(actual), packet.length * 2), is(expected));
+        actual.release();
+        channel.finishAndReleaseAll();
+    }
+    
+    @Test
+    public void assertEncodeAndDecodeWithZstd() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressedPacketCodec(new MySQLZstdCompressionAlgorithm(), 50));
+        byte[] packet = createPacket(200);
+        channel.writeAndFlush(Unpooled.wrappedBuffer(packet));
+        ByteBuf actualOutbound = channel.readOutbound();
+        int payloadLength = actualOutbound.readUnsignedMediumLE();
+        assertThat(actualOutbound.readUnsignedByte(), is((short) 0));
+        assertThat(actualOutbound.readUnsignedMediumLE(), is(packet.length));
+        assertTrue(payloadLength < packet.length);
+        assertThat(new MySQLZstdCompressionAlgorithm().decompress(ByteBufUtil.getBytes(actualOutbound), packet.length), is(packet));
+        actualOutbound.release();
+        byte[] compressedPayload = new MySQLZstdCompressionAlgorithm(1).compress(packet);
+        channel.writeInbound(Unpooled.buffer().writeMediumLE(compressedPayload.length).writeByte(0).writeMediumLE(packet.length).writeBytes(compressedPayload));
+        ByteBuf actualInbound = channel.readInbound();
+        assertThat(ByteBufUtil.getBytes(actualInbound), is(packet));
+        actualInbound.release();
+        channel.finishAndReleaseAll();
+    }
+    
+    @Test
+    public void assertWriteOrderKeptForNonByteBufMessage() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressedPacketCodec(new MySQLZlibCompressionAlgorithm(), 50));
+        Object message = new Object();
+        channel.write(Unpooled.wrappedBuffer(new byte[]{1, 0, 0, 1, 0x0e}));
+        channel.write(message);
+        channel.flush();
+        ByteBuf actualFirst = channel.readOutbound();
+        assertThat(actualFirst.getUnsignedMediumLE(0), is(5));
+        actualFirst.release();
+        assertThat(channel.readOutbound(), is(message));
+        channel.finishAndReleaseAll();
+    }
+    
+    @Test
+    public void assertDecodeAndContinueSequenceId() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressedPacketCodec(new MySQLZlibCompressionAlgorithm(), 50));
+        byte[] packet = createPacket(200);
+        byte[] compressedPayload = new MySQLZlibCompressionAlgorithm().compress(packet);
+        ByteBuf frame = Unpooled.buffer().writeMediumLE(compressedPayload.length).writeByte(3).writeMediumLE(packet.length).writeBytes(compressedPayload);
+        channel.writeInbound(frame.readRetainedSlice(4));
+        assertThat(channel.inboundMessages().size(), is(0));
+        channel.writeInbound(frame);
+        ByteBuf actualInbound = channel.readInbound();
+        assertThat(ByteBufUtil.getBytes(actualInbound), is(packet));
+        actualInbound.release();
+        channel.writeAndFlush(Unpooled.wrappedBuffer(new byte[]{1, 0, 0, 1, 0x0e}));
+        ByteBuf actualOutbound = channel.readOutbound();
+        assertThat(actualOutbound.getUnsignedByte(3), is((short) 4));
+        actualOutbound.release();
+        channel.finishAndReleaseAll();
+    }
+    
+    private byte[] createPacket(final int payloadLength) {
+        byte[] payload = new byte[payloadLength];
+        Arrays.fill(payload, (byte) 'a');
+        return ByteBufUtil.getBytes(Unpooled.buffer().writeMediumLE(payloadLength).writeByte(1).writeBytes(payload));
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.db.protocol.binary.BinaryRow;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class MySQLBinaryResultSetRowEncoderTest {
+    
+    @Test
+    public void assertEncodeSameAsRowPacket() throws SQLException {
+        List<Integer> jdbcTypes = Arrays.asList(Types.VARCHAR, Types.INTEGER, Types.BIGINT, Types.DOUBLE, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.INTEGER);
+        List<Object> values = Arrays.asList("value", null, 10L, 1.5D, null, null, "foo", null, 7);
+        Collection<BinaryCell> cells = new ArrayList<>(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            cells.add(new BinaryCell(MySQLBinaryColumnType.valueOfJDBCType(jdbcTypes.get(i)), values.get(i)));
+        }
+        ByteBuf expected = Unpooled.buffer().writeInt(0);
+        new MySQLBinaryResultSetRowPacket(3, new BinaryRow(cells)).write(new MySQLPacketPayload(expected, StandardCharsets.UTF_8));
+        expected.setMediumLE(0, expected.readableBytes() - 4);
+        expected.setByte(3, 3);
+        ByteBuf actual = new MySQLBinaryResultSetRowEncoder(jdbcTypes).encode(new UnpooledByteBufAllocator(false), StandardCharsets.UTF_8, 3, columnIndex -> values.get(columnIndex - 1));
+        assertThat(ByteBufUtil.hexDump(actual), is(ByteBufUtil.hexDump(expected)));
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class MySQLTextResultSetRowEncoderTest {
+    
+    private final ByteBufAllocator allocator = new UnpooledByteBufAllocator(false);
+    
+    @Test
+    public void assertEncodeSameAsRowPacket() throws SQLException {
+        List<Integer> jdbcTypes = Arrays.asList(Types.BIGINT, Types.INTEGER, Types.VARCHAR, Types.VARCHAR, Types.DECIMAL, Types.VARBINARY, Types.INTEGER, Types.VARCHAR);
+        List<Object> values = Arrays.asList(Long.MIN_VALUE, -12, "中文 value", "", new BigDecimal("1.50"), new byte[]{1, 2}, null, 1);
+        assertEncode(jdbcTypes, values, StandardCharsets.UTF_8);
+        assertEncode(jdbcTypes, values, StandardCharsets.ISO_8859_1);
+    }
+    
+    private void assertEncode(final List<Integer> jdbcTypes, final List<Object> values, final Charset charset) throws SQLException {
+        ByteBuf expected = Unpooled.buffer().writeInt(0);
+        new MySQLTextResultSetRowPacket(5, values).write(new MySQLPacketPayload(expected, charset));
+        expected.setMediumLE(0, expected.readableBytes() - 4);
+        expected.setByte(3, 5);
+        ByteBuf actual = new MySQLTextResultSetRowEncoder(jdbcTypes).encode(allocator, charset, 5, columnIndex -> values.get(columnIndex - 1));
+        assertThat(ByteBufUtil.hexDump(actual), is(ByteBufUtil.hexDump(expected)));
+    }
+    
+    @Test
+    public void assertEncodeLongString() throws SQLException {
+        String value = new String(new char[300]).replace('\0', 'a');
+        ByteBuf actual = new MySQLTextResultSetRowEncoder(Arrays.asList(Types.VARCHAR)).encode(allocator, StandardCharsets.UTF_8, 1, columnIndex -> value);
+        assertThat(actual.getMediumLE(0), is(303));
+        assertThat(actual.getUnsignedByte(4), is((short) 0xfc));
+        assertThat(actual.getUnsignedShortLE(5), is(300));
+    }
+}
@@ -110,6 +110,20 @@ public final class MySQLHandshakeResponse41PacketTest {
         verify(payload).skipReserved(23);
     }
     
+    @Test
+    public void assertNewWithPayloadWithZstdCompressionLevel() {
+        when(payload.readInt1()).thenReturn(1, MySQLServerInfo.DEFAULT_CHARSET.getId(), 7);
+        when(payload.readInt4()).thenReturn(MySQLCapabilityFlag.calculateCapabilityFlags(MySQLCapabilityFlag.CLIENT_CONNECT_ATTRS, MySQLCapabilityFlag.CLIENT_ZSTD_COMPRESSION_ALGORITHM), 1000);
+        when(payload.readStringNul()).thenReturn("root");
+        when(payload.readStringNulByBytes()).thenReturn(new byte[]{1});
+        when(payload.readIntLenenc()).thenReturn(20L);
+        MySQLHandshakeResponse41Packet actual = new MySQLHandshakeResponse41Packet(payload);
+        assertThat(actual.getUsername(), is("root"));
+        assertThat(actual.getZstdCompressionLevel(), is(7));
+        verify(payload).skipReserved(23);
+        verify(payload).skipReserved(20);
+    }
+    
     @Test
     public void assertWriteWithDatabase() {
         MySQLHandshakeResponse41Packet actual = new MySQLHandshakeResponse41Packet(1, 100, MySQLServerInfo.DEFAULT_CHARSET.getId(), "root");
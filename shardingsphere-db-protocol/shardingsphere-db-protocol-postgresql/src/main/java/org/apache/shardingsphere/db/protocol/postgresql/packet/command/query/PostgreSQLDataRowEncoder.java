@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.row.RowValueReader;
+
+import java.nio.charset.Charset;
+import java.sql.SQLException;
+import java.util.Collection;
+
+/**
+ * Text format data row encoder for PostgreSQL.
+ * 
+ * <p>Encode values of current row into complete message directly, without creating {@link PostgreSQLDataRowPacket} and cells for each row.</p>
+ */
+public final class PostgreSQLDataRowEncoder {
+    
+    private static final int MESSAGE_TYPE_LENGTH = 1;
+    
+    private final PostgreSQLTextColumnEncoder[] columnEncoders;
+    
+    public PostgreSQLDataRowEncoder(final Collection<Integer> jdbcTypes) {
+        columnEncoders = jdbcTypes.stream().map(PostgreSQLTextColumnEncoder::valueOfJDBCType).toArray(PostgreSQLTextColumnEncoder[]::new);
+    }
+    
+    /**
+     * Encode current row.
+     *
+     * @param allocator byte buffer allocator
+     * @param charset charset
+     * @param rowValueReader row value reader
+     * @return byte buffer of complete message including message type and length
+     * @throws SQLException SQL exception
+     */
+    public ByteBuf encode(final ByteBufAllocator allocator, final Charset charset, final RowValueReader rowValueReader) throws SQLException {
+        ByteBuf result = allocator.ioBuffer();
+        boolean encoded = false;
+        try {
+            result.writeByte(PostgreSQLMessagePacketType.DATA_ROW.getValue());
+            result.writeInt(0);
+            PostgreSQLPacketPayload payload = new PostgreSQLPacketPayload(result, charset);
+            payload.writeInt2(columnEncoders.length);
+            for (int i = 0; i < columnEncoders.length; i++) {
+                Object value = rowValueReader.getValue(i + 1);
+                if (null == value) {
+                    payload.writeInt4(0xFFFFFFFF);
+                } else {
+                    columnEncoders[i].write(payload, value);
+                }
+            }
+            result.setInt(MESSAGE_TYPE_LENGTH, result.readableBytes() - MESSAGE_TYPE_LENGTH);
+            encoded = true;
+            return result;
+        } finally {
+            if (!encoded) {
+                result.release();
+            }
+        }
+    }
+}
@@ -27,8 +27,6 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.Postgr
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 
-import java.sql.SQLException;
-import java.sql.SQLXML;
 import java.util.Collection;
 
 /**
@@ -66,25 +64,8 @@ public final class PostgreSQLDataRowPacket implements PostgreSQLIdentifierPacket
     private void writeTextValue(final PostgreSQLPacketPayload payload, final Object each) {
         if (null == each) {
             payload.writeInt4(0xFFFFFFFF);
-        } else if (each instanceof byte[]) {
-            payload.writeInt4(((byte[]) each).length);
-            payload.writeBytes((byte[]) each);
-        } else if (each instanceof SQLXML) {
-            writeSQLXMLData(payload, each);
         } else {
-            byte[] columnData = each.toString().getBytes(payload.getCharset());
-            payload.writeInt4(columnData.length);
-            payload.writeBytes(columnData);
-        }
-    }
-    
-    private void writeSQLXMLData(final PostgreSQLPacketPayload payload, final Object data) {
-        try {
-            byte[] dataBytes = ((SQLXML) data).getString().getBytes(payload.getCharset());
-            payload.writeInt4(dataBytes.length);
-            payload.writeBytes(dataBytes);
-        } catch (final SQLException ex) {
-            throw new RuntimeException(ex.getMessage());
+            PostgreSQLTextColumnEncoder.GENERIC.write(payload, each);
         }
     }
     
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
+
+import io.netty.buffer.ByteBufUtil;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.row.TextNumberWriter;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.SQLXML;
+import java.sql.Types;
+
+/**
+ * Column value encoder of text format data row for PostgreSQL.
+ */
+public enum PostgreSQLTextColumnEncoder {
+    
+    GENERIC {
+        
+        @Override
+        public void write(final PostgreSQLPacketPayload payload, final Object value) {
+            if (value instanceof byte[]) {
+                payload.writeInt4(((byte[]) value).length);
+                payload.writeBytes((byte[]) value);
+            } else if (value instanceof SQLXML) {
+                writeSQLXMLData(payload, value);
+            } else {
+                byte[] columnData = value.toString().getBytes(payload.getCharset());
+                payload.writeInt4(columnData.length);
+                payload.writeBytes(columnData);
+            }
+        }
+        
+        private void writeSQLXMLData(final PostgreSQLPacketPayload payload, final Object value) {
+            try {
+                byte[] dataBytes = ((SQLXML) value).getString().getBytes(payload.getCharset());
+                payload.writeInt4(dataBytes.length);
+                payload.writeBytes(dataBytes);
+            } catch (final SQLException ex) {
+                throw new RuntimeException(ex.getMessage());
+            }
+        }
+    },
+    
+    INTEGRAL {
+        
+        @Override
+        public void write(final PostgreSQLPacketPayload payload, final Object value) {
+            if (!TextNumberWriter.isIntegral(value)) {
+                GENERIC.write(payload, value);
+                return;
+            }
+            long longValue = ((Number) value).longValue();
+            int length = TextNumberWriter.getLength(longValue);
+            payload.writeInt4(length);
+            TextNumberWriter.write(payload.getByteBuf(), longValue, length);
+        }
+    },
+    
+    STRING {
+        
+        @Override
+        public void write(final PostgreSQLPacketPayload payload, final Object value) {
+            if (!(value instanceof String) || !StandardCharsets.UTF_8.equals(payload.getCharset())) {
+                GENERIC.write(payload, value);
+                return;
+            }
+            int length = ByteBufUtil.utf8Bytes((String) value);
+            payload.writeInt4(length);
+            ByteBufUtil.reserveAndWriteUtf8(payload.getByteBuf(), (String) value, length);
+        }
+    };
+    
+    /**
+     * Write non-null column value with its length.
+     *
+     * @param payload packet payload
+     * @param value column value
+     */
+    public abstract void write(PostgreSQLPacketPayload payload, Object value);
+    
+    /**
+     * Get column encoder of JDBC type.
+     *
+     * @param jdbcType JDBC type
+     * @return column encoder
+     */
+    public static PostgreSQLTextColumnEncoder valueOfJDBCType(final int jdbcType) {
+        switch (jdbcType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return INTEGRAL;
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                return STRING;
+            default:
+                return GENERIC;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class PostgreSQLDataRowEncoderTest {
+    
+    @Test
+    public void assertEncodeSameAsDataRowPacket() throws SQLException {
+        List<Integer> jdbcTypes = Arrays.asList(Types.BIGINT, Types.SMALLINT, Types.VARCHAR, Types.VARCHAR, Types.NUMERIC, Types.BINARY, Types.INTEGER, Types.VARCHAR);
+        List<Object> values = Arrays.asList(Long.MAX_VALUE, (short) -3, "中文 value", "", new BigDecimal("1.50"), new byte[]{1, 2}, null, 1);
+        assertEncode(jdbcTypes, values, StandardCharsets.UTF_8);
+        assertEncode(jdbcTypes, values, StandardCharsets.ISO_8859_1);
+    }
+    
+    private void assertEncode(final List<Integer> jdbcTypes, final List<Object> values, final Charset charset) throws SQLException {
+        ByteBuf expected = Unpooled.buffer().writeByte('D').writeInt(0);
+        new PostgreSQLDataRowPacket(values).write(new PostgreSQLPacketPayload(expected, charset));
+        expected.setInt(1, expected.readableBytes() - 1);
+        ByteBuf actual = new PostgreSQLDataRowEncoder(jdbcTypes).encode(new UnpooledByteBufAllocator(false), charset, columnIndex -> values.get(columnIndex - 1));
+        assertThat(ByteBufUtil.hexDump(actual), is(ByteBufUtil.hexDump(expected)));
+    }
+}
@@ -29,6 +29,7 @@ import org.apache.shardingsphere.infra.merge.engine.merger.ResultMerger;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupBySpillableMerger;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.iterator.IteratorStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
@@ -52,6 +53,18 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private final DatabaseType databaseType;
     
+    private final boolean loserTreeEnabled;
+    
+    private final long groupByMemoryBudgetBytes;
+    
+    public ShardingDQLResultMerger(final DatabaseType databaseType) {
+        this(databaseType, false);
+    }
+    
+    public ShardingDQLResultMerger(final DatabaseType databaseType, final boolean loserTreeEnabled) {
+        this(databaseType, loserTreeEnabled, 0L);
+    }
+    
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext<?> sqlStatementContext, final ShardingSphereSchema schema) throws SQLException {
         if (1 == queryResults.size() && !isNeedAggregateRewrite(sqlStatementContext)) {
@@ -86,7 +99,7 @@ public final class ShardingDQLResultMerger implements ResultMerger {
             return getGroupByMergedResult(queryResults, selectStatementContext, columnLabelIndexMap, schema);
         }
         if (isNeedProcessOrderBy(selectStatementContext)) {
-            return new OrderByStreamMergedResult(queryResults, selectStatementContext, schema);
+            return new OrderByStreamMergedResult(queryResults, selectStatementContext, schema, loserTreeEnabled);
         }
         return new IteratorStreamMergedResult(queryResults);
     }
@@ -109,8 +122,11 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private MergedResult getGroupByMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
                                                 final Map<String, Integer> columnLabelIndexMap, final ShardingSphereSchema schema) throws SQLException {
-        return selectStatementContext.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema)
+        if (selectStatementContext.isSameGroupByAndOrderByItems()) {
+            return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema, loserTreeEnabled);
+        }
+        return groupByMemoryBudgetBytes > 0L
+                ? new GroupBySpillableMerger(groupByMemoryBudgetBytes, loserTreeEnabled).merge(queryResults, selectStatementContext, schema)
                 : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
     }
     
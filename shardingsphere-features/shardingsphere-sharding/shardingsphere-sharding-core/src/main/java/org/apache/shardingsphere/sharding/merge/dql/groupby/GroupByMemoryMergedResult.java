@@ -62,11 +62,13 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
         Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
         Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024);
+        Map<AggregationProjection, Boolean> integralValues = getIntegralValues(selectStatementContext, queryResults);
+        List<Comparable<?>> aggregationValues = new ArrayList<>(2);
         for (QueryResult each : queryResults) {
             while (each.next()) {
                 GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
-                initForFirstGroupByValue(selectStatementContext, each, groupByValue, dataMap, aggregationMap);
-                aggregate(selectStatementContext, each, groupByValue, aggregationMap);
+                initForFirstGroupByValue(selectStatementContext, each, groupByValue, dataMap, aggregationMap, integralValues);
+                aggregate(selectStatementContext, each, aggregationMap.get(groupByValue), aggregationValues);
             }
         }
         setAggregationValueToMemoryRow(selectStatementContext, dataMap, aggregationMap);
@@ -74,24 +76,33 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         return getMemoryResultSetRows(selectStatementContext, dataMap, valueCaseSensitive);
     }
     
+    private Map<AggregationProjection, Boolean> getIntegralValues(final SelectStatementContext selectStatementContext, final List<QueryResult> queryResults) throws SQLException {
+        Map<AggregationProjection, Boolean> result = new HashMap<>();
+        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
+            result.put(each, AggregationUnitFactory.isIntegralValue(each, queryResults));
+        }
+        return result;
+    }
+    
     private void initForFirstGroupByValue(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
                                           final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
-                                          final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
+                                          final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap,
+                                          final Map<AggregationProjection, Boolean> integralValues) throws SQLException {
         if (!dataMap.containsKey(groupByValue)) {
             dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
         }
         if (!aggregationMap.containsKey(groupByValue)) {
             Map<AggregationProjection, AggregationUnit> map = Maps
                     .toMap(selectStatementContext.getProjectionsContext()
-                            .getAggregationProjections(), input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection));
+                            .getAggregationProjections(), input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection, integralValues.get(input)));
             aggregationMap.put(groupByValue, map);
         }
     }
     
     private void aggregate(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
-                           final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
+                           final Map<AggregationProjection, AggregationUnit> aggregationUnitMap, final List<Comparable<?>> values) throws SQLException {
         for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
+            values.clear();
             if (each.getDerivedAggregationProjections().isEmpty()) {
                 values.add(getAggregationValue(queryResult, each));
             } else {
@@ -99,7 +110,7 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
                     values.add(getAggregationValue(queryResult, derived));
                 }
             }
-            aggregationMap.get(groupByValue).get(each).merge(values);
+            aggregationUnitMap.get(each).merge(values);
         }
     }
     
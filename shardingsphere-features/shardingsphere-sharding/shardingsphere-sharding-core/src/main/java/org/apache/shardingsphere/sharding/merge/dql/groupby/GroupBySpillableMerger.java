@@ -0,0 +1,297 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.SpillFileQueryResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.SpillFileWriter;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Group by merger which spills rows to temporary files when memory budget exceeded.
+ * 
+ * <p>Rows are buffered in memory and merged by {@link GroupByMemoryMergedResult} if their estimated size is under the memory budget.
+ * Otherwise all rows are hash partitioned by group by values into spill files. A partition still over the memory budget is partitioned again with another hash,
+ * up to {@value #MAX_PARTITION_LEVEL} levels or until all its rows fall into one partition, which means they share one group.
+ * Each partition is then aggregated and sorted into a run, and the sorted runs are merged by {@link OrderByStreamMergedResult}.</p>
+ */
+@RequiredArgsConstructor
+public final class GroupBySpillableMerger {
+    
+    private static final int PARTITION_COUNT = 64;
+    
+    private static final int MAX_PARTITION_LEVEL = 4;
+    
+    private static final int ROW_OVERHEAD_BYTES = 64;
+    
+    private static final int REFERENCE_BYTES = 8;
+    
+    private final long memoryBudgetBytes;
+    
+    private final boolean loserTreeEnabled;
+    
+    private final Collection<SpillFileWriter> spillFileWriters = new LinkedList<>();
+    
+    private final Collection<SpillFileQueryResult> spillFileQueryResults = new LinkedList<>();
+    
+    /**
+     * Merge query results.
+     * 
+     * @param queryResults query results
+     * @param selectStatementContext select statement context
+     * @param schema ShardingSphere schema
+     * @return merged result
+     * @throws SQLException SQL exception
+     */
+    public MergedResult merge(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        try {
+            return doMerge(queryResults, selectStatementContext, schema);
+        } catch (final IOException ex) {
+            SQLException exception = new SQLException("Can not spill group by rows to temporary files", ex);
+            releaseSpillFiles(exception);
+            throw exception;
+        } catch (final SQLException ex) {
+            releaseSpillFiles(ex);
+            throw ex;
+        }
+    }
+    
+    private MergedResult doMerge(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException, IOException {
+        QueryResultMetaData metaData = queryResults.get(0).getMetaData();
+        int columnCount = metaData.getColumnCount();
+        List<MemoryQueryResultDataRow> bufferedRows = new ArrayList<>(1024);
+        long bufferedBytes = 0L;
+        SpillPartitions partitions = null;
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                List<Object> row = loadRow(each, columnCount);
+                if (null != partitions) {
+                    spill(partitions, selectStatementContext, row);
+                    continue;
+                }
+                bufferedRows.add(new MemoryQueryResultDataRow(row));
+                bufferedBytes += estimateSize(row);
+                if (bufferedBytes > memoryBudgetBytes) {
+                    partitions = new SpillPartitions(0);
+                    for (MemoryQueryResultDataRow buffered : bufferedRows) {
+                        spill(partitions, selectStatementContext, buffered.getValue());
+                    }
+                    bufferedRows = Collections.emptyList();
+                }
+            }
+        }
+        if (null == partitions) {
+            return new GroupByMemoryMergedResult(Collections.singletonList(new RawMemoryQueryResult(metaData, bufferedRows)), selectStatementContext, schema);
+        }
+        List<QueryResult> sortedRuns = new LinkedList<>();
+        createSortedRuns(metaData, partitions, selectStatementContext, schema, sortedRuns);
+        return new GroupBySpilledMergedResult(new OrderByStreamMergedResult(sortedRuns, selectStatementContext, schema, loserTreeEnabled), spillFileQueryResults);
+    }
+    
+    private List<Object> loadRow(final QueryResult queryResult, final int columnCount) throws SQLException {
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            result.add(queryResult.getValue(columnIndex, Object.class));
+        }
+        return result;
+    }
+    
+    private List<Object> loadRow(final MergedResult mergedResult, final int columnCount) throws SQLException {
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            result.add(mergedResult.getValue(columnIndex, Object.class));
+        }
+        return result;
+    }
+    
+    private long estimateSize(final List<Object> row) {
+        long result = ROW_OVERHEAD_BYTES;
+        for (Object each : row) {
+            result += REFERENCE_BYTES + estimateSize(each);
+        }
+        return result;
+    }
+    
+    private long estimateSize(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return 40L + 2L * ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return 16L + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal) {
+            return 40L + ((BigDecimal) value).unscaledValue().bitLength() / 8;
+        }
+        return 24L;
+    }
+    
+    private SpillFileWriter createSpillFileWriter() throws IOException {
+        SpillFileWriter result = new SpillFileWriter(Files.createTempFile("shardingsphere-group-by-", ".spill"));
+        spillFileWriters.add(result);
+        return result;
+    }
+    
+    private void spill(final SpillPartitions partitions, final SelectStatementContext selectStatementContext, final List<Object> row) throws IOException {
+        List<Object> groupByValues = new ArrayList<>(selectStatementContext.getGroupByContext().getItems().size());
+        for (OrderByItem each : selectStatementContext.getGroupByContext().getItems()) {
+            groupByValues.add(row.get(each.getIndex() - 1));
+        }
+        int index = getPartitionIndex(groupByValues.hashCode(), partitions.level);
+        if (null == partitions.writers[index]) {
+            partitions.writers[index] = createSpillFileWriter();
+        }
+        partitions.writers[index].write(row);
+        partitions.estimatedBytes[index] += estimateSize(row);
+    }
+    
+    private int getPartitionIndex(final int hashCode, final int level) {
+        int result = hashCode + level * 0x9E3779B9;
+        result ^= result >>> 16;
+        result *= 0x85EBCA6B;
+        result ^= result >>> 13;
+        return Math.floorMod(result, PARTITION_COUNT);
+    }
+    
+    private void createSortedRuns(final QueryResultMetaData metaData, final SpillPartitions partitions,
+                                  final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema, final List<QueryResult> sortedRuns) throws SQLException, IOException {
+        for (int i = 0; i < PARTITION_COUNT; i++) {
+            SpillFileWriter each = partitions.writers[i];
+            if (null == each) {
+                continue;
+            }
+            each.close();
+            if (partitions.estimatedBytes[i] <= memoryBudgetBytes || partitions.level + 1 >= MAX_PARTITION_LEVEL) {
+                sortedRuns.add(createSortedRun(metaData, each, selectStatementContext, schema));
+                continue;
+            }
+            SpillPartitions children = repartition(metaData, each, partitions.level + 1, selectStatementContext);
+            if (children.isSplit()) {
+                createSortedRuns(metaData, children, selectStatementContext, schema, sortedRuns);
+            } else {
+                SpillFileWriter child = children.getFirstWriter();
+                child.close();
+                sortedRuns.add(createSortedRun(metaData, child, selectStatementContext, schema));
+            }
+        }
+    }
+    
+    private SpillPartitions repartition(final QueryResultMetaData metaData, final SpillFileWriter partition, final int level,
+                                        final SelectStatementContext selectStatementContext) throws SQLException, IOException {
+        SpillPartitions result = new SpillPartitions(level);
+        int columnCount = metaData.getColumnCount();
+        QueryResult queryResult = new SpillFileQueryResult(metaData, partition.getPath(), partition.getRowCount());
+        try {
+            while (queryResult.next()) {
+                spill(result, selectStatementContext, loadRow(queryResult, columnCount));
+            }
+        } finally {
+            queryResult.close();
+        }
+        return result;
+    }
+    
+    private QueryResult createSortedRun(final QueryResultMetaData metaData, final SpillFileWriter partition,
+                                        final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException, IOException {
+        MergedResult aggregatedResult = aggregate(metaData, partition, selectStatementContext, schema);
+        int columnCount = metaData.getColumnCount();
+        SpillFileWriter run = createSpillFileWriter();
+        try {
+            while (aggregatedResult.next()) {
+                run.write(loadRow(aggregatedResult, columnCount));
+            }
+        } finally {
+            run.close();
+        }
+        SpillFileQueryResult result = new SpillFileQueryResult(metaData, run.getPath(), run.getRowCount());
+        spillFileQueryResults.add(result);
+        return result;
+    }
+    
+    private MergedResult aggregate(final QueryResultMetaData metaData, final SpillFileWriter partition,
+                                   final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException, IOException {
+        QueryResult queryResult = new SpillFileQueryResult(metaData, partition.getPath(), partition.getRowCount());
+        try {
+            return new GroupByMemoryMergedResult(Collections.singletonList(queryResult), selectStatementContext, schema);
+        } finally {
+            queryResult.close();
+        }
+    }
+    
+    private void releaseSpillFiles(final SQLException cause) {
+        for (SpillFileQueryResult each : spillFileQueryResults) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                cause.addSuppressed(ex);
+            }
+        }
+        for (SpillFileWriter each : spillFileWriters) {
+            try {
+                each.close();
+            } catch (final IOException ex) {
+                cause.addSuppressed(ex);
+            }
+            try {
+                Files.deleteIfExists(each.getPath());
+            } catch (final IOException ex) {
+                cause.addSuppressed(ex);
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SpillPartitions {
+        
+        private final int level;
+        
+        private final SpillFileWriter[] writers = new SpillFileWriter[PARTITION_COUNT];
+        
+        private final long[] estimatedBytes = new long[PARTITION_COUNT];
+        
+        private boolean isSplit() {
+            return Arrays.stream(writers).filter(Objects::nonNull).count() > 1L;
+        }
+        
+        private SpillFileWriter getFirstWriter() {
+            return Arrays.stream(writers).filter(Objects::nonNull).findFirst().orElseThrow(IllegalStateException::new);
+        }
+    }
+}
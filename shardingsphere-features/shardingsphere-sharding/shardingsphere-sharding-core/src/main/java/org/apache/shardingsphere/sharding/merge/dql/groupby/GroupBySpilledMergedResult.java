@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.decorator.DecoratorMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.SpillFileQueryResult;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedList;
+
+/**
+ * Merged result for group by which spilled to temporary files.
+ * 
+ * <p>Spill files are released once all rows read, or when the merged result closed before that, such as pagination or cancel.</p>
+ */
+public final class GroupBySpilledMergedResult extends DecoratorMergedResult {
+    
+    private final Collection<SpillFileQueryResult> spillFileQueryResults;
+    
+    public GroupBySpilledMergedResult(final MergedResult mergedResult, final Collection<SpillFileQueryResult> spillFileQueryResults) {
+        super(mergedResult);
+        this.spillFileQueryResults = spillFileQueryResults;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (getMergedResult().next()) {
+            return true;
+        }
+        close();
+        return false;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        Collection<SQLException> exceptions = new LinkedList<>();
+        for (SpillFileQueryResult each : spillFileQueryResults) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                exceptions.add(ex);
+            }
+        }
+        super.close();
+        if (exceptions.isEmpty()) {
+            return;
+        }
+        SQLException ex = new SQLException();
+        exceptions.forEach(ex::setNextException);
+        throw ex;
+    }
+}
@@ -32,6 +32,7 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -45,18 +46,36 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     
     private final List<Object> currentRow;
     
+    private final Map<AggregationProjection, Boolean> integralValues;
+    
+    private final List<Comparable<?>> aggregationValues = new ArrayList<>(2);
+    
     private List<?> currentGroupByValues;
     
     public GroupByStreamMergedResult(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults,
                                      final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
-        super(queryResults, selectStatementContext, schema);
+        this(labelAndIndexMap, queryResults, selectStatementContext, schema, false);
+    }
+    
+    public GroupByStreamMergedResult(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults,
+                                     final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema, final boolean loserTreeEnabled) throws SQLException {
+        super(queryResults, selectStatementContext, schema, loserTreeEnabled);
         this.selectStatementContext = selectStatementContext;
         currentRow = new ArrayList<>(labelAndIndexMap.size());
+        integralValues = getIntegralValues(queryResults);
         currentGroupByValues = getOrderByValuesQueue().isEmpty()
                 ? Collections.emptyList()
                 : new GroupByValue(getCurrentQueryResult(), selectStatementContext.getGroupByContext().getItems()).getGroupValues();
     }
     
+    private Map<AggregationProjection, Boolean> getIntegralValues(final List<QueryResult> queryResults) throws SQLException {
+        Map<AggregationProjection, Boolean> result = new HashMap<>();
+        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
+            result.put(each, AggregationUnitFactory.isIntegralValue(each, queryResults));
+        }
+        return result;
+    }
+    
     @Override
     public boolean next() throws SQLException {
         currentRow.clear();
@@ -75,8 +94,7 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     private boolean aggregateCurrentGroupByRowAndNext() throws SQLException {
         boolean result = false;
         boolean cachedRow = false;
-        Map<AggregationProjection, AggregationUnit> aggregationUnitMap = Maps.toMap(
-                selectStatementContext.getProjectionsContext().getAggregationProjections(), input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection));
+        Map<AggregationProjection, AggregationUnit> aggregationUnitMap = Maps.toMap(selectStatementContext.getProjectionsContext().getAggregationProjections(), this::createAggregationUnit);
         while (currentGroupByValues.equals(new GroupByValue(getCurrentQueryResult(), selectStatementContext.getGroupByContext().getItems()).getGroupValues())) {
             aggregate(aggregationUnitMap);
             if (!cachedRow) {
@@ -92,17 +110,21 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
         return result;
     }
     
+    private AggregationUnit createAggregationUnit(final AggregationProjection aggregationProjection) {
+        return AggregationUnitFactory.create(aggregationProjection.getType(), aggregationProjection instanceof AggregationDistinctProjection, integralValues.get(aggregationProjection));
+    }
+    
     private void aggregate(final Map<AggregationProjection, AggregationUnit> aggregationUnitMap) throws SQLException {
         for (Entry<AggregationProjection, AggregationUnit> entry : aggregationUnitMap.entrySet()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
+            aggregationValues.clear();
             if (entry.getKey().getDerivedAggregationProjections().isEmpty()) {
-                values.add(getAggregationValue(entry.getKey()));
+                aggregationValues.add(getAggregationValue(entry.getKey()));
             } else {
                 for (AggregationProjection each : entry.getKey().getDerivedAggregationProjections()) {
-                    values.add(getAggregationValue(each));
+                    aggregationValues.add(getAggregationValue(each));
                 }
             }
-            entry.getValue().merge(values);
+            entry.getValue().merge(aggregationValues);
         }
     }
     
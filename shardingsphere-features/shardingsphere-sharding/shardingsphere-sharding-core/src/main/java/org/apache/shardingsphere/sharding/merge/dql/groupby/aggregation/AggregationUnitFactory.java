@@ -19,8 +19,15 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
 
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collection;
+
 /**
  * Aggregation unit factory.
  */
@@ -35,21 +42,87 @@ public final class AggregationUnitFactory {
      * @return aggregation unit instance
      */
     public static AggregationUnit create(final AggregationType type, final boolean isDistinct) {
+        return create(type, isDistinct, false);
+    }
+    
+    /**
+     * Create aggregation unit instance.
+     * 
+     * @param type aggregation function type
+     * @param isDistinct is distinct
+     * @param isIntegralValue whether aggregation values are integral
+     * @return aggregation unit instance
+     */
+    public static AggregationUnit create(final AggregationType type, final boolean isDistinct, final boolean isIntegralValue) {
         switch (type) {
             case MAX:
                 return new ComparableAggregationUnit(false);
             case MIN:
                 return new ComparableAggregationUnit(true);
             case SUM:
-                return isDistinct ? new DistinctSumAggregationUnit() : new AccumulationAggregationUnit();
+                return isDistinct ? new DistinctSumAggregationUnit() : createAccumulationAggregationUnit(isIntegralValue);
             case COUNT:
-                return isDistinct ? new DistinctCountAggregationUnit() : new AccumulationAggregationUnit();
+                return isDistinct ? new DistinctCountAggregationUnit() : createAccumulationAggregationUnit(isIntegralValue);
             case AVG:
-                return isDistinct ? new DistinctAverageAggregationUnit() : new AverageAggregationUnit();
+                if (isDistinct) {
+                    return new DistinctAverageAggregationUnit();
+                }
+                return isIntegralValue ? new LongAverageAggregationUnit() : new AverageAggregationUnit();
             case BIT_XOR:
                 return new BitXorAggregationUnit();
             default:
                 throw new UnsupportedOperationException(type.name());
         }
     }
+    
+    private static AggregationUnit createAccumulationAggregationUnit(final boolean isIntegralValue) {
+        return isIntegralValue ? new LongAccumulationAggregationUnit() : new AccumulationAggregationUnit();
+    }
+    
+    /**
+     * Judge whether aggregation values are integral by column types of all query results.
+     * 
+     * @param aggregationProjection aggregation projection
+     * @param queryResults query results
+     * @return whether aggregation values are integral
+     * @throws SQLException SQL exception
+     */
+    public static boolean isIntegralValue(final AggregationProjection aggregationProjection, final Collection<QueryResult> queryResults) throws SQLException {
+        if (queryResults.isEmpty()) {
+            return false;
+        }
+        for (QueryResult each : queryResults) {
+            if (!isIntegralValue(aggregationProjection, each.getMetaData())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static boolean isIntegralValue(final AggregationProjection aggregationProjection, final QueryResultMetaData metaData) throws SQLException {
+        if (aggregationProjection.getDerivedAggregationProjections().isEmpty()) {
+            return isIntegralColumn(aggregationProjection.getIndex(), metaData);
+        }
+        for (AggregationProjection each : aggregationProjection.getDerivedAggregationProjections()) {
+            if (!isIntegralColumn(each.getIndex(), metaData)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static boolean isIntegralColumn(final int columnIndex, final QueryResultMetaData metaData) throws SQLException {
+        if (columnIndex < 1 || columnIndex > metaData.getColumnCount()) {
+            return false;
+        }
+        switch (metaData.getColumnType(columnIndex)) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return true;
+            default:
+                return false;
+        }
+    }
 }
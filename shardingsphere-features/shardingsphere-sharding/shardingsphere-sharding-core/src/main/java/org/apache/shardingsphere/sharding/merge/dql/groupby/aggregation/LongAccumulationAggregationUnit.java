@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Accumulation aggregation unit for integral values, which accumulates into primitive long and uses big decimal only after overflow.
+ */
+@RequiredArgsConstructor
+public final class LongAccumulationAggregationUnit implements AggregationUnit {
+    
+    private boolean accumulated;
+    
+    private long result;
+    
+    private BigDecimal overflowResult;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        accumulate(values.get(0));
+    }
+    
+    void accumulate(final Comparable<?> value) {
+        accumulated = true;
+        if (null == overflowResult && isLongValue(value)) {
+            long longValue = ((Number) value).longValue();
+            long sum = result + longValue;
+            if (((result ^ sum) & (longValue ^ sum)) >= 0L) {
+                result = sum;
+                return;
+            }
+        }
+        overflowResult = (null == overflowResult ? BigDecimal.valueOf(result) : overflowResult).add(new BigDecimal(value.toString()));
+    }
+    
+    private boolean isLongValue(final Comparable<?> value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    @Override
+    public BigDecimal getResult() {
+        if (!accumulated) {
+            return null;
+        }
+        return null == overflowResult ? BigDecimal.valueOf(result) : overflowResult;
+    }
+}
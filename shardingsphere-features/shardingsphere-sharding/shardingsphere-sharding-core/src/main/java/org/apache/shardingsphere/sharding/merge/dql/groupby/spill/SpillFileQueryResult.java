@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.Calendar;
+import java.util.List;
+
+/**
+ * Query result for reading rows back from spill file.
+ * 
+ * <p>The spill file is closed and deleted after all rows read or the query result closed.</p>
+ */
+public final class SpillFileQueryResult implements QueryResult {
+    
+    @Getter
+    private final QueryResultMetaData metaData;
+    
+    private final Path path;
+    
+    private final DataInputStream inputStream;
+    
+    private int remainingRowCount;
+    
+    private List<Object> currentRow;
+    
+    private boolean closed;
+    
+    public SpillFileQueryResult(final QueryResultMetaData metaData, final Path path, final int rowCount) throws IOException {
+        this.metaData = metaData;
+        this.path = path;
+        inputStream = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)));
+        remainingRowCount = rowCount;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (0 == remainingRowCount) {
+            currentRow = null;
+            close();
+            return false;
+        }
+        try {
+            currentRow = SpillRowCodec.read(inputStream, metaData.getColumnCount());
+        } catch (final IOException ex) {
+            throw new SQLException(String.format("Can not read group by rows from spill file `%s`", path), ex);
+        }
+        remainingRowCount--;
+        return true;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        return currentRow.get(columnIndex - 1);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return currentRow.get(columnIndex - 1);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(currentRow.get(columnIndex - 1));
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+        return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return null == currentRow;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            try {
+                inputStream.close();
+            } finally {
+                Files.deleteIfExists(path);
+            }
+        } catch (final IOException ex) {
+            throw new SQLException(String.format("Can not delete spill file `%s`", path), ex);
+        }
+    }
+}
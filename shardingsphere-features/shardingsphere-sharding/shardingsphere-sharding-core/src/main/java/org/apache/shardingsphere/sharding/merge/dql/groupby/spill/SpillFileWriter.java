@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import lombok.Getter;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Spill file writer.
+ */
+public final class SpillFileWriter implements AutoCloseable {
+    
+    @Getter
+    private final Path path;
+    
+    private final DataOutputStream outputStream;
+    
+    @Getter
+    private int rowCount;
+    
+    private boolean closed;
+    
+    public SpillFileWriter(final Path path) throws IOException {
+        this.path = path;
+        outputStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row values
+     * @throws IOException IO exception
+     */
+    public void write(final List<Object> row) throws IOException {
+        SpillRowCodec.write(outputStream, row);
+        rowCount++;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        outputStream.close();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Order by value queue based on loser tree.
+ * 
+ * <p>Every internal node keeps the loser of its sub tree and the root keeps the overall winner,
+ * so iterating the first order by value only replays the matches from its leaf to the root, which costs one comparison per tree level.</p>
+ */
+public final class LoserTreeOrderByValueQueue implements OrderByValueQueue {
+    
+    private final OrderByValue[] leaves;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] tree;
+    
+    private final int minSentinel;
+    
+    public LoserTreeOrderByValueQueue(final List<OrderByValue> orderByValues) throws SQLException {
+        leaves = orderByValues.toArray(new OrderByValue[0]);
+        exhausted = new boolean[leaves.length];
+        tree = new int[Math.max(leaves.length, 1)];
+        minSentinel = leaves.length;
+        for (int i = 0; i < leaves.length; i++) {
+            exhausted[i] = !leaves[i].next();
+        }
+        build();
+    }
+    
+    private void build() {
+        if (0 == leaves.length) {
+            return;
+        }
+        for (int i = 0; i < tree.length; i++) {
+            tree[i] = minSentinel;
+        }
+        for (int i = leaves.length - 1; i >= 0; i--) {
+            adjust(i);
+        }
+    }
+    
+    private void adjust(final int leaf) {
+        int winner = leaf;
+        for (int node = (leaf + leaves.length) / 2; node > 0; node /= 2) {
+            if (isWin(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+    
+    private boolean isWin(final int challenger, final int defender) {
+        if (minSentinel == challenger) {
+            return true;
+        }
+        if (minSentinel == defender || exhausted[challenger]) {
+            return false;
+        }
+        if (exhausted[defender]) {
+            return true;
+        }
+        int result = leaves[challenger].compareTo(leaves[defender]);
+        return result < 0 || 0 == result && challenger < defender;
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return 0 == leaves.length || exhausted[tree[0]];
+    }
+    
+    @Override
+    public OrderByValue peek() {
+        return isEmpty() ? null : leaves[tree[0]];
+    }
+    
+    @Override
+    public void nextFirst() throws SQLException {
+        int first = tree[0];
+        exhausted[first] = !leaves[first].next();
+        adjust(first);
+    }
+}
@@ -26,10 +26,9 @@ import org.apache.shardingsphere.infra.merge.result.impl.stream.StreamMergedResu
 import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.PriorityQueue;
-import java.util.Queue;
 
 /**
  * Stream merged result for order by.
@@ -39,26 +38,30 @@ public class OrderByStreamMergedResult extends StreamMergedResult {
     private final Collection<OrderByItem> orderByItems;
     
     @Getter(AccessLevel.PROTECTED)
-    private final Queue<OrderByValue> orderByValuesQueue;
+    private final OrderByValueQueue orderByValuesQueue;
     
     @Getter(AccessLevel.PROTECTED)
     private boolean isFirstNext;
     
     public OrderByStreamMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        this(queryResults, selectStatementContext, schema, false);
+    }
+    
+    public OrderByStreamMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                     final ShardingSphereSchema schema, final boolean loserTreeEnabled) throws SQLException {
         orderByItems = selectStatementContext.getOrderByContext().getItems();
-        orderByValuesQueue = new PriorityQueue<>(queryResults.size());
-        orderResultSetsToQueue(queryResults, selectStatementContext, schema);
+        orderByValuesQueue = createOrderByValueQueue(queryResults, selectStatementContext, schema, loserTreeEnabled);
+        setCurrentQueryResult(orderByValuesQueue.isEmpty() ? queryResults.get(0) : orderByValuesQueue.peek().getQueryResult());
         isFirstNext = true;
     }
     
-    private void orderResultSetsToQueue(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+    private OrderByValueQueue createOrderByValueQueue(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                                      final ShardingSphereSchema schema, final boolean loserTreeEnabled) throws SQLException {
+        List<OrderByValue> orderByValues = new ArrayList<>(queryResults.size());
         for (QueryResult each : queryResults) {
-            OrderByValue orderByValue = new OrderByValue(each, orderByItems, selectStatementContext, schema);
-            if (orderByValue.next()) {
-                orderByValuesQueue.offer(orderByValue);
-            }
+            orderByValues.add(new OrderByValue(each, orderByItems, selectStatementContext, schema));
         }
-        setCurrentQueryResult(orderByValuesQueue.isEmpty() ? queryResults.get(0) : orderByValuesQueue.peek().getQueryResult());
+        return loserTreeEnabled ? new LoserTreeOrderByValueQueue(orderByValues) : new PriorityOrderByValueQueue(orderByValues);
     }
     
     @Override
@@ -70,10 +73,7 @@ public class OrderByStreamMergedResult extends StreamMergedResult {
             isFirstNext = false;
             return true;
         }
-        OrderByValue firstOrderByValue = orderByValuesQueue.poll();
-        if (firstOrderByValue.next()) {
-            orderByValuesQueue.offer(firstOrderByValue);
-        }
+        orderByValuesQueue.nextFirst();
         if (orderByValuesQueue.isEmpty()) {
             return false;
         }
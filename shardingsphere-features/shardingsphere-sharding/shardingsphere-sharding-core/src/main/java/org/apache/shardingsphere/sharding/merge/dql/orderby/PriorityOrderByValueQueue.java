@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * Order by value queue based on priority queue.
+ */
+public final class PriorityOrderByValueQueue implements OrderByValueQueue {
+    
+    private final Queue<OrderByValue> orderByValues;
+    
+    public PriorityOrderByValueQueue(final List<OrderByValue> orderByValues) throws SQLException {
+        this.orderByValues = new PriorityQueue<>(orderByValues.size());
+        for (OrderByValue each : orderByValues) {
+            if (each.next()) {
+                this.orderByValues.offer(each);
+            }
+        }
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return orderByValues.isEmpty();
+    }
+    
+    @Override
+    public OrderByValue peek() {
+        return orderByValues.peek();
+    }
+    
+    @Override
+    public void nextFirst() throws SQLException {
+        OrderByValue firstOrderByValue = orderByValues.poll();
+        if (firstOrderByValue.next()) {
+            orderByValues.offer(firstOrderByValue);
+        }
+    }
+}
@@ -19,10 +19,13 @@ package org.apache.shardingsphere.sharding.route.engine;
 
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.route.SQLRouter;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.sharding.constant.ShardingOrder;
+import org.apache.shardingsphere.sharding.route.engine.cache.ShardingRouteCacheKey;
+import org.apache.shardingsphere.sharding.route.engine.cache.ShardingRouteCacheableChecker;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
 import org.apache.shardingsphere.sharding.route.engine.condition.engine.ShardingConditionEngine;
@@ -53,11 +56,27 @@ public final class ShardingSQLRouter implements SQLRouter<ShardingRule> {
         if (sqlStatement instanceof DMLStatement && shardingConditions.isNeedMerge()) {
             shardingConditions.merge();
         }
-        RouteContext result = ShardingRouteEngineFactory.newInstance(rule, metaData, logicSQL.getSqlStatementContext(), shardingConditions, props).route(rule);
+        RouteContext result = route(logicSQL, metaData, rule, props, shardingConditions);
         validator.ifPresent(v -> v.postValidate(rule, logicSQL.getSqlStatementContext(), logicSQL.getParameters(), metaData.getDefaultSchema(), props, result));
         return result;
     }
     
+    private RouteContext route(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ShardingRule rule, final ConfigurationProperties props,
+                               final ShardingConditions shardingConditions) {
+        if (!props.<Boolean>getValue(ConfigurationPropertyKey.SHARDING_ROUTE_CACHE_ENABLED)
+                || !ShardingRouteCacheableChecker.isCacheable(rule, logicSQL.getSqlStatementContext(), shardingConditions)) {
+            return ShardingRouteEngineFactory.newInstance(rule, metaData, logicSQL.getSqlStatementContext(), shardingConditions, props).route(rule);
+        }
+        ShardingRouteCacheKey cacheKey = new ShardingRouteCacheKey(logicSQL.getSql(), metaData.getDefaultSchema().getVersion(), shardingConditions);
+        Optional<RouteContext> cachedRouteContext = rule.getRouteCache().get(cacheKey);
+        if (cachedRouteContext.isPresent()) {
+            return cachedRouteContext.get();
+        }
+        RouteContext result = ShardingRouteEngineFactory.newInstance(rule, metaData, logicSQL.getSqlStatementContext(), shardingConditions, props).route(rule);
+        rule.getRouteCache().put(cacheKey, result);
+        return result;
+    }
+    
     @SuppressWarnings({"rawtypes", "unchecked"})
     private ShardingConditions createShardingConditions(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ShardingRule rule) {
         List<ShardingCondition> shardingConditions;
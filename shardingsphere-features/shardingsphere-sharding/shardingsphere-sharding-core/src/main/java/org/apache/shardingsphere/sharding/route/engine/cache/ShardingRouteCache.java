@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Sharding route cache.
+ * 
+ * <p>Route context will be decorated by other routers after sharding router, so only copies are stored and returned.</p>
+ */
+public final class ShardingRouteCache {
+    
+    private static final long MAXIMUM_SIZE = 65535L;
+    
+    private final Cache<ShardingRouteCacheKey, RouteContext> cache = CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE).build();
+    
+    /**
+     * Get cached route context.
+     *
+     * @param key cache key
+     * @return copy of cached route context
+     */
+    public Optional<RouteContext> get(final ShardingRouteCacheKey key) {
+        return Optional.ofNullable(cache.getIfPresent(key)).map(this::copy);
+    }
+    
+    /**
+     * Put route context.
+     *
+     * @param key cache key
+     * @param routeContext route context
+     */
+    public void put(final ShardingRouteCacheKey key, final RouteContext routeContext) {
+        cache.put(key, copy(routeContext));
+    }
+    
+    private RouteContext copy(final RouteContext routeContext) {
+        RouteContext result = new RouteContext();
+        for (Collection<DataNode> each : routeContext.getOriginalDataNodes()) {
+            result.getOriginalDataNodes().add(new ArrayList<>(each));
+        }
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            Collection<RouteMapper> tableMappers = each.getTableMappers() instanceof List ? new ArrayList<>(each.getTableMappers()) : new LinkedHashSet<>(each.getTableMappers());
+            result.getRouteUnits().add(new RouteUnit(each.getDataSourceMapper(), tableMappers));
+        }
+        result.setFederated(routeContext.isFederated());
+        return result;
+    }
+}
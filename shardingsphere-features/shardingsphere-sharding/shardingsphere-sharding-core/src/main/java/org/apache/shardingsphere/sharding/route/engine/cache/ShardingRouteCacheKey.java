@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.cache;
+
+import lombok.EqualsAndHashCode;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sharding route cache key.
+ * 
+ * <p>Route result of same SQL only depends on schema meta data and sharding condition values, so parameters which are not sharding values are not part of key.</p>
+ */
+@EqualsAndHashCode
+public final class ShardingRouteCacheKey {
+    
+    private final String sql;
+    
+    private final long schemaVersion;
+    
+    private final List<Object> shardingConditionValues;
+    
+    public ShardingRouteCacheKey(final String sql, final long schemaVersion, final ShardingConditions shardingConditions) {
+        this.sql = sql;
+        this.schemaVersion = schemaVersion;
+        shardingConditionValues = createShardingConditionValues(shardingConditions);
+    }
+    
+    private List<Object> createShardingConditionValues(final ShardingConditions shardingConditions) {
+        List<Object> result = new ArrayList<>();
+        for (ShardingCondition each : shardingConditions.getConditions()) {
+            result.add(each.getClass());
+            result.add(each.getStartIndex());
+            result.add(each.getValues().size());
+            for (ShardingConditionValue value : each.getValues()) {
+                result.add(value.getClass());
+                result.add(value.getTableName());
+                result.add(value.getColumnName());
+                result.add(getValue(value));
+            }
+        }
+        return result;
+    }
+    
+    private Object getValue(final ShardingConditionValue shardingConditionValue) {
+        if (shardingConditionValue instanceof ListShardingConditionValue) {
+            return new ArrayList<>(((ListShardingConditionValue<?>) shardingConditionValue).getValues());
+        }
+        if (shardingConditionValue instanceof RangeShardingConditionValue) {
+            return ((RangeShardingConditionValue<?>) shardingConditionValue).getValueRange();
+        }
+        return "";
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.cache;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.insert.keygen.GeneratedKeyContext;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.hint.HintManager;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.AlwaysFalseShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DMLStatement;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Sharding route cacheable checker.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardingRouteCacheableChecker {
+    
+    /**
+     * Judge whether route result is cacheable or not.
+     * 
+     * <p>Route result is cacheable when it is decided by SQL and sharding condition values only.
+     * Hint routing, random unicast routing of broadcast tables and generated sharding keys are not cacheable.</p>
+     *
+     * @param rule sharding rule
+     * @param sqlStatementContext SQL statement context
+     * @param shardingConditions sharding conditions
+     * @return cacheable or not
+     */
+    public static boolean isCacheable(final ShardingRule rule, final SQLStatementContext<?> sqlStatementContext, final ShardingConditions shardingConditions) {
+        if (!(sqlStatementContext.getSqlStatement() instanceof DMLStatement) || HintManager.isInstantiated()) {
+            return false;
+        }
+        Collection<String> tableNames = sqlStatementContext.getTablesContext().getTableNames();
+        if (!isAllShardingOrBroadcastTables(rule, tableNames) || sqlStatementContext instanceof SelectStatementContext && rule.isAllBroadcastTables(tableNames)) {
+            return false;
+        }
+        return !isGeneratedShardingKey(rule, sqlStatementContext) && isAllCacheableShardingConditionValues(shardingConditions);
+    }
+    
+    private static boolean isAllShardingOrBroadcastTables(final ShardingRule rule, final Collection<String> tableNames) {
+        if (tableNames.isEmpty()) {
+            return false;
+        }
+        for (String each : tableNames) {
+            if (!rule.isShardingTable(each) && !rule.isBroadcastTable(each)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static boolean isGeneratedShardingKey(final ShardingRule rule, final SQLStatementContext<?> sqlStatementContext) {
+        if (!(sqlStatementContext instanceof InsertStatementContext)) {
+            return false;
+        }
+        Optional<GeneratedKeyContext> generatedKey = ((InsertStatementContext) sqlStatementContext).getGeneratedKeyContext();
+        if (!generatedKey.isPresent() || !generatedKey.get().isGenerated()) {
+            return false;
+        }
+        String tableName = ((InsertStatementContext) sqlStatementContext).getSqlStatement().getTable().getTableName().getIdentifier().getValue();
+        return rule.findShardingColumn(generatedKey.get().getColumnName(), tableName).isPresent();
+    }
+    
+    private static boolean isAllCacheableShardingConditionValues(final ShardingConditions shardingConditions) {
+        for (ShardingCondition each : shardingConditions.getConditions()) {
+            for (ShardingConditionValue value : each.getValues()) {
+                if (!(value instanceof ListShardingConditionValue) && !(value instanceof RangeShardingConditionValue) && !(value instanceof AlwaysFalseShardingConditionValue)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.DefaultSchema;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.AggregationProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.GroupBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupBySpillableMergerTest {
+    
+    private static final int SHARD_COUNT = 4;
+    
+    private static final int GROUP_COUNT = 1000;
+    
+    @Test
+    public void assertMergeWithinMemoryBudget() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), false, Long.MAX_VALUE);
+        MergedResult actual = resultMerger.merge(createQueryResults(), createSelectStatementContext(), null);
+        assertThat(actual, instanceOf(GroupByMemoryMergedResult.class));
+        assertMergedResult(actual);
+    }
+    
+    @Test
+    public void assertMergeWithSpill() throws SQLException, IOException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), false, 1024L);
+        MergedResult actual = resultMerger.merge(createQueryResults(), createSelectStatementContext(), null);
+        assertThat(actual, instanceOf(GroupBySpilledMergedResult.class));
+        assertMergedResult(actual);
+        assertThat(countSpillFiles(), is(0L));
+    }
+    
+    @Test
+    public void assertCloseBeforeAllRowsRead() throws SQLException, IOException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), false, 1024L);
+        MergedResult actual = resultMerger.merge(createQueryResults(), createSelectStatementContext(), null);
+        assertTrue(actual.next());
+        assertTrue(countSpillFiles() > 0L);
+        actual.close();
+        assertThat(countSpillFiles(), is(0L));
+    }
+    
+    @Test
+    public void assertMergeWithSpillAndLoserTree() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), true, 1L);
+        MergedResult actual = resultMerger.merge(createQueryResults(), createSelectStatementContext(), null);
+        assertThat(actual, instanceOf(GroupBySpilledMergedResult.class));
+        assertMergedResult(actual);
+    }
+    
+    @Test
+    public void assertMergeWithSpillAndSingleGroup() throws SQLException, IOException {
+        List<QueryResult> queryResults = new LinkedList<>();
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            List<MemoryQueryResultDataRow> rows = new LinkedList<>();
+            for (int i = 0; i < GROUP_COUNT; i++) {
+                rows.add(new MemoryQueryResultDataRow(Arrays.asList(1, 7, 7, 1, 7)));
+            }
+            queryResults.add(new RawMemoryQueryResult(createMetaData(), rows));
+        }
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), false, 1L);
+        MergedResult actual = resultMerger.merge(queryResults, createSelectStatementContext(), null);
+        assertThat(actual, instanceOf(GroupBySpilledMergedResult.class));
+        assertTrue(actual.next());
+        assertThat(((Number) actual.getValue(1, Object.class)).intValue(), is(SHARD_COUNT * GROUP_COUNT));
+        assertThat(((Number) actual.getValue(2, Object.class)).intValue(), is(7));
+        assertThat(actual.getValue(3, Object.class), is(7));
+        assertFalse(actual.next());
+        assertThat(countSpillFiles(), is(0L));
+    }
+    
+    private void assertMergedResult(final MergedResult actual) throws SQLException {
+        for (int id = GROUP_COUNT - 1; id >= 0; id--) {
+            assertTrue(actual.next());
+            assertThat(((Number) actual.getValue(1, Object.class)).intValue(), is(SHARD_COUNT));
+            assertThat(((Number) actual.getValue(2, Object.class)).intValue(), is(id));
+            assertThat(actual.getValue(3, Object.class), is(id));
+        }
+        assertFalse(actual.next());
+    }
+    
+    private long countSpillFiles() throws IOException {
+        try (Stream<Path> paths = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+            return paths.filter(each -> each.getFileName().toString().startsWith("shardingsphere-group-by-")).count();
+        }
+    }
+    
+    private List<QueryResult> createQueryResults() {
+        List<QueryResult> result = new LinkedList<>();
+        Random random = new Random(SHARD_COUNT);
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            List<Integer> ids = new LinkedList<>();
+            for (int id = 0; id < GROUP_COUNT; id++) {
+                ids.add(id);
+            }
+            Collections.shuffle(ids, random);
+            List<MemoryQueryResultDataRow> rows = new LinkedList<>();
+            for (int each : ids) {
+                rows.add(new MemoryQueryResultDataRow(Arrays.asList(1, each, each, 1, each)));
+            }
+            result.add(new RawMemoryQueryResult(createMetaData(), rows));
+        }
+        return result;
+    }
+    
+    private RawQueryResultMetaData createMetaData() {
+        List<RawQueryResultColumnMetaData> columns = new LinkedList<>();
+        for (String each : Arrays.asList("COUNT(*)", "AVG(num)", "id", "AVG_DERIVED_COUNT_0", "AVG_DERIVED_SUM_0")) {
+            columns.add(new RawQueryResultColumnMetaData("tbl", each, each, Types.INTEGER, "INT", 11, 0));
+        }
+        return new RawQueryResultMetaData(columns);
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.COUNT, "(*)"));
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.AVG, "(num)"));
+        selectStatement.setProjections(projectionsSegment);
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, OrderDirection.ASC))));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, OrderDirection.ASC))));
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+        when(metaData.getDefaultSchema()).thenReturn(mock(ShardingSphereSchema.class));
+        return new SelectStatementContext(Collections.singletonMap(DefaultSchema.LOGIC_NAME, metaData), Collections.emptyList(), selectStatement, DefaultSchema.LOGIC_NAME);
+    }
+}
@@ -22,6 +22,10 @@ import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementConte
 import org.apache.shardingsphere.infra.database.DefaultSchema;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
@@ -43,10 +47,13 @@ import org.junit.Test;
 
 import java.math.BigDecimal;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedList;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -155,6 +162,45 @@ public final class GroupByStreamMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    public void assertNextForMixWithLoserTree() throws SQLException {
+        QueryResult queryResult1 = createMemoryQueryResult(Collections.singletonList(Arrays.asList(20, 0, 2, new Date(0L), 2, 20)));
+        QueryResult queryResult2 = createMemoryQueryResult(
+                Arrays.asList(Arrays.asList(20, 0, 2, new Date(0L), 2, 20), Arrays.asList(30, 0, 3, new Date(0L), 3, 30), Arrays.asList(40, 0, 4, new Date(0L), 4, 40)));
+        QueryResult queryResult3 = createMemoryQueryResult(Arrays.asList(Arrays.asList(10, 10, 1, new Date(0L), 1, 10), Arrays.asList(30, 10, 3, new Date(0L), 3, 30)));
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), true);
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2, queryResult3), createSelectStatementContext(), buildSchema());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(10)));
+        assertThat(actual.getValue(3, Object.class), is(1));
+        assertThat(actual.getValue(6, Object.class), is(new BigDecimal(10)));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(40)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat(actual.getValue(3, Object.class), is(2));
+        assertThat(actual.getValue(5, Object.class), is(new BigDecimal(4)));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(60)));
+        assertThat(actual.getValue(3, Object.class), is(3));
+        assertThat(actual.getValue(6, Object.class), is(new BigDecimal(60)));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(40)));
+        assertThat(actual.getValue(3, Object.class), is(4));
+        assertFalse(actual.next());
+    }
+    
+    private QueryResult createMemoryQueryResult(final List<List<Object>> rows) {
+        List<RawQueryResultColumnMetaData> columns = new LinkedList<>();
+        for (String each : Arrays.asList("COUNT(*)", "AVG(num)", "id", "date", "AVG_DERIVED_COUNT_0", "AVG_DERIVED_SUM_0")) {
+            columns.add(new RawQueryResultColumnMetaData("tbl", each, each, Types.INTEGER, "INT", 11, 0));
+        }
+        List<MemoryQueryResultDataRow> dataRows = new LinkedList<>();
+        for (List<Object> each : rows) {
+            dataRows.add(new MemoryQueryResultDataRow(each));
+        }
+        return new RawMemoryQueryResult(new RawQueryResultMetaData(columns), dataRows);
+    }
+    
     private SelectStatementContext createSelectStatementContext() {
         SimpleTableSegment tableSegment = new SimpleTableSegment(new TableNameSegment(10, 13, new IdentifierValue("tbl")));
         MySQLSelectStatement selectStatement = new MySQLSelectStatement();
@@ -17,11 +17,25 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
 import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
 import org.junit.Test;
 
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public final class AggregationUnitFactoryTest {
     
@@ -37,11 +51,22 @@ public final class AggregationUnitFactoryTest {
         assertThat(AggregationUnitFactory.create(AggregationType.COUNT, false), instanceOf(AccumulationAggregationUnit.class));
     }
     
+    @Test
+    public void assertCreateLongAccumulationAggregationUnit() {
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, false, true), instanceOf(LongAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, false, true), instanceOf(LongAccumulationAggregationUnit.class));
+    }
+    
     @Test
     public void assertCreateAverageAggregationUnit() {
         assertThat(AggregationUnitFactory.create(AggregationType.AVG, false), instanceOf(AverageAggregationUnit.class));
     }
     
+    @Test
+    public void assertCreateLongAverageAggregationUnit() {
+        assertThat(AggregationUnitFactory.create(AggregationType.AVG, false, true), instanceOf(LongAverageAggregationUnit.class));
+    }
+    
     @Test
     public void assertCreateDistinctSumAggregationUnit() {
         assertThat(AggregationUnitFactory.create(AggregationType.SUM, true), instanceOf(DistinctSumAggregationUnit.class));
@@ -61,4 +86,42 @@ public final class AggregationUnitFactoryTest {
     public void assertCreateBitXorAggregationUnit() {
         assertThat(AggregationUnitFactory.create(AggregationType.BIT_XOR, false), instanceOf(BitXorAggregationUnit.class));
     }
+    
+    @Test
+    public void assertIsIntegralValue() throws SQLException {
+        List<QueryResult> queryResults = Collections.singletonList(createQueryResult(Types.BIGINT, Types.DECIMAL));
+        assertTrue(AggregationUnitFactory.isIntegralValue(createAggregationProjection(AggregationType.COUNT, 1), queryResults));
+        assertFalse(AggregationUnitFactory.isIntegralValue(createAggregationProjection(AggregationType.SUM, 2), queryResults));
+        assertFalse(AggregationUnitFactory.isIntegralValue(createAggregationProjection(AggregationType.SUM, 3), queryResults));
+        AggregationProjection averageProjection = createAggregationProjection(AggregationType.AVG, -1);
+        averageProjection.getDerivedAggregationProjections().add(createAggregationProjection(AggregationType.COUNT, 1));
+        averageProjection.getDerivedAggregationProjections().add(createAggregationProjection(AggregationType.SUM, 2));
+        assertFalse(AggregationUnitFactory.isIntegralValue(averageProjection, queryResults));
+    }
+    
+    @Test
+    public void assertIsIntegralValueWithDifferentColumnTypes() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(createQueryResult(Types.BIGINT, Types.BIGINT), createQueryResult(Types.BIGINT, Types.DECIMAL));
+        assertTrue(AggregationUnitFactory.isIntegralValue(createAggregationProjection(AggregationType.COUNT, 1), queryResults));
+        assertFalse(AggregationUnitFactory.isIntegralValue(createAggregationProjection(AggregationType.SUM, 2), queryResults));
+    }
+    
+    @Test
+    public void assertIsIntegralValueWithoutQueryResults() throws SQLException {
+        assertFalse(AggregationUnitFactory.isIntegralValue(createAggregationProjection(AggregationType.COUNT, 1), Collections.emptyList()));
+    }
+    
+    private QueryResult createQueryResult(final int countColumnType, final int sumColumnType) {
+        QueryResult result = mock(QueryResult.class);
+        when(result.getMetaData()).thenReturn(new RawQueryResultMetaData(Arrays.asList(
+                new RawQueryResultColumnMetaData("tbl", "COUNT(*)", "COUNT(*)", countColumnType, "BIGINT", 20, 0),
+                new RawQueryResultColumnMetaData("tbl", "SUM(num)", "SUM(num)", sumColumnType, "DECIMAL", 20, 2))));
+        return result;
+    }
+    
+    private AggregationProjection createAggregationProjection(final AggregationType type, final int index) {
+        AggregationProjection result = new AggregationProjection(type, "(num)", null, null);
+        result.setIndex(index);
+        return result;
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class LongAccumulationAggregationUnitTest {
+    
+    @Test
+    public void assertLongAccumulationAggregation() {
+        LongAccumulationAggregationUnit accumulationAggregationUnit = new LongAccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(null);
+        accumulationAggregationUnit.merge(Collections.singletonList(null));
+        assertNull(accumulationAggregationUnit.getResult());
+        accumulationAggregationUnit.merge(Collections.singletonList(1));
+        accumulationAggregationUnit.merge(Collections.singletonList(1L));
+        accumulationAggregationUnit.merge(Collections.singletonList((short) 10));
+        assertThat(accumulationAggregationUnit.getResult(), is(new BigDecimal("12")));
+    }
+    
+    @Test
+    public void assertLongAccumulationAggregationWithOverflow() {
+        LongAccumulationAggregationUnit accumulationAggregationUnit = new LongAccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(Collections.singletonList(Long.MAX_VALUE));
+        accumulationAggregationUnit.merge(Collections.singletonList(Long.MAX_VALUE));
+        accumulationAggregationUnit.merge(Collections.singletonList(2));
+        assertThat(accumulationAggregationUnit.getResult(), is(BigDecimal.valueOf(Long.MAX_VALUE).multiply(BigDecimal.valueOf(2L)).add(BigDecimal.valueOf(2L))));
+    }
+    
+    @Test
+    public void assertLongAccumulationAggregationWithNonIntegralValue() {
+        LongAccumulationAggregationUnit accumulationAggregationUnit = new LongAccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(Collections.singletonList(1));
+        accumulationAggregationUnit.merge(Collections.singletonList(new BigDecimal("1.5")));
+        accumulationAggregationUnit.merge(Collections.singletonList(1));
+        assertThat(accumulationAggregationUnit.getResult(), is(new BigDecimal("3.5")));
+    }
+}
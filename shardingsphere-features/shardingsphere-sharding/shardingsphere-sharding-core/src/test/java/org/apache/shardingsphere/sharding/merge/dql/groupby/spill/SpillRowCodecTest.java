@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SpillRowCodecTest {
+    
+    @Test
+    public void assertWriteAndRead() throws IOException {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        List<Object> expected = Arrays.asList(null, true, (byte) 1, (short) 2, 3, 4L, 5.5F, 6.6D, new BigInteger("12345678901234567890"), new BigDecimal("-1234567890.0987654321"), "中文 text",
+                new Date(1000L), new Time(2000L), timestamp, new java.util.Date(3000L), LocalDate.of(2022, 5, 1), LocalTime.of(12, 30, 15, 1), LocalDateTime.of(2022, 5, 1, 12, 30, 15, 1));
+        List<Object> actual = writeAndRead(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(actual.get(i), is(expected.get(i)));
+            if (null != expected.get(i)) {
+                assertThat(actual.get(i).getClass().getName(), is(expected.get(i).getClass().getName()));
+            }
+        }
+    }
+    
+    @Test
+    public void assertWriteAndReadBytes() throws IOException {
+        byte[] expected = "bytes".getBytes(StandardCharsets.UTF_8);
+        assertThat(writeAndRead(Collections.singletonList(expected)).get(0), is(expected));
+    }
+    
+    @Test(expected = IOException.class)
+    public void assertWriteUnsupportedType() throws IOException {
+        SpillRowCodec.write(new DataOutputStream(new ByteArrayOutputStream()), Collections.singletonList(new Object()));
+    }
+    
+    private List<Object> writeAndRead(final List<Object> row) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        SpillRowCodec.write(new DataOutputStream(outputStream), row);
+        return SpillRowCodec.read(new DataInputStream(new ByteArrayInputStream(outputStream.toByteArray())), row.size());
+    }
+}
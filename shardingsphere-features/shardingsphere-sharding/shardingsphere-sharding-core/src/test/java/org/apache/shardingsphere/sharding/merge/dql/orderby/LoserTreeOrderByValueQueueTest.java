@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import com.google.common.collect.ImmutableMap;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.DefaultSchema;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class LoserTreeOrderByValueQueueTest {
+    
+    @Test
+    public void assertEmpty() throws SQLException {
+        LoserTreeOrderByValueQueue actual = new LoserTreeOrderByValueQueue(Collections.emptyList());
+        assertTrue(actual.isEmpty());
+        assertNull(actual.peek());
+    }
+    
+    @Test
+    public void assertNextFirstForSingleQueryResult() throws SQLException {
+        assertNextFirst(1);
+    }
+    
+    @Test
+    public void assertNextFirstForPowerOfTwoQueryResults() throws SQLException {
+        assertNextFirst(16);
+    }
+    
+    @Test
+    public void assertNextFirstForNonPowerOfTwoQueryResults() throws SQLException {
+        assertNextFirst(37);
+    }
+    
+    private void assertNextFirst(final int queryResultCount) throws SQLException {
+        Random random = new Random(queryResultCount);
+        SelectStatementContext selectStatementContext = createSelectStatementContext();
+        ShardingSphereSchema schema = buildSchema();
+        List<OrderByValue> orderByValues = new ArrayList<>(queryResultCount);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < queryResultCount; i++) {
+            List<MemoryQueryResultDataRow> rows = new LinkedList<>();
+            int value = 0;
+            for (int j = random.nextInt(20); j > 0; j--) {
+                value += random.nextInt(3);
+                rows.add(new MemoryQueryResultDataRow(Collections.singletonList(value)));
+                expected.add(value);
+            }
+            orderByValues.add(new OrderByValue(new RawMemoryQueryResult(createQueryResultMetaData(), rows),
+                    selectStatementContext.getOrderByContext().getItems(), selectStatementContext, schema));
+        }
+        Collections.sort(expected);
+        LoserTreeOrderByValueQueue queue = new LoserTreeOrderByValueQueue(orderByValues);
+        List<Integer> actual = new ArrayList<>(expected.size());
+        while (!queue.isEmpty()) {
+            actual.add((Integer) queue.peek().getQueryResult().getValue(1, Object.class));
+            queue.nextFirst();
+        }
+        assertThat(actual, is(expected));
+    }
+    
+    private RawQueryResultMetaData createQueryResultMetaData() {
+        return new RawQueryResultMetaData(Collections.singletonList(new RawQueryResultColumnMetaData("tbl", "col1", "col1", Types.INTEGER, "INT", 11, 0)));
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setFrom(new SimpleTableSegment(new TableNameSegment(10, 13, new IdentifierValue("tbl"))));
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC))));
+        return new SelectStatementContext(
+                Collections.singletonMap(DefaultSchema.LOGIC_NAME, mock(ShardingSphereMetaData.class)), Collections.emptyList(), selectStatement, DefaultSchema.LOGIC_NAME);
+    }
+    
+    private ShardingSphereSchema buildSchema() {
+        ColumnMetaData columnMetaData = new ColumnMetaData("col1", Types.INTEGER, false, false, false);
+        TableMetaData tableMetaData = new TableMetaData("tbl", Collections.singletonList(columnMetaData), Collections.emptyList(), Collections.emptyList());
+        return new ShardingSphereSchema(ImmutableMap.of("tbl", tableMetaData));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine;
+
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.DefaultSchema;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sharding.route.engine.cache.ShardingRouteCache;
+import org.apache.shardingsphere.sharding.route.engine.cache.ShardingRouteCacheKey;
+import org.apache.shardingsphere.sharding.route.engine.fixture.AbstractRoutingEngineTest;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.sql.Types;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class ShardingSQLRouterTest extends AbstractRoutingEngineTest {
+    
+    private static final String SQL = "SELECT * FROM t_order WHERE user_id = ?";
+    
+    private final ShardingRouteCache routeCache = spy(new ShardingRouteCache());
+    
+    private ShardingRule rule;
+    
+    private ShardingSphereSchema schema;
+    
+    private ShardingSphereMetaData metaData;
+    
+    private ConfigurationProperties props;
+    
+    @Before
+    public void setUp() {
+        rule = spy(createAllShardingRule());
+        doReturn(routeCache).when(rule).getRouteCache();
+        schema = new ShardingSphereSchema(Collections.singletonMap("t_order", new TableMetaData("t_order", Collections.singletonList(
+                new ColumnMetaData("user_id", Types.INTEGER, true, false, false)), Collections.emptyList(), Collections.emptyList())));
+        ShardingSphereResource resource = mock(ShardingSphereResource.class, RETURNS_DEEP_STUBS);
+        when(resource.getDatabaseType()).thenReturn(new MySQLDatabaseType());
+        metaData = new ShardingSphereMetaData(DefaultSchema.LOGIC_NAME, resource,
+                new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.singletonList(rule)), Collections.singletonMap(DefaultSchema.LOGIC_NAME, schema));
+        Properties properties = new Properties();
+        properties.setProperty(ConfigurationPropertyKey.SHARDING_ROUTE_CACHE_ENABLED.getKey(), Boolean.TRUE.toString());
+        props = new ConfigurationProperties(properties);
+    }
+    
+    @Test
+    public void assertCreateRouteContextWithCachedRouteContext() {
+        assertRouteToActualTable(route(1));
+        ShardingRouteCacheKey cacheKey = getCachedKey();
+        routeCache.put(cacheKey, createRouteContext("t_order_0"));
+        assertThat(route(1).getRouteUnits().iterator().next().getTableMappers().iterator().next().getActualName(), is("t_order_0"));
+    }
+    
+    @Test
+    public void assertCreateRouteContextWithoutCacheAfterSchemaChanged() {
+        assertRouteToActualTable(route(1));
+        routeCache.put(getCachedKey(), createRouteContext("t_order_0"));
+        schema.put("t_order_item", new TableMetaData("t_order_item", Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+        assertRouteToActualTable(route(1));
+    }
+    
+    private RouteContext route(final int userId) {
+        SQLStatementParserEngine sqlStatementParserEngine = new SQLStatementParserEngine("MySQL", new CacheOption(128, 1024L, 4), new CacheOption(128, 1024L, 4), false);
+        List<Object> parameters = Collections.singletonList(userId);
+        SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(
+                Collections.singletonMap(DefaultSchema.LOGIC_NAME, metaData), parameters, sqlStatementParserEngine.parse(SQL, false), DefaultSchema.LOGIC_NAME);
+        return new ShardingSQLRouter().createRouteContext(new LogicSQL(sqlStatementContext, SQL, parameters), metaData, rule, props);
+    }
+    
+    private ShardingRouteCacheKey getCachedKey() {
+        ArgumentCaptor<ShardingRouteCacheKey> result = ArgumentCaptor.forClass(ShardingRouteCacheKey.class);
+        verify(routeCache).put(result.capture(), any(RouteContext.class));
+        return result.getValue();
+    }
+    
+    private RouteContext createRouteContext(final String actualTableName) {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_1", "ds_1"), Collections.singletonList(new RouteMapper("t_order", actualTableName))));
+        return result;
+    }
+    
+    private void assertRouteToActualTable(final RouteContext actual) {
+        assertThat(actual.getRouteUnits().size(), is(1));
+        RouteUnit routeUnit = actual.getRouteUnits().iterator().next();
+        assertThat(routeUnit.getDataSourceMapper().getActualName(), is("ds_1"));
+        assertThat(routeUnit.getTableMappers().iterator().next().getActualName(), is("t_order_1"));
+    }
+}
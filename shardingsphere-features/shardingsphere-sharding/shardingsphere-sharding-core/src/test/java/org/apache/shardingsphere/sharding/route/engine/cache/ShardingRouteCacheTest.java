@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.cache;
+
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class ShardingRouteCacheTest {
+    
+    private static final String SQL = "SELECT * FROM t_order WHERE order_id = ?";
+    
+    @Test
+    public void assertGetWithoutPut() {
+        assertFalse(new ShardingRouteCache().get(createCacheKey(1L)).isPresent());
+    }
+    
+    @Test
+    public void assertGetCopyOfPutRouteContext() {
+        ShardingRouteCache routeCache = new ShardingRouteCache();
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("t_order", "t_order_1"))));
+        routeCache.put(createCacheKey(1L), routeContext);
+        Optional<RouteContext> actual = routeCache.get(createCacheKey(1L));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), not(routeContext));
+        assertThat(actual.get().getRouteUnits().size(), is(1));
+        RouteUnit actualRouteUnit = actual.get().getRouteUnits().iterator().next();
+        assertThat(actualRouteUnit.getDataSourceMapper(), is(new RouteMapper("ds_0", "ds_0")));
+        assertThat(actualRouteUnit.getTableMappers().iterator().next(), is(new RouteMapper("t_order", "t_order_1")));
+        actual.get().getRouteUnits().clear();
+        assertThat(routeCache.get(createCacheKey(1L)).get().getRouteUnits().size(), is(1));
+    }
+    
+    @Test
+    public void assertGetWithDifferentShardingValue() {
+        ShardingRouteCache routeCache = new ShardingRouteCache();
+        routeCache.put(createCacheKey(1L), new RouteContext());
+        assertFalse(routeCache.get(createCacheKey(2L)).isPresent());
+    }
+    
+    private ShardingRouteCacheKey createCacheKey(final long orderId) {
+        ShardingCondition shardingCondition = new ShardingCondition();
+        shardingCondition.getValues().add(new ListShardingConditionValue<>("order_id", "t_order", Collections.singleton(orderId)));
+        return new ShardingRouteCacheKey(SQL, 1L, new ShardingConditions(Collections.singletonList(shardingCondition), mock(SQLStatementContext.class), mock(ShardingRule.class)));
+    }
+}
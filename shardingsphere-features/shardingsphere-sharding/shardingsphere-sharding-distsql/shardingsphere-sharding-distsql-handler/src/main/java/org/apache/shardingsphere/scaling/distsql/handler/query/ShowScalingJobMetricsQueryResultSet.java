@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.distsql.handler.query;
+
+import org.apache.shardingsphere.data.pipeline.api.PipelineJobAPIFactory;
+import org.apache.shardingsphere.data.pipeline.api.RuleAlteredJobAPI;
+import org.apache.shardingsphere.data.pipeline.api.job.progress.JobMetrics;
+import org.apache.shardingsphere.infra.distsql.query.DistSQLResultSet;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.scaling.distsql.statement.ShowScalingMetricsStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.stream.Collectors;
+
+/**
+ * Show scaling job metrics query result set.
+ */
+public final class ShowScalingJobMetricsQueryResultSet implements DistSQLResultSet {
+    
+    private static final RuleAlteredJobAPI RULE_ALTERED_JOB_API = PipelineJobAPIFactory.newInstance();
+    
+    private Iterator<Collection<Object>> data;
+    
+    @Override
+    public void init(final ShardingSphereMetaData metaData, final SQLStatement sqlStatement) {
+        data = RULE_ALTERED_JOB_API.getProgress(((ShowScalingMetricsStatement) sqlStatement).getJobId()).entrySet().stream()
+                .map(entry -> {
+                    Collection<Object> list = new LinkedList<>();
+                    list.add(entry.getKey());
+                    if (null != entry.getValue()) {
+                        JobMetrics metrics = entry.getValue().getMetrics();
+                        list.add(metrics.getDumperRecordsPerSecond());
+                        list.add(metrics.getDumperBytesPerSecond());
+                        list.add(metrics.getImporterRecordsPerSecond());
+                        list.add(metrics.getImporterBytesPerSecond());
+                        list.add(metrics.getChannelQueueDepth());
+                        list.add(metrics.getAckLatencyMillis());
+                        list.add(metrics.getLagSeconds());
+                    } else {
+                        for (int i = 0; i < 7; i++) {
+                            list.add("");
+                        }
+                    }
+                    return list;
+                }).collect(Collectors.toList()).iterator();
+    }
+    
+    @Override
+    public Collection<String> getColumnNames() {
+        return Arrays.asList("item", "dumper_records_per_second", "dumper_bytes_per_second", "importer_records_per_second", "importer_bytes_per_second",
+                "channel_queue_depth", "ack_latency_millis", "lag_seconds");
+    }
+    
+    @Override
+    public boolean next() {
+        return data.hasNext();
+    }
+    
+    @Override
+    public Collection<Object> getRowData() {
+        return data.next();
+    }
+    
+    @Override
+    public String getType() {
+        return ShowScalingMetricsStatement.class.getName();
+    }
+}
@@ -95,6 +95,10 @@ STATUS
     : S T A T U S
     ;
 
+METRICS
+    : M E T R I C S
+    ;
+
 SOURCE
     : S O U R C E
     ;
@@ -27,6 +27,10 @@ showScalingStatus
     : SHOW SCALING STATUS jobId
     ;
 
+showScalingMetrics
+    : SHOW SCALING METRICS jobId
+    ;
+
 startScaling
     : START SCALING jobId
     ;
@@ -22,6 +22,7 @@ import Symbol, RALStatement, RDLStatement, RQLStatement;
 execute
     : (showScalingList
     | showScalingStatus
+    | showScalingMetrics
     | startScaling
     | stopScaling
     | dropScaling
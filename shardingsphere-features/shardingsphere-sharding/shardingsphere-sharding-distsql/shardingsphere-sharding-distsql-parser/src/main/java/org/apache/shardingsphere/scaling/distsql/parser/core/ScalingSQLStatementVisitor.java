@@ -40,6 +40,7 @@ import org.apache.shardingsphere.distsql.parser.autogen.ScalingStatementParser.S
 import org.apache.shardingsphere.distsql.parser.autogen.ScalingStatementParser.SchemaNameContext;
 import org.apache.shardingsphere.distsql.parser.autogen.ScalingStatementParser.ShowScalingCheckAlgorithmsContext;
 import org.apache.shardingsphere.distsql.parser.autogen.ScalingStatementParser.ShowScalingListContext;
+import org.apache.shardingsphere.distsql.parser.autogen.ScalingStatementParser.ShowScalingMetricsContext;
 import org.apache.shardingsphere.distsql.parser.autogen.ScalingStatementParser.ShowScalingStatusContext;
 import org.apache.shardingsphere.distsql.parser.autogen.ScalingStatementParser.ShowShardingScalingRulesContext;
 import org.apache.shardingsphere.distsql.parser.autogen.ScalingStatementParser.StartScalingContext;
@@ -59,6 +60,7 @@ import org.apache.shardingsphere.scaling.distsql.statement.ResetScalingStatement
 import org.apache.shardingsphere.scaling.distsql.statement.RestoreScalingSourceWritingStatement;
 import org.apache.shardingsphere.scaling.distsql.statement.ShowScalingCheckAlgorithmsStatement;
 import org.apache.shardingsphere.scaling.distsql.statement.ShowScalingListStatement;
+import org.apache.shardingsphere.scaling.distsql.statement.ShowScalingMetricsStatement;
 import org.apache.shardingsphere.scaling.distsql.statement.ShowScalingStatusStatement;
 import org.apache.shardingsphere.scaling.distsql.statement.ShowShardingScalingRulesStatement;
 import org.apache.shardingsphere.scaling.distsql.statement.StartScalingStatement;
@@ -88,6 +90,11 @@ public final class ScalingSQLStatementVisitor extends ScalingStatementBaseVisito
         return new ShowScalingStatusStatement(getIdentifierValue(ctx.jobId()));
     }
     
+    @Override
+    public ASTNode visitShowScalingMetrics(final ShowScalingMetricsContext ctx) {
+        return new ShowScalingMetricsStatement(getIdentifierValue(ctx.jobId()));
+    }
+    
     @Override
     public ASTNode visitStartScaling(final StartScalingContext ctx) {
         return new StartScalingStatement(getIdentifierValue(ctx.jobId()));
@@ -67,6 +67,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy-frontend-flush-threshold", String.valueOf(128), int.class, false),
     
+    /**
+     * Max bytes of written records before flush for ShardingSphere-Proxy. Flush bytes starts small and grows up to this value while query result is large.
+     */
+    PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD("proxy-frontend-flush-bytes-threshold", String.valueOf(65536), int.class, false),
+    
     /**
      * Whether enable hint for ShardingSphere-Proxy.
      */
@@ -127,7 +132,37 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
     /**
      * Proxy mysql default version, default 5.7.22.
      */
-    PROXY_MYSQL_DEFAULT_VERSION("proxy-mysql-default-version", "5.7.22", String.class, false);
+    PROXY_MYSQL_DEFAULT_VERSION("proxy-mysql-default-version", "5.7.22", String.class, false),
+    
+    /**
+     * Whether enable sharding route cache, which reuses route result of same SQL and same sharding condition values.
+     */
+    SHARDING_ROUTE_CACHE_ENABLED("sharding-route-cache-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Whether enable SQL literal parameterized for ShardingSphere-Proxy, which parses and executes text protocol DML with literals replaced by parameters.
+     */
+    PROXY_SQL_LITERAL_PARAMETERIZED_ENABLED("proxy-sql-literal-parameterized-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Whether use one virtual thread per task for kernel executor and ShardingSphere-Proxy command executors, only takes effect on JDK 21 or above.
+     */
+    VIRTUAL_THREAD_EXECUTOR_ENABLED("virtual-thread-executor-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
+    /**
+     * Whether use loser tree instead of priority queue to merge ordered query results of all shards for sharding stream merge.
+     */
+    SHARDING_STREAM_MERGE_LOSER_TREE_ENABLED("sharding-stream-merge-loser-tree-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Max estimated bytes of rows held in memory by sharding group by memory merge before spilling to temporary files, 0 means unlimited.
+     */
+    SHARDING_GROUP_BY_MERGE_MEMORY_BUDGET_BYTES("sharding-group-by-merge-memory-budget-bytes", String.valueOf(0L), long.class, false),
+    
+    /**
+     * Min bytes of payload to be compressed for MySQL compressed protocol with zlib or zstd, smaller payload would be sent uncompressed.
+     */
+    PROXY_MYSQL_COMPRESSION_MIN_LENGTH("proxy-mysql-compression-min-length", String.valueOf(50), int.class, false);
     
     private final String key;
     
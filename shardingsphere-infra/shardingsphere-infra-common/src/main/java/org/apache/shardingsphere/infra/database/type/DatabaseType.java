@@ -108,6 +108,15 @@ public interface DatabaseType {
         return tableNamePattern;
     }
     
+    /**
+     * Judge whether string parameter is converted to type of compared column implicitly.
+     *
+     * @return string parameter is converted implicitly or not
+     */
+    default boolean isStringParameterImplicitlyConverted() {
+        return false;
+    }
+    
     /**
      * Handle rollback only.
      *
@@ -76,4 +76,9 @@ public final class MySQLDatabaseType implements DatabaseType {
     public Collection<String> getSystemSchemas() {
         return SYSTEM_DATABASE_SCHEMA_MAP.keySet();
     }
+    
+    @Override
+    public boolean isStringParameterImplicitlyConverted() {
+        return true;
+    }
 }
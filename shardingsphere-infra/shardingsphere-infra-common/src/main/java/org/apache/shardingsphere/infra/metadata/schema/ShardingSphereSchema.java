@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * ShardingSphere schema.
@@ -33,8 +34,15 @@ import java.util.concurrent.ConcurrentHashMap;
 @Getter
 public final class ShardingSphereSchema {
     
+    private static final AtomicLong VERSION_GENERATOR = new AtomicLong();
+    
     private final Map<String, TableMetaData> tables;
     
+    /**
+     * Version is unique among all schemas and changes whenever table meta data is added or removed.
+     */
+    private volatile long version = VERSION_GENERATOR.incrementAndGet();
+    
     @SuppressWarnings("CollectionWithoutInitialCapacity")
     public ShardingSphereSchema() {
         tables = new ConcurrentHashMap<>();
@@ -45,13 +53,24 @@ public final class ShardingSphereSchema {
         tables.forEach((key, value) -> this.tables.put(key.toLowerCase(), value));
     }
     
+    /**
+     * Get tables.
+     * 
+     * <p>Tables are read only, use {@link #put(String, TableMetaData)} or {@link #remove(String)} to change them so that version changes too.</p>
+     *
+     * @return tables
+     */
+    public Map<String, TableMetaData> getTables() {
+        return Collections.unmodifiableMap(tables);
+    }
+    
     /**
      * Get all table names.
      *
      * @return all table names
      */
     public Collection<String> getAllTableNames() {
-        return tables.keySet();
+        return Collections.unmodifiableSet(tables.keySet());
     }
     
     /**
@@ -72,6 +91,7 @@ public final class ShardingSphereSchema {
      */
     public void put(final String tableName, final TableMetaData tableMetaData) {
         tables.put(tableName.toLowerCase(), tableMetaData);
+        version = VERSION_GENERATOR.incrementAndGet();
     }
     
     /**
@@ -92,6 +112,7 @@ public final class ShardingSphereSchema {
      */
     public void remove(final String tableName) {
         tables.remove(tableName.toLowerCase());
+        version = VERSION_GENERATOR.incrementAndGet();
     }
     
     /**
@@ -81,4 +81,9 @@ public final class MySQLDatabaseTypeTest {
     public void assertGetSystemSchemas() {
         assertThat(new MySQLDatabaseType().getSystemSchemas(), is(Sets.newHashSet("information_schema", "performance_schema", "mysql", "sys")));
     }
+    
+    @Test
+    public void assertIsStringParameterImplicitlyConverted() {
+        assertTrue(new MySQLDatabaseType().isStringParameterImplicitlyConverted());
+    }
 }
@@ -26,6 +26,7 @@ import org.junit.Test;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -59,6 +60,27 @@ public final class ShardingSphereSchemaTest {
         assertNull(actual.get("tbl"));
     }
     
+    @Test
+    public void assertVersionChangedAfterPutAndRemove() {
+        ShardingSphereSchema actual = new ShardingSphereSchema(Collections.emptyMap());
+        long originalVersion = actual.getVersion();
+        actual.put("tbl", mock(TableMetaData.class));
+        long putVersion = actual.getVersion();
+        assertThat(putVersion, not(originalVersion));
+        actual.remove("tbl");
+        assertThat(actual.getVersion(), not(putVersion));
+    }
+    
+    @Test(expected = UnsupportedOperationException.class)
+    public void assertGetTablesNotModifiable() {
+        new ShardingSphereSchema().getTables().put("tbl", mock(TableMetaData.class));
+    }
+    
+    @Test
+    public void assertVersionDifferentAmongSchemas() {
+        assertThat(new ShardingSphereSchema().getVersion(), not(new ShardingSphereSchema().getVersion()));
+    }
+    
     @Test
     public void assertContainsTable() {
         assertTrue(new ShardingSphereSchema(ImmutableMap.of("tbl", mock(TableMetaData.class))).containsTable("tbl"));
@@ -27,12 +27,15 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 
 /**
@@ -47,6 +50,10 @@ public final class ExecutorEngine implements AutoCloseable {
         executorServiceManager = new ExecutorServiceManager(executorSize);
     }
     
+    public ExecutorEngine(final int executorSize, final boolean virtualThreadEnabled) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, virtualThreadEnabled);
+    }
+    
     /**
      * Execute.
      *
@@ -82,6 +89,54 @@ public final class ExecutorEngine implements AutoCloseable {
                 : parallelExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback);
     }
     
+    /**
+     * Execute asynchronously.
+     *
+     * @param executionGroupContext execution group context
+     * @param callback executor callback
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return future of execute result
+     */
+    public <I, O> CompletableFuture<List<O>> executeAsync(final ExecutionGroupContext<I> executionGroupContext, final ExecutorCallback<I, O> callback) {
+        return executeAsync(executionGroupContext, null, callback, false);
+    }
+    
+    /**
+     * Execute asynchronously.
+     * 
+     * <p>Same as {@linkplain #execute(ExecutionGroupContext, ExecutorCallback, ExecutorCallback, boolean)}, the first execution group runs in calling thread
+     * and the rest execution groups are submitted to executor service, but the calling thread does not wait for the rest group results.
+     * Serial execution still runs in calling thread, because resources of serial execution (such as transaction) may be bound to it.
+     * Once an execution group fails, the rest execution groups which are not started yet are cancelled.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param serial whether using multi thread execute or not
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return future of execute result, completed exceptionally with {@linkplain CompletionException} which caused by {@linkplain SQLException} if execute failure
+     */
+    public <I, O> CompletableFuture<List<O>> executeAsync(final ExecutionGroupContext<I> executionGroupContext,
+                                                          final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback, final boolean serial) {
+        if (serial) {
+            CompletableFuture<List<O>> result = new CompletableFuture<>();
+            try {
+                result.complete(execute(executionGroupContext, firstCallback, callback, true));
+                // CHECKSTYLE:OFF
+            } catch (final SQLException | RuntimeException ex) {
+                // CHECKSTYLE:ON
+                result.completeExceptionally(new CompletionException(ex));
+            }
+            return result;
+        }
+        if (executionGroupContext.getInputGroups().isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        return parallelExecuteAsync(executionGroupContext.getInputGroups().iterator(), firstCallback, callback);
+    }
+    
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
         List<O> result = new LinkedList<>(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
@@ -114,6 +169,62 @@ public final class ExecutorEngine implements AutoCloseable {
         return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false, dataMap));
     }
     
+    private <I, O> CompletableFuture<List<O>> parallelExecuteAsync(final Iterator<ExecutionGroup<I>> executionGroups,
+                                                                   final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) {
+        ExecutionGroup<I> firstInputs = executionGroups.next();
+        List<CompletableFuture<Collection<O>>> restResultFutures = completableExecute(executionGroups, callback);
+        CompletableFuture<List<O>> result = new CompletableFuture<>();
+        Collection<O> firstResults;
+        try {
+            firstResults = syncExecute(firstInputs, null == firstCallback ? callback : firstCallback);
+        } catch (final SQLException ex) {
+            completeExceptionally(result, ex, restResultFutures);
+            return result;
+        }
+        for (CompletableFuture<Collection<O>> each : restResultFutures) {
+            each.whenComplete((unused, ex) -> {
+                if (null != ex) {
+                    completeExceptionally(result, ex, restResultFutures);
+                }
+            });
+        }
+        CompletableFuture.allOf(restResultFutures.toArray(new CompletableFuture[0])).thenRun(() -> result.complete(getCompletedGroupResults(firstResults, restResultFutures)));
+        return result;
+    }
+    
+    private <O> void completeExceptionally(final CompletableFuture<List<O>> result, final Throwable cause, final List<CompletableFuture<Collection<O>>> restFutures) {
+        if (result.completeExceptionally(cause instanceof CompletionException ? cause : new CompletionException(cause))) {
+            restFutures.forEach(each -> each.cancel(false));
+        }
+    }
+    
+    private <I, O> List<CompletableFuture<Collection<O>>> completableExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> callback) {
+        List<CompletableFuture<Collection<O>>> result = new ArrayList<>();
+        Map<String, Object> dataMap = ExecutorDataMap.getValue();
+        while (executionGroups.hasNext()) {
+            result.add(completableExecute(executionGroups.next(), callback, dataMap));
+        }
+        return result;
+    }
+    
+    private <I, O> CompletableFuture<Collection<O>> completableExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback, final Map<String, Object> dataMap) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return callback.execute(executionGroup.getInputs(), false, dataMap);
+            } catch (final SQLException ex) {
+                throw new CompletionException(ex);
+            }
+        }, executorServiceManager.getExecutorService());
+    }
+    
+    private <O> List<O> getCompletedGroupResults(final Collection<O> firstResults, final List<CompletableFuture<Collection<O>>> restFutures) {
+        List<O> result = new LinkedList<>(firstResults);
+        for (CompletableFuture<Collection<O>> each : restFutures) {
+            result.addAll(each.join());
+        }
+        return result;
+    }
+    
     private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<ListenableFuture<Collection<O>>> restFutures) throws SQLException {
         List<O> result = new LinkedList<>(firstResults);
         for (ListenableFuture<Collection<O>> each : restFutures) {
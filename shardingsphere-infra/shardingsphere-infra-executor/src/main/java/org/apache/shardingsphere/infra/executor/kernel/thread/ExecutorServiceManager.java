@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -30,6 +31,7 @@ import java.util.concurrent.TimeUnit;
  * Executor service manager.
  */
 @Getter
+@Slf4j
 public final class ExecutorServiceManager {
     
     private static final String DEFAULT_NAME_FORMAT = "%d";
@@ -42,11 +44,25 @@ public final class ExecutorServiceManager {
         this(executorSize, DEFAULT_NAME_FORMAT);
     }
     
+    public ExecutorServiceManager(final int executorSize, final boolean virtualThreadEnabled) {
+        this(executorSize, DEFAULT_NAME_FORMAT, virtualThreadEnabled);
+    }
+    
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = MoreExecutors.listeningDecorator(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, false);
     }
     
-    private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final boolean virtualThreadEnabled) {
+        executorService = MoreExecutors.listeningDecorator(getExecutorService(executorSize, nameFormat, virtualThreadEnabled));
+    }
+    
+    private ExecutorService getExecutorService(final int executorSize, final String nameFormat, final boolean virtualThreadEnabled) {
+        if (virtualThreadEnabled) {
+            if (VirtualThreadExecutorServiceFactory.isSupported()) {
+                return VirtualThreadExecutorServiceFactory.newThreadPerTaskExecutor(nameFormat);
+            }
+            log.warn("Virtual thread requires JDK 21 or above, fall back to platform thread pool.");
+        }
         ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(nameFormat);
         return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
     }
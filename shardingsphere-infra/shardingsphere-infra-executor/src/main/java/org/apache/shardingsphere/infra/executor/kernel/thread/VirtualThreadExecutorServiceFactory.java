@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual thread executor service factory.
+ * 
+ * <p>Virtual thread is available since JDK 21, it is detected by reflection at runtime because the compile baseline is still Java 8.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VirtualThreadExecutorServiceFactory {
+    
+    private static final String NAME_FORMAT_PREFIX = "ShardingSphere-";
+    
+    private static final String NAME_FORMAT_COUNTER = "%d";
+    
+    private static final Method OF_VIRTUAL_METHOD;
+    
+    private static final Method NAME_METHOD;
+    
+    private static final Method NAME_WITH_COUNTER_METHOD;
+    
+    private static final Method FACTORY_METHOD;
+    
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR_METHOD;
+    
+    static {
+        Method ofVirtualMethod;
+        Method nameMethod;
+        Method nameWithCounterMethod;
+        Method factoryMethod;
+        Method newThreadPerTaskExecutorMethod;
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            ofVirtualMethod = Thread.class.getMethod("ofVirtual");
+            nameMethod = builderClass.getMethod("name", String.class);
+            nameWithCounterMethod = builderClass.getMethod("name", String.class, long.class);
+            factoryMethod = builderClass.getMethod("factory");
+            newThreadPerTaskExecutorMethod = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            // virtual thread is preview feature in JDK 19 and 20, which throws exception if preview is not enabled
+            ofVirtualMethod.invoke(null);
+        } catch (final ReflectiveOperationException | LinkageError ex) {
+            ofVirtualMethod = null;
+            nameMethod = null;
+            nameWithCounterMethod = null;
+            factoryMethod = null;
+            newThreadPerTaskExecutorMethod = null;
+        }
+        OF_VIRTUAL_METHOD = ofVirtualMethod;
+        NAME_METHOD = nameMethod;
+        NAME_WITH_COUNTER_METHOD = nameWithCounterMethod;
+        FACTORY_METHOD = factoryMethod;
+        NEW_THREAD_PER_TASK_EXECUTOR_METHOD = newThreadPerTaskExecutorMethod;
+    }
+    
+    /**
+     * Judge whether virtual thread is supported by current runtime.
+     * 
+     * @return virtual thread is supported or not
+     */
+    public static boolean isSupported() {
+        return null != OF_VIRTUAL_METHOD;
+    }
+    
+    /**
+     * Create virtual thread factory.
+     * 
+     * @param nameFormat thread name format, only <code>%d</code> as the suffix is supported for thread counter
+     * @return virtual thread factory
+     * @throws UnsupportedOperationException if virtual thread is not supported by current runtime
+     * @throws IllegalStateException if virtual thread factory cannot be created by reflection
+     */
+    public static ThreadFactory newThreadFactory(final String nameFormat) {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("Virtual thread requires JDK 21 or above");
+        }
+        String name = NAME_FORMAT_PREFIX + nameFormat;
+        try {
+            Object builder = OF_VIRTUAL_METHOD.invoke(null);
+            builder = name.endsWith(NAME_FORMAT_COUNTER)
+                    ? NAME_WITH_COUNTER_METHOD.invoke(builder, name.substring(0, name.length() - NAME_FORMAT_COUNTER.length()), 0L)
+                    : NAME_METHOD.invoke(builder, name);
+            return (ThreadFactory) FACTORY_METHOD.invoke(builder);
+        } catch (final IllegalAccessException | InvocationTargetException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+    
+    /**
+     * Create executor service which starts a new virtual thread for each task.
+     * 
+     * @param nameFormat thread name format, only <code>%d</code> as the suffix is supported for thread counter
+     * @return executor service
+     * @throws UnsupportedOperationException if virtual thread is not supported by current runtime
+     * @throws IllegalStateException if executor service cannot be created by reflection
+     */
+    public static ExecutorService newThreadPerTaskExecutor(final String nameFormat) {
+        ThreadFactory threadFactory = newThreadFactory(nameFormat);
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR_METHOD.invoke(null, threadFactory);
+        } catch (final IllegalAccessException | InvocationTargetException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
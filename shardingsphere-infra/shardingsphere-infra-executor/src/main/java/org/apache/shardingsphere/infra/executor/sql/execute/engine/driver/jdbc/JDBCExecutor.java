@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
@@ -25,11 +26,14 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorEx
 import java.sql.SQLException;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * JDBC executor.
  */
 @RequiredArgsConstructor
+@Slf4j
 public final class JDBCExecutor {
     
     private final ExecutorEngine executorEngine;
@@ -68,4 +72,31 @@ public final class JDBCExecutor {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute asynchronously.
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first JDBC execute callback
+     * @param callback JDBC execute callback
+     * @param <T> class type of return value
+     * @return future of execute result, exception handling follows the exception thrown flag of calling thread
+     */
+    public <T> CompletableFuture<List<T>> executeAsync(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                                                       final JDBCExecutorCallback<T> firstCallback, final JDBCExecutorCallback<T> callback) {
+        boolean isExceptionThrown = SQLExecutorExceptionHandler.isExceptionThrown();
+        return executorEngine.executeAsync(executionGroupContext, firstCallback, callback, serial).exceptionally(ex -> handleAsyncException(ex, isExceptionThrown));
+    }
+    
+    private <T> List<T> handleAsyncException(final Throwable throwable, final boolean isExceptionThrown) {
+        Throwable cause = throwable instanceof CompletionException && null != throwable.getCause() ? throwable.getCause() : throwable;
+        if (!(cause instanceof SQLException)) {
+            throw throwable instanceof CompletionException ? (CompletionException) throwable : new CompletionException(throwable);
+        }
+        if (isExceptionThrown) {
+            throw new CompletionException(cause);
+        }
+        log.error("exception occur: ", cause);
+        return Collections.emptyList();
+    }
 }
@@ -23,9 +23,12 @@ import io.vertx.mysqlclient.impl.protocol.ColumnDefinition;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
 import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.desc.ColumnDescriptor;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.vertx.VertxMySQLQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.vertx.VertxPostgreSQLQueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.vertx.VertxQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
 
@@ -54,10 +57,16 @@ public final class VertxExecutorCallback implements ExecutorCallback<VertxExecut
         if (null == rowSet.columnDescriptors()) {
             return Future.succeededFuture(new UpdateResult(rowSet.rowCount(), getGeneratedKey(rowSet)));
         }
-        // TODO Decoupling MySQL implementations
-        List<ColumnDefinition> columnDefinitions = new ArrayList<>(rowSet.columnDescriptors().size());
-        rowSet.columnDescriptors().forEach(each -> columnDefinitions.add((ColumnDefinition) each));
-        return Future.succeededFuture(new VertxQueryResult(new VertxMySQLQueryResultMetaData(columnDefinitions), rowSet.iterator()));
+        return Future.succeededFuture(new VertxQueryResult(createQueryResultMetaData(rowSet.columnDescriptors()), rowSet.iterator()));
+    }
+    
+    private QueryResultMetaData createQueryResultMetaData(final List<ColumnDescriptor> columnDescriptors) {
+        if (!columnDescriptors.isEmpty() && columnDescriptors.get(0) instanceof ColumnDefinition) {
+            List<ColumnDefinition> columnDefinitions = new ArrayList<>(columnDescriptors.size());
+            columnDescriptors.forEach(each -> columnDefinitions.add((ColumnDefinition) each));
+            return new VertxMySQLQueryResultMetaData(columnDefinitions);
+        }
+        return new VertxPostgreSQLQueryResultMetaData(columnDescriptors);
     }
     
     private long getGeneratedKey(final RowSet<Row> rowSet) {
@@ -18,24 +18,186 @@
 package org.apache.shardingsphere.infra.executor.sql.prepare.driver.vertx.builder;
 
 import io.vertx.core.Future;
+import io.vertx.pgclient.PgConnection;
+import io.vertx.pgclient.PgPool;
 import io.vertx.sqlclient.SqlClient;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.vertx.VertxExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.vertx.ExecutorVertxStatementManager;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.vertx.VertxExecutionContext;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.ParameterMarkerType;
 
 import java.sql.SQLException;
 
 /**
  * Execution unit builder using Vert.x prepared query.
+ *
+ * <p>
+ * SQL prepared on a PostgreSQL client has its '?' parameter markers rewritten to '$n'.
+ * Comments, quoted strings and identifiers and dollar quoted strings are left untouched, and so are the jsonb operators '?|', '?&amp;' and '@?'.
+ * A bare '?' that follows an operand and precedes a string literal or another marker is taken as the jsonb '?' operator,
+ * so a jsonb '?' whose right operand is a column is still rewritten as a parameter marker.
+ * </p>
  */
 public final class PreparedQueryExecutionUnitBuilder implements VertxExecutionUnitBuilder {
     
     @Override
     public VertxExecutionUnit build(final ExecutionUnit executionUnit, final ExecutorVertxStatementManager statementManager,
                                     final Future<? extends SqlClient> connection, final ConnectionMode connectionMode, final VertxExecutionContext option) throws SQLException {
-        return new VertxExecutionUnit(executionUnit, connectionMode, connection.compose(sqlClient -> Future.succeededFuture(sqlClient.preparedQuery(executionUnit.getSqlUnit().getSql()))));
+        return new VertxExecutionUnit(executionUnit, connectionMode, connection.compose(sqlClient -> Future.succeededFuture(sqlClient.preparedQuery(getSQL(sqlClient, executionUnit.getSqlUnit())))));
+    }
+    
+    private String getSQL(final SqlClient sqlClient, final SQLUnit sqlUnit) {
+        boolean isPostgreSQLClient = sqlClient instanceof PgPool || sqlClient instanceof PgConnection;
+        return isPostgreSQLClient && !sqlUnit.getParameters().isEmpty() ? convertToDollarParameterMarkers(sqlUnit.getSql()) : sqlUnit.getSql();
+    }
+    
+    private String convertToDollarParameterMarkers(final String sql) {
+        StringBuilder result = new StringBuilder(sql.length() + 8);
+        int parameterIndex = 0;
+        int index = 0;
+        while (index < sql.length()) {
+            int skippedIndex = skipCommentOrQuoted(sql, index);
+            if (skippedIndex > index) {
+                result.append(sql, index, skippedIndex);
+                index = skippedIndex;
+                continue;
+            }
+            if ('?' == sql.charAt(index) && isParameterMarker(sql, index)) {
+                result.append(ParameterMarkerType.DOLLAR.getMarker()).append(++parameterIndex);
+            } else {
+                result.append(sql.charAt(index));
+            }
+            index++;
+        }
+        return result.toString();
+    }
+    
+    private int skipCommentOrQuoted(final String sql, final int index) {
+        char current = sql.charAt(index);
+        char next = index + 1 < sql.length() ? sql.charAt(index + 1) : 0;
+        if ('-' == current && '-' == next) {
+            int lineEndIndex = sql.indexOf('\n', index);
+            return lineEndIndex < 0 ? sql.length() : lineEndIndex + 1;
+        }
+        if ('/' == current && '*' == next) {
+            return skipBlockComment(sql, index);
+        }
+        if ('\'' == current) {
+            return skipStringLiteral(sql, index, isEscapeStringPrefix(sql, index));
+        }
+        if ('"' == current) {
+            int quoteEndIndex = sql.indexOf('"', index + 1);
+            return quoteEndIndex < 0 ? sql.length() : quoteEndIndex + 1;
+        }
+        if ('$' == current) {
+            return skipDollarQuoted(sql, index);
+        }
+        return index;
+    }
+    
+    private int skipBlockComment(final String sql, final int index) {
+        int depth = 0;
+        int result = index;
+        while (result < sql.length() - 1) {
+            if ('/' == sql.charAt(result) && '*' == sql.charAt(result + 1)) {
+                depth++;
+                result += 2;
+            } else if ('*' == sql.charAt(result) && '/' == sql.charAt(result + 1)) {
+                result += 2;
+                if (0 == --depth) {
+                    return result;
+                }
+            } else {
+                result++;
+            }
+        }
+        return sql.length();
+    }
+    
+    private boolean isEscapeStringPrefix(final String sql, final int quoteIndex) {
+        return quoteIndex > 0 && 'E' == Character.toUpperCase(sql.charAt(quoteIndex - 1)) && (quoteIndex < 2 || !isIdentifierPart(sql.charAt(quoteIndex - 2)));
+    }
+    
+    private int skipStringLiteral(final String sql, final int index, final boolean backslashEscaped) {
+        int result = index + 1;
+        while (result < sql.length()) {
+            char each = sql.charAt(result);
+            boolean doubledQuote = '\'' == each && result + 1 < sql.length() && '\'' == sql.charAt(result + 1);
+            if (backslashEscaped && '\\' == each || doubledQuote) {
+                result += 2;
+            } else if ('\'' == each) {
+                return result + 1;
+            } else {
+                result++;
+            }
+        }
+        return sql.length();
+    }
+    
+    private int skipDollarQuoted(final String sql, final int index) {
+        if (index > 0 && isIdentifierPart(sql.charAt(index - 1))) {
+            return index;
+        }
+        int tagEndIndex = index + 1;
+        if (tagEndIndex < sql.length() && Character.isDigit(sql.charAt(tagEndIndex))) {
+            return index;
+        }
+        while (tagEndIndex < sql.length() && (Character.isLetterOrDigit(sql.charAt(tagEndIndex)) || '_' == sql.charAt(tagEndIndex))) {
+            tagEndIndex++;
+        }
+        if (tagEndIndex >= sql.length() || '$' != sql.charAt(tagEndIndex)) {
+            return index;
+        }
+        String tag = sql.substring(index, tagEndIndex + 1);
+        int closingTagIndex = sql.indexOf(tag, tagEndIndex + 1);
+        return closingTagIndex < 0 ? sql.length() : closingTagIndex + tag.length();
+    }
+    
+    private boolean isParameterMarker(final String sql, final int index) {
+        if (index > 0 && '@' == sql.charAt(index - 1)) {
+            return false;
+        }
+        int previousIndex = index - 1;
+        while (previousIndex >= 0 && Character.isWhitespace(sql.charAt(previousIndex))) {
+            previousIndex--;
+        }
+        if (previousIndex < 0 || !isOperandEnd(sql.charAt(previousIndex))) {
+            return true;
+        }
+        char next = index + 1 < sql.length() ? sql.charAt(index + 1) : 0;
+        if ('|' == next) {
+            return index + 2 < sql.length() && '|' == sql.charAt(index + 2);
+        }
+        if ('&' == next) {
+            return false;
+        }
+        int nextIndex = index + 1;
+        while (nextIndex < sql.length() && Character.isWhitespace(sql.charAt(nextIndex))) {
+            nextIndex++;
+        }
+        return nextIndex >= sql.length() || !isTextOperandStart(sql, nextIndex);
+    }
+    
+    private boolean isOperandEnd(final char each) {
+        return isIdentifierPart(each) || ')' == each || ']' == each || '\'' == each || '"' == each;
+    }
+    
+    private boolean isTextOperandStart(final String sql, final int index) {
+        char each = sql.charAt(index);
+        if ('\'' == each || '?' == each) {
+            return true;
+        }
+        if ('$' == each) {
+            return skipDollarQuoted(sql, index) > index;
+        }
+        return 'E' == Character.toUpperCase(each) && index + 1 < sql.length() && '\'' == sql.charAt(index + 1);
+    }
+    
+    private boolean isIdentifierPart(final char each) {
+        return Character.isLetterOrDigit(each) || '_' == each || '$' == each;
     }
     
     @Override
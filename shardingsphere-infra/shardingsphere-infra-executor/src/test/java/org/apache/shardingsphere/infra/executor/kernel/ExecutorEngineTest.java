@@ -17,23 +17,36 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import com.google.common.util.concurrent.Uninterruptibles;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public final class ExecutorEngineTest {
     
@@ -103,4 +116,76 @@ public final class ExecutorEngineTest {
         latch.countDown();
         assertTrue(actual.isEmpty());
     }
+    
+    @Test
+    public void assertParallelExecuteAsyncWithoutFirstCallback() throws InterruptedException {
+        List<String> actual = executorEngine.executeAsync(executionGroupContext, callback).join();
+        latch.await();
+        assertThat(actual.size(), is(4));
+    }
+    
+    @Test
+    public void assertParallelExecuteAsyncWithFirstCallback() throws InterruptedException {
+        List<String> actual = executorEngine.executeAsync(executionGroupContext, firstCallback, callback, false).join();
+        latch.await();
+        assertThat(actual.size(), is(4));
+    }
+    
+    @Test
+    public void assertParallelExecuteAsyncWithFirstGroupInCallingThread() {
+        Thread callingThread = Thread.currentThread();
+        ExecutorCallback<Object, String> threadCallback = (inputs, isTrunkThread, dataMap) -> Collections.singletonList(isTrunkThread + ":" + (callingThread == Thread.currentThread()));
+        List<String> actual = executorEngine.executeAsync(executionGroupContext, threadCallback, threadCallback, false).join();
+        assertThat(actual, is(Arrays.asList("true:true", "false:false")));
+    }
+    
+    @Test
+    public void assertSerialExecuteAsync() throws InterruptedException {
+        List<String> actual = executorEngine.executeAsync(executionGroupContext, firstCallback, callback, true).join();
+        latch.await();
+        assertThat(actual.size(), is(4));
+    }
+    
+    @Test
+    public void assertExecuteAsyncWithExecutionGroupIsEmpty() {
+        List<String> actual = executorEngine.executeAsync(new ExecutionGroupContext<>(new LinkedList<>()), callback).join();
+        assertTrue(actual.isEmpty());
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertExecuteAsyncWithSQLException() throws SQLException {
+        ExecutorCallback<Object, String> failedCallback = mock(ExecutorCallback.class);
+        when(failedCallback.execute(anyCollection(), anyBoolean(), any())).thenThrow(new SQLException("TestSQLException"));
+        try {
+            executorEngine.executeAsync(executionGroupContext, callback, failedCallback, false).join();
+        } catch (final CompletionException ex) {
+            assertTrue(ex.getCause() instanceof SQLException);
+            assertThat(ex.getCause().getMessage(), is("TestSQLException"));
+            return;
+        }
+        throw new AssertionError("Expected CompletionException");
+    }
+    
+    @Test
+    public void assertExecuteAsyncCancelRestGroupsWhenFirstGroupFailed() throws InterruptedException {
+        ExecutorEngine singleThreadExecutorEngine = new ExecutorEngine(1);
+        CountDownLatch releaseLatch = new CountDownLatch(1);
+        AtomicInteger executedCount = new AtomicInteger();
+        ExecutorCallback<Object, String> blockedCallback = (inputs, isTrunkThread, dataMap) -> {
+            executedCount.incrementAndGet();
+            Uninterruptibles.awaitUninterruptibly(releaseLatch);
+            return Collections.emptyList();
+        };
+        ExecutorCallback<Object, String> failedCallback = (inputs, isTrunkThread, dataMap) -> {
+            throw new SQLException("TestSQLException");
+        };
+        CompletableFuture<List<String>> actual = singleThreadExecutorEngine.executeAsync(createMockedExecutionGroups(3, 1), failedCallback, blockedCallback, false);
+        assertTrue(actual.isCompletedExceptionally());
+        releaseLatch.countDown();
+        ExecutorService executorService = singleThreadExecutorEngine.getExecutorServiceManager().getExecutorService();
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(5L, TimeUnit.SECONDS));
+        assertTrue(executedCount.get() <= 1);
+    }
 }
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class VirtualThreadExecutorServiceFactoryTest {
+    
+    @Test
+    public void assertNewThreadFactory() {
+        Assume.assumeTrue(VirtualThreadExecutorServiceFactory.isSupported());
+        ThreadFactory threadFactory = VirtualThreadExecutorServiceFactory.newThreadFactory("test-%d");
+        Thread thread0 = threadFactory.newThread(() -> {
+        });
+        assertThat(thread0.getName(), is("ShardingSphere-test-0"));
+        Thread thread1 = threadFactory.newThread(() -> {
+        });
+        assertThat(thread1.getName(), is("ShardingSphere-test-1"));
+    }
+    
+    @Test
+    public void assertNewThreadFactoryWithoutCounter() {
+        Assume.assumeTrue(VirtualThreadExecutorServiceFactory.isSupported());
+        Thread thread = VirtualThreadExecutorServiceFactory.newThreadFactory("test").newThread(() -> {
+        });
+        assertThat(thread.getName(), is("ShardingSphere-test"));
+    }
+    
+    @Test
+    public void assertNewThreadPerTaskExecutor() throws Exception {
+        Assume.assumeTrue(VirtualThreadExecutorServiceFactory.isSupported());
+        ExecutorService executorService = VirtualThreadExecutorServiceFactory.newThreadPerTaskExecutor("test-%d");
+        try {
+            assertThat(executorService.submit(() -> Thread.currentThread().getName()).get(), is("ShardingSphere-test-0"));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    @Test(expected = UnsupportedOperationException.class)
+    public void assertNewThreadFactoryWhenUnsupported() {
+        Assume.assumeFalse(VirtualThreadExecutorServiceFactory.isSupported());
+        VirtualThreadExecutorServiceFactory.newThreadFactory("test");
+    }
+}
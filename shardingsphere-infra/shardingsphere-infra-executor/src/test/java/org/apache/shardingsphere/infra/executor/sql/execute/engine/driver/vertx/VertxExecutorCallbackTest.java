@@ -23,7 +23,10 @@ import io.vertx.sqlclient.PreparedQuery;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
 import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.desc.ColumnDescriptor;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.vertx.VertxPostgreSQLQueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.vertx.VertxQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
 import org.junit.Before;
@@ -33,7 +36,9 @@ import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.sql.JDBCType;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Collection;
 import java.util.Collections;
 
@@ -41,6 +46,7 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -71,6 +77,22 @@ public final class VertxExecutorCallbackTest {
         assertThat(actual.iterator().next().result(), instanceOf(VertxQueryResult.class));
     }
     
+    @Test
+    public void assertExecuteQueryWithPostgreSQLColumnDescriptors() throws SQLException {
+        ColumnDescriptor columnDescriptor = mock(ColumnDescriptor.class);
+        when(columnDescriptor.name()).thenReturn("order_id");
+        when(columnDescriptor.jdbcType()).thenReturn(JDBCType.ARRAY);
+        when(columnDescriptor.typeName()).thenReturn("INT4_ARRAY");
+        when(columnDescriptor.isArray()).thenReturn(true);
+        when(rowSet.columnDescriptors()).thenReturn(Collections.singletonList(columnDescriptor));
+        Collection<Future<ExecuteResult>> actual = callback.execute(Collections.singletonList(vertxExecutionUnit), true, Collections.emptyMap());
+        QueryResultMetaData actualMetaData = ((VertxQueryResult) actual.iterator().next().result()).getMetaData();
+        assertThat(actualMetaData, instanceOf(VertxPostgreSQLQueryResultMetaData.class));
+        assertThat(actualMetaData.getColumnLabel(1), is("order_id"));
+        assertThat(actualMetaData.getColumnType(1), is(Types.ARRAY));
+        assertThat(actualMetaData.getColumnTypeName(1), is("_int4"));
+    }
+    
     @Test
     public void assertExecuteUpdate() throws SQLException {
         when(rowSet.columnDescriptors()).thenReturn(null);
@@ -28,9 +28,13 @@ import org.junit.Test;
 import java.sql.SQLException;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyCollection;
@@ -73,4 +77,55 @@ public final class JDBCExecutorTest {
         List<?> actual = jdbcExecutor.execute(new ExecutionGroupContext<>(Collections.emptyList()), null);
         assertThat(actual, is(Collections.emptyList()));
     }
+    
+    @Test
+    public void assertExecuteAsync() {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        when(executorEngine.executeAsync(any(), any(), any(), anyBoolean())).thenReturn(CompletableFuture.completedFuture(Collections.singletonList("test")));
+        JDBCExecutor jdbcExecutor = new JDBCExecutor(executorEngine, false);
+        List<?> actual = jdbcExecutor.executeAsync(new ExecutionGroupContext<>(Collections.emptyList()), null, null).join();
+        assertThat(actual, is(Collections.singletonList("test")));
+    }
+    
+    @Test
+    public void assertExecuteAsyncSQLException() {
+        JDBCExecutor jdbcExecutor = new JDBCExecutor(mockFailedAsyncExecutorEngine(), false);
+        SQLExecutorExceptionHandler.setExceptionThrown(true);
+        try {
+            jdbcExecutor.executeAsync(new ExecutionGroupContext<>(Collections.emptyList()), null, null).join();
+            fail("Expected CompletionException");
+        } catch (final CompletionException ex) {
+            assertTrue(ex.getCause() instanceof SQLException);
+            assertThat(ex.getCause().getMessage(), is("TestSQLException"));
+        }
+    }
+    
+    @Test
+    public void assertExecuteAsyncNotThrownSQLException() {
+        JDBCExecutor jdbcExecutor = new JDBCExecutor(mockFailedAsyncExecutorEngine(), false);
+        SQLExecutorExceptionHandler.setExceptionThrown(false);
+        List<?> actual = jdbcExecutor.executeAsync(new ExecutionGroupContext<>(Collections.emptyList()), null, null).join();
+        assertThat(actual, is(Collections.emptyList()));
+    }
+    
+    @Test
+    public void assertExecuteAsyncNotChangeExceptionThrownOfCompletingThread() {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        CompletableFuture<List<Object>> future = new CompletableFuture<>();
+        when(executorEngine.executeAsync(any(), any(), any(), anyBoolean())).thenReturn(future);
+        SQLExecutorExceptionHandler.setExceptionThrown(false);
+        CompletableFuture<List<Object>> actual = new JDBCExecutor(executorEngine, false).executeAsync(new ExecutionGroupContext<>(Collections.emptyList()), null, null);
+        SQLExecutorExceptionHandler.setExceptionThrown(true);
+        future.completeExceptionally(new CompletionException(new SQLException("TestSQLException")));
+        assertThat(actual.join(), is(Collections.emptyList()));
+        assertTrue(SQLExecutorExceptionHandler.isExceptionThrown());
+    }
+    
+    private ExecutorEngine mockFailedAsyncExecutorEngine() {
+        ExecutorEngine result = mock(ExecutorEngine.class);
+        CompletableFuture<List<Object>> future = new CompletableFuture<>();
+        future.completeExceptionally(new CompletionException(new SQLException("TestSQLException")));
+        when(result.executeAsync(any(), any(), any(), anyBoolean())).thenReturn(future);
+        return result;
+    }
 }
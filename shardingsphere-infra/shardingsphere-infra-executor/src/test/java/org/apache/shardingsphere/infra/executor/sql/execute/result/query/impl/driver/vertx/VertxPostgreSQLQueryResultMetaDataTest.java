@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.vertx;
+
+import io.vertx.sqlclient.desc.ColumnDescriptor;
+import org.junit.Test;
+
+import java.sql.JDBCType;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class VertxPostgreSQLQueryResultMetaDataTest {
+    
+    private final VertxPostgreSQLQueryResultMetaData metaData = new VertxPostgreSQLQueryResultMetaData(Arrays.asList(
+            mockColumnDescriptor("order_id", JDBCType.BIGINT, "INT8", false), mockColumnDescriptor("status", JDBCType.VARCHAR, "VARCHAR", false),
+            mockColumnDescriptor("tags", JDBCType.ARRAY, "TEXT_ARRAY", true)));
+    
+    @Test
+    public void assertGetColumnTypeName() {
+        assertThat(metaData.getColumnTypeName(1), is("int8"));
+        assertThat(metaData.getColumnTypeName(3), is("_text"));
+    }
+    
+    @Test
+    public void assertGetColumnLength() {
+        assertThat(metaData.getColumnLength(1), is(8));
+        assertThat(metaData.getColumnLength(2), is(-1));
+    }
+    
+    @Test
+    public void assertIsSigned() {
+        assertTrue(metaData.isSigned(1));
+        assertFalse(metaData.isSigned(2));
+    }
+    
+    @Test
+    public void assertGetTableName() {
+        assertThat(metaData.getTableName(1), is(""));
+    }
+    
+    private ColumnDescriptor mockColumnDescriptor(final String name, final JDBCType jdbcType, final String typeName, final boolean isArray) {
+        ColumnDescriptor result = mock(ColumnDescriptor.class);
+        when(result.name()).thenReturn(name);
+        when(result.jdbcType()).thenReturn(jdbcType);
+        when(result.typeName()).thenReturn(typeName);
+        when(result.isArray()).thenReturn(isArray);
+        return result;
+    }
+}
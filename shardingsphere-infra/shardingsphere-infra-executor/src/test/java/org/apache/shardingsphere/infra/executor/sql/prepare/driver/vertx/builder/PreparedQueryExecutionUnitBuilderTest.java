@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.driver.vertx.builder;
+
+import io.vertx.core.Future;
+import io.vertx.mysqlclient.MySQLPool;
+import io.vertx.pgclient.PgPool;
+import io.vertx.sqlclient.SqlClient;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.vertx.VertxExecutionContext;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public final class PreparedQueryExecutionUnitBuilderTest {
+    
+    private final PreparedQueryExecutionUnitBuilder builder = new PreparedQueryExecutionUnitBuilder();
+    
+    @Test
+    public void assertBuildWithPostgreSQLClient() throws SQLException {
+        PgPool pool = mock(PgPool.class);
+        build(pool, "SELECT * FROM t_order WHERE order_id = ? AND status <> '?' AND user_id = ?");
+        verify(pool).preparedQuery("SELECT * FROM t_order WHERE order_id = $1 AND status <> '?' AND user_id = $2");
+    }
+    
+    @Test
+    public void assertBuildWithPostgreSQLClientAndComments() throws SQLException {
+        PgPool pool = mock(PgPool.class);
+        build(pool, "SELECT * FROM t_order -- order_id = ?\nWHERE /* a /* nested ? */ comment ? */ order_id = ?");
+        verify(pool).preparedQuery("SELECT * FROM t_order -- order_id = ?\nWHERE /* a /* nested ? */ comment ? */ order_id = $1");
+    }
+    
+    @Test
+    public void assertBuildWithPostgreSQLClientAndDollarQuotedStrings() throws SQLException {
+        PgPool pool = mock(PgPool.class);
+        build(pool, "SELECT $$?$$, $tag$ it's ? $$ $tag$, ? FROM t_order WHERE order_id = ?");
+        verify(pool).preparedQuery("SELECT $$?$$, $tag$ it's ? $$ $tag$, $1 FROM t_order WHERE order_id = $2");
+    }
+    
+    @Test
+    public void assertBuildWithPostgreSQLClientAndEscapeStrings() throws SQLException {
+        PgPool pool = mock(PgPool.class);
+        build(pool, "SELECT * FROM t_order WHERE status = E'\\'?' AND remark = 'it''s ?' AND \"user?\" = ?");
+        verify(pool).preparedQuery("SELECT * FROM t_order WHERE status = E'\\'?' AND remark = 'it''s ?' AND \"user?\" = $1");
+    }
+    
+    @Test
+    public void assertBuildWithPostgreSQLClientAndJsonbOperators() throws SQLException {
+        PgPool pool = mock(PgPool.class);
+        build(pool, "SELECT * FROM t_order WHERE attrs ? 'k' AND attrs ?| ARRAY['a'] AND attrs ?& ? AND attrs @? '$.a' AND attrs ? ? AND remark = ?||'x' LIMIT ?");
+        verify(pool).preparedQuery("SELECT * FROM t_order WHERE attrs ? 'k' AND attrs ?| ARRAY['a'] AND attrs ?& $1 AND attrs @? '$.a' AND attrs ? $2 AND remark = $3||'x' LIMIT $4");
+    }
+    
+    @Test
+    public void assertBuildWithMySQLClient() throws SQLException {
+        MySQLPool pool = mock(MySQLPool.class);
+        build(pool, "SELECT * FROM t_order WHERE order_id = ? AND user_id = ?");
+        verify(pool).preparedQuery("SELECT * FROM t_order WHERE order_id = ? AND user_id = ?");
+    }
+    
+    private void build(final SqlClient sqlClient, final String sql) throws SQLException {
+        ExecutionUnit executionUnit = new ExecutionUnit("ds_0", new SQLUnit(sql, Arrays.asList(1, 2)));
+        builder.build(executionUnit, null, Future.succeededFuture(sqlClient), ConnectionMode.MEMORY_STRICTLY, new VertxExecutionContext());
+    }
+}
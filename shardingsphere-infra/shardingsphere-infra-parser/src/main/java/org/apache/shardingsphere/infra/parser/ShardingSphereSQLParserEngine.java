@@ -20,12 +20,18 @@ package org.apache.shardingsphere.infra.parser;
 import com.google.common.util.concurrent.UncheckedExecutionException;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.apache.shardingsphere.distsql.parser.engine.api.DistSQLStatementParserEngine;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.parser.literal.ParameterizedSQL;
+import org.apache.shardingsphere.infra.parser.literal.ParameterizedSQLStatement;
+import org.apache.shardingsphere.infra.parser.literal.SQLLiteralParameterizer;
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
 import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 
+import java.util.Optional;
+
 /**
  * ShardingSphere SQL parser engine.
  */
@@ -35,10 +41,13 @@ public final class ShardingSphereSQLParserEngine {
     
     private final DistSQLStatementParserEngine distSQLStatementParserEngine;
     
+    private final SQLLiteralParameterizer sqlLiteralParameterizer;
+    
     public ShardingSphereSQLParserEngine(final String databaseTypeName, final ParserConfiguration config) {
         sqlStatementParserEngine = SQLStatementParserEngineFactory.getSQLStatementParserEngine(
                 databaseTypeName, config.getSqlStatementCacheOption(), config.getParseTreeCacheOption(), config.isParseComment());
         distSQLStatementParserEngine = new DistSQLStatementParserEngine();
+        sqlLiteralParameterizer = new SQLLiteralParameterizer(DatabaseTypeRegistry.getTrunkDatabaseType(databaseTypeName).isStringParameterImplicitlyConverted());
     }
     
     /*
@@ -65,4 +74,21 @@ public final class ShardingSphereSQLParserEngine {
             }
         }
     }
+    
+    /**
+     * Parse SQL with literals replaced by parameter markers.
+     * 
+     * <p>SQL which only differ in literals share one cached SQL statement, extracted literals should be bound as parameters of returned SQL.</p>
+     *
+     * @param sql SQL to be parsed
+     * @return parameterized SQL statement, or empty if SQL can not be parameterized
+     */
+    public Optional<ParameterizedSQLStatement> parseParameterized(final String sql) {
+        Optional<ParameterizedSQL> parameterizedSQL = sqlLiteralParameterizer.parameterize(sql);
+        if (!parameterizedSQL.isPresent()) {
+            return Optional.empty();
+        }
+        return sqlStatementParserEngine.parseParameterized(parameterizedSQL.get())
+                .map(optional -> new ParameterizedSQLStatement(parameterizedSQL.get().getSql(), parameterizedSQL.get().getParameters(), optional));
+    }
 }
@@ -17,8 +17,8 @@
 
 package org.apache.shardingsphere.infra.parser.cache;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
@@ -26,6 +26,10 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 /**
  * SQL statement cache builder.
+ * 
+ * <p>Cache uses W-TinyLFU admission policy, so hot SQL statements are retained and one-off SQL statements can not flush them.
+ * Cache is bounded by estimated SQL statement size if maximum weight is configured, otherwise by entry size.
+ * Values are strongly referenced, so GC never clears the cache in bulk.</p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SQLStatementCacheBuilder {
@@ -41,7 +45,12 @@ public final class SQLStatementCacheBuilder {
      */
     public static LoadingCache<String, SQLStatement> build(final String databaseType,
                                                            final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
-        return CacheBuilder.newBuilder().softValues().initialCapacity(sqlStatementCacheOption.getInitialCapacity()).maximumSize(sqlStatementCacheOption.getMaximumSize())
-                .concurrencyLevel(sqlStatementCacheOption.getConcurrencyLevel()).build(new SQLStatementCacheLoader(databaseType, parseTreeCacheOption, isParseComment));
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().initialCapacity(sqlStatementCacheOption.getInitialCapacity()).recordStats();
+        if (sqlStatementCacheOption.isWeighted()) {
+            builder.maximumWeight(sqlStatementCacheOption.getMaximumWeight()).weigher(new SQLStatementCacheWeigher());
+        } else {
+            builder.maximumSize(sqlStatementCacheOption.getMaximumSize());
+        }
+        return builder.build(new SQLStatementCacheLoader(databaseType, parseTreeCacheOption, isParseComment));
     }
 }
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+/**
+ * SQL statement cache weigher.
+ * 
+ * <p>Segments of SQL statement are created per token, so estimated bytes of cache entry grow linearly with SQL length.</p>
+ */
+public final class SQLStatementCacheWeigher implements Weigher<String, SQLStatement> {
+    
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+    
+    private static final int BYTES_PER_SQL_CHAR = 2;
+    
+    private static final int SQL_STATEMENT_BYTES_PER_SQL_CHAR = 16;
+    
+    @Override
+    public int weigh(final String sql, final SQLStatement sqlStatement) {
+        long result = ENTRY_OVERHEAD_BYTES + (long) sql.length() * (BYTES_PER_SQL_CHAR + SQL_STATEMENT_BYTES_PER_SQL_CHAR);
+        return (int) Math.min(result, Integer.MAX_VALUE);
+    }
+}
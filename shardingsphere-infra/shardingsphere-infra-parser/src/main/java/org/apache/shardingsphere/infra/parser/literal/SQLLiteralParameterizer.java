@@ -0,0 +1,305 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.literal;
+
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.NumberLiteralValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL literal parameterizer.
+ * 
+ * <p>Lexer only pass which replaces literals of DML statement with parameter markers, so SQL which only differ in literals can share one parsed SQL statement.
+ * Literals are only replaced in predicate, assignment and pagination positions, literals of projections, order by and group by items keep unchanged to preserve their semantics.
+ * SQL with comments, parameter markers or multiple statements is not parameterized.
+ * String literals are only parameterized for databases which convert string parameters implicitly.</p>
+ */
+public final class SQLLiteralParameterizer {
+    
+    private static final Collection<String> DML_KEYWORDS = new HashSet<>(Arrays.asList("SELECT", "INSERT", "UPDATE", "DELETE"));
+    
+    private static final Collection<String> CLAUSE_KEYWORDS = new HashSet<>(Arrays.asList("SELECT", "FROM", "WHERE", "GROUP", "ORDER", "HAVING", "LIMIT", "OFFSET", "FETCH", "SET",
+            "VALUES", "VALUE", "ON", "USING", "UPDATE", "INTO", "UNION", "EXCEPT", "INTERSECT", "MINUS", "WINDOW", "FOR", "LOCK", "RETURNING", "PARTITION"));
+    
+    private static final Collection<String> PARAMETERIZABLE_CLAUSES = new HashSet<>(Arrays.asList("WHERE", "ON", "HAVING", "LIMIT", "OFFSET", "SET", "VALUES", "VALUE"));
+    
+    private static final Collection<String> PARAMETERIZABLE_PREVIOUS_TOKENS = new HashSet<>(Arrays.asList(
+            "=", "<", ">", "<=", ">=", "<>", "!=", "<=>", "(", ",", "+", "-", "*", "/", "%", "LIKE", "BETWEEN", "AND", "OR", "NOT", "LIMIT", "OFFSET", "WHEN", "THEN", "ELSE"));
+    
+    private static final Collection<String> DATA_TYPE_KEYWORDS = new HashSet<>(Arrays.asList(
+            "CHAR", "NCHAR", "VARCHAR", "NVARCHAR", "BINARY", "VARBINARY", "DECIMAL", "NUMERIC", "DEC", "FLOAT", "DOUBLE", "REAL", "DATETIME", "TIME", "TIMESTAMP", "BIT"));
+    
+    private final boolean stringLiteralParameterizable;
+    
+    public SQLLiteralParameterizer(final boolean stringLiteralParameterizable) {
+        this.stringLiteralParameterizable = stringLiteralParameterizable;
+    }
+    
+    /**
+     * Parameterize literals of SQL.
+     *
+     * @param sql SQL to be parameterized
+     * @return parameterized SQL, or empty if SQL can not be parameterized
+     */
+    public Optional<ParameterizedSQL> parameterize(final String sql) {
+        return new Lexer(sql).parameterize();
+    }
+    
+    private final class Lexer {
+        
+        private final String sql;
+        
+        private final StringBuilder parameterizedSQL;
+        
+        private final List<Object> parameters = new ArrayList<>();
+        
+        private final Deque<Frame> frames = new LinkedList<>();
+        
+        private int position;
+        
+        private int copiedPosition;
+        
+        private String previousToken = "";
+        
+        private Lexer(final String sql) {
+            this.sql = sql;
+            parameterizedSQL = new StringBuilder(sql.length());
+            frames.push(new Frame(false));
+        }
+        
+        private Optional<ParameterizedSQL> parameterize() {
+            if (!isDMLStatement()) {
+                return Optional.empty();
+            }
+            while (position < sql.length()) {
+                if (!nextToken()) {
+                    return Optional.empty();
+                }
+            }
+            parameterizedSQL.append(sql, copiedPosition, sql.length());
+            return Optional.of(new ParameterizedSQL(parameterizedSQL.toString(), parameters));
+        }
+        
+        private boolean isDMLStatement() {
+            int index = 0;
+            while (index < sql.length() && (Character.isWhitespace(sql.charAt(index)) || '(' == sql.charAt(index))) {
+                index++;
+            }
+            int start = index;
+            while (index < sql.length() && Character.isLetter(sql.charAt(index))) {
+                index++;
+            }
+            return DML_KEYWORDS.contains(sql.substring(start, index).toUpperCase());
+        }
+        
+        private boolean nextToken() {
+            char current = sql.charAt(position);
+            if (Character.isWhitespace(current)) {
+                position++;
+                return true;
+            }
+            if (isCommentStart(current) || '?' == current || ';' == current || '$' == current && position + 1 < sql.length() && isDollarQuoteOrParameter(sql.charAt(position + 1))) {
+                return false;
+            }
+            if ('\'' == current) {
+                return scanStringLiteral();
+            }
+            if ('"' == current || '`' == current) {
+                return scanQuoted(current);
+            }
+            if (isDigit(current) || '.' == current && isDigit(peek(1)) || isSignedNumberStart(current)) {
+                scanNumberLiteral();
+                return true;
+            }
+            if (isWordChar(current)) {
+                scanWord();
+                return true;
+            }
+            scanSymbol(current);
+            return true;
+        }
+        
+        private boolean isCommentStart(final char current) {
+            return '#' == current || '-' == current && '-' == peek(1) || '/' == current && '*' == peek(1);
+        }
+        
+        private boolean isDollarQuoteOrParameter(final char next) {
+            return '$' == next || isDigit(next);
+        }
+        
+        private boolean isSignedNumberStart(final char current) {
+            return ('-' == current || '+' == current) && isDigit(peek(1)) && isParameterizablePosition();
+        }
+        
+        private boolean scanStringLiteral() {
+            final int start = position;
+            boolean escaped = false;
+            position++;
+            while (position < sql.length()) {
+                char current = sql.charAt(position);
+                if ('\\' == current) {
+                    escaped = true;
+                    position += 2;
+                    continue;
+                }
+                if ('\'' == current) {
+                    if ('\'' != peek(1)) {
+                        break;
+                    }
+                    escaped = true;
+                    position++;
+                }
+                position++;
+            }
+            if (position >= sql.length()) {
+                return false;
+            }
+            position++;
+            boolean parameterizable = stringLiteralParameterizable && !escaped && (0 == start || !isWordChar(sql.charAt(start - 1))) && isParameterizablePosition();
+            if (parameterizable) {
+                replace(start, sql.substring(start + 1, position - 1));
+            }
+            previousToken = "'";
+            return true;
+        }
+        
+        private boolean scanQuoted(final char quote) {
+            position++;
+            while (position < sql.length() && quote != sql.charAt(position)) {
+                position++;
+            }
+            if (position >= sql.length()) {
+                return false;
+            }
+            position++;
+            previousToken = String.valueOf(quote);
+            return true;
+        }
+        
+        private void scanNumberLiteral() {
+            final int start = position;
+            final boolean parameterizable = isParameterizablePosition() && (0 == start || '.' != sql.charAt(start - 1));
+            if ('-' == sql.charAt(position) || '+' == sql.charAt(position)) {
+                position++;
+            }
+            skipDigits();
+            if ('.' == peek(0) && isDigit(peek(1))) {
+                position++;
+                skipDigits();
+            }
+            if (('e' == peek(0) || 'E' == peek(0)) && (isDigit(peek(1)) || ('-' == peek(1) || '+' == peek(1)) && isDigit(peek(2)))) {
+                position += 2;
+                skipDigits();
+            }
+            if (position < sql.length() && (isWordChar(sql.charAt(position)) || '.' == sql.charAt(position))) {
+                scanWord();
+                return;
+            }
+            if (parameterizable) {
+                replace(start, new NumberLiteralValue(sql.substring(start, position)).getValue());
+            }
+            previousToken = "0";
+        }
+        
+        private void skipDigits() {
+            while (position < sql.length() && isDigit(sql.charAt(position))) {
+                position++;
+            }
+        }
+        
+        private void scanWord() {
+            int start = position;
+            while (position < sql.length() && (isWordChar(sql.charAt(position)) || '.' == sql.charAt(position))) {
+                position++;
+            }
+            previousToken = sql.substring(start, position).toUpperCase();
+            if (CLAUSE_KEYWORDS.contains(previousToken)) {
+                frames.peek().clause = previousToken;
+            }
+        }
+        
+        private void scanSymbol(final char current) {
+            if ('(' == current) {
+                frames.push(new Frame(DATA_TYPE_KEYWORDS.contains(previousToken)));
+            } else if (')' == current && frames.size() > 1) {
+                frames.pop();
+            }
+            int start = position;
+            position++;
+            if (isComparisonOperatorChar(current)) {
+                while (position < sql.length() && isComparisonOperatorChar(sql.charAt(position))) {
+                    position++;
+                }
+            }
+            previousToken = sql.substring(start, position);
+        }
+        
+        private boolean isComparisonOperatorChar(final char current) {
+            return '<' == current || '>' == current || '=' == current || '!' == current;
+        }
+        
+        private boolean isParameterizablePosition() {
+            return !frames.peek().dataType && PARAMETERIZABLE_PREVIOUS_TOKENS.contains(previousToken) && PARAMETERIZABLE_CLAUSES.contains(getCurrentClause());
+        }
+        
+        private String getCurrentClause() {
+            for (Frame each : frames) {
+                if (null != each.clause) {
+                    return each.clause;
+                }
+            }
+            return "";
+        }
+        
+        private void replace(final int start, final Object parameter) {
+            parameterizedSQL.append(sql, copiedPosition, start).append('?');
+            copiedPosition = position;
+            parameters.add(parameter);
+        }
+        
+        private char peek(final int offset) {
+            return position + offset < sql.length() ? sql.charAt(position + offset) : 0;
+        }
+        
+        private boolean isDigit(final char current) {
+            return current >= '0' && current <= '9';
+        }
+        
+        private boolean isWordChar(final char current) {
+            return Character.isLetterOrDigit(current) || '_' == current || '$' == current || '@' == current;
+        }
+    }
+    
+    private static final class Frame {
+        
+        private final boolean dataType;
+        
+        private String clause;
+        
+        private Frame(final boolean dataType) {
+            this.dataType = dataType;
+        }
+    }
+}
@@ -17,10 +17,22 @@
 
 package org.apache.shardingsphere.infra.parser.sql;
 
-import com.google.common.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheBuilder;
+import org.apache.shardingsphere.infra.parser.literal.ParameterizedSQL;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
+
+import java.util.Optional;
 
 /**
  * SQL statement parser engine.
@@ -31,9 +43,12 @@ public final class SQLStatementParserEngine {
     
     private final LoadingCache<String, SQLStatement> sqlStatementCache;
     
+    private final Cache<String, Boolean> unparameterizableSQLCache;
+    
     public SQLStatementParserEngine(final String databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
         sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption, isParseComment);
         sqlStatementCache = SQLStatementCacheBuilder.build(databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment);
+        unparameterizableSQLCache = Caffeine.newBuilder().maximumSize(sqlStatementCacheOption.getMaximumSize()).build();
     }
     
     /**
@@ -44,6 +59,48 @@ public final class SQLStatementParserEngine {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql, final boolean useCache) {
-        return useCache ? sqlStatementCache.getUnchecked(sql) : sqlStatementParserExecutor.parse(sql);
+        return useCache ? sqlStatementCache.get(sql) : sqlStatementParserExecutor.parse(sql);
+    }
+    
+    /**
+     * Parse parameterized SQL to SQL statement with cache.
+     * 
+     * <p>Parameterized SQL which fails to parse, is not a DML statement or does not take every extracted literal as parameter is remembered and skipped afterwards.</p>
+     *
+     * @param parameterizedSQL parameterized SQL
+     * @return SQL statement, or empty if parameterized SQL can not replace original SQL
+     */
+    public Optional<SQLStatement> parseParameterized(final ParameterizedSQL parameterizedSQL) {
+        String sql = parameterizedSQL.getSql();
+        if (null != unparameterizableSQLCache.getIfPresent(sql)) {
+            return Optional.empty();
+        }
+        SQLStatement result;
+        try {
+            result = sqlStatementCache.get(sql);
+        } catch (final SQLParsingException | ParseCancellationException ignored) {
+            unparameterizableSQLCache.put(sql, Boolean.TRUE);
+            return Optional.empty();
+        }
+        if (!isParameterizable(result, parameterizedSQL.getParameters().size())) {
+            unparameterizableSQLCache.put(sql, Boolean.TRUE);
+            return Optional.empty();
+        }
+        return Optional.of(result);
+    }
+    
+    private boolean isParameterizable(final SQLStatement sqlStatement, final int parameterCount) {
+        boolean isDMLStatement = sqlStatement instanceof SelectStatement || sqlStatement instanceof InsertStatement
+                || sqlStatement instanceof UpdateStatement || sqlStatement instanceof DeleteStatement;
+        return isDMLStatement && sqlStatement.getParameterCount() == parameterCount;
+    }
+    
+    /**
+     * Get SQL statement cache stats.
+     *
+     * @return SQL statement cache stats
+     */
+    public CacheStats getSQLStatementCacheStats() {
+        return sqlStatementCache.stats();
     }
 }
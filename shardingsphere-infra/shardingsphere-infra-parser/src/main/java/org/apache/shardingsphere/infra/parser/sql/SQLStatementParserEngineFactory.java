@@ -17,11 +17,14 @@
 
 package org.apache.shardingsphere.infra.parser.sql;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -49,4 +52,17 @@ public final class SQLStatementParserEngineFactory {
         }
         return result;
     }
+    
+    /**
+     * Get SQL statement cache stats.
+     *
+     * @return SQL statement cache stats, key is name of database type
+     */
+    public static Map<String, CacheStats> getSQLStatementCacheStats() {
+        Map<String, CacheStats> result = new LinkedHashMap<>(ENGINES.size(), 1);
+        for (Entry<String, SQLStatementParserEngine> entry : ENGINES.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().getSQLStatementCacheStats());
+        }
+        return result;
+    }
 }
@@ -17,17 +17,37 @@
 
 package org.apache.shardingsphere.infra.parser.cache;
 
-import com.google.common.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.junit.Test;
 
-import static org.hamcrest.CoreMatchers.isA;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class SQLStatementCacheBuilderTest {
     
     @Test
-    public void assertBuild() {
-        assertThat(SQLStatementCacheBuilder.build("MySQL", new CacheOption(2000, 65535L, 4), new CacheOption(128, 1024L, 4), false), isA(LoadingCache.class));
+    public void assertBuildWithMaximumSize() {
+        LoadingCache<String, SQLStatement> actual = SQLStatementCacheBuilder.build("MySQL", new CacheOption(2000, 65535L, 4), new CacheOption(128, 1024L, 4), false);
+        assertTrue(actual.policy().eviction().isPresent());
+        assertFalse(actual.policy().eviction().get().isWeighted());
+        assertThat(actual.policy().eviction().get().getMaximum(), is(65535L));
+        assertFalse(actual.policy().expireAfterAccess().isPresent());
+    }
+    
+    @Test
+    public void assertBuildWithMaximumWeight() {
+        LoadingCache<String, SQLStatement> actual = SQLStatementCacheBuilder.build("MySQL", new CacheOption(2000, 65535L, 2, 1024L), new CacheOption(128, 1024L, 4), false);
+        assertTrue(actual.policy().eviction().isPresent());
+        assertTrue(actual.policy().eviction().get().isWeighted());
+        assertThat(actual.policy().eviction().get().getMaximum(), is(1024L));
+    }
+    
+    @Test
+    public void assertRecordStats() {
+        assertTrue(SQLStatementCacheBuilder.build("MySQL", new CacheOption(2000, 65535L, 4), new CacheOption(128, 1024L, 4), false).policy().isRecordingStats());
     }
 }
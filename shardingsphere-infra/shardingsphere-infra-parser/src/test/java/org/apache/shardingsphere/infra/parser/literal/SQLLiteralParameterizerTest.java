@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.literal;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLLiteralParameterizerTest {
+    
+    private final SQLLiteralParameterizer parameterizer = new SQLLiteralParameterizer(true);
+    
+    @Test
+    public void assertParameterizeSelect() {
+        Optional<ParameterizedSQL> actual = parameterizer.parameterize("SELECT * FROM t_order WHERE order_id = 1001 AND status = 'OK' AND amount > -1.5 LIMIT 10");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE order_id = ? AND status = ? AND amount > ? LIMIT ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1001, "OK", new BigDecimal("-1.5"), 10)));
+    }
+    
+    @Test
+    public void assertParameterizeInsertAndUpdate() {
+        Optional<ParameterizedSQL> actual = parameterizer.parameterize("INSERT INTO t_order (order_id, user_id) VALUES (10000000000, 'u1'), (2, 'u2')");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("INSERT INTO t_order (order_id, user_id) VALUES (?, ?), (?, ?)"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(10000000000L, "u1", 2, "u2")));
+        actual = parameterizer.parameterize("UPDATE t_order SET status = 'PAID' WHERE order_id IN (1, 2)");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("UPDATE t_order SET status = ? WHERE order_id IN (?, ?)"));
+    }
+    
+    @Test
+    public void assertKeepProjectionAndOrderByLiterals() {
+        Optional<ParameterizedSQL> actual = parameterizer.parameterize("SELECT 1, a + 1 FROM t_order t1 WHERE t1.id = 5 GROUP BY 1 ORDER BY 2 DESC, 1");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT 1, a + 1 FROM t_order t1 WHERE t1.id = ? GROUP BY 1 ORDER BY 2 DESC, 1"));
+        assertThat(actual.get().getParameters(), is(Collections.<Object>singletonList(5)));
+    }
+    
+    @Test
+    public void assertKeepTypedAndEscapedLiterals() {
+        Optional<ParameterizedSQL> actual = parameterizer.parameterize("SELECT * FROM t WHERE a = CAST(b AS DECIMAL(10, 2)) AND c = 'it''s' AND d = X'0F' AND e > DATE '2020-01-01' AND f = 0x1F");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t WHERE a = CAST(b AS DECIMAL(10, 2)) AND c = 'it''s' AND d = X'0F' AND e > DATE '2020-01-01' AND f = 0x1F"));
+        assertTrue(actual.get().getParameters().isEmpty());
+    }
+    
+    @Test
+    public void assertKeepStringLiteralsIfNotParameterizable() {
+        Optional<ParameterizedSQL> actual = new SQLLiteralParameterizer(false).parameterize("SELECT * FROM t WHERE id = 1 AND name = 'a'");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t WHERE id = ? AND name = 'a'"));
+    }
+    
+    @Test
+    public void assertNotParameterize() {
+        assertFalse(parameterizer.parameterize("SHOW TABLES").isPresent());
+        assertFalse(parameterizer.parameterize("SELECT * FROM t WHERE id = ?").isPresent());
+        assertFalse(parameterizer.parameterize("SELECT * FROM t WHERE id = 1; SELECT 2").isPresent());
+        assertFalse(parameterizer.parameterize("/* hint */ SELECT * FROM t WHERE id = 1").isPresent());
+        assertFalse(parameterizer.parameterize("SELECT * FROM t WHERE id = 1 -- comment").isPresent());
+        assertFalse(parameterizer.parameterize("SELECT * FROM t WHERE name = 'unterminated").isPresent());
+    }
+}
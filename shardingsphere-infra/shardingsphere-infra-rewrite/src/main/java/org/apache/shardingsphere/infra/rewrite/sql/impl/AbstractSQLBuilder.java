@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.ComposableSQLToken;
 
 import java.util.Collections;
+import java.util.List;
 
 /**
  * Abstract SQL builder.
@@ -40,37 +41,43 @@ public abstract class AbstractSQLBuilder implements SQLBuilder {
             return context.getSql();
         }
         Collections.sort(context.getSqlTokens());
-        StringBuilder result = new StringBuilder();
-        result.append(context.getSql(), 0, context.getSqlTokens().get(0).getStartIndex());
-        for (SQLToken each : context.getSqlTokens()) {
-            result.append(each instanceof ComposableSQLToken ? getComposableSQLTokenText((ComposableSQLToken) each) : getSQLTokenText(each));
-            result.append(getConjunctionText(each));
+        String sql = context.getSql();
+        List<SQLToken> sqlTokens = context.getSqlTokens();
+        StringBuilder result = new StringBuilder(sql.length());
+        result.append(sql, 0, sqlTokens.get(0).getStartIndex());
+        int tokenCount = sqlTokens.size();
+        for (int i = 0; i < tokenCount; i++) {
+            SQLToken each = sqlTokens.get(i);
+            if (each instanceof ComposableSQLToken) {
+                appendComposableSQLTokenText(result, (ComposableSQLToken) each);
+            } else {
+                result.append(getSQLTokenText(each));
+            }
+            int stopIndex = tokenCount - 1 == i ? sql.length() : sqlTokens.get(i + 1).getStartIndex();
+            appendConjunctionText(result, each, stopIndex);
         }
         return result.toString();
     }
     
     protected abstract String getSQLTokenText(SQLToken sqlToken);
     
-    private String getComposableSQLTokenText(final ComposableSQLToken composableSQLToken) {
-        StringBuilder result = new StringBuilder();
-        for (SQLToken each : composableSQLToken.getSqlTokens()) {
+    private void appendComposableSQLTokenText(final StringBuilder result, final ComposableSQLToken composableSQLToken) {
+        List<SQLToken> sqlTokens = composableSQLToken.getSqlTokens();
+        int tokenCount = sqlTokens.size();
+        for (int i = 0; i < tokenCount; i++) {
+            SQLToken each = sqlTokens.get(i);
             result.append(getSQLTokenText(each));
-            result.append(getConjunctionText(each));
+            int stopIndex = tokenCount - 1 == i ? Math.min(composableSQLToken.getStopIndex() + 1, context.getSql().length()) : sqlTokens.get(i + 1).getStartIndex();
+            appendConjunctionText(result, each, stopIndex);
         }
-        return result.toString();
     }
     
-    private String getConjunctionText(final SQLToken sqlToken) {
-        return context.getSql().substring(getStartIndex(sqlToken), getStopIndex(sqlToken));
+    private void appendConjunctionText(final StringBuilder result, final SQLToken sqlToken, final int stopIndex) {
+        result.append(context.getSql(), getStartIndex(sqlToken), stopIndex);
     }
     
     private int getStartIndex(final SQLToken sqlToken) {
         int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
         return Math.min(startIndex, context.getSql().length());
     }
-    
-    private int getStopIndex(final SQLToken sqlToken) {
-        int currentSQLTokenIndex = context.getSqlTokens().indexOf(sqlToken);
-        return context.getSqlTokens().size() - 1 == currentSQLTokenIndex ? context.getSql().length() : context.getSqlTokens().get(currentSQLTokenIndex + 1).getStartIndex();
-    }
 }
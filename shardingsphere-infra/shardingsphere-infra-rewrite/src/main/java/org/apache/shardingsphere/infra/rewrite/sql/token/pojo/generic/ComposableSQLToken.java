@@ -21,8 +21,8 @@ import lombok.Getter;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
 
-import java.util.Collection;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Composable SQL token.
@@ -30,7 +30,7 @@ import java.util.LinkedList;
 @Getter
 public final class ComposableSQLToken extends SQLToken implements Substitutable {
     
-    private final Collection<SQLToken> sqlTokens = new LinkedList<>();
+    private final List<SQLToken> sqlTokens = new ArrayList<>();
     
     private final int stopIndex;
     
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.rewrite.sql.impl;
 
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.sql.fixture.SQLTokenFixture;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.ComposableSQLToken;
 import org.junit.Test;
 
 import java.util.Collections;
@@ -45,4 +46,15 @@ public final class DefaultSQLBuilderTest {
         when(context.getSqlTokens()).thenReturn(Collections.singletonList(new SQLTokenFixture(14, 16)));
         assertThat(new DefaultSQLBuilder(context).toSQL(), is("SELECT * FROM XXX WHERE id=?"));
     }
+    
+    @Test
+    public void assertToSQLWithComposableSQLToken() {
+        SQLRewriteContext context = mock(SQLRewriteContext.class);
+        when(context.getSql()).thenReturn("SELECT id, name FROM tbl");
+        ComposableSQLToken composableSQLToken = new ComposableSQLToken(7, 14);
+        composableSQLToken.addSQLToken(new SQLTokenFixture(7, 8));
+        composableSQLToken.addSQLToken(new SQLTokenFixture(11, 14));
+        when(context.getSqlTokens()).thenReturn(Collections.singletonList(composableSQLToken));
+        assertThat(new DefaultSQLBuilder(context).toSQL(), is("SELECT XXX, XXX FROM tbl"));
+    }
 }
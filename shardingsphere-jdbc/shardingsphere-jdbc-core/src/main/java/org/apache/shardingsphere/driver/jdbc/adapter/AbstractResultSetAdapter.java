@@ -80,7 +80,11 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     @Override
     public final void close() throws SQLException {
         closed = true;
-        forceExecuteTemplate.execute(resultSets, ResultSet::close);
+        try {
+            forceExecuteTemplate.execute(resultSets, ResultSet::close);
+        } finally {
+            closeMergedResult();
+        }
     }
     
     @Override
@@ -127,4 +131,6 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     public final void clearWarnings() throws SQLException {
         forceExecuteTemplate.execute(resultSets, ResultSet::clearWarnings);
     }
+    
+    protected abstract void closeMergedResult() throws SQLException;
 }
@@ -17,11 +17,13 @@
 
 package org.apache.shardingsphere.data.pipeline.core.api;
 
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyRangeCheckResult;
 import org.apache.shardingsphere.data.pipeline.api.job.JobStatus;
 import org.apache.shardingsphere.data.pipeline.api.job.progress.JobProgress;
 import org.apache.shardingsphere.data.pipeline.scenario.rulealtered.RuleAlteredJobContext;
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -70,6 +72,42 @@ public interface GovernanceRepositoryAPI {
      */
     Optional<Boolean> getJobCheckResult(String jobId);
     
+    /**
+     * Persist job check range results.
+     *
+     * @param jobId job id
+     * @param logicTableName logic table name
+     * @param rangeCheckResults range check results
+     */
+    void persistJobCheckRangeResults(String jobId, String logicTableName, Collection<DataConsistencyRangeCheckResult> rangeCheckResults);
+    
+    /**
+     * Persist check result of one range.
+     *
+     * @param jobId job id
+     * @param logicTableName logic table name
+     * @param rangeIndex index of range in persisted range check results
+     * @param matched matched or not
+     */
+    void persistJobCheckRangeResult(String jobId, String logicTableName, int rangeIndex, boolean matched);
+    
+    /**
+     * Get job check range results.
+     *
+     * @param jobId job id
+     * @param logicTableName logic table name
+     * @return range check results, it's empty if not persisted
+     */
+    List<DataConsistencyRangeCheckResult> getJobCheckRangeResults(String jobId, String logicTableName);
+    
+    /**
+     * Delete job check range results.
+     *
+     * @param jobId job id
+     * @param logicTableName logic table name
+     */
+    void deleteJobCheckRangeResults(String jobId, String logicTableName);
+    
     /**
      * Delete job.
      *
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.data.pipeline.core.api.impl;
 import com.google.common.base.Strings;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyRangeCheckResult;
 import org.apache.shardingsphere.data.pipeline.api.job.JobStatus;
 import org.apache.shardingsphere.data.pipeline.api.job.progress.JobProgress;
 import org.apache.shardingsphere.data.pipeline.api.task.progress.IncrementalTaskProgress;
@@ -28,14 +29,19 @@ import org.apache.shardingsphere.data.pipeline.core.api.GovernanceRepositoryAPI;
 import org.apache.shardingsphere.data.pipeline.core.constant.DataPipelineConstants;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.yaml.JobProgressYamlSwapper;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.yaml.YamlJobProgress;
+import org.apache.shardingsphere.data.pipeline.core.metrics.PipelineJobMetricsUtil;
 import org.apache.shardingsphere.data.pipeline.core.task.IncrementalTask;
 import org.apache.shardingsphere.data.pipeline.core.task.InventoryTask;
+import org.apache.shardingsphere.data.pipeline.core.task.PipelineTask;
 import org.apache.shardingsphere.data.pipeline.scenario.rulealtered.RuleAlteredJobContext;
 import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -64,6 +70,9 @@ public final class GovernanceRepositoryAPIImpl implements GovernanceRepositoryAP
         jobProgress.setSourceDatabaseType(jobContext.getJobConfig().getHandleConfig().getSourceDatabaseType());
         jobProgress.setIncrementalTaskProgressMap(getIncrementalTaskProgressMap(jobContext));
         jobProgress.setInventoryTaskProgressMap(getInventoryTaskProgressMap(jobContext));
+        Collection<PipelineTask> tasks = new LinkedList<>(jobContext.getInventoryTasks());
+        tasks.addAll(jobContext.getIncrementalTasks());
+        jobProgress.setMetrics(PipelineJobMetricsUtil.aggregate(tasks));
         String value = YamlEngine.marshal(JOB_PROGRESS_YAML_SWAPPER.swapToYaml(jobProgress));
         repository.persist(getOffsetPath(jobContext.getJobId(), jobContext.getShardingItem()), value);
     }
@@ -109,6 +118,52 @@ public final class GovernanceRepositoryAPIImpl implements GovernanceRepositoryAP
         return Strings.isNullOrEmpty(data) ? Optional.empty() : Optional.of(Boolean.parseBoolean(data));
     }
     
+    @Override
+    public void persistJobCheckRangeResults(final String jobId, final String logicTableName, final Collection<DataConsistencyRangeCheckResult> rangeCheckResults) {
+        String value = rangeCheckResults.stream().map(each -> each.getLowerBound() + "," + each.getUpperBound()).collect(Collectors.joining("\n"));
+        repository.persist(getCheckRangesPath(jobId, logicTableName), value);
+        int rangeIndex = 0;
+        for (DataConsistencyRangeCheckResult each : rangeCheckResults) {
+            if (null != each.getMatched()) {
+                persistJobCheckRangeResult(jobId, logicTableName, rangeIndex, each.getMatched());
+            }
+            rangeIndex++;
+        }
+    }
+    
+    @Override
+    public void persistJobCheckRangeResult(final String jobId, final String logicTableName, final int rangeIndex, final boolean matched) {
+        repository.persist(getCheckRangesPath(jobId, logicTableName) + "/" + rangeIndex, String.valueOf(matched));
+    }
+    
+    @Override
+    public List<DataConsistencyRangeCheckResult> getJobCheckRangeResults(final String jobId, final String logicTableName) {
+        String rangesPath = getCheckRangesPath(jobId, logicTableName);
+        String data = repository.get(rangesPath);
+        if (Strings.isNullOrEmpty(data)) {
+            return new ArrayList<>();
+        }
+        Map<Integer, Boolean> matchedMap = new HashMap<>();
+        for (String each : repository.getChildrenKeys(rangesPath)) {
+            matchedMap.put(Integer.parseInt(each), Boolean.parseBoolean(repository.get(rangesPath + "/" + each)));
+        }
+        List<DataConsistencyRangeCheckResult> result = new ArrayList<>();
+        for (String each : data.split("\n")) {
+            String[] values = each.split(",");
+            result.add(new DataConsistencyRangeCheckResult(Long.parseLong(values[0]), Long.parseLong(values[1]), matchedMap.get(result.size())));
+        }
+        return result;
+    }
+    
+    @Override
+    public void deleteJobCheckRangeResults(final String jobId, final String logicTableName) {
+        repository.delete(getCheckRangesPath(jobId, logicTableName));
+    }
+    
+    private String getCheckRangesPath(final String jobId, final String logicTableName) {
+        return String.format("%s/%s/check/ranges/%s", DataPipelineConstants.DATA_PIPELINE_ROOT, jobId, logicTableName);
+    }
+    
     @Override
     public void deleteJob(final String jobId) {
         log.info("delete job {}", jobId);
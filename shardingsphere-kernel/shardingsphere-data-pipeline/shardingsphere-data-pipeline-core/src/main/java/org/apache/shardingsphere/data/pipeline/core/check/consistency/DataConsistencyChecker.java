@@ -18,27 +18,34 @@
 package org.apache.shardingsphere.data.pipeline.core.check.consistency;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Range;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCheckResult;
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyContentCheckResult;
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCountCheckResult;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyRangeCheckResult;
 import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.JobConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.PipelineDataSourceConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.PipelineDataSourceConfigurationFactory;
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.yaml.YamlPipelineDataSourceConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
+import org.apache.shardingsphere.data.pipeline.core.api.GovernanceRepositoryAPI;
+import org.apache.shardingsphere.data.pipeline.core.api.PipelineAPIFactory;
 import org.apache.shardingsphere.data.pipeline.core.context.PipelineContext;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceFactory;
 import org.apache.shardingsphere.data.pipeline.core.exception.PipelineDataConsistencyCheckFailedException;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.PipelineSQLBuilderFactory;
 import org.apache.shardingsphere.data.pipeline.scenario.rulealtered.RuleAlteredJobWorker;
 import org.apache.shardingsphere.data.pipeline.spi.check.consistency.DataConsistencyCalculateAlgorithm;
+import org.apache.shardingsphere.data.pipeline.spi.check.consistency.RangedDataConsistencyCalculateAlgorithm;
 import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 
@@ -47,25 +54,33 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * Data consistency checker.
  */
+@Slf4j
 public final class DataConsistencyChecker {
     
     private final JobConfiguration jobConfig;
@@ -165,23 +180,10 @@ public final class DataConsistencyChecker {
                 String uniqueKey = tableMetaData.getPrimaryKeyColumns().get(0);
                 DataConsistencyCalculateParameter sourceParameter = buildParameter(sourceDataSource, each, columnNames, sourceDatabaseType, targetDatabaseType, uniqueKey);
                 DataConsistencyCalculateParameter targetParameter = buildParameter(targetDataSource, each, columnNames, targetDatabaseType, sourceDatabaseType, uniqueKey);
-                Iterator<Object> sourceCalculatedResults = calculator.calculate(sourceParameter).iterator();
-                Iterator<Object> targetCalculatedResults = calculator.calculate(targetParameter).iterator();
-                boolean contentMatched = true;
-                while (sourceCalculatedResults.hasNext() && targetCalculatedResults.hasNext()) {
-                    if (null != inputRateLimitAlgorithm) {
-                        inputRateLimitAlgorithm.intercept(JobOperationType.SELECT, 1);
-                    }
-                    Future<Object> sourceFuture = executor.submit(sourceCalculatedResults::next);
-                    Future<Object> targetFuture = executor.submit(targetCalculatedResults::next);
-                    Object sourceCalculatedResult = sourceFuture.get();
-                    Object targetCalculatedResult = targetFuture.get();
-                    contentMatched = Objects.equals(sourceCalculatedResult, targetCalculatedResult);
-                    if (!contentMatched) {
-                        break;
-                    }
-                }
-                result.put(each, new DataConsistencyContentCheckResult(contentMatched));
+                DataConsistencyContentCheckResult contentCheckResult = calculator instanceof RangedDataConsistencyCalculateAlgorithm && isIntegerColumn(tableMetaData, uniqueKey)
+                        ? checkDataByRanges((RangedDataConsistencyCalculateAlgorithm) calculator, sourceParameter, targetParameter, inputRateLimitAlgorithm)
+                        : new DataConsistencyContentCheckResult(checkData(calculator, sourceParameter, targetParameter, executor, inputRateLimitAlgorithm));
+                result.put(each, contentCheckResult);
             }
         } catch (final ExecutionException | InterruptedException | SQLException ex) {
             throw new PipelineDataConsistencyCheckFailedException("Data check failed", ex);
@@ -192,6 +194,149 @@ public final class DataConsistencyChecker {
         return result;
     }
     
+    private boolean checkData(final DataConsistencyCalculateAlgorithm calculator, final DataConsistencyCalculateParameter sourceParameter, final DataConsistencyCalculateParameter targetParameter,
+                              final ThreadPoolExecutor executor, final JobRateLimitAlgorithm inputRateLimitAlgorithm) throws ExecutionException, InterruptedException {
+        Iterator<Object> sourceCalculatedResults = calculator.calculate(sourceParameter).iterator();
+        Iterator<Object> targetCalculatedResults = calculator.calculate(targetParameter).iterator();
+        boolean result = true;
+        while (sourceCalculatedResults.hasNext() && targetCalculatedResults.hasNext()) {
+            if (null != inputRateLimitAlgorithm) {
+                inputRateLimitAlgorithm.intercept(JobOperationType.SELECT, 1);
+            }
+            Future<Object> sourceFuture = executor.submit(sourceCalculatedResults::next);
+            Future<Object> targetFuture = executor.submit(targetCalculatedResults::next);
+            Object sourceCalculatedResult = sourceFuture.get();
+            Object targetCalculatedResult = targetFuture.get();
+            result = Objects.equals(sourceCalculatedResult, targetCalculatedResult);
+            if (!result) {
+                break;
+            }
+        }
+        return result;
+    }
+    
+    private boolean isIntegerColumn(final TableMetaData tableMetaData, final String columnName) {
+        ColumnMetaData columnMetaData = tableMetaData.getColumns().get(columnName);
+        if (null == columnMetaData) {
+            return false;
+        }
+        int dataType = columnMetaData.getDataType();
+        return Types.INTEGER == dataType || Types.BIGINT == dataType || Types.SMALLINT == dataType || Types.TINYINT == dataType;
+    }
+    
+    private DataConsistencyContentCheckResult checkDataByRanges(final RangedDataConsistencyCalculateAlgorithm calculator, final DataConsistencyCalculateParameter sourceParameter,
+                                                                final DataConsistencyCalculateParameter targetParameter,
+                                                                final JobRateLimitAlgorithm inputRateLimitAlgorithm) throws ExecutionException, InterruptedException {
+        String jobId = jobConfig.getHandleConfig().getJobId();
+        String tableName = sourceParameter.getLogicTableName();
+        GovernanceRepositoryAPI repositoryAPI = PipelineAPIFactory.getGovernanceRepositoryAPI();
+        List<DataConsistencyRangeCheckResult> rangeCheckResults = repositoryAPI.getJobCheckRangeResults(jobId, tableName);
+        if (rangeCheckResults.isEmpty()) {
+            rangeCheckResults.addAll(splitRanges(sourceParameter, calculator.getRangeSize()));
+            repositoryAPI.persistJobCheckRangeResults(jobId, tableName, rangeCheckResults);
+        } else {
+            log.info("resume data check by ranges, jobId={}, table={}, rangeCount={}", jobId, tableName, rangeCheckResults.size());
+        }
+        ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build("job-" + jobConfig.getHandleConfig().getJobIdDigest() + "-range-check-%d");
+        ExecutorService executor = Executors.newFixedThreadPool(calculator.getConcurrency(), threadFactory);
+        ThreadFactory targetThreadFactory = ExecutorThreadFactoryBuilder.build("job-" + jobConfig.getHandleConfig().getJobIdDigest() + "-range-check-target-%d");
+        ExecutorService targetExecutor = Executors.newFixedThreadPool(calculator.getConcurrency(), targetThreadFactory);
+        try {
+            Collection<Future<?>> futures = new LinkedList<>();
+            for (int i = 0; i < rangeCheckResults.size(); i++) {
+                DataConsistencyRangeCheckResult range = rangeCheckResults.get(i);
+                if (!Boolean.TRUE.equals(range.getMatched())) {
+                    int rangeIndex = i;
+                    futures.add(executor.submit(() -> {
+                        if (null != inputRateLimitAlgorithm) {
+                            inputRateLimitAlgorithm.intercept(JobOperationType.SELECT, 1);
+                        }
+                        boolean matched = checkRange(calculator, sourceParameter, targetParameter, range, targetExecutor);
+                        rangeCheckResults.set(rangeIndex, new DataConsistencyRangeCheckResult(range.getLowerBound(), range.getUpperBound(), matched));
+                        repositoryAPI.persistJobCheckRangeResult(jobId, tableName, rangeIndex, matched);
+                    }));
+                }
+            }
+            for (Future<?> each : futures) {
+                each.get();
+            }
+        } finally {
+            executor.shutdownNow();
+            targetExecutor.shutdownNow();
+        }
+        // Range results are only kept to resume an interrupted check, they would be stale for the next check since data is still changing.
+        // Mismatched ranges are returned in check result instead.
+        repositoryAPI.deleteJobCheckRangeResults(jobId, tableName);
+        Collection<DataConsistencyRangeCheckResult> mismatchedRanges = rangeCheckResults.stream().filter(each -> !each.getMatched()).collect(Collectors.toList());
+        if (mismatchedRanges.isEmpty()) {
+            return new DataConsistencyContentCheckResult(true);
+        }
+        log.warn("data check by ranges not matched, jobId={}, table={}, mismatchedRanges={}", jobId, tableName, mismatchedRanges);
+        return new DataConsistencyContentCheckResult(false, mismatchedRanges);
+    }
+    
+    private List<DataConsistencyRangeCheckResult> splitRanges(final DataConsistencyCalculateParameter sourceParameter, final int rangeSize) {
+        String sql = PipelineSQLBuilderFactory.newInstance(sourceParameter.getDatabaseType()).buildSplitByPrimaryKeyRangeSQL(sourceParameter.getLogicTableName(), sourceParameter.getUniqueKey());
+        List<DataConsistencyRangeCheckResult> result = new ArrayList<>();
+        try (Connection connection = sourceParameter.getDataSource().getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            long lowerBound = Long.MIN_VALUE;
+            while (lowerBound < Long.MAX_VALUE) {
+                preparedStatement.setLong(1, lowerBound + 1);
+                preparedStatement.setLong(2, rangeSize);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    if (!resultSet.next()) {
+                        break;
+                    }
+                    long upperBound = resultSet.getLong(1);
+                    if (resultSet.wasNull()) {
+                        break;
+                    }
+                    result.add(new DataConsistencyRangeCheckResult(lowerBound, upperBound, null));
+                    lowerBound = upperBound;
+                }
+            }
+        } catch (final SQLException ex) {
+            throw new PipelineDataConsistencyCheckFailedException(String.format("Split ranges for table '%s' failed", sourceParameter.getLogicTableName()), ex);
+        }
+        // The last range covers all remaining unique key values
+        long lastLowerBound = result.isEmpty() ? Long.MIN_VALUE : result.remove(result.size() - 1).getLowerBound();
+        result.add(new DataConsistencyRangeCheckResult(lastLowerBound, Long.MAX_VALUE, null));
+        return result;
+    }
+    
+    private boolean checkRange(final RangedDataConsistencyCalculateAlgorithm calculator, final DataConsistencyCalculateParameter sourceParameter,
+                               final DataConsistencyCalculateParameter targetParameter, final DataConsistencyRangeCheckResult range, final ExecutorService targetExecutor) {
+        Range<Long> uniqueKeyValueRange = createUniqueKeyValueRange(range.getLowerBound(), range.getUpperBound());
+        Future<List<Object>> targetFuture = targetExecutor.submit(() -> calculateRange(calculator, copyParameter(targetParameter, uniqueKeyValueRange)));
+        List<Object> sourceCalculatedResults = calculateRange(calculator, copyParameter(sourceParameter, uniqueKeyValueRange));
+        try {
+            return sourceCalculatedResults.equals(targetFuture.get());
+        } catch (final InterruptedException | ExecutionException ex) {
+            throw new PipelineDataConsistencyCheckFailedException(String.format("Check range %s for table '%s' failed", uniqueKeyValueRange, sourceParameter.getLogicTableName()), ex);
+        }
+    }
+    
+    private List<Object> calculateRange(final RangedDataConsistencyCalculateAlgorithm calculator, final DataConsistencyCalculateParameter parameter) {
+        List<Object> result = new ArrayList<>();
+        calculator.calculate(parameter).forEach(result::add);
+        return result;
+    }
+    
+    private Range<Long> createUniqueKeyValueRange(final long lowerBound, final long upperBound) {
+        if (Long.MIN_VALUE == lowerBound) {
+            return Long.MAX_VALUE == upperBound ? Range.all() : Range.atMost(upperBound);
+        }
+        return Long.MAX_VALUE == upperBound ? Range.greaterThan(lowerBound) : Range.openClosed(lowerBound, upperBound);
+    }
+    
+    private DataConsistencyCalculateParameter copyParameter(final DataConsistencyCalculateParameter parameter, final Range<Long> uniqueKeyValueRange) {
+        DataConsistencyCalculateParameter result = new DataConsistencyCalculateParameter(parameter.getDataSource(), parameter.getLogicTableName(), parameter.getColumnNames(),
+                parameter.getDatabaseType(), parameter.getPeerDatabaseType(), parameter.getUniqueKey());
+        result.setUniqueKeyValueRange(uniqueKeyValueRange);
+        return result;
+    }
+    
     private PipelineDataSourceConfiguration getPipelineDataSourceConfiguration(final DataConsistencyCalculateAlgorithm calculator, final YamlPipelineDataSourceConfiguration dataSourceConfig) {
         PipelineDataSourceConfiguration result = PipelineDataSourceConfigurationFactory.newInstance(dataSourceConfig.getType(), dataSourceConfig.getParameter());
         checkDatabaseTypeSupported(calculator.getSupportedDatabaseTypes(), result.getDatabaseType().getName());
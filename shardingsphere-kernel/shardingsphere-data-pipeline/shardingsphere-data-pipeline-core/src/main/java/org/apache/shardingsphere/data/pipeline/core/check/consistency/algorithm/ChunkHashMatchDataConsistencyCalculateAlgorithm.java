@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm;
+
+import com.google.common.collect.Range;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineDataConsistencyCheckFailedException;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.PipelineSQLBuilderFactory;
+import org.apache.shardingsphere.data.pipeline.spi.check.consistency.RangedDataConsistencyCalculateAlgorithm;
+import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLXML;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Properties;
+
+/**
+ * Chunk hash match data consistency calculate algorithm.
+ *
+ * <p>
+ * Records of one unique key value range are hashed chunk by chunk in unique key order, only records count and hash are compared.
+ * Lower bound of range is exclusive and upper bound is inclusive, unique key values are bound as they are read, so unique key could be of any orderable type.
+ * </p>
+ */
+@Slf4j
+public final class ChunkHashMatchDataConsistencyCalculateAlgorithm implements RangedDataConsistencyCalculateAlgorithm {
+    
+    private static final Collection<String> SUPPORTED_DATABASE_TYPES = DatabaseTypeRegistry.getDatabaseTypeNames();
+    
+    private static final String CHUNK_SIZE_KEY = "chunk-size";
+    
+    private static final String RANGE_SIZE_KEY = "range-size";
+    
+    private static final String CONCURRENCY_KEY = "concurrency";
+    
+    private static final int DEFAULT_CHUNK_SIZE = 1000;
+    
+    private static final int DEFAULT_RANGE_SIZE = 1000000;
+    
+    private static final int DEFAULT_CONCURRENCY = 4;
+    
+    @Getter
+    @Setter
+    private Properties props = new Properties();
+    
+    private int chunkSize;
+    
+    @Getter
+    private int rangeSize;
+    
+    @Getter
+    private int concurrency;
+    
+    @Override
+    public void init() {
+        chunkSize = getPositiveProperty(CHUNK_SIZE_KEY, DEFAULT_CHUNK_SIZE);
+        rangeSize = getPositiveProperty(RANGE_SIZE_KEY, DEFAULT_RANGE_SIZE);
+        concurrency = getPositiveProperty(CONCURRENCY_KEY, DEFAULT_CONCURRENCY);
+    }
+    
+    private int getPositiveProperty(final String key, final int defaultValue) {
+        int result = Integer.parseInt(props.getProperty(key, defaultValue + ""));
+        if (result <= 0) {
+            log.warn("Invalid {}={}, use default value", key, result);
+            return defaultValue;
+        }
+        return result;
+    }
+    
+    @Override
+    public Iterable<Object> calculate(final DataConsistencyCalculateParameter parameter) {
+        Range<? extends Comparable<?>> range = parameter.getUniqueKeyValueRange();
+        Object lowerBound = null != range && range.hasLowerBound() ? range.lowerEndpoint() : null;
+        Object upperBound = null != range && range.hasUpperBound() ? range.upperEndpoint() : null;
+        PipelineSQLBuilder sqlBuilder = PipelineSQLBuilderFactory.newInstance(parameter.getDatabaseType());
+        String firstSQL = sqlBuilder.buildRangedChunkedQuerySQL(parameter.getLogicTableName(), parameter.getUniqueKey(), null != lowerBound, null != upperBound);
+        String nextSQL = sqlBuilder.buildRangedChunkedQuerySQL(parameter.getLogicTableName(), parameter.getUniqueKey(), true, null != upperBound);
+        try {
+            return Collections.singletonList(calculate(parameter.getDataSource(), firstSQL, nextSQL, parameter.getUniqueKey(), lowerBound, upperBound));
+        } catch (final SQLException ex) {
+            throw new PipelineDataConsistencyCheckFailedException(String.format("table %s data check failed.", parameter.getLogicTableName()), ex);
+        }
+    }
+    
+    private CalculatedResult calculate(final DataSource dataSource, final String firstSQL, final String nextSQL, final String uniqueKey,
+                                       final Object lowerBound, final Object upperBound) throws SQLException {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        long recordCount = 0;
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement firstPreparedStatement = connection.prepareStatement(firstSQL);
+             PreparedStatement nextPreparedStatement = connection.prepareStatement(nextSQL)) {
+            Object startUniqueKeyValue = lowerBound;
+            int chunkRecordCount;
+            do {
+                PreparedStatement preparedStatement = null == startUniqueKeyValue ? firstPreparedStatement : nextPreparedStatement;
+                int parameterIndex = 1;
+                if (null != startUniqueKeyValue) {
+                    preparedStatement.setObject(parameterIndex++, startUniqueKeyValue);
+                }
+                if (null != upperBound) {
+                    preparedStatement.setObject(parameterIndex++, upperBound);
+                }
+                preparedStatement.setInt(parameterIndex, chunkSize);
+                chunkRecordCount = 0;
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    int columnCount = resultSet.getMetaData().getColumnCount();
+                    while (resultSet.next()) {
+                        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+                            putValue(hasher, resultSet.getObject(columnIndex));
+                        }
+                        startUniqueKeyValue = resultSet.getObject(uniqueKey);
+                        chunkRecordCount++;
+                    }
+                }
+                recordCount += chunkRecordCount;
+            } while (chunkRecordCount == chunkSize);
+        }
+        return new CalculatedResult(recordCount, hasher.hash().toString());
+    }
+    
+    private void putValue(final Hasher hasher, final Object value) throws SQLException {
+        if (null == value) {
+            hasher.putByte((byte) 0);
+            return;
+        }
+        hasher.putByte((byte) 1);
+        if (value instanceof byte[]) {
+            hasher.putInt(((byte[]) value).length).putBytes((byte[]) value);
+            return;
+        }
+        String literal;
+        if (value instanceof Number && !(value instanceof Float || value instanceof Double)) {
+            literal = new BigDecimal(value.toString()).stripTrailingZeros().toPlainString();
+        } else if (value instanceof SQLXML) {
+            literal = ((SQLXML) value).getString();
+        } else {
+            literal = value.toString();
+        }
+        hasher.putInt(literal.length()).putString(literal, StandardCharsets.UTF_8);
+    }
+    
+    @Override
+    public String getType() {
+        return "CHUNK_HASH_MATCH";
+    }
+    
+    @Override
+    public Collection<String> getSupportedDatabaseTypes() {
+        return SUPPORTED_DATABASE_TYPES;
+    }
+    
+    @Override
+    public String getDescription() {
+        return "Match hash of records in unique key ranges.";
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    @EqualsAndHashCode
+    @ToString
+    private static final class CalculatedResult {
+        
+        private final long recordCount;
+        
+        private final String hash;
+    }
+}
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.data.pipeline.core.importer;
 
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.ImporterConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.executor.AbstractLifecycleExecutor;
@@ -26,12 +28,15 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.GroupedDataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.api.job.JobLoadFeedbackType;
+import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.core.exception.PipelineJobExecutionException;
 import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
 import org.apache.shardingsphere.data.pipeline.core.record.RecordUtil;
 import org.apache.shardingsphere.data.pipeline.core.util.ThreadUtil;
 import org.apache.shardingsphere.data.pipeline.spi.importer.Importer;
+import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
 import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
 
 import javax.sql.DataSource;
@@ -51,18 +56,25 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
     
     private static final DataRecordMerger MERGER = new DataRecordMerger();
     
+    private static final int MAX_PARAMETER_COUNT = 65535;
+    
+    @Getter(AccessLevel.PROTECTED)
     private final ImporterConfiguration importerConfig;
     
     private final PipelineDataSourceManager dataSourceManager;
     
+    @Getter(AccessLevel.PROTECTED)
     private final PipelineSQLBuilder pipelineSqlBuilder;
     
     private final PipelineChannel channel;
     
+    private final JobRateLimitAlgorithm rateLimitAlgorithm;
+    
     protected AbstractImporter(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager, final PipelineChannel channel) {
         this.importerConfig = importerConfig;
         this.dataSourceManager = dataSourceManager;
         this.channel = channel;
+        rateLimitAlgorithm = importerConfig.getRateLimitAlgorithm();
         pipelineSqlBuilder = createSQLBuilder(importerConfig.getShardingColumnsMap());
     }
     
@@ -118,6 +130,9 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
         if (null == buffer || buffer.isEmpty()) {
             return;
         }
+        if (null != rateLimitAlgorithm) {
+            rateLimitAlgorithm.intercept(JobOperationType.valueOf(buffer.get(0).getType()), buffer.size());
+        }
         boolean success = tryFlush(dataSource, buffer);
         if (isRunning() && !success) {
             throw new PipelineJobExecutionException("write failed.");
@@ -138,6 +153,7 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
     }
     
     private void doFlush(final DataSource dataSource, final List<DataRecord> buffer) throws SQLException {
+        long startMillis = System.currentTimeMillis();
         try (Connection connection = dataSource.getConnection()) {
             connection.setAutoCommit(false);
             switch (buffer.get(0).getType()) {
@@ -155,9 +171,19 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
             }
             connection.commit();
         }
+        if (null != rateLimitAlgorithm) {
+            rateLimitAlgorithm.feedback(JobLoadFeedbackType.STATEMENT_LATENCY, System.currentTimeMillis() - startMillis);
+        }
     }
     
-    private void executeBatchInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+    /**
+     * Execute batch insert, data records are of the same table.
+     *
+     * @param connection connection
+     * @param dataRecords data records
+     * @throws SQLException SQL exception
+     */
+    protected void executeBatchInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
         String insertSql = pipelineSqlBuilder.buildInsertSQL(dataRecords.get(0));
         try (PreparedStatement ps = connection.prepareStatement(insertSql)) {
             ps.setQueryTimeout(30);
@@ -171,6 +197,47 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
         }
     }
     
+    /**
+     * Execute multi-values insert, data records are of the same table.
+     *
+     * @param connection connection
+     * @param dataRecords data records
+     * @param rowsPerStatement max rows of one multi-values insert statement
+     * @throws SQLException SQL exception
+     */
+    protected final void executeMultiValuesInsert(final Connection connection, final List<DataRecord> dataRecords, final int rowsPerStatement) throws SQLException {
+        int columnCount = dataRecords.get(0).getColumnCount();
+        int valuesCount = Math.max(1, Math.min(rowsPerStatement, MAX_PARAMETER_COUNT / Math.max(1, columnCount)));
+        int fullStatementCount = dataRecords.size() / valuesCount;
+        if (fullStatementCount > 0) {
+            try (PreparedStatement ps = connection.prepareStatement(pipelineSqlBuilder.buildMultiValuesInsertSQL(dataRecords.get(0), valuesCount))) {
+                ps.setQueryTimeout(30);
+                for (int i = 0; i < fullStatementCount; i++) {
+                    setMultiValuesParameters(ps, dataRecords.subList(i * valuesCount, (i + 1) * valuesCount));
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+        }
+        int remainingCount = dataRecords.size() - fullStatementCount * valuesCount;
+        if (remainingCount > 0) {
+            try (PreparedStatement ps = connection.prepareStatement(pipelineSqlBuilder.buildMultiValuesInsertSQL(dataRecords.get(0), remainingCount))) {
+                ps.setQueryTimeout(30);
+                setMultiValuesParameters(ps, dataRecords.subList(dataRecords.size() - remainingCount, dataRecords.size()));
+                ps.executeUpdate();
+            }
+        }
+    }
+    
+    private void setMultiValuesParameters(final PreparedStatement ps, final List<DataRecord> dataRecords) throws SQLException {
+        int parameterIndex = 1;
+        for (DataRecord each : dataRecords) {
+            for (int i = 0; i < each.getColumnCount(); i++) {
+                ps.setObject(parameterIndex++, each.getColumn(i).getValue());
+            }
+        }
+    }
+    
     private void executeUpdate(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
         for (DataRecord each : dataRecords) {
             executeUpdate(connection, each);
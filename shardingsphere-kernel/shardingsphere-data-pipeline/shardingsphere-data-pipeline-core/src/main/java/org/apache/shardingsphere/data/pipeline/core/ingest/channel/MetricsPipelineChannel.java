@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.metrics.PipelineTaskMetrics;
+
+import java.util.List;
+
+/**
+ * Pipeline channel which collects task metrics on the way through.
+ */
+@RequiredArgsConstructor
+public final class MetricsPipelineChannel implements PipelineChannel {
+    
+    private final PipelineChannel delegate;
+    
+    private final PipelineTaskMetrics metrics;
+    
+    private final ThreadLocal<Long> fetchedTimeMillis = new ThreadLocal<>();
+    
+    @Override
+    public void pushRecord(final Record dataRecord) {
+        metrics.onPushed(dataRecord);
+        delegate.pushRecord(dataRecord);
+    }
+    
+    @Override
+    public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
+        List<Record> result = delegate.fetchRecords(batchSize, timeoutSeconds);
+        metrics.onFetched(result.size());
+        fetchedTimeMillis.set(System.currentTimeMillis());
+        return result;
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        delegate.ack(records);
+        Long fetchedMillis = fetchedTimeMillis.get();
+        metrics.onAcked(records, null == fetchedMillis ? 0L : System.currentTimeMillis() - fetchedMillis);
+    }
+    
+    @Override
+    public void flush() {
+        delegate.flush();
+    }
+    
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
@@ -20,18 +20,27 @@ package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
 import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallback;
+import org.apache.shardingsphere.data.pipeline.core.record.RecordUtil;
 
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
 
 /**
  * Multiplex memory pipeline channel.
+ * 
+ * <p>Data records are routed to channels by key. Record which updated primary key is routed by new key,
+ * it waits for channel of old key acked, and records pushed into channel of old key later wait for it acked.</p>
  */
 @Slf4j
 public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
@@ -42,7 +51,19 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     
     private final PipelineChannel[] channels;
     
-    private final Map<String, Integer> channelAssignment = new HashMap<>();
+    private final Map<Long, Integer> channelAssignment = new ConcurrentHashMap<>();
+    
+    private final AtomicLongArray pushedCounts;
+    
+    private final AtomicLongArray ackedCounts;
+    
+    private final int[] barrierChannelIndexes;
+    
+    private final long[] barrierPushedCounts;
+    
+    private final Object ackLock = new Object();
+    
+    private volatile boolean closed;
     
     public MultiplexMemoryPipelineChannel() {
         this(EMPTY_ACK_CALLBACK);
@@ -57,11 +78,20 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     }
     
     public MultiplexMemoryPipelineChannel(final int channelNumber, final int blockQueueSize, final AckCallback ackCallback) {
+        this(channelNumber, () -> new SimpleMemoryPipelineChannel(blockQueueSize, ackCallback));
+    }
+    
+    public MultiplexMemoryPipelineChannel(final int channelNumber, final Supplier<PipelineChannel> channelSupplier) {
         this.channelNumber = channelNumber;
         channels = new PipelineChannel[channelNumber];
         for (int i = 0; i < channelNumber; i++) {
-            channels[i] = new SimpleMemoryPipelineChannel(blockQueueSize, ackCallback);
+            channels[i] = channelSupplier.get();
         }
+        pushedCounts = new AtomicLongArray(channelNumber);
+        ackedCounts = new AtomicLongArray(channelNumber);
+        barrierChannelIndexes = new int[channelNumber];
+        Arrays.fill(barrierChannelIndexes, -1);
+        barrierPushedCounts = new long[channelNumber];
     }
     
     @Override
@@ -71,7 +101,7 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
                 pushRecord(record, i);
             }
         } else if (DataRecord.class.equals(record.getClass())) {
-            pushRecord(record, Math.abs(record.hashCode() % channelNumber));
+            pushDataRecord((DataRecord) record);
         } else if (PlaceholderRecord.class.equals(record.getClass())) {
             pushRecord(record, 0);
         } else {
@@ -81,26 +111,89 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     
     private void pushRecord(final Record record, final int channelIndex) {
         PipelineChannel channel = channels[channelIndex];
+        pushedCounts.incrementAndGet(channelIndex);
         channel.pushRecord(record);
     }
     
+    private void pushDataRecord(final DataRecord dataRecord) {
+        int channelIndex = getChannelIndex(dataRecord.getKey());
+        waitBarrierAcked(channelIndex);
+        if (1 == channelNumber || !isPrimaryKeyUpdated(dataRecord)) {
+            pushRecord(dataRecord, channelIndex);
+            return;
+        }
+        int oldChannelIndex = getChannelIndex(dataRecord.getOldKey());
+        if (oldChannelIndex == channelIndex) {
+            pushRecord(dataRecord, channelIndex);
+            return;
+        }
+        waitBarrierAcked(oldChannelIndex);
+        waitAcked(oldChannelIndex, pushedCounts.get(oldChannelIndex));
+        pushRecord(dataRecord, channelIndex);
+        barrierChannelIndexes[oldChannelIndex] = channelIndex;
+        barrierPushedCounts[oldChannelIndex] = pushedCounts.get(channelIndex);
+    }
+    
+    private int getChannelIndex(final DataRecord.Key key) {
+        return Math.abs(key.hashCode() % channelNumber);
+    }
+    
+    private boolean isPrimaryKeyUpdated(final DataRecord dataRecord) {
+        return IngestDataChangeType.UPDATE.equals(dataRecord.getType()) && RecordUtil.extractPrimaryColumns(dataRecord).stream().anyMatch(Column::isUpdated);
+    }
+    
+    private void waitBarrierAcked(final int channelIndex) {
+        int barrierChannelIndex = barrierChannelIndexes[channelIndex];
+        if (barrierChannelIndex < 0) {
+            return;
+        }
+        waitAcked(barrierChannelIndex, barrierPushedCounts[channelIndex]);
+        barrierChannelIndexes[channelIndex] = -1;
+    }
+    
+    private void waitAcked(final int channelIndex, final long pushedCount) {
+        synchronized (ackLock) {
+            while (!closed && ackedCounts.get(channelIndex) < pushedCount) {
+                channels[channelIndex].flush();
+                try {
+                    ackLock.wait(100L);
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("wait for pushed records acked failed", ex);
+                }
+            }
+        }
+    }
+    
     @Override
     public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
-        return findChannel().fetchRecords(batchSize, timeoutSeconds);
+        return channels[findChannelIndex()].fetchRecords(batchSize, timeoutSeconds);
     }
     
     @Override
     public void ack(final List<Record> records) {
-        findChannel().ack(records);
+        int channelIndex = findChannelIndex();
+        channels[channelIndex].ack(records);
+        synchronized (ackLock) {
+            ackedCounts.addAndGet(channelIndex, records.size());
+            ackLock.notifyAll();
+        }
     }
     
-    private PipelineChannel findChannel() {
-        String threadId = Long.toString(Thread.currentThread().getId());
+    @Override
+    public void flush() {
+        for (PipelineChannel each : channels) {
+            each.flush();
+        }
+    }
+    
+    private int findChannelIndex() {
+        long threadId = Thread.currentThread().getId();
         checkAssignment(threadId);
-        return channels[channelAssignment.get(threadId)];
+        return channelAssignment.get(threadId);
     }
     
-    private void checkAssignment(final String threadId) {
+    private void checkAssignment(final long threadId) {
         if (!channelAssignment.containsKey(threadId)) {
             synchronized (this) {
                 if (!channelAssignment.containsKey(threadId)) {
@@ -110,7 +203,7 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
         }
     }
     
-    private void assignmentChannel(final String threadId) {
+    private void assignmentChannel(final long threadId) {
         for (int i = 0; i < channels.length; i++) {
             if (!channelAssignment.containsValue(i)) {
                 channelAssignment.put(threadId, i);
@@ -121,6 +214,10 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     
     @Override
     public void close() {
+        synchronized (ackLock) {
+            closed = true;
+            ackLock.notifyAll();
+        }
         for (PipelineChannel each : channels) {
             each.close();
         }
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallback;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Off-heap pipeline channel.
+ * 
+ * <p>Column values of pushed records are serialized into pooled direct buffers, so large rows waiting in channel do not stay on heap.
+ * Capacity is bounded by buffered bytes instead of records count, and records are decoded on importer side when fetched.</p>
+ */
+public final class OffHeapPipelineChannel implements PipelineChannel {
+    
+    private static final EmptyAckCallback EMPTY_ACK_CALLBACK = new EmptyAckCallback();
+    
+    private static final int RECORD_OVERHEAD_BYTES = 64;
+    
+    private final long maxBufferedBytes;
+    
+    private final OffHeapRecordCodec codec;
+    
+    private final AckCallback ackCallback;
+    
+    private final Queue<EncodedRecord> queue = new ArrayDeque<>();
+    
+    private final Lock lock = new ReentrantLock();
+    
+    private final Condition notEmpty = lock.newCondition();
+    
+    private final Condition notFull = lock.newCondition();
+    
+    private long bufferedBytes;
+    
+    private int awaitedSize;
+    
+    private boolean flushed;
+    
+    private boolean closed;
+    
+    public OffHeapPipelineChannel(final long maxBufferedBytes) {
+        this(maxBufferedBytes, EMPTY_ACK_CALLBACK);
+    }
+    
+    public OffHeapPipelineChannel(final long maxBufferedBytes, final AckCallback ackCallback) {
+        this(maxBufferedBytes, PooledByteBufAllocator.DEFAULT, ackCallback);
+    }
+    
+    public OffHeapPipelineChannel(final long maxBufferedBytes, final ByteBufAllocator allocator, final AckCallback ackCallback) {
+        this.maxBufferedBytes = maxBufferedBytes;
+        codec = new OffHeapRecordCodec(allocator);
+        this.ackCallback = ackCallback;
+    }
+    
+    @Override
+    public void pushRecord(final Record dataRecord) {
+        EncodedRecord encodedRecord = codec.encode(dataRecord);
+        long recordBytes = encodedRecord.getSize() + RECORD_OVERHEAD_BYTES;
+        lock.lock();
+        try {
+            while (!closed && bufferedBytes > 0L && bufferedBytes + recordBytes > maxBufferedBytes) {
+                notFull.await();
+            }
+            if (closed) {
+                codec.release(encodedRecord);
+                return;
+            }
+            queue.add(encodedRecord);
+            bufferedBytes += recordBytes;
+            if (awaitedSize > 0 && queue.size() >= awaitedSize) {
+                notEmpty.signal();
+            }
+        } catch (final InterruptedException ex) {
+            codec.release(encodedRecord);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("put " + dataRecord + " into off-heap channel failed", ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
+        List<EncodedRecord> encodedRecords = new ArrayList<>(batchSize);
+        lock.lock();
+        try {
+            long remainingNanos = TimeUnit.SECONDS.toNanos(timeoutSeconds);
+            while (!closed && !flushed && queue.size() < batchSize && remainingNanos > 0L) {
+                awaitedSize = batchSize;
+                remainingNanos = notEmpty.awaitNanos(remainingNanos);
+            }
+            flushed = false;
+            EncodedRecord each;
+            while (encodedRecords.size() < batchSize && null != (each = queue.poll())) {
+                encodedRecords.add(each);
+                bufferedBytes -= each.getSize() + RECORD_OVERHEAD_BYTES;
+            }
+            if (!encodedRecords.isEmpty()) {
+                notFull.signalAll();
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            awaitedSize = 0;
+            lock.unlock();
+        }
+        List<Record> result = new ArrayList<>(encodedRecords.size());
+        for (EncodedRecord each : encodedRecords) {
+            result.add(codec.decode(each));
+        }
+        return result;
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+    
+    @Override
+    public void flush() {
+        lock.lock();
+        try {
+            flushed = true;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            flushed = false;
+            EncodedRecord each;
+            while (null != (each = queue.poll())) {
+                codec.release(each);
+            }
+            bufferedBytes = 0L;
+            notFull.signalAll();
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
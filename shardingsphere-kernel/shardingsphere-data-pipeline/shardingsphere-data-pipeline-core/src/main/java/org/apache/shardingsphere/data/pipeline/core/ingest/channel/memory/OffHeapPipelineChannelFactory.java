@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import com.google.common.base.Strings;
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.spi.ingest.channel.PipelineChannelFactory;
+
+import java.util.Properties;
+
+/**
+ * Off-heap implementation of pipeline channel factory.
+ */
+@Getter
+@Setter
+public final class OffHeapPipelineChannelFactory implements PipelineChannelFactory {
+    
+    public static final String TYPE = "OFF_HEAP";
+    
+    private static final String MAX_BUFFERED_BYTES_KEY = "max-buffered-bytes";
+    
+    private long maxBufferedBytes = 64L * 1024 * 1024;
+    
+    private Properties props = new Properties();
+    
+    @Override
+    public void init() {
+        String maxBufferedBytesValue = props.getProperty(MAX_BUFFERED_BYTES_KEY);
+        if (!Strings.isNullOrEmpty(maxBufferedBytesValue)) {
+            maxBufferedBytes = Long.parseLong(maxBufferedBytesValue);
+        }
+    }
+    
+    @Override
+    public PipelineChannel createPipelineChannel(final int outputConcurrency, final AckCallback ackCallback) {
+        if (1 == outputConcurrency) {
+            return new OffHeapPipelineChannel(maxBufferedBytes, ackCallback);
+        }
+        return new MultiplexMemoryPipelineChannel(outputConcurrency, () -> new OffHeapPipelineChannel(maxBufferedBytes, ackCallback));
+    }
+    
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+}
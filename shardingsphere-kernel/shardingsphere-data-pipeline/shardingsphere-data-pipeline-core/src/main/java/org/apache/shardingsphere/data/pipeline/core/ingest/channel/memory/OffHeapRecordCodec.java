@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Off-heap record codec.
+ *
+ * <p>Column values of {@code DataRecord} are written into a direct buffer and only a header without columns is kept on heap.
+ * Other records and values of unknown types stay on heap.</p>
+ */
+@RequiredArgsConstructor
+final class OffHeapRecordCodec {
+    
+    private static final byte NULL = 0;
+    
+    private static final byte STRING = 1;
+    
+    private static final byte BYTES = 2;
+    
+    private static final byte INTEGER = 3;
+    
+    private static final byte LONG = 4;
+    
+    private static final byte SHORT = 5;
+    
+    private static final byte BYTE = 6;
+    
+    private static final byte BOOLEAN = 7;
+    
+    private static final byte FLOAT = 8;
+    
+    private static final byte DOUBLE = 9;
+    
+    private static final byte BIG_DECIMAL = 10;
+    
+    private static final byte BIG_INTEGER = 11;
+    
+    private static final byte TIMESTAMP = 12;
+    
+    private static final byte DATE = 13;
+    
+    private static final byte TIME = 14;
+    
+    private static final byte ON_HEAP = 15;
+    
+    private static final int UPDATED_FLAG = 1;
+    
+    private static final int PRIMARY_KEY_FLAG = 2;
+    
+    private final ByteBufAllocator allocator;
+    
+    /**
+     * Encode record.
+     *
+     * @param record record
+     * @return encoded record
+     */
+    EncodedRecord encode(final Record record) {
+        if (!(record instanceof DataRecord)) {
+            return new EncodedRecord(record, null, null, null, 0);
+        }
+        DataRecord dataRecord = (DataRecord) record;
+        String[] columnNames = new String[dataRecord.getColumnCount()];
+        List<Object> heapValues = new ArrayList<>(0);
+        ByteBuf buffer = allocator.directBuffer();
+        try {
+            for (int i = 0; i < columnNames.length; i++) {
+                Column column = dataRecord.getColumn(i);
+                columnNames[i] = column.getName();
+                buffer.writeByte((column.isUpdated() ? UPDATED_FLAG : 0) | (column.isPrimaryKey() ? PRIMARY_KEY_FLAG : 0));
+                writeValue(buffer, column.getOldValue(), heapValues);
+                writeValue(buffer, column.getValue(), heapValues);
+            }
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            buffer.release();
+            throw ex;
+        }
+        DataRecord header = new DataRecord(dataRecord.getPosition(), 0);
+        header.setType(dataRecord.getType());
+        header.setTableName(dataRecord.getTableName());
+        header.setCommitTime(dataRecord.getCommitTime());
+        return new EncodedRecord(header, columnNames, heapValues.isEmpty() ? null : heapValues, buffer, buffer.readableBytes());
+    }
+    
+    private void writeValue(final ByteBuf buffer, final Object value, final List<Object> heapValues) {
+        if (null == value) {
+            buffer.writeByte(NULL);
+        } else if (value instanceof String) {
+            buffer.writeByte(STRING);
+            int lengthIndex = buffer.writerIndex();
+            buffer.writeInt(0);
+            buffer.setInt(lengthIndex, buffer.writeCharSequence((String) value, StandardCharsets.UTF_8));
+        } else if (value instanceof byte[]) {
+            buffer.writeByte(BYTES);
+            buffer.writeInt(((byte[]) value).length);
+            buffer.writeBytes((byte[]) value);
+        } else if (value instanceof Integer) {
+            buffer.writeByte(INTEGER);
+            buffer.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            buffer.writeByte(LONG);
+            buffer.writeLong((Long) value);
+        } else if (value instanceof Short) {
+            buffer.writeByte(SHORT);
+            buffer.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            buffer.writeByte(BYTE);
+            buffer.writeByte((Byte) value);
+        } else if (value instanceof Boolean) {
+            buffer.writeByte(BOOLEAN);
+            buffer.writeBoolean((Boolean) value);
+        } else if (value instanceof Float) {
+            buffer.writeByte(FLOAT);
+            buffer.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            buffer.writeByte(DOUBLE);
+            buffer.writeDouble((Double) value);
+        } else if (value instanceof BigDecimal) {
+            buffer.writeByte(BIG_DECIMAL);
+            buffer.writeInt(((BigDecimal) value).scale());
+            writeBytes(buffer, ((BigDecimal) value).unscaledValue().toByteArray());
+        } else if (value instanceof BigInteger) {
+            buffer.writeByte(BIG_INTEGER);
+            writeBytes(buffer, ((BigInteger) value).toByteArray());
+        } else if (Timestamp.class == value.getClass()) {
+            buffer.writeByte(TIMESTAMP);
+            buffer.writeLong(((Timestamp) value).getTime());
+            buffer.writeInt(((Timestamp) value).getNanos());
+        } else if (java.sql.Date.class == value.getClass()) {
+            buffer.writeByte(DATE);
+            buffer.writeLong(((java.sql.Date) value).getTime());
+        } else if (Time.class == value.getClass()) {
+            buffer.writeByte(TIME);
+            buffer.writeLong(((Time) value).getTime());
+        } else {
+            buffer.writeByte(ON_HEAP);
+            buffer.writeInt(heapValues.size());
+            heapValues.add(value);
+        }
+    }
+    
+    private void writeBytes(final ByteBuf buffer, final byte[] value) {
+        buffer.writeInt(value.length);
+        buffer.writeBytes(value);
+    }
+    
+    /**
+     * Decode record and release its buffer.
+     *
+     * @param encodedRecord encoded record
+     * @return record
+     */
+    Record decode(final EncodedRecord encodedRecord) {
+        ByteBuf buffer = encodedRecord.getBuffer();
+        if (null == buffer) {
+            return encodedRecord.getRecord();
+        }
+        try {
+            DataRecord header = (DataRecord) encodedRecord.getRecord();
+            String[] columnNames = encodedRecord.getColumnNames();
+            DataRecord result = new DataRecord(header.getPosition(), columnNames.length);
+            result.setType(header.getType());
+            result.setTableName(header.getTableName());
+            result.setCommitTime(header.getCommitTime());
+            for (String each : columnNames) {
+                int flags = buffer.readByte();
+                Object oldValue = readValue(buffer, encodedRecord.getHeapValues());
+                Object value = readValue(buffer, encodedRecord.getHeapValues());
+                result.addColumn(new Column(each, oldValue, value, 0 != (flags & UPDATED_FLAG), 0 != (flags & PRIMARY_KEY_FLAG)));
+            }
+            return result;
+        } finally {
+            buffer.release();
+        }
+    }
+    
+    private Object readValue(final ByteBuf buffer, final List<Object> heapValues) {
+        byte type = buffer.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return buffer.readCharSequence(buffer.readInt(), StandardCharsets.UTF_8).toString();
+            case BYTES:
+                return readBytes(buffer);
+            case INTEGER:
+                return buffer.readInt();
+            case LONG:
+                return buffer.readLong();
+            case SHORT:
+                return buffer.readShort();
+            case BYTE:
+                return buffer.readByte();
+            case BOOLEAN:
+                return buffer.readBoolean();
+            case FLOAT:
+                return buffer.readFloat();
+            case DOUBLE:
+                return buffer.readDouble();
+            case BIG_DECIMAL:
+                return readBigDecimal(buffer);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(buffer));
+            case TIMESTAMP:
+                return readTimestamp(buffer);
+            case DATE:
+                return new java.sql.Date(buffer.readLong());
+            case TIME:
+                return new Time(buffer.readLong());
+            case ON_HEAP:
+                return heapValues.get(buffer.readInt());
+            default:
+                throw new IllegalStateException(String.format("Unknown off-heap value type %s", type));
+        }
+    }
+    
+    private BigDecimal readBigDecimal(final ByteBuf buffer) {
+        int scale = buffer.readInt();
+        return new BigDecimal(new BigInteger(readBytes(buffer)), scale);
+    }
+    
+    private Timestamp readTimestamp(final ByteBuf buffer) {
+        Timestamp result = new Timestamp(buffer.readLong());
+        result.setNanos(buffer.readInt());
+        return result;
+    }
+    
+    private byte[] readBytes(final ByteBuf buffer) {
+        byte[] result = new byte[buffer.readInt()];
+        buffer.readBytes(result);
+        return result;
+    }
+    
+    /**
+     * Release buffer of encoded record without decoding.
+     *
+     * @param encodedRecord encoded record
+     */
+    void release(final EncodedRecord encodedRecord) {
+        if (null != encodedRecord.getBuffer()) {
+            encodedRecord.getBuffer().release();
+        }
+    }
+}
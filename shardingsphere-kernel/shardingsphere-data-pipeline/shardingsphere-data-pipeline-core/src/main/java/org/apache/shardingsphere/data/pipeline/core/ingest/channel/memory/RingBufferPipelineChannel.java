@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallback;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Ring buffer pipeline channel.
+ * 
+ * <p>Records are passed through a lock-free bounded ring buffer. Lock and conditions are only used when producer finds the ring buffer full
+ * or consumer waits for more records, and waiters are woken up as soon as enough records are pushed instead of polling.</p>
+ * 
+ * <p>Fetching returns when batch size records are fetched, or linger time elapsed after the first record fetched, or timeout.</p>
+ */
+public final class RingBufferPipelineChannel implements PipelineChannel {
+    
+    private static final EmptyAckCallback EMPTY_ACK_CALLBACK = new EmptyAckCallback();
+    
+    private final int mask;
+    
+    private final AtomicReferenceArray<Record> buffer;
+    
+    private final AtomicLongArray sequences;
+    
+    private final AtomicLong enqueuePosition = new AtomicLong();
+    
+    private final AtomicLong dequeuePosition = new AtomicLong();
+    
+    private final long lingerNanos;
+    
+    private final AckCallback ackCallback;
+    
+    private final Lock lock = new ReentrantLock();
+    
+    private final Condition notEmpty = lock.newCondition();
+    
+    private final Condition notFull = lock.newCondition();
+    
+    private final AtomicInteger waitingProducers = new AtomicInteger();
+    
+    private volatile int awaitedSize;
+    
+    private volatile boolean flushed;
+    
+    public RingBufferPipelineChannel(final int bufferSize, final long lingerMillis) {
+        this(bufferSize, lingerMillis, EMPTY_ACK_CALLBACK);
+    }
+    
+    public RingBufferPipelineChannel(final int bufferSize, final long lingerMillis, final AckCallback ackCallback) {
+        int capacity = Integer.highestOneBit(Math.max(2, bufferSize) - 1) << 1;
+        mask = capacity - 1;
+        buffer = new AtomicReferenceArray<>(capacity);
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+        this.ackCallback = ackCallback;
+    }
+    
+    @Override
+    public void pushRecord(final Record dataRecord) {
+        if (!offer(dataRecord)) {
+            awaitNotFull(dataRecord);
+        }
+        int awaited = awaitedSize;
+        if (awaited > 0 && size() >= awaited) {
+            signal(notEmpty);
+        }
+    }
+    
+    private void awaitNotFull(final Record dataRecord) {
+        lock.lock();
+        waitingProducers.incrementAndGet();
+        try {
+            while (!offer(dataRecord)) {
+                notFull.await();
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("put " + dataRecord + " into ring buffer failed", ex);
+        } finally {
+            waitingProducers.decrementAndGet();
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
+        List<Record> result = new ArrayList<>(batchSize);
+        drainTo(result, batchSize);
+        if (result.size() >= batchSize) {
+            return result;
+        }
+        long timeoutDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        long deadline = result.isEmpty() ? timeoutDeadline : Math.min(timeoutDeadline, System.nanoTime() + lingerNanos);
+        lock.lock();
+        try {
+            while (result.size() < batchSize) {
+                boolean firstFetched = result.isEmpty();
+                awaitedSize = firstFetched ? 1 : batchSize - result.size();
+                drainTo(result, batchSize - result.size());
+                if (firstFetched && !result.isEmpty()) {
+                    deadline = Math.min(timeoutDeadline, System.nanoTime() + lingerNanos);
+                    continue;
+                }
+                if (result.size() >= batchSize || flushed) {
+                    break;
+                }
+                long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0L) {
+                    break;
+                }
+                notEmpty.awaitNanos(remainingNanos);
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            awaitedSize = 0;
+            flushed = false;
+            lock.unlock();
+        }
+        return result;
+    }
+    
+    private void drainTo(final List<Record> records, final int maxSize) {
+        int drainedCount = 0;
+        Record record;
+        while (drainedCount < maxSize && null != (record = poll())) {
+            records.add(record);
+            drainedCount++;
+        }
+        if (drainedCount > 0 && waitingProducers.get() > 0) {
+            signal(notFull);
+        }
+    }
+    
+    private boolean offer(final Record record) {
+        while (true) {
+            long position = enqueuePosition.get();
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (0L == difference) {
+                if (enqueuePosition.compareAndSet(position, position + 1)) {
+                    buffer.lazySet(index, record);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0L) {
+                return false;
+            }
+        }
+    }
+    
+    private Record poll() {
+        while (true) {
+            long position = dequeuePosition.get();
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - (position + 1);
+            if (0L == difference) {
+                if (dequeuePosition.compareAndSet(position, position + 1)) {
+                    Record result = buffer.get(index);
+                    buffer.lazySet(index, null);
+                    sequences.set(index, position + mask + 1);
+                    return result;
+                }
+            } else if (difference < 0L) {
+                return null;
+            }
+        }
+    }
+    
+    private int size() {
+        return (int) Math.max(0L, enqueuePosition.get() - dequeuePosition.get());
+    }
+    
+    private void signal(final Condition condition) {
+        lock.lock();
+        try {
+            condition.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+    
+    @Override
+    public void flush() {
+        flushed = true;
+        signal(notEmpty);
+    }
+    
+    @Override
+    public void close() {
+        while (null != poll()) {
+            continue;
+        }
+        if (waitingProducers.get() > 0) {
+            signal(notFull);
+        }
+    }
+}
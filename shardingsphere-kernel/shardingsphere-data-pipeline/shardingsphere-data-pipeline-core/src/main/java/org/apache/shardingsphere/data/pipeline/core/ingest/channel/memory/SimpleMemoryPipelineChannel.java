@@ -39,6 +39,8 @@ public final class SimpleMemoryPipelineChannel implements PipelineChannel {
     
     private final AckCallback ackCallback;
     
+    private volatile boolean flushed;
+    
     public SimpleMemoryPipelineChannel(final int blockQueueSize) {
         this(blockQueueSize, EMPTY_ACK_CALLBACK);
     }
@@ -62,12 +64,13 @@ public final class SimpleMemoryPipelineChannel implements PipelineChannel {
     public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
         List<Record> result = new ArrayList<>(batchSize);
         long start = System.currentTimeMillis();
-        while (batchSize > queue.size()) {
+        while (batchSize > queue.size() && !flushed) {
             if (timeoutSeconds * 1000L <= System.currentTimeMillis() - start) {
                 break;
             }
             ThreadUtil.sleep(100L);
         }
+        flushed = false;
         queue.drainTo(result, batchSize);
         return result;
     }
@@ -77,6 +80,11 @@ public final class SimpleMemoryPipelineChannel implements PipelineChannel {
         ackCallback.onAck(records);
     }
     
+    @Override
+    public void flush() {
+        flushed = true;
+    }
+    
     @Override
     public void close() {
         queue.clear();
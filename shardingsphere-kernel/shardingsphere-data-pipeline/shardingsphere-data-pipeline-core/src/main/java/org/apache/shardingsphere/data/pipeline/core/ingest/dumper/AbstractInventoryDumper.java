@@ -31,17 +31,21 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.position.FinishedPosit
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.UniqueKeyRangePosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.api.job.JobLoadFeedbackType;
 import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
 import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
 import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataLoader;
 import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineTableMetaData;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.PipelineSQLBuilderFactory;
 import org.apache.shardingsphere.data.pipeline.spi.ingest.dumper.InventoryDumper;
 import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
+import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
@@ -49,6 +53,10 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -57,6 +65,8 @@ import java.util.Optional;
 @Slf4j
 public abstract class AbstractInventoryDumper extends AbstractLifecycleExecutor implements InventoryDumper {
     
+    private static final int LOAD_SAMPLE_ROUNDS = 10;
+    
     @Getter(AccessLevel.PROTECTED)
     private final InventoryDumperConfiguration inventoryDumperConfig;
     
@@ -70,6 +80,8 @@ public abstract class AbstractInventoryDumper extends AbstractLifecycleExecutor
     
     private final LazyInitializer<PipelineTableMetaData> tableMetaDataLazyInitializer;
     
+    private boolean loadSampleEnabled = true;
+    
     protected AbstractInventoryDumper(final InventoryDumperConfiguration inventoryDumperConfig, final PipelineChannel channel,
                                       final DataSource dataSource, final PipelineTableMetaDataLoader metaDataLoader) {
         if (!StandardPipelineDataSourceConfiguration.class.equals(inventoryDumperConfig.getDataSourceConfig().getClass())) {
@@ -95,8 +107,12 @@ public abstract class AbstractInventoryDumper extends AbstractLifecycleExecutor
     }
     
     private void dump() {
-        String sql = getDumpSQL();
         IngestPosition<?> position = inventoryDumperConfig.getPosition();
+        if (position instanceof UniqueKeyRangePosition) {
+            dumpByUniqueKeyRange((UniqueKeyRangePosition) position);
+            return;
+        }
+        String sql = getDumpSQL();
         log.info("inventory dump, sql={}, position={}", sql, position);
         try (Connection conn = dataSource.getConnection()) {
             int round = 1;
@@ -119,6 +135,98 @@ public abstract class AbstractInventoryDumper extends AbstractLifecycleExecutor
         }
     }
     
+    private void dumpByUniqueKeyRange(final UniqueKeyRangePosition position) {
+        String tableName = inventoryDumperConfig.getTableName();
+        List<String> uniqueKeys = inventoryDumperConfig.getUniqueKeys();
+        boolean hasUpperBound = !position.getEndValues().isEmpty();
+        PipelineSQLBuilder sqlBuilder = PipelineSQLBuilderFactory.newInstance(inventoryDumperConfig.getDataSourceConfig().getDatabaseType().getName());
+        String firstSQL = sqlBuilder.buildUniqueKeysRangedChunkedQuerySQL(tableName, uniqueKeys, false, hasUpperBound);
+        String nextSQL = sqlBuilder.buildUniqueKeysRangedChunkedQuerySQL(tableName, uniqueKeys, true, hasUpperBound);
+        log.info("inventory dump by unique key range, sql={}, position={}", nextSQL, position);
+        try (Connection conn = dataSource.getConnection()) {
+            int round = 1;
+            List<Object> startUniqueKeyValues = new ArrayList<>(position.getBeginValues());
+            Optional<List<Object>> maxUniqueKeyValues;
+            while ((maxUniqueKeyValues = dumpByUniqueKeyRange0(conn, startUniqueKeyValues.isEmpty() ? firstSQL : nextSQL, startUniqueKeyValues, position, round++)).isPresent()) {
+                startUniqueKeyValues = maxUniqueKeyValues.get();
+                if (!isRunning()) {
+                    log.info("inventory dump by unique key range, running is false, break");
+                    break;
+                }
+            }
+            log.info("inventory dump by unique key range done, round={}, maxUniqueKeyValues={}", round, maxUniqueKeyValues);
+        } catch (final SQLException ex) {
+            log.error("inventory dump by unique key range, ex caught, msg={}", ex.getMessage());
+            throw new IngestException(ex);
+        } finally {
+            log.info("inventory dump by unique key range, before put FinishedRecord");
+            pushRecord(new FinishedRecord(new FinishedPosition()));
+        }
+    }
+    
+    private Optional<List<Object>> dumpByUniqueKeyRange0(final Connection conn, final String sql, final List<Object> startUniqueKeyValues,
+                                                         final UniqueKeyRangePosition position, final int round) throws SQLException {
+        intercept(conn, round);
+        PipelineTableMetaData tableMetaData = getTableMetaData();
+        List<String> uniqueKeys = inventoryDumperConfig.getUniqueKeys();
+        try (PreparedStatement preparedStatement = createPreparedStatement(conn, sql)) {
+            int parameterIndex = setUniqueKeyValues(preparedStatement, 1, startUniqueKeyValues, tableMetaData);
+            parameterIndex = setUniqueKeyValues(preparedStatement, parameterIndex, position.getEndValues(), tableMetaData);
+            preparedStatement.setInt(parameterIndex, batchSize);
+            try (ResultSet resultSet = executeQuery(preparedStatement)) {
+                ResultSetMetaData metaData = resultSet.getMetaData();
+                int columnCount = metaData.getColumnCount();
+                int[] uniqueKeyIndexes = new int[uniqueKeys.size()];
+                for (int i = 0; i < uniqueKeys.size(); i++) {
+                    uniqueKeyIndexes[i] = resultSet.findColumn(uniqueKeys.get(i));
+                }
+                int rowCount = 0;
+                List<Object> maxUniqueKeyValues = null;
+                while (resultSet.next()) {
+                    Object[] values = new Object[columnCount];
+                    for (int i = 1; i <= columnCount; i++) {
+                        values[i - 1] = readValue(resultSet, i);
+                    }
+                    maxUniqueKeyValues = new ArrayList<>(uniqueKeyIndexes.length);
+                    for (int each : uniqueKeyIndexes) {
+                        maxUniqueKeyValues.add(values[each - 1]);
+                    }
+                    DataRecord record = new DataRecord(new UniqueKeyRangePosition(maxUniqueKeyValues, position.getEndValues()), columnCount);
+                    record.setType(IngestDataChangeType.INSERT);
+                    record.setTableName(inventoryDumperConfig.getTableNameMap().get(inventoryDumperConfig.getTableName()));
+                    for (int i = 1; i <= columnCount; i++) {
+                        record.addColumn(new Column(metaData.getColumnName(i), values[i - 1], true, tableMetaData.isPrimaryKey(i - 1)));
+                    }
+                    pushRecord(record);
+                    rowCount++;
+                    if (!isRunning()) {
+                        log.info("dump by unique key range, running is false, break");
+                        break;
+                    }
+                }
+                if (0 == round % 50) {
+                    log.info("dump by unique key range, round={}, rowCount={}, maxUniqueKeyValues={}", round, rowCount, maxUniqueKeyValues);
+                }
+                return Optional.ofNullable(maxUniqueKeyValues);
+            }
+        }
+    }
+    
+    private int setUniqueKeyValues(final PreparedStatement preparedStatement, final int startParameterIndex, final List<Object> uniqueKeyValues,
+                                   final PipelineTableMetaData tableMetaData) throws SQLException {
+        int result = startParameterIndex;
+        for (int i = 0; i < uniqueKeyValues.size(); i++) {
+            Object value = uniqueKeyValues.get(i);
+            // Values of types not persisted by position are restored as strings, bind them with column type to let driver convert.
+            if (value instanceof String) {
+                preparedStatement.setObject(result++, value, tableMetaData.getColumnMetaData(inventoryDumperConfig.getUniqueKeys().get(i)).getDataType());
+            } else {
+                preparedStatement.setObject(result++, value);
+            }
+        }
+        return result;
+    }
+    
     private String getDumpSQL() {
         String tableName = inventoryDumperConfig.getTableName();
         String primaryKey = inventoryDumperConfig.getPrimaryKey();
@@ -131,15 +239,13 @@ public abstract class AbstractInventoryDumper extends AbstractLifecycleExecutor
     }
     
     private Optional<Number> dump0(final Connection conn, final String sql, final Number startUniqueKeyValue, final int round) throws SQLException {
-        if (null != rateLimitAlgorithm) {
-            rateLimitAlgorithm.intercept(JobOperationType.SELECT, 1);
-        }
+        intercept(conn, round);
         PipelineTableMetaData tableMetaData = getTableMetaData();
         try (PreparedStatement preparedStatement = createPreparedStatement(conn, sql)) {
             preparedStatement.setObject(1, startUniqueKeyValue);
             preparedStatement.setObject(2, getPositionEndValue(inventoryDumperConfig.getPosition()));
             preparedStatement.setInt(3, batchSize);
-            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+            try (ResultSet resultSet = executeQuery(preparedStatement)) {
                 ResultSetMetaData metaData = resultSet.getMetaData();
                 int rowCount = 0;
                 Number maxUniqueKeyValue = null;
@@ -170,6 +276,30 @@ public abstract class AbstractInventoryDumper extends AbstractLifecycleExecutor
         }
     }
     
+    private void intercept(final Connection conn, final int round) {
+        if (null == rateLimitAlgorithm) {
+            return;
+        }
+        if (loadSampleEnabled && 1 == round % LOAD_SAMPLE_ROUNDS) {
+            try {
+                sampleLoad(conn).forEach(rateLimitAlgorithm::feedback);
+            } catch (final SQLException ex) {
+                log.warn("sample load failed, disable load sample, msg={}", ex.getMessage());
+                loadSampleEnabled = false;
+            }
+        }
+        rateLimitAlgorithm.intercept(JobOperationType.SELECT, 1);
+    }
+    
+    private ResultSet executeQuery(final PreparedStatement preparedStatement) throws SQLException {
+        long startMillis = System.currentTimeMillis();
+        ResultSet result = preparedStatement.executeQuery();
+        if (null != rateLimitAlgorithm) {
+            rateLimitAlgorithm.feedback(JobLoadFeedbackType.STATEMENT_LATENCY, System.currentTimeMillis() - startMillis);
+        }
+        return result;
+    }
+    
     private long getPositionBeginValue(final IngestPosition<?> position) {
         return position instanceof PrimaryKeyPosition ? ((PrimaryKeyPosition) position).getBeginValue() : 0;
     }
@@ -189,6 +319,17 @@ public abstract class AbstractInventoryDumper extends AbstractLifecycleExecutor
         return resultSet.getObject(index);
     }
     
+    /**
+     * Sample load of source database, it's called between dump queries when rate limit algorithm is configured.
+     *
+     * @param connection connection
+     * @return load feedback values
+     * @throws SQLException SQL exception
+     */
+    protected Map<JobLoadFeedbackType, Long> sampleLoad(final Connection connection) throws SQLException {
+        return Collections.emptyMap();
+    }
+    
     private void pushRecord(final Record record) {
         channel.pushRecord(record);
     }
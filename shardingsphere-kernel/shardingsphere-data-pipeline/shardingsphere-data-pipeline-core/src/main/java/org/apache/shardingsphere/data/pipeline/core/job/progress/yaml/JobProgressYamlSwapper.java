@@ -19,8 +19,10 @@ package org.apache.shardingsphere.data.pipeline.core.job.progress.yaml;
 
 import com.google.common.base.Strings;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.FinishedPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.UniqueKeyRangePosition;
 import org.apache.shardingsphere.data.pipeline.api.job.JobStatus;
 import org.apache.shardingsphere.data.pipeline.api.job.progress.JobProgress;
 import org.apache.shardingsphere.data.pipeline.api.task.progress.IncrementalTaskProgress;
@@ -52,6 +54,7 @@ public final class JobProgressYamlSwapper {
         result.setSourceDatabaseType(jobProgress.getSourceDatabaseType());
         result.setInventory(getYamlInventory(jobProgress.getInventoryTaskProgressMap()));
         result.setIncremental(getYamlIncremental(jobProgress.getIncrementalTaskProgressMap()));
+        result.setMetrics(jobProgress.getMetrics());
         return result;
     }
     
@@ -97,6 +100,9 @@ public final class JobProgressYamlSwapper {
         result.setSourceDatabaseType(yamlJobProgress.getSourceDatabaseType());
         result.setInventoryTaskProgressMap(getInventoryTaskProgressMap(yamlJobProgress.getInventory()));
         result.setIncrementalTaskProgressMap(getIncrementalTaskProgressMap(yamlJobProgress.getSourceDatabaseType(), yamlJobProgress.getIncremental()));
+        if (null != yamlJobProgress.getMetrics()) {
+            result.setMetrics(yamlJobProgress.getMetrics());
+        }
         return result;
     }
     
@@ -111,7 +117,14 @@ public final class JobProgressYamlSwapper {
     }
     
     private Function<Entry<String, String>, InventoryTaskProgress> getInventoryTaskProgressFunction() {
-        return entry -> new InventoryTaskProgress(Strings.isNullOrEmpty(entry.getValue()) ? new PlaceholderPosition() : PrimaryKeyPosition.init(entry.getValue()));
+        return entry -> new InventoryTaskProgress(initInventoryPosition(entry.getValue()));
+    }
+    
+    private IngestPosition<?> initInventoryPosition(final String data) {
+        if (Strings.isNullOrEmpty(data)) {
+            return new PlaceholderPosition();
+        }
+        return UniqueKeyRangePosition.isUniqueKeyRangePosition(data) ? UniqueKeyRangePosition.init(data) : PrimaryKeyPosition.init(data);
     }
     
     private Map<String, IncrementalTaskProgress> getIncrementalTaskProgressMap(final String databaseType, final Map<String, YamlJobProgress.YamlIncremental> incremental) {
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.data.pipeline.core.job.progress.yaml;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.data.pipeline.api.job.progress.JobMetrics;
 import org.apache.shardingsphere.data.pipeline.api.task.progress.IncrementalTaskDelay;
 
 import java.util.HashMap;
@@ -39,6 +40,8 @@ public final class YamlJobProgress {
     
     private Map<String, YamlIncremental> incremental;
     
+    private JobMetrics metrics;
+    
     @Getter
     @Setter
     public static final class YamlInventory {
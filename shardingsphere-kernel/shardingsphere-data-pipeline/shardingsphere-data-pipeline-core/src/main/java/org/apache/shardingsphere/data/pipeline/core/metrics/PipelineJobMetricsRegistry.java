@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.metrics;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.scenario.rulealtered.RuleAlteredJobContext;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pipeline job metrics registry, holds job contexts running in current instance for metrics collectors.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PipelineJobMetricsRegistry {
+    
+    private static final Map<String, Map<Integer, RuleAlteredJobContext>> JOB_CONTEXTS = new ConcurrentHashMap<>();
+    
+    /**
+     * Register job context.
+     *
+     * @param jobContext job context
+     */
+    public static void register(final RuleAlteredJobContext jobContext) {
+        JOB_CONTEXTS.computeIfAbsent(jobContext.getJobId(), key -> new ConcurrentHashMap<>()).put(jobContext.getShardingItem(), jobContext);
+    }
+    
+    /**
+     * Unregister job contexts of job.
+     *
+     * @param jobId job id
+     */
+    public static void unregister(final String jobId) {
+        JOB_CONTEXTS.remove(jobId);
+    }
+    
+    /**
+     * Get registered job contexts.
+     *
+     * @return job contexts
+     */
+    public static Collection<RuleAlteredJobContext> getJobContexts() {
+        Collection<RuleAlteredJobContext> result = new LinkedList<>();
+        for (Map<Integer, RuleAlteredJobContext> each : JOB_CONTEXTS.values()) {
+            result.addAll(each.values());
+        }
+        return result;
+    }
+}
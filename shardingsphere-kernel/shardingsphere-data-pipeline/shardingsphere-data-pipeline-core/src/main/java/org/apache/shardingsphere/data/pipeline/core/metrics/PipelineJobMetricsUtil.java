@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.metrics;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.api.job.progress.JobMetrics;
+import org.apache.shardingsphere.data.pipeline.core.task.PipelineTask;
+
+import java.util.Collection;
+
+/**
+ * Pipeline job metrics utility.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PipelineJobMetricsUtil {
+    
+    /**
+     * Aggregate task metrics into job metrics.
+     * Throughput and queue depth are summed, ack latency and lag take the maximum of tasks.
+     *
+     * @param tasks pipeline tasks
+     * @return job metrics
+     */
+    public static JobMetrics aggregate(final Collection<? extends PipelineTask> tasks) {
+        JobMetrics result = new JobMetrics();
+        for (PipelineTask each : tasks) {
+            PipelineTaskMetrics metrics = each.getMetrics();
+            result.setDumperRecordsPerSecond(result.getDumperRecordsPerSecond() + metrics.getDumperRecordsPerSecond());
+            result.setDumperBytesPerSecond(result.getDumperBytesPerSecond() + metrics.getDumperBytesPerSecond());
+            result.setImporterRecordsPerSecond(result.getImporterRecordsPerSecond() + metrics.getImporterRecordsPerSecond());
+            result.setImporterBytesPerSecond(result.getImporterBytesPerSecond() + metrics.getImporterBytesPerSecond());
+            result.setChannelQueueDepth(result.getChannelQueueDepth() + metrics.getChannelQueueDepth());
+            result.setAckLatencyMillis(Math.max(result.getAckLatencyMillis(), metrics.getAckLatencyMillis()));
+            result.setLagSeconds(Math.max(result.getLagSeconds(), metrics.getLagSeconds()));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.metrics;
+
+import lombok.Getter;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pipeline task metrics.
+ *
+ * <p>Counters are updated by dumper and importer threads.
+ * Record sizes are estimated by column value type on the first record and every {@value #SIZE_SAMPLE_INTERVAL} records after,
+ * byte counts are record counts multiplied by the average sampled record size.
+ * Rates are records counted in the last {@value #RATE_WINDOW_SECONDS} complete seconds divided by window seconds.</p>
+ */
+public final class PipelineTaskMetrics {
+    
+    private static final int SIZE_SAMPLE_INTERVAL = 16;
+    
+    private static final int RATE_WINDOW_SECONDS = 5;
+    
+    private static final int DEFAULT_VALUE_SIZE = 8;
+    
+    private final LongAdder pushedCount = new LongAdder();
+    
+    private final LongAdder fetchedCount = new LongAdder();
+    
+    private final AtomicLong dumpedRecordCount = new AtomicLong();
+    
+    private final LongAdder dumpedSampledRecordCount = new LongAdder();
+    
+    private final LongAdder dumpedSampledByteCount = new LongAdder();
+    
+    private final AtomicLong importedRecordCount = new AtomicLong();
+    
+    private final LongAdder importedSampledRecordCount = new LongAdder();
+    
+    private final LongAdder importedSampledByteCount = new LongAdder();
+    
+    private final RecordRateWindow dumpedRateWindow = new RecordRateWindow();
+    
+    private final RecordRateWindow importedRateWindow = new RecordRateWindow();
+    
+    @Getter
+    private volatile long ackLatencyMillis;
+    
+    private final NavigableMap<Long, Integer> unackedCommitTimes = new ConcurrentSkipListMap<>();
+    
+    /**
+     * Record pushed into channel by dumper.
+     *
+     * @param record record
+     */
+    public void onPushed(final Record record) {
+        pushedCount.increment();
+        if (record instanceof DataRecord) {
+            if (isSampled(dumpedRecordCount.incrementAndGet())) {
+                dumpedSampledRecordCount.increment();
+                dumpedSampledByteCount.add(estimateSize((DataRecord) record));
+            }
+            dumpedRateWindow.add(System.currentTimeMillis(), 1);
+        }
+        if (record.getCommitTime() > 0) {
+            unackedCommitTimes.merge(record.getCommitTime(), 1, Integer::sum);
+        }
+    }
+    
+    /**
+     * Records fetched from channel by importer.
+     *
+     * @param count fetched records count
+     */
+    public void onFetched(final int count) {
+        fetchedCount.add(count);
+    }
+    
+    /**
+     * Records acknowledged by importer.
+     *
+     * @param records acknowledged records
+     * @param latencyMillis latency between fetching and acknowledging
+     */
+    public void onAcked(final List<Record> records, final long latencyMillis) {
+        int dataRecordCount = 0;
+        for (Record each : records) {
+            if (each instanceof DataRecord) {
+                dataRecordCount++;
+                if (isSampled(importedRecordCount.incrementAndGet())) {
+                    importedSampledRecordCount.increment();
+                    importedSampledByteCount.add(estimateSize((DataRecord) each));
+                }
+            }
+            if (each.getCommitTime() > 0) {
+                unackedCommitTimes.computeIfPresent(each.getCommitTime(), (key, value) -> value > 1 ? value - 1 : null);
+            }
+        }
+        if (dataRecordCount > 0) {
+            importedRateWindow.add(System.currentTimeMillis(), dataRecordCount);
+        }
+        ackLatencyMillis = 0 == ackLatencyMillis ? latencyMillis : (ackLatencyMillis * 4 + latencyMillis) / 5;
+    }
+    
+    private boolean isSampled(final long recordCount) {
+        return 1 == recordCount % SIZE_SAMPLE_INTERVAL;
+    }
+    
+    private long estimateSize(final DataRecord dataRecord) {
+        long result = 0;
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            result += estimateSize(dataRecord.getColumn(i).getValue());
+        }
+        return result;
+    }
+    
+    private long estimateSize(final Object value) {
+        if (null == value) {
+            return 0;
+        }
+        if (value instanceof String) {
+            return ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return ((byte[]) value).length;
+        }
+        if (value instanceof Integer || value instanceof Float) {
+            return 4;
+        }
+        if (value instanceof Short) {
+            return 2;
+        }
+        if (value instanceof Byte || value instanceof Boolean) {
+            return 1;
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).precision() / 2 + 1;
+        }
+        if (value instanceof BigInteger) {
+            return ((BigInteger) value).bitLength() / 8 + 1;
+        }
+        return DEFAULT_VALUE_SIZE;
+    }
+    
+    /**
+     * Get dumped records count.
+     *
+     * @return dumped records count
+     */
+    public long getDumpedRecordCount() {
+        return dumpedRecordCount.get();
+    }
+    
+    /**
+     * Get dumped bytes count.
+     *
+     * @return dumped bytes count
+     */
+    public long getDumpedByteCount() {
+        return getDumpedRecordCount() * getAverageSize(dumpedSampledRecordCount, dumpedSampledByteCount);
+    }
+    
+    /**
+     * Get imported records count.
+     *
+     * @return imported records count
+     */
+    public long getImportedRecordCount() {
+        return importedRecordCount.get();
+    }
+    
+    /**
+     * Get imported bytes count.
+     *
+     * @return imported bytes count
+     */
+    public long getImportedByteCount() {
+        return getImportedRecordCount() * getAverageSize(importedSampledRecordCount, importedSampledByteCount);
+    }
+    
+    private long getAverageSize(final LongAdder sampledRecordCount, final LongAdder sampledByteCount) {
+        long recordCount = sampledRecordCount.sum();
+        return 0 == recordCount ? 0 : sampledByteCount.sum() / recordCount;
+    }
+    
+    /**
+     * Get channel queue depth, records pushed by dumper but not fetched by importer yet.
+     *
+     * @return channel queue depth
+     */
+    public long getChannelQueueDepth() {
+        return Math.max(0, pushedCount.sum() - fetchedCount.sum());
+    }
+    
+    /**
+     * Get lag seconds between now and the commit time of the oldest event pushed but not acknowledged yet.
+     *
+     * @return lag seconds, <code>0</code> if all pushed records with commit time are acknowledged
+     */
+    public long getLagSeconds() {
+        Entry<Long, Integer> oldestUnackedEntry = unackedCommitTimes.firstEntry();
+        if (null == oldestUnackedEntry) {
+            return 0;
+        }
+        return Math.max(0, TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - oldestUnackedEntry.getKey()));
+    }
+    
+    /**
+     * Get dumped records per second.
+     *
+     * @return dumped records per second
+     */
+    public long getDumperRecordsPerSecond() {
+        return dumpedRateWindow.getRate(System.currentTimeMillis());
+    }
+    
+    /**
+     * Get dumped bytes per second.
+     *
+     * @return dumped bytes per second
+     */
+    public long getDumperBytesPerSecond() {
+        return getDumperRecordsPerSecond() * getAverageSize(dumpedSampledRecordCount, dumpedSampledByteCount);
+    }
+    
+    /**
+     * Get imported records per second.
+     *
+     * @return imported records per second
+     */
+    public long getImporterRecordsPerSecond() {
+        return importedRateWindow.getRate(System.currentTimeMillis());
+    }
+    
+    /**
+     * Get imported bytes per second.
+     *
+     * @return imported bytes per second
+     */
+    public long getImporterBytesPerSecond() {
+        return getImporterRecordsPerSecond() * getAverageSize(importedSampledRecordCount, importedSampledByteCount);
+    }
+    
+    private static final class RecordRateWindow {
+        
+        private final long[] seconds = new long[RATE_WINDOW_SECONDS + 1];
+        
+        private final long[] recordCounts = new long[RATE_WINDOW_SECONDS + 1];
+        
+        synchronized void add(final long currentTimeMillis, final long recordCount) {
+            long second = TimeUnit.MILLISECONDS.toSeconds(currentTimeMillis);
+            int slot = (int) (second % seconds.length);
+            if (seconds[slot] != second) {
+                seconds[slot] = second;
+                recordCounts[slot] = 0;
+            }
+            recordCounts[slot] += recordCount;
+        }
+        
+        synchronized long getRate(final long currentTimeMillis) {
+            long currentSecond = TimeUnit.MILLISECONDS.toSeconds(currentTimeMillis);
+            long result = 0;
+            for (long each = currentSecond - RATE_WINDOW_SECONDS; each < currentSecond; each++) {
+                int slot = (int) (each % seconds.length);
+                if (seconds[slot] == each) {
+                    result += recordCounts[slot];
+                }
+            }
+            return result / RATE_WINDOW_SECONDS;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ratelimit;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.RateLimiter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.api.job.JobLoadFeedbackType;
+import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
+import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+
+/**
+ * Adaptive job rate limit algorithm.
+ *
+ * <p>
+ * It's a token bucket which rate is adjusted by load feedback: rate is halved when any feedback average exceeds its threshold,
+ * or else increased by a step until max rate, so job could run in full speed off-peak and back off under load.
+ * Permits are rows for INSERT, DELETE, UPDATE, and queries for SELECT.
+ * </p>
+ */
+@Slf4j
+public final class AdaptiveJobRateLimitAlgorithm implements JobRateLimitAlgorithm {
+    
+    public static final String MAX_RATE_KEY = "max-rate";
+    
+    public static final String MIN_RATE_KEY = "min-rate";
+    
+    public static final String STATEMENT_LATENCY_THRESHOLD_KEY = "statement-latency-threshold-millis";
+    
+    public static final String REPLICATION_LAG_THRESHOLD_KEY = "replication-lag-threshold-millis";
+    
+    public static final String THREADS_RUNNING_THRESHOLD_KEY = "threads-running-threshold";
+    
+    public static final String ADJUST_INTERVAL_KEY = "adjust-interval-millis";
+    
+    private static final long DEFAULT_MIN_RATE = 1L;
+    
+    private static final long DEFAULT_STATEMENT_LATENCY_THRESHOLD_MILLIS = 1000L;
+    
+    private static final long DEFAULT_REPLICATION_LAG_THRESHOLD_MILLIS = 10000L;
+    
+    private static final long DEFAULT_ADJUST_INTERVAL_MILLIS = 1000L;
+    
+    private static final double EWMA_ALPHA = 0.3D;
+    
+    private static final double INCREASE_STEP_RATIO = 0.05D;
+    
+    @Getter
+    @Setter
+    private Properties props = new Properties();
+    
+    private final Map<JobLoadFeedbackType, Long> thresholds = new EnumMap<>(JobLoadFeedbackType.class);
+    
+    private final Map<JobLoadFeedbackType, Double> averages = new EnumMap<>(JobLoadFeedbackType.class);
+    
+    private double maxRate;
+    
+    private double minRate;
+    
+    private long adjustIntervalMillis;
+    
+    private RateLimiter rateLimiter;
+    
+    @Getter
+    private volatile double rate;
+    
+    private long lastAdjustMillis;
+    
+    @Override
+    public void init() {
+        Preconditions.checkArgument(props.containsKey(MAX_RATE_KEY), "%s can not be null.", MAX_RATE_KEY);
+        maxRate = Long.parseLong(props.getProperty(MAX_RATE_KEY));
+        minRate = Long.parseLong(props.getProperty(MIN_RATE_KEY, String.valueOf(DEFAULT_MIN_RATE)));
+        Preconditions.checkArgument(minRate > 0 && minRate <= maxRate, "%s must be positive and not greater than %s.", MIN_RATE_KEY, MAX_RATE_KEY);
+        adjustIntervalMillis = Long.parseLong(props.getProperty(ADJUST_INTERVAL_KEY, String.valueOf(DEFAULT_ADJUST_INTERVAL_MILLIS)));
+        Preconditions.checkArgument(adjustIntervalMillis > 0, "%s must be positive.", ADJUST_INTERVAL_KEY);
+        putThreshold(JobLoadFeedbackType.STATEMENT_LATENCY, STATEMENT_LATENCY_THRESHOLD_KEY, DEFAULT_STATEMENT_LATENCY_THRESHOLD_MILLIS);
+        putThreshold(JobLoadFeedbackType.REPLICATION_LAG, REPLICATION_LAG_THRESHOLD_KEY, DEFAULT_REPLICATION_LAG_THRESHOLD_MILLIS);
+        putThreshold(JobLoadFeedbackType.THREADS_RUNNING, THREADS_RUNNING_THRESHOLD_KEY, 0L);
+        rate = maxRate;
+        rateLimiter = RateLimiter.create(rate);
+        lastAdjustMillis = System.currentTimeMillis();
+    }
+    
+    private void putThreshold(final JobLoadFeedbackType type, final String key, final long defaultValue) {
+        long threshold = Long.parseLong(props.getProperty(key, String.valueOf(defaultValue)));
+        if (threshold > 0) {
+            thresholds.put(type, threshold);
+        }
+    }
+    
+    @Override
+    public String getType() {
+        return "ADAPTIVE";
+    }
+    
+    @Override
+    public void intercept(final JobOperationType type, final Number data) {
+        if (JobOperationType.SYSTEM_LOAD == type || JobOperationType.CPU_USAGE == type) {
+            return;
+        }
+        adjustRate(System.currentTimeMillis());
+        rateLimiter.acquire(null == data ? 1 : Math.max(1, data.intValue()));
+    }
+    
+    @Override
+    public synchronized void feedback(final JobLoadFeedbackType type, final long value) {
+        Double average = averages.get(type);
+        averages.put(type, null == average ? value : average + EWMA_ALPHA * (value - average));
+    }
+    
+    private synchronized void adjustRate(final long currentMillis) {
+        if (currentMillis - lastAdjustMillis < adjustIntervalMillis) {
+            return;
+        }
+        lastAdjustMillis = currentMillis;
+        double newRate = isOverloaded() ? Math.max(minRate, rate / 2) : Math.min(maxRate, rate + Math.max(1D, maxRate * INCREASE_STEP_RATIO));
+        if (newRate != rate) {
+            log.info("adjust rate from {} to {}, averages={}", rate, newRate, averages);
+            rate = newRate;
+            rateLimiter.setRate(newRate);
+        }
+    }
+    
+    private boolean isOverloaded() {
+        for (Entry<JobLoadFeedbackType, Long> entry : thresholds.entrySet()) {
+            Double average = averages.get(entry.getKey());
+            if (null != average && average > entry.getValue()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public String toString() {
+        return "AdaptiveJobRateLimitAlgorithm{" + "props=" + props + '}';
+    }
+}
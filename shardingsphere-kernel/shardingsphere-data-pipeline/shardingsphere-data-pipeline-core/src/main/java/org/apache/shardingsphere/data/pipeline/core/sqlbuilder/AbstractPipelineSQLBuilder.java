@@ -33,6 +33,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
 
 /**
  * Abstract pipeline SQL builder.
@@ -91,6 +92,23 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
         return sqlCacheMap.get(sqlCacheKey);
     }
     
+    @Override
+    public String buildMultiValuesInsertSQL(final DataRecord dataRecord, final int valuesCount) {
+        String insertSQL = buildInsertSQL(dataRecord);
+        if (1 == valuesCount) {
+            return insertSQL;
+        }
+        // dialect clauses such as ON DUPLICATE KEY UPDATE are appended after the cached single values insert SQL
+        String singleValuesInsertSQL = sqlCacheMap.get(INSERT_SQL_CACHE_KEY_PREFIX + dataRecord.getTableName());
+        Preconditions.checkState(null != singleValuesInsertSQL && insertSQL.startsWith(singleValuesInsertSQL), "Can not build multi-values insert SQL for table %s", dataRecord.getTableName());
+        String valuesHolder = ",(" + String.join(",", Collections.nCopies(dataRecord.getColumnCount(), "?")) + ")";
+        StringBuilder result = new StringBuilder(insertSQL.length() + valuesHolder.length() * (valuesCount - 1)).append(singleValuesInsertSQL);
+        for (int i = 1; i < valuesCount; i++) {
+            result.append(valuesHolder);
+        }
+        return result.append(insertSQL, singleValuesInsertSQL.length(), insertSQL.length()).toString();
+    }
+    
     private String buildInsertSQLInternal(final String tableName, final List<Column> columns) {
         StringBuilder columnsLiteral = new StringBuilder();
         StringBuilder holder = new StringBuilder();
@@ -170,6 +188,36 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
         return "SELECT * FROM " + quote(tableName) + " WHERE " + quote(uniqueKey) + " > ? ORDER BY " + quote(uniqueKey) + " ASC LIMIT ?";
     }
     
+    @Override
+    public String buildRangedChunkedQuerySQL(final String tableName, final String uniqueKey, final boolean hasLowerBound, final boolean hasUpperBound) {
+        Preconditions.checkNotNull(uniqueKey, "uniqueKey is null");
+        String quotedKey = quote(uniqueKey).toString();
+        StringBuilder result = new StringBuilder("SELECT * FROM ").append(quote(tableName));
+        if (hasLowerBound) {
+            result.append(" WHERE ").append(quotedKey).append(" > ?");
+        }
+        if (hasUpperBound) {
+            result.append(hasLowerBound ? " AND " : " WHERE ").append(quotedKey).append(" <= ?");
+        }
+        return result.append(" ORDER BY ").append(quotedKey).append(" ASC LIMIT ?").toString();
+    }
+    
+    @Override
+    public String buildUniqueKeysRangedChunkedQuerySQL(final String tableName, final List<String> uniqueKeys, final boolean hasLowerBound, final boolean hasUpperBound) {
+        Preconditions.checkArgument(!uniqueKeys.isEmpty(), "uniqueKeys is empty");
+        String quotedKeys = uniqueKeys.stream().map(each -> quote(each).toString()).collect(Collectors.joining(","));
+        String rowValueKeys = buildRowValueExpression(quotedKeys, uniqueKeys.size());
+        String rowValuePlaceholders = buildRowValueExpression(String.join(",", Collections.nCopies(uniqueKeys.size(), "?")), uniqueKeys.size());
+        StringBuilder result = new StringBuilder("SELECT * FROM ").append(quote(tableName));
+        if (hasLowerBound) {
+            result.append(" WHERE ").append(rowValueKeys).append(" > ").append(rowValuePlaceholders);
+        }
+        if (hasUpperBound) {
+            result.append(hasLowerBound ? " AND " : " WHERE ").append(rowValueKeys).append(" <= ").append(rowValuePlaceholders);
+        }
+        return result.append(" ORDER BY ").append(quotedKeys).append(" ASC LIMIT ?").toString();
+    }
+    
     @Override
     public String buildCheckEmptySQL(final String tableName) {
         return String.format("SELECT * FROM %s LIMIT 1", quote(tableName));
@@ -180,4 +228,20 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
         String quotedKey = quote(primaryKey).toString();
         return String.format("SELECT MAX(%s) FROM (SELECT %s FROM %s WHERE %s>=? ORDER BY %s LIMIT ?) t", quotedKey, quotedKey, quote(tableName), quotedKey, quotedKey);
     }
+    
+    @Override
+    public String buildSplitByUniqueKeyRangeSQL(final String tableName, final List<String> uniqueKeys, final boolean hasLowerBound) {
+        Preconditions.checkArgument(!uniqueKeys.isEmpty(), "uniqueKeys is empty");
+        String quotedKeys = uniqueKeys.stream().map(each -> quote(each).toString()).collect(Collectors.joining(","));
+        StringBuilder result = new StringBuilder("SELECT ").append(quotedKeys).append(" FROM ").append(quote(tableName));
+        if (hasLowerBound) {
+            String placeholders = String.join(",", Collections.nCopies(uniqueKeys.size(), "?"));
+            result.append(" WHERE ").append(buildRowValueExpression(quotedKeys, uniqueKeys.size())).append(">").append(buildRowValueExpression(placeholders, uniqueKeys.size()));
+        }
+        return result.append(" ORDER BY ").append(quotedKeys).append(" LIMIT 1 OFFSET ?").toString();
+    }
+    
+    private String buildRowValueExpression(final String values, final int valueCount) {
+        return 1 == valueCount ? values : "(" + values + ")";
+    }
 }
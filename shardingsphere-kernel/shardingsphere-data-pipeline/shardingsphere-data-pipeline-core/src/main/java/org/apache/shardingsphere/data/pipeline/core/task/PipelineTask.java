@@ -19,6 +19,7 @@ package org.apache.shardingsphere.data.pipeline.core.task;
 
 import org.apache.shardingsphere.data.pipeline.api.executor.LifecycleExecutor;
 import org.apache.shardingsphere.data.pipeline.api.task.progress.TaskProgress;
+import org.apache.shardingsphere.data.pipeline.core.metrics.PipelineTaskMetrics;
 
 /**
  * Pipeline task interface.
@@ -38,4 +39,11 @@ public interface PipelineTask extends LifecycleExecutor {
      * @return Task progress
      */
     TaskProgress getProgress();
+    
+    /**
+     * Get task metrics.
+     *
+     * @return task metrics
+     */
+    PipelineTaskMetrics getMetrics();
 }
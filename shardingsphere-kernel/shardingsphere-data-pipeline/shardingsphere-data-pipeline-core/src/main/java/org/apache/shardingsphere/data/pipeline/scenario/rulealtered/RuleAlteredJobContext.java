@@ -88,6 +88,7 @@ public final class RuleAlteredJobContext {
         jobId = jobConfig.getHandleConfig().getJobId();
         shardingItem = jobConfig.getHandleConfig().getJobShardingItem();
         taskConfig = RuleAlteredJobWorker.buildTaskConfig(jobConfig.getPipelineConfig(), jobConfig.getHandleConfig(), ruleAlteredContext.getOnRuleAlteredActionConfig());
+        taskConfig.getImporterConfig().setRateLimitAlgorithm(ruleAlteredContext.getOutputRateLimitAlgorithm());
     }
     
     /**
@@ -24,6 +24,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.job.JobStatus;
 import org.apache.shardingsphere.data.pipeline.core.api.GovernanceRepositoryAPI;
 import org.apache.shardingsphere.data.pipeline.core.api.PipelineAPIFactory;
+import org.apache.shardingsphere.data.pipeline.core.metrics.PipelineJobMetricsRegistry;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 
 import java.util.Map;
@@ -65,6 +66,7 @@ public final class RuleAlteredJobSchedulerCenter {
         RuleAlteredJobScheduler jobScheduler = new RuleAlteredJobScheduler(jobContext);
         jobScheduler.start();
         schedulerMap.put(shardingItem, jobScheduler);
+        PipelineJobMetricsRegistry.register(jobContext);
     }
     
     /**
@@ -83,6 +85,7 @@ public final class RuleAlteredJobSchedulerCenter {
             entry.getValue().stop();
         }
         JOB_SCHEDULER_MAP.remove(jobId);
+        PipelineJobMetricsRegistry.unregister(jobId);
     }
     
     /**
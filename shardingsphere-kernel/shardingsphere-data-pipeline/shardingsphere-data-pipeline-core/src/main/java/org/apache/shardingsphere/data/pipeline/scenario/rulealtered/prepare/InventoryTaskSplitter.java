@@ -25,6 +25,7 @@ import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.TaskConfig
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.UniqueKeyRangePosition;
 import org.apache.shardingsphere.data.pipeline.api.job.JobStatus;
 import org.apache.shardingsphere.data.pipeline.api.job.progress.JobProgress;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
@@ -39,6 +40,7 @@ import org.apache.shardingsphere.data.pipeline.scenario.rulealtered.RuleAlteredC
 import org.apache.shardingsphere.data.pipeline.scenario.rulealtered.RuleAlteredJobContext;
 import org.apache.shardingsphere.data.pipeline.spi.ingest.channel.PipelineChannelFactory;
 import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
+import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
 import org.apache.shardingsphere.infra.config.rulealtered.OnRuleAlteredActionConfiguration.InputConfiguration;
 import org.apache.shardingsphere.infra.yaml.config.pojo.rulealtered.YamlOnRuleAlteredActionConfiguration.YamlInputConfiguration;
 import org.apache.shardingsphere.infra.yaml.config.swapper.rulealtered.OnRuleAlteredActionConfigurationYamlSwapper.InputConfigurationSwapper;
@@ -51,8 +53,10 @@ import java.sql.SQLException;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Inventory data task splitter.
@@ -119,6 +123,7 @@ public final class InventoryTaskSplitter {
             splitDumperConfig.setShardingItem(i++);
             splitDumperConfig.setTableName(dumperConfig.getTableName());
             splitDumperConfig.setPrimaryKey(dumperConfig.getPrimaryKey());
+            splitDumperConfig.setUniqueKeys(dumperConfig.getUniqueKeys());
             splitDumperConfig.setBatchSize(batchSize);
             splitDumperConfig.setRateLimitAlgorithm(rateLimitAlgorithm);
             result.add(splitDumperConfig);
@@ -137,6 +142,10 @@ public final class InventoryTaskSplitter {
                     dumperConfig.setPrimaryKey(primaryKey);
                     break;
                 }
+                if (each instanceof UniqueKeyRangePosition) {
+                    dumperConfig.setUniqueKeys(metaDataLoader.getTableMetaData(dumperConfig.getTableName()).getPrimaryKeyColumns());
+                    break;
+                }
             }
             // Do NOT filter FinishedPosition here, since whole inventory tasks are required in job progress when persisting to register center.
             return result;
@@ -147,6 +156,10 @@ public final class InventoryTaskSplitter {
             dumperConfig.setPrimaryKey(primaryKey);
             return getPositionByPrimaryKeyRange(jobContext, dataSource, dumperConfig);
         }
+        if (isSplitByUniqueKeyRange(tableMetaData, dumperConfig.getTableName())) {
+            dumperConfig.setUniqueKeys(tableMetaData.getPrimaryKeyColumns());
+            return getPositionByUniqueKeyRange(jobContext, dataSource, dumperConfig);
+        }
         throw new PipelineJobCreationException("Can not split by primary key range for table " + dumperConfig.getTableName());
     }
     
@@ -161,16 +174,33 @@ public final class InventoryTaskSplitter {
             return false;
         }
         if (primaryKeys.size() > 1) {
-            log.warn("Can't split range for table {}, reason: primary key is union primary", tableName);
+            log.info("Can't split integer range for table {}, reason: primary key is union primary", tableName);
             return false;
         }
         if (isNotIntegerPrimary(tableMetaData.getColumnMetaData(primaryKeys.get(0)).getDataType())) {
-            log.warn("Can't split range for table {}, reason: primary key is not integer number", tableName);
+            log.info("Can't split integer range for table {}, reason: primary key is not integer number", tableName);
             return false;
         }
         return true;
     }
     
+    private boolean isSplitByUniqueKeyRange(final PipelineTableMetaData tableMetaData, final String tableName) {
+        if (null == tableMetaData || null == tableMetaData.getPrimaryKeyColumns() || tableMetaData.getPrimaryKeyColumns().isEmpty()) {
+            return false;
+        }
+        for (String each : tableMetaData.getPrimaryKeyColumns()) {
+            if (isBinaryPrimary(tableMetaData.getColumnMetaData(each).getDataType())) {
+                log.warn("Can't split range for table {}, reason: primary key column {} is binary", tableName, each);
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isBinaryPrimary(final int columnType) {
+        return Types.BINARY == columnType || Types.VARBINARY == columnType || Types.LONGVARBINARY == columnType || Types.BLOB == columnType;
+    }
+    
     private boolean isNotIntegerPrimary(final int columnType) {
         return Types.INTEGER != columnType && Types.BIGINT != columnType && Types.SMALLINT != columnType && Types.TINYINT != columnType;
     }
@@ -209,4 +239,52 @@ public final class InventoryTaskSplitter {
         }
         return result;
     }
+    
+    private Collection<IngestPosition<?>> getPositionByUniqueKeyRange(final RuleAlteredJobContext jobContext, final DataSource dataSource, final InventoryDumperConfiguration dumperConfig) {
+        Collection<IngestPosition<?>> result = new ArrayList<>();
+        JobConfiguration jobConfig = jobContext.getJobConfig();
+        PipelineSQLBuilder sqlBuilder = PipelineSQLBuilderFactory.newInstance(jobConfig.getHandleConfig().getSourceDatabaseType());
+        String firstSQL = sqlBuilder.buildSplitByUniqueKeyRangeSQL(dumperConfig.getTableName(), dumperConfig.getUniqueKeys(), false);
+        String nextSQL = sqlBuilder.buildSplitByUniqueKeyRangeSQL(dumperConfig.getTableName(), dumperConfig.getUniqueKeys(), true);
+        int shardingSize = jobConfig.getHandleConfig().getShardingSize();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement firstPreparedStatement = connection.prepareStatement(firstSQL);
+             PreparedStatement nextPreparedStatement = connection.prepareStatement(nextSQL)) {
+            List<Object> beginValues = Collections.emptyList();
+            // Walk by keyset, every seek starts after the previous boundary, so no row count is required and seek offset is bounded by sharding size
+            while (true) {
+                Optional<List<Object>> endValues = seekRangeBoundary(beginValues.isEmpty() ? firstPreparedStatement : nextPreparedStatement, beginValues, shardingSize);
+                if (!endValues.isPresent()) {
+                    log.info("getPositionByUniqueKeyRange, no more boundary, break, tableName={}, beginValues={}", dumperConfig.getTableName(), beginValues);
+                    break;
+                }
+                result.add(new UniqueKeyRangePosition(beginValues, endValues.get()));
+                beginValues = endValues.get();
+            }
+            // the last range is unbounded, which also covers empty table and rows inserted after splitting
+            result.add(new UniqueKeyRangePosition(beginValues, Collections.emptyList()));
+        } catch (final SQLException ex) {
+            throw new PipelineJobPrepareFailedException(String.format("Split task for table %s by unique keys %s error", dumperConfig.getTableName(), dumperConfig.getUniqueKeys()), ex);
+        }
+        return result;
+    }
+    
+    private Optional<List<Object>> seekRangeBoundary(final PreparedStatement preparedStatement, final List<Object> beginValues, final int shardingSize) throws SQLException {
+        int parameterIndex = 1;
+        for (Object each : beginValues) {
+            preparedStatement.setObject(parameterIndex++, each);
+        }
+        preparedStatement.setInt(parameterIndex, shardingSize - 1);
+        try (ResultSet rs = preparedStatement.executeQuery()) {
+            if (!rs.next()) {
+                return Optional.empty();
+            }
+            int columnCount = rs.getMetaData().getColumnCount();
+            List<Object> result = new ArrayList<>(columnCount);
+            for (int i = 1; i <= columnCount; i++) {
+                result.add(rs.getObject(i));
+            }
+            return Optional.of(result);
+        }
+    }
 }
@@ -33,6 +33,11 @@ public final class FixturePipelineSQLBuilder implements PipelineSQLBuilder {
         return "";
     }
     
+    @Override
+    public String buildMultiValuesInsertSQL(final DataRecord dataRecord, final int valuesCount) {
+        return "";
+    }
+    
     @Override
     public String buildUpdateSQL(final DataRecord dataRecord, final Collection<Column> conditionColumns) {
         return "";
@@ -63,6 +68,16 @@ public final class FixturePipelineSQLBuilder implements PipelineSQLBuilder {
         return "";
     }
     
+    @Override
+    public String buildRangedChunkedQuerySQL(final String tableName, final String uniqueKey, final boolean hasLowerBound, final boolean hasUpperBound) {
+        return "";
+    }
+    
+    @Override
+    public String buildUniqueKeysRangedChunkedQuerySQL(final String tableName, final List<String> uniqueKeys, final boolean hasLowerBound, final boolean hasUpperBound) {
+        return "";
+    }
+    
     @Override
     public String buildCheckEmptySQL(final String tableName) {
         return null;
@@ -73,6 +88,11 @@ public final class FixturePipelineSQLBuilder implements PipelineSQLBuilder {
         return "";
     }
     
+    @Override
+    public String buildSplitByUniqueKeyRangeSQL(final String tableName, final List<String> uniqueKeys, final boolean hasLowerBound) {
+        return "";
+    }
+    
     @Override
     public Optional<String> buildCRC32SQL(final String tableName, final String column) {
         return Optional.of(String.format("SELECT CRC32(%s) FROM %s", column, tableName));
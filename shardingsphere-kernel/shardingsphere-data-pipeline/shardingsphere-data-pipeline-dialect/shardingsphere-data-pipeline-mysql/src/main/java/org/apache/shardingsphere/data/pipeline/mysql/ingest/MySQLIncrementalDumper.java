@@ -30,6 +30,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineJobExecutionException;
 import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.AbstractIncrementalDumper;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataLoader;
@@ -48,19 +49,37 @@ import org.apache.shardingsphere.data.pipeline.mysql.ingest.column.value.MySQLDa
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.column.value.MySQLDataTypeHandlerFactory;
 import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 
 import java.io.Serializable;
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * MySQL incremental dumper.
+ *
+ * <p>Binlog events are decoded on the Netty thread of {@link MySQLClient}, converted to records on a worker pool,
+ * and pushed to channel in binlog order, so that the channel could fan out records by primary key without breaking per key ordering.</p>
  */
 @Slf4j
 public final class MySQLIncrementalDumper extends AbstractIncrementalDumper<BinlogPosition> {
     
+    private static final int CONVERT_THREAD_COUNT = Math.min(4, Runtime.getRuntime().availableProcessors());
+    
+    private static final int MAX_PENDING_EVENT_COUNT = 1000;
+    
     private final BinlogPosition binlogPosition;
     
     private final DumperConfiguration dumperConfig;
@@ -71,6 +90,10 @@ public final class MySQLIncrementalDumper extends AbstractIncrementalDumper<Binl
     
     private final PipelineChannel channel;
     
+    private final ExecutorService convertExecutor = Executors.newFixedThreadPool(CONVERT_THREAD_COUNT, ExecutorThreadFactoryBuilder.build("mysql-binlog-convert-%d"));
+    
+    private final Queue<Future<List<Record>>> pendingRecords = new LinkedList<>();
+    
     public MySQLIncrementalDumper(final DumperConfiguration dumperConfig, final IngestPosition<BinlogPosition> binlogPosition,
                                   final PipelineChannel channel, final PipelineTableMetaDataLoader metaDataLoader) {
         super(dumperConfig, binlogPosition, channel, metaDataLoader);
@@ -94,12 +117,19 @@ public final class MySQLIncrementalDumper extends AbstractIncrementalDumper<Binl
         client.connect();
         client.subscribe(binlogPosition.getFilename(), binlogPosition.getPosition());
         int eventCount = 0;
-        while (isRunning()) {
-            AbstractBinlogEvent event = client.poll();
-            if (null != event) {
+        try {
+            while (isRunning()) {
+                AbstractBinlogEvent event = client.poll();
+                if (null == event) {
+                    flushPendingRecords();
+                    continue;
+                }
                 handleEvent(metaData.getCatalog(), event);
                 eventCount++;
             }
+            flushPendingRecords();
+        } finally {
+            convertExecutor.shutdownNow();
         }
         log.info("incremental dump, eventCount={}", eventCount);
         pushRecord(new FinishedRecord(new PlaceholderPosition()));
@@ -107,24 +137,56 @@ public final class MySQLIncrementalDumper extends AbstractIncrementalDumper<Binl
     
     private void handleEvent(final String catalog, final AbstractBinlogEvent event) {
         if (event instanceof PlaceholderEvent || filter(catalog, (AbstractRowsEvent) event)) {
-            createPlaceholderRecord(event);
-            return;
+            pendingRecords.add(CompletableFuture.completedFuture(Collections.singletonList(createPlaceholderRecord(event))));
+        } else {
+            pendingRecords.add(convertExecutor.submit(() -> convertRowsEvent((AbstractRowsEvent) event)));
+        }
+        pushConvertedRecords(MAX_PENDING_EVENT_COUNT);
+    }
+    
+    private void flushPendingRecords() {
+        pushConvertedRecords(0);
+    }
+    
+    private void pushConvertedRecords(final int maxPendingEventCount) {
+        while (!pendingRecords.isEmpty() && (pendingRecords.peek().isDone() || pendingRecords.size() > maxPendingEventCount)) {
+            for (Record each : getConvertedRecords(pendingRecords.poll())) {
+                pushRecord(each);
+            }
         }
+    }
+    
+    private List<Record> getConvertedRecords(final Future<List<Record>> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new PipelineJobExecutionException("Convert binlog event interrupted", ex);
+        } catch (final ExecutionException ex) {
+            throw new PipelineJobExecutionException("Convert binlog event failed", ex.getCause());
+        }
+    }
+    
+    private List<Record> convertRowsEvent(final AbstractRowsEvent event) {
         if (event instanceof WriteRowsEvent) {
-            handleWriteRowsEvent((WriteRowsEvent) event);
-        } else if (event instanceof UpdateRowsEvent) {
-            handleUpdateRowsEvent((UpdateRowsEvent) event);
-        } else if (event instanceof DeleteRowsEvent) {
-            handleDeleteRowsEvent((DeleteRowsEvent) event);
+            return handleWriteRowsEvent((WriteRowsEvent) event);
+        }
+        if (event instanceof UpdateRowsEvent) {
+            return handleUpdateRowsEvent((UpdateRowsEvent) event);
         }
+        if (event instanceof DeleteRowsEvent) {
+            return handleDeleteRowsEvent((DeleteRowsEvent) event);
+        }
+        return Collections.emptyList();
     }
     
     private boolean filter(final String database, final AbstractRowsEvent event) {
         return !event.getSchemaName().equals(database) || !dumperConfig.getTableNameMap().containsKey(event.getTableName());
     }
     
-    private void handleWriteRowsEvent(final WriteRowsEvent event) {
+    private List<Record> handleWriteRowsEvent(final WriteRowsEvent event) {
         PipelineTableMetaData tableMetaData = metaDataLoader.getTableMetaData(event.getTableName());
+        List<Record> result = new ArrayList<>(event.getAfterRows().size());
         for (Serializable[] each : event.getAfterRows()) {
             DataRecord record = createDataRecord(event, each.length);
             record.setType(IngestDataChangeType.INSERT);
@@ -132,12 +194,14 @@ public final class MySQLIncrementalDumper extends AbstractIncrementalDumper<Binl
                 PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(i);
                 record.addColumn(new Column(columnMetaData.getName(), handleValue(columnMetaData, each[i]), true, columnMetaData.isPrimaryKey()));
             }
-            pushRecord(record);
+            result.add(record);
         }
+        return result;
     }
     
-    private void handleUpdateRowsEvent(final UpdateRowsEvent event) {
+    private List<Record> handleUpdateRowsEvent(final UpdateRowsEvent event) {
         PipelineTableMetaData tableMetaData = metaDataLoader.getTableMetaData(event.getTableName());
+        List<Record> result = new ArrayList<>(event.getBeforeRows().size());
         for (int i = 0; i < event.getBeforeRows().size(); i++) {
             Serializable[] beforeValues = event.getBeforeRows().get(i);
             Serializable[] afterValues = event.getAfterRows().get(i);
@@ -152,12 +216,14 @@ public final class MySQLIncrementalDumper extends AbstractIncrementalDumper<Binl
                         (columnMetaData.isPrimaryKey() && updated) ? handleValue(columnMetaData, oldValue) : null,
                         handleValue(columnMetaData, newValue), updated, columnMetaData.isPrimaryKey()));
             }
-            pushRecord(record);
+            result.add(record);
         }
+        return result;
     }
     
-    private void handleDeleteRowsEvent(final DeleteRowsEvent event) {
+    private List<Record> handleDeleteRowsEvent(final DeleteRowsEvent event) {
         PipelineTableMetaData tableMetaData = metaDataLoader.getTableMetaData(event.getTableName());
+        List<Record> result = new ArrayList<>(event.getBeforeRows().size());
         for (Serializable[] each : event.getBeforeRows()) {
             DataRecord record = createDataRecord(event, each.length);
             record.setType(IngestDataChangeType.DELETE);
@@ -165,8 +231,9 @@ public final class MySQLIncrementalDumper extends AbstractIncrementalDumper<Binl
                 PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(i);
                 record.addColumn(new Column(columnMetaData.getName(), handleValue(columnMetaData, each[i]), true, columnMetaData.isPrimaryKey()));
             }
-            pushRecord(record);
+            result.add(record);
         }
+        return result;
     }
     
     private Serializable handleValue(final PipelineColumnMetaData columnMetaData, final Serializable value) {
@@ -181,10 +248,10 @@ public final class MySQLIncrementalDumper extends AbstractIncrementalDumper<Binl
         return result;
     }
     
-    private void createPlaceholderRecord(final AbstractBinlogEvent event) {
-        PlaceholderRecord record = new PlaceholderRecord(new BinlogPosition(event.getFileName(), event.getPosition(), event.getServerId()));
-        record.setCommitTime(event.getTimestamp() * 1000);
-        pushRecord(record);
+    private PlaceholderRecord createPlaceholderRecord(final AbstractBinlogEvent event) {
+        PlaceholderRecord result = new PlaceholderRecord(new BinlogPosition(event.getFileName(), event.getPosition(), event.getServerId()));
+        result.setCommitTime(event.getTimestamp() * 1000);
+        return result;
     }
     
     private void pushRecord(final Record record) {
@@ -193,5 +260,6 @@ public final class MySQLIncrementalDumper extends AbstractIncrementalDumper<Binl
     
     @Override
     protected void doStop() {
+        convertExecutor.shutdown();
     }
 }
@@ -17,8 +17,10 @@
 
 package org.apache.shardingsphere.data.pipeline.mysql.ingest;
 
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.config.ingest.InventoryDumperConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.job.JobLoadFeedbackType;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.AbstractInventoryDumper;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataLoader;
 
@@ -27,16 +29,26 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Types;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Properties;
 
 /**
  * MySQL JDBC Dumper.
  */
+@Slf4j
 public final class MySQLInventoryDumper extends AbstractInventoryDumper {
     
     private static final String YEAR_DATA_TYPE = "YEAR";
     
+    private static final String THREADS_RUNNING_SQL = "SHOW GLOBAL STATUS LIKE 'Threads_running'";
+    
+    private static final String REPLICA_STATUS_SQL = "SHOW SLAVE STATUS";
+    
+    private boolean replicaStatusEnabled = true;
+    
     public MySQLInventoryDumper(final InventoryDumperConfiguration inventoryDumperConfig, final PipelineChannel channel,
                                 final DataSource dataSource, final PipelineTableMetaDataLoader metaDataLoader) {
         super(inventoryDumperConfig, channel, dataSource, metaDataLoader);
@@ -71,4 +83,32 @@ public final class MySQLInventoryDumper extends AbstractInventoryDumper {
         result.setFetchSize(Integer.MIN_VALUE);
         return result;
     }
+    
+    @Override
+    protected Map<JobLoadFeedbackType, Long> sampleLoad(final Connection connection) throws SQLException {
+        Map<JobLoadFeedbackType, Long> result = new EnumMap<>(JobLoadFeedbackType.class);
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(THREADS_RUNNING_SQL)) {
+            if (resultSet.next()) {
+                result.put(JobLoadFeedbackType.THREADS_RUNNING, resultSet.getLong(2));
+            }
+        }
+        if (replicaStatusEnabled) {
+            sampleReplicationLag(connection, result);
+        }
+        return result;
+    }
+    
+    private void sampleReplicationLag(final Connection connection, final Map<JobLoadFeedbackType, Long> result) {
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(REPLICA_STATUS_SQL)) {
+            if (resultSet.next()) {
+                long secondsBehindMaster = resultSet.getLong("Seconds_Behind_Master");
+                if (!resultSet.wasNull()) {
+                    result.put(JobLoadFeedbackType.REPLICATION_LAG, secondsBehindMaster * 1000L);
+                }
+            }
+        } catch (final SQLException ex) {
+            log.warn("sample replication lag failed, disable it, msg={}", ex.getMessage());
+            replicaStatusEnabled = false;
+        }
+    }
 }
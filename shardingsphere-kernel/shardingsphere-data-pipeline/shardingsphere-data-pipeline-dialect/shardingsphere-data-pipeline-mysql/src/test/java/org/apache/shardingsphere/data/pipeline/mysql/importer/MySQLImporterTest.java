@@ -29,11 +29,16 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -56,10 +61,31 @@ public final class MySQLImporterTest {
         assertThat(insertSQL, is("INSERT INTO `t_order`(`id`,`name`) VALUES(?,?) ON DUPLICATE KEY UPDATE `name`=VALUES(`name`)"));
     }
     
+    @Test
+    public void assertExecuteBatchInsertWithMultiValues() throws SQLException {
+        when(importerConfig.getDataSourceConfig()).thenReturn(mock(PipelineDataSourceConfiguration.class));
+        when(importerConfig.getBatchSize()).thenReturn(2);
+        Connection connection = mock(Connection.class);
+        PreparedStatement multiValuesStatement = mock(PreparedStatement.class);
+        PreparedStatement singleValuesStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("INSERT INTO `t_order`(`id`,`name`) VALUES(?,?),(?,?) ON DUPLICATE KEY UPDATE `name`=VALUES(`name`)")).thenReturn(multiValuesStatement);
+        when(connection.prepareStatement("INSERT INTO `t_order`(`id`,`name`) VALUES(?,?) ON DUPLICATE KEY UPDATE `name`=VALUES(`name`)")).thenReturn(singleValuesStatement);
+        new MySQLImporter(importerConfig, dataSourceManager, channel).executeBatchInsert(connection, Arrays.asList(mockDataRecord(1), mockDataRecord(2), mockDataRecord(3)));
+        verify(multiValuesStatement).setObject(3, 2);
+        verify(multiValuesStatement).addBatch();
+        verify(multiValuesStatement).executeBatch();
+        verify(singleValuesStatement).setObject(1, 3);
+        verify(singleValuesStatement).executeUpdate();
+    }
+    
     private DataRecord mockDataRecord() {
+        return mockDataRecord(1);
+    }
+    
+    private DataRecord mockDataRecord(final int id) {
         DataRecord result = new DataRecord(new BinlogPosition("binlog-000001", 4), 2);
         result.setTableName("t_order");
-        result.addColumn(new Column("id", 1, true, true));
+        result.addColumn(new Column("id", id, true, true));
         result.addColumn(new Column("name", "", true, false));
         return result;
     }
@@ -91,6 +91,7 @@ public final class MySQLIncrementalDumperTest {
     
     @After
     public void tearDown() {
+        incrementalDumper.stop();
         dataSourceManager.close();
     }
     
@@ -142,6 +143,25 @@ public final class MySQLIncrementalDumperTest {
         assertThat(((DataRecord) records.get(0)).getType(), is(IngestDataChangeType.DELETE));
     }
     
+    @Test
+    public void assertRecordsPushedInEventOrder() {
+        for (int i = 0; i < 100; i++) {
+            WriteRowsEvent rowsEvent = new WriteRowsEvent();
+            rowsEvent.setSchemaName("");
+            rowsEvent.setTableName("t_order");
+            rowsEvent.setPosition(i);
+            List<Serializable[]> rows = new ArrayList<>(1);
+            rows.add(new String[]{String.valueOf(i), "order"});
+            rowsEvent.setAfterRows(rows);
+            invokeHandleEvent(rowsEvent);
+        }
+        List<Record> records = channel.fetchRecords(100, 0);
+        assertThat(records.size(), is(100));
+        for (int i = 0; i < records.size(); i++) {
+            assertThat(((BinlogPosition) records.get(i).getPosition()).getPosition(), is((long) i));
+        }
+    }
+    
     @Test
     public void assertPlaceholderEvent() {
         invokeHandleEvent(new PlaceholderEvent());
@@ -163,5 +183,6 @@ public final class MySQLIncrementalDumperTest {
     @SneakyThrows({NoSuchMethodException.class, ReflectiveOperationException.class})
     private void invokeHandleEvent(final AbstractBinlogEvent event) {
         ReflectionUtil.invokeMethod(incrementalDumper, "handleEvent", new Class[]{String.class, AbstractBinlogEvent.class}, new Object[]{"", event});
+        ReflectionUtil.invokeMethod(incrementalDumper, "flushPendingRecords", new Class[0], new Object[0]);
     }
 }
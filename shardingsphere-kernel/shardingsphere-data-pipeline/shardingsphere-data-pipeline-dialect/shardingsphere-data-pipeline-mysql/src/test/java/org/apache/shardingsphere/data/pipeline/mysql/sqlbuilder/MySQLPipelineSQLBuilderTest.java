@@ -23,6 +23,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.Set;
@@ -47,6 +48,12 @@ public final class MySQLPipelineSQLBuilderTest {
         assertThat(actual, is("INSERT INTO `t2`(`id`,`sc`,`c1`,`c2`,`c3`) VALUES(?,?,?,?,?) ON DUPLICATE KEY UPDATE `c1`=VALUES(`c1`),`c2`=VALUES(`c2`),`c3`=VALUES(`c3`)"));
     }
     
+    @Test
+    public void assertBuildMultiValuesInsertSQL() {
+        String actual = sqlBuilder.buildMultiValuesInsertSQL(mockDataRecord("t2"), 3);
+        assertThat(actual, is("INSERT INTO `t2`(`id`,`sc`,`c1`,`c2`,`c3`) VALUES(?,?,?,?,?),(?,?,?,?,?),(?,?,?,?,?) ON DUPLICATE KEY UPDATE `c1`=VALUES(`c1`),`c2`=VALUES(`c2`),`c3`=VALUES(`c3`)"));
+    }
+    
     @Test
     public void assertBuildSumCrc32SQL() {
         Optional<String> actual = sqlBuilder.buildCRC32SQL("t2", "id");
@@ -54,6 +61,27 @@ public final class MySQLPipelineSQLBuilderTest {
         assertThat(actual.get(), is("SELECT BIT_XOR(CAST(CRC32(`id`) AS UNSIGNED)) AS checksum FROM `t2`"));
     }
     
+    @Test
+    public void assertBuildSplitByUniqueKeyRangeSQL() {
+        assertThat(sqlBuilder.buildSplitByUniqueKeyRangeSQL("t1", Collections.singletonList("id"), false), is("SELECT `id` FROM `t1` ORDER BY `id` LIMIT 1 OFFSET ?"));
+        assertThat(sqlBuilder.buildSplitByUniqueKeyRangeSQL("t1", Arrays.asList("uid", "oid"), true),
+                is("SELECT `uid`,`oid` FROM `t1` WHERE (`uid`,`oid`)>(?,?) ORDER BY `uid`,`oid` LIMIT 1 OFFSET ?"));
+    }
+    
+    @Test
+    public void assertBuildRangedChunkedQuerySQL() {
+        assertThat(sqlBuilder.buildRangedChunkedQuerySQL("t1", "id", true, true), is("SELECT * FROM `t1` WHERE `id` > ? AND `id` <= ? ORDER BY `id` ASC LIMIT ?"));
+        assertThat(sqlBuilder.buildRangedChunkedQuerySQL("t1", "id", false, true), is("SELECT * FROM `t1` WHERE `id` <= ? ORDER BY `id` ASC LIMIT ?"));
+        assertThat(sqlBuilder.buildRangedChunkedQuerySQL("t1", "id", false, false), is("SELECT * FROM `t1` ORDER BY `id` ASC LIMIT ?"));
+    }
+    
+    @Test
+    public void assertBuildUniqueKeysRangedChunkedQuerySQL() {
+        assertThat(sqlBuilder.buildUniqueKeysRangedChunkedQuerySQL("t1", Collections.singletonList("id"), false, false), is("SELECT * FROM `t1` ORDER BY `id` ASC LIMIT ?"));
+        assertThat(sqlBuilder.buildUniqueKeysRangedChunkedQuerySQL("t1", Arrays.asList("uid", "oid"), true, true),
+                is("SELECT * FROM `t1` WHERE (`uid`,`oid`) > (?,?) AND (`uid`,`oid`) <= (?,?) ORDER BY `uid`,`oid` ASC LIMIT ?"));
+    }
+    
     private DataRecord mockDataRecord(final String tableName) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 4);
         result.setTableName(tableName);
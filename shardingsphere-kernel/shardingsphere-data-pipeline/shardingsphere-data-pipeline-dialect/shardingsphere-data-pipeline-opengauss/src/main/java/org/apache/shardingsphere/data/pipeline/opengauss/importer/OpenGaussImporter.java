@@ -19,11 +19,20 @@ package org.apache.shardingsphere.data.pipeline.opengauss.importer;
 
 import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.ImporterConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.core.importer.AbstractImporter;
 import org.apache.shardingsphere.data.pipeline.opengauss.sqlbuilder.OpenGaussPipelineSQLBuilder;
+import org.apache.shardingsphere.data.pipeline.postgresql.importer.PostgreSQLCopyDataEncoder;
 import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
+import org.opengauss.copy.CopyManager;
+import org.opengauss.core.BaseConnection;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -40,4 +49,22 @@ public final class OpenGaussImporter extends AbstractImporter {
     protected PipelineSQLBuilder createSQLBuilder(final Map<String, Set<String>> shardingColumnsMap) {
         return new OpenGaussPipelineSQLBuilder(shardingColumnsMap);
     }
+    
+    @Override
+    protected void executeBatchInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        if (dataRecords.size() > 1 && connection.isWrapperFor(BaseConnection.class)) {
+            executeCopyInsert(connection.unwrap(BaseConnection.class), dataRecords);
+            return;
+        }
+        executeMultiValuesInsert(connection, dataRecords, getImporterConfig().getBatchSize());
+    }
+    
+    private void executeCopyInsert(final BaseConnection connection, final List<DataRecord> dataRecords) throws SQLException {
+        String copySQL = ((OpenGaussPipelineSQLBuilder) getPipelineSqlBuilder()).buildCopySQL(dataRecords.get(0));
+        try {
+            new CopyManager(connection).copyIn(copySQL, new StringReader(PostgreSQLCopyDataEncoder.encode(dataRecords)));
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
 }
@@ -71,6 +71,7 @@ public final class OpenGaussLogicalReplication {
                 .withSlotName(slotName)
                 .withSlotOption("include-xids", true)
                 .withSlotOption("skip-empty-xacts", true)
+                .withSlotOption("include-timestamp", true)
                 .withStartPosition((LogSequenceNumber) startPosition.get())
                 .start();
     }
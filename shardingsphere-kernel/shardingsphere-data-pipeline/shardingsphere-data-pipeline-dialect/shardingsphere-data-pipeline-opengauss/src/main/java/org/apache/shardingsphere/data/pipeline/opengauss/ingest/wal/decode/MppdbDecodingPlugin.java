@@ -47,6 +47,8 @@ import java.util.List;
 @AllArgsConstructor
 public final class MppdbDecodingPlugin implements DecodingPlugin {
     
+    private static final String COMMIT_TIME_PREFIX = "(at ";
+    
     private final BaseTimestampUtils timestampUtils;
     
     @Override
@@ -55,6 +57,8 @@ public final class MppdbDecodingPlugin implements DecodingPlugin {
         char eventType = readOneChar(data);
         if ('{' == eventType) {
             result = readTableEvent(readMppData(data));
+        } else if ('C' == eventType) {
+            result = readCommitEvent(data);
         } else {
             result = new PlaceholderEvent();
         }
@@ -66,6 +70,25 @@ public final class MppdbDecodingPlugin implements DecodingPlugin {
         return (char) data.get();
     }
     
+    private AbstractWalEvent readCommitEvent(final ByteBuffer data) {
+        PlaceholderEvent result = new PlaceholderEvent();
+        StringBuilder commitInfo = new StringBuilder();
+        while (data.hasRemaining()) {
+            commitInfo.append((char) data.get());
+        }
+        int startIndex = commitInfo.indexOf(COMMIT_TIME_PREFIX);
+        int endIndex = commitInfo.lastIndexOf(")");
+        if (startIndex < 0 || endIndex < startIndex) {
+            return result;
+        }
+        try {
+            result.setCommitTime(timestampUtils.toTimestamp(null, commitInfo.substring(startIndex + COMMIT_TIME_PREFIX.length(), endIndex)).getTime());
+        } catch (final SQLException ex) {
+            throw new DecodingException(ex);
+        }
+        return result;
+    }
+    
     private String readMppData(final ByteBuffer data) {
         StringBuilder mppData = new StringBuilder();
         mppData.append('{');
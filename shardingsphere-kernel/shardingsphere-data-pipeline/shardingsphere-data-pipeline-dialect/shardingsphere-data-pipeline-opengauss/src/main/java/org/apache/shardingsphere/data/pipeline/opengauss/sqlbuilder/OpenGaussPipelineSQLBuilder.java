@@ -28,6 +28,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Pipeline SQL builder of openGauss.
@@ -54,6 +55,17 @@ public final class OpenGaussPipelineSQLBuilder extends AbstractPipelineSQLBuilde
         return super.buildInsertSQL(dataRecord) + buildConflictSQL();
     }
     
+    /**
+     * Build COPY FROM STDIN SQL.
+     *
+     * @param dataRecord data record
+     * @return COPY SQL
+     */
+    public String buildCopySQL(final DataRecord dataRecord) {
+        String columnsLiteral = dataRecord.getColumns().stream().map(each -> quote(each.getName()).toString()).collect(Collectors.joining(","));
+        return String.format("COPY %s(%s) FROM STDIN WITH CSV", quote(dataRecord.getTableName()), columnsLiteral);
+    }
+    
     @Override
     public List<Column> extractUpdatedColumns(final Collection<Column> columns, final DataRecord record) {
         return new ArrayList<>(Collections2.filter(columns, column -> !(column.isPrimaryKey() || isShardingColumn(getShardingColumnsMap(), record.getTableName(), column.getName()))));
@@ -21,6 +21,7 @@ import com.google.gson.Gson;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.DecodingException;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractWalEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
@@ -207,6 +208,17 @@ public final class MppdbDecodingPluginTest {
         new MppdbDecodingPlugin(null).decode(data, logSequenceNumber);
     }
     
+    @Test
+    @SneakyThrows(SQLException.class)
+    public void assertDecodeCommitEventWithCommitTime() {
+        TimestampUtils timestampUtils = mock(TimestampUtils.class);
+        when(timestampUtils.toTimestamp(null, "2022-01-01 10:00:00.123456+08")).thenReturn(new Timestamp(1641002400123L));
+        ByteBuffer data = ByteBuffer.wrap("COMMIT XID 123 (at 2022-01-01 10:00:00.123456+08)".getBytes());
+        AbstractWalEvent actual = new MppdbDecodingPlugin(new OpenGaussTimestampUtils(timestampUtils)).decode(data, logSequenceNumber);
+        assertTrue(actual instanceof PlaceholderEvent);
+        assertThat(actual.getCommitTime(), is(1641002400123L));
+    }
+    
     @Test(expected = DecodingException.class)
     @SneakyThrows(SQLException.class)
     public void assertDecodeTime() {
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.importer;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+
+import java.math.BigDecimal;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Encoder of COPY FROM STDIN data in CSV format, shared by PostgreSQL and openGauss.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PostgreSQLCopyDataEncoder {
+    
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSSxxx");
+    
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+    
+    /**
+     * Encode data records to CSV rows, column order is the same as data record columns.
+     *
+     * @param dataRecords data records
+     * @return CSV rows
+     */
+    public static String encode(final List<DataRecord> dataRecords) {
+        StringBuilder result = new StringBuilder(dataRecords.size() * dataRecords.get(0).getColumnCount() * 16);
+        for (DataRecord each : dataRecords) {
+            for (int i = 0; i < each.getColumnCount(); i++) {
+                if (i > 0) {
+                    result.append(',');
+                }
+                appendValue(result, each.getColumn(i).getValue());
+            }
+            result.append('\n');
+        }
+        return result.toString();
+    }
+    
+    // Unquoted empty value means NULL in CSV format, so every non-null value is quoted to keep empty string.
+    private static void appendValue(final StringBuilder builder, final Object value) {
+        if (null == value) {
+            return;
+        }
+        String text = toText(value);
+        builder.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char each = text.charAt(i);
+            if ('"' == each) {
+                builder.append('"');
+            }
+            builder.append(each);
+        }
+        builder.append('"');
+    }
+    
+    // Values are formatted as PostgreSQL text input, the session time zone is not assumed, so timestamp is formatted with offset.
+    private static String toText(final Object value) {
+        if (value instanceof String) {
+            return (String) value;
+        }
+        if (value instanceof byte[]) {
+            return toByteaHex((byte[]) value);
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? "t" : "f";
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        }
+        if (value instanceof java.sql.Date) {
+            return ((java.sql.Date) value).toLocalDate().toString();
+        }
+        if (value instanceof Time) {
+            return TIME_FORMATTER.format(Instant.ofEpochMilli(((Time) value).getTime()).atZone(ZoneId.systemDefault()));
+        }
+        if (value instanceof Timestamp) {
+            return TIMESTAMP_FORMATTER.format(((Timestamp) value).toInstant().atZone(ZoneId.systemDefault()));
+        }
+        if (value instanceof Date) {
+            return TIMESTAMP_FORMATTER.format(((Date) value).toInstant().atZone(ZoneId.systemDefault()));
+        }
+        // Number, java.time values and PostgreSQL objects are in text input format already
+        return value.toString();
+    }
+    
+    private static String toByteaHex(final byte[] value) {
+        char[] result = new char[2 + value.length * 2];
+        result[0] = '\\';
+        result[1] = 'x';
+        for (int i = 0; i < value.length; i++) {
+            result[2 + i * 2] = HEX_DIGITS[(value[i] >> 4) & 0xF];
+            result[3 + i * 2] = HEX_DIGITS[value[i] & 0xF];
+        }
+        return new String(result);
+    }
+}
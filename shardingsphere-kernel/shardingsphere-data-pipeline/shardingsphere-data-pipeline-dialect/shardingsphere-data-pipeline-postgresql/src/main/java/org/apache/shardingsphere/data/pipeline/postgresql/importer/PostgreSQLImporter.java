@@ -19,11 +19,20 @@ package org.apache.shardingsphere.data.pipeline.postgresql.importer;
 
 import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.ImporterConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.core.importer.AbstractImporter;
 import org.apache.shardingsphere.data.pipeline.postgresql.sqlbuilder.PostgreSQLPipelineSQLBuilder;
 import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.core.BaseConnection;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -40,4 +49,29 @@ public final class PostgreSQLImporter extends AbstractImporter {
     protected PipelineSQLBuilder createSQLBuilder(final Map<String, Set<String>> shardingColumnsMap) {
         return new PostgreSQLPipelineSQLBuilder(shardingColumnsMap);
     }
+    
+    @Override
+    protected void executeBatchInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        if (dataRecords.size() > 1 && connection.isWrapperFor(BaseConnection.class)) {
+            executeCopyInsert(connection.unwrap(BaseConnection.class), dataRecords);
+            return;
+        }
+        executeMultiValuesInsert(connection, dataRecords, getImporterConfig().getBatchSize());
+    }
+    
+    private void executeCopyInsert(final BaseConnection connection, final List<DataRecord> dataRecords) throws SQLException {
+        PostgreSQLPipelineSQLBuilder sqlBuilder = (PostgreSQLPipelineSQLBuilder) getPipelineSqlBuilder();
+        DataRecord dataRecord = dataRecords.get(0);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sqlBuilder.buildCreateCopyStagingTableSQL(dataRecord.getTableName()));
+        }
+        try {
+            new CopyManager(connection).copyIn(sqlBuilder.buildCopyToStagingTableSQL(dataRecord), new StringReader(PostgreSQLCopyDataEncoder.encode(dataRecords)));
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate(sqlBuilder.buildInsertFromCopyStagingTableSQL(dataRecord));
+        }
+    }
 }
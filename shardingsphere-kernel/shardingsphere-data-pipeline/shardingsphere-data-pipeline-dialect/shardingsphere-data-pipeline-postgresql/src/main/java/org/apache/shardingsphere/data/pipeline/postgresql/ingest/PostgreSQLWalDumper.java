@@ -31,6 +31,7 @@ import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.LogicalRepl
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WalEventConverter;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WalPosition;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.DecodingPlugin;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PgOutputDecodingPlugin;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLLogSequenceNumber;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLTimestampUtils;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.TestDecodingPlugin;
@@ -77,25 +78,36 @@ public final class PostgreSQLWalDumper extends AbstractIncrementalDumper<WalPosi
     
     private void dump() {
         // TODO use unified PgConnection
-        try (Connection connection = logicalReplication.createConnection((StandardPipelineDataSourceConfiguration) dumperConfig.getDataSourceConfig());
-             PGReplicationStream stream = logicalReplication.createReplicationStream(connection, PostgreSQLPositionInitializer.getUniqueSlotName(connection), walPosition.getLogSequenceNumber())) {
+        try (Connection connection = logicalReplication.createConnection((StandardPipelineDataSourceConfiguration) dumperConfig.getDataSourceConfig())) {
+            String slotName = PostgreSQLPositionInitializer.getUniqueSlotName(connection);
             PostgreSQLTimestampUtils utils = new PostgreSQLTimestampUtils(connection.unwrap(PgConnection.class).getTimestampUtils());
-            DecodingPlugin decodingPlugin = new TestDecodingPlugin(utils);
-            while (isRunning()) {
-                ByteBuffer message = stream.readPending();
-                if (null == message) {
-                    ThreadUtil.sleep(10L);
-                    continue;
+            if (PgOutputDecodingPlugin.PLUGIN_NAME.equals(logicalReplication.getSlotPlugin(connection, slotName))) {
+                try (PGReplicationStream stream = logicalReplication.createPgOutputReplicationStream(connection, slotName, slotName, walPosition.getLogSequenceNumber())) {
+                    dump(stream, new PgOutputDecodingPlugin(utils));
+                }
+            } else {
+                try (PGReplicationStream stream = logicalReplication.createReplicationStream(connection, slotName, walPosition.getLogSequenceNumber())) {
+                    dump(stream, new TestDecodingPlugin(utils));
                 }
-                AbstractWalEvent event = decodingPlugin.decode(message, new PostgreSQLLogSequenceNumber(stream.getLastReceiveLSN()));
-                Record record = walEventConverter.convert(event);
-                pushRecord(record);
             }
         } catch (final SQLException ex) {
             throw new IngestException(ex);
         }
     }
     
+    private void dump(final PGReplicationStream stream, final DecodingPlugin decodingPlugin) throws SQLException {
+        while (isRunning()) {
+            ByteBuffer message = stream.readPending();
+            if (null == message) {
+                ThreadUtil.sleep(10L);
+                continue;
+            }
+            AbstractWalEvent event = decodingPlugin.decode(message, new PostgreSQLLogSequenceNumber(stream.getLastReceiveLSN()));
+            Record record = walEventConverter.convert(event);
+            pushRecord(record);
+        }
+    }
+    
     private void pushRecord(final Record record) {
         channel.pushRecord(record);
     }
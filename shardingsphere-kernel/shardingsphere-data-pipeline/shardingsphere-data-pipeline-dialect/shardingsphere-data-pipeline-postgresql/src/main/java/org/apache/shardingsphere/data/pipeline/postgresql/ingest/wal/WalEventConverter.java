@@ -84,7 +84,9 @@ public final class WalEventConverter {
     }
     
     private PlaceholderRecord createPlaceholderRecord(final AbstractWalEvent event) {
-        return new PlaceholderRecord(new WalPosition(event.getLogSequenceNumber()));
+        PlaceholderRecord result = new PlaceholderRecord(new WalPosition(event.getLogSequenceNumber()));
+        result.setCommitTime(event.getCommitTime());
+        return result;
     }
     
     private DataRecord handleWriteRowsEvent(final WriteRowEvent writeRowEvent) {
@@ -115,6 +117,7 @@ public final class WalEventConverter {
     private DataRecord createDataRecord(final AbstractRowEvent rowsEvent, final int columnCount) {
         DataRecord result = new DataRecord(new WalPosition(rowsEvent.getLogSequenceNumber()), columnCount);
         result.setTableName(dumperConfig.getTableNameMap().get(rowsEvent.getTableName()));
+        result.setCommitTime(rowsEvent.getCommitTime());
         return result;
     }
     
@@ -0,0 +1,279 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractWalEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.WriteRowEvent;
+import org.postgresql.core.Oid;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decoding plugin for the binary protocol of the built-in {@code pgoutput} plugin.
+ *
+ * <p>Relation messages are cached by relation OID, and tuple values are decoded from the received buffer by column type.</p>
+ */
+@RequiredArgsConstructor
+public final class PgOutputDecodingPlugin implements DecodingPlugin {
+    
+    public static final String PLUGIN_NAME = "pgoutput";
+    
+    private static final long POSTGRES_EPOCH_MILLIS = 946684800000L;
+    
+    private static final byte NULL_VALUE = 'n';
+    
+    private static final byte UNCHANGED_TOAST_VALUE = 'u';
+    
+    private static final byte TEXT_VALUE = 't';
+    
+    private static final byte KEY_COLUMN_FLAG = 1;
+    
+    private final BaseTimestampUtils timestampUtils;
+    
+    private final Map<Integer, Relation> relations = new HashMap<>();
+    
+    private long currentCommitTime;
+    
+    @Override
+    public AbstractWalEvent decode(final ByteBuffer data, final BaseLogSequenceNumber logSequenceNumber) {
+        AbstractWalEvent result;
+        byte messageType = data.get();
+        switch (messageType) {
+            case 'B':
+                readBegin(data);
+                result = new PlaceholderEvent();
+                break;
+            case 'R':
+                readRelation(data);
+                result = new PlaceholderEvent();
+                break;
+            case 'I':
+                result = readWriteRowEvent(data);
+                break;
+            case 'U':
+                result = readUpdateRowEvent(data);
+                break;
+            case 'D':
+                result = readDeleteRowEvent(data);
+                break;
+            default:
+                result = new PlaceholderEvent();
+                break;
+        }
+        result.setLogSequenceNumber(logSequenceNumber);
+        result.setCommitTime(currentCommitTime);
+        return result;
+    }
+    
+    private void readBegin(final ByteBuffer data) {
+        data.getLong();
+        currentCommitTime = POSTGRES_EPOCH_MILLIS + data.getLong() / 1000L;
+    }
+    
+    private void readRelation(final ByteBuffer data) {
+        int relationId = data.getInt();
+        String schemaName = readString(data);
+        String tableName = readString(data);
+        data.get();
+        short columnCount = data.getShort();
+        int[] columnTypes = new int[columnCount];
+        boolean[] keyColumns = new boolean[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            keyColumns[i] = KEY_COLUMN_FLAG == (data.get() & KEY_COLUMN_FLAG);
+            readString(data);
+            columnTypes[i] = data.getInt();
+            data.getInt();
+        }
+        relations.put(relationId, new Relation(schemaName, tableName, columnTypes, keyColumns));
+    }
+    
+    private AbstractRowEvent readWriteRowEvent(final ByteBuffer data) {
+        WriteRowEvent result = new WriteRowEvent();
+        Relation relation = getRelation(data.getInt());
+        data.get();
+        result.setAfterRow(readTuple(data, relation, null));
+        return setTable(result, relation);
+    }
+    
+    private AbstractRowEvent readUpdateRowEvent(final ByteBuffer data) {
+        UpdateRowEvent result = new UpdateRowEvent();
+        Relation relation = getRelation(data.getInt());
+        List<Object> beforeRow = null;
+        byte tupleType = data.get();
+        if ('N' != tupleType) {
+            beforeRow = readTuple(data, relation, null);
+            data.get();
+        }
+        result.setAfterRow(readTuple(data, relation, 'O' == tupleType ? beforeRow : null));
+        return setTable(result, relation);
+    }
+    
+    private AbstractRowEvent readDeleteRowEvent(final ByteBuffer data) {
+        DeleteRowEvent result = new DeleteRowEvent();
+        Relation relation = getRelation(data.getInt());
+        data.get();
+        List<Object> beforeRow = readTuple(data, relation, null);
+        List<Object> primaryKeys = new ArrayList<>(beforeRow.size());
+        for (int i = 0; i < beforeRow.size(); i++) {
+            if (relation.getKeyColumns()[i]) {
+                primaryKeys.add(beforeRow.get(i));
+            }
+        }
+        result.setPrimaryKeys(primaryKeys);
+        return setTable(result, relation);
+    }
+    
+    private Relation getRelation(final int relationId) {
+        Relation result = relations.get(relationId);
+        if (null == result) {
+            throw new IngestException("Unknown relation id: " + relationId);
+        }
+        return result;
+    }
+    
+    private AbstractRowEvent setTable(final AbstractRowEvent rowEvent, final Relation relation) {
+        rowEvent.setSchemaName(relation.getSchemaName());
+        rowEvent.setTableName(relation.getTableName());
+        return rowEvent;
+    }
+    
+    private List<Object> readTuple(final ByteBuffer data, final Relation relation, final List<Object> oldValues) {
+        short columnCount = data.getShort();
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            byte valueType = data.get();
+            if (NULL_VALUE == valueType) {
+                result.add(null);
+            } else if (TEXT_VALUE == valueType) {
+                int length = data.getInt();
+                int position = data.position();
+                result.add(readColumnData(data, relation.getColumnTypes()[i], length));
+                data.position(position + length);
+            } else if (UNCHANGED_TOAST_VALUE == valueType && null != oldValues) {
+                result.add(oldValues.get(i));
+            } else if (UNCHANGED_TOAST_VALUE == valueType) {
+                throw new IngestException(String.format("Unchanged TOAST value of %s.%s needs REPLICA IDENTITY FULL", relation.getSchemaName(), relation.getTableName()));
+            } else {
+                throw new IngestException("Unknown tuple value type: " + (char) valueType);
+            }
+        }
+        return result;
+    }
+    
+    private Object readColumnData(final ByteBuffer data, final int columnType, final int length) {
+        switch (columnType) {
+            case Oid.INT2:
+                return (short) readLong(data, length);
+            case Oid.INT4:
+                return (int) readLong(data, length);
+            case Oid.INT8:
+                return readLong(data, length);
+            case Oid.BOOL:
+                return 't' == data.get();
+            case Oid.BYTEA:
+                return readHex(data, length);
+            case Oid.NUMERIC:
+                return new BigDecimal(readText(data, length));
+            case Oid.FLOAT4:
+                return Float.parseFloat(readText(data, length));
+            case Oid.FLOAT8:
+                return Double.parseDouble(readText(data, length));
+            case Oid.DATE:
+                return Date.valueOf(readText(data, length));
+            case Oid.TIME:
+                try {
+                    return timestampUtils.toTime(null, readText(data, length));
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            case Oid.TIMESTAMP:
+                try {
+                    return timestampUtils.toTimestamp(null, readText(data, length));
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            default:
+                return readText(data, length);
+        }
+    }
+    
+    private long readLong(final ByteBuffer data, final int length) {
+        boolean negative = '-' == data.get(data.position());
+        long result = 0L;
+        for (int i = negative ? 1 : 0; i < length; i++) {
+            result = result * 10 + (data.get(data.position() + i) - '0');
+        }
+        return negative ? -result : result;
+    }
+    
+    private byte[] readHex(final ByteBuffer data, final int length) {
+        int offset = data.position() + 2;
+        byte[] result = new byte[(length - 2) >>> 1];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (byte) ((Character.digit(data.get(offset + i * 2), 16) << 4) + Character.digit(data.get(offset + i * 2 + 1), 16));
+        }
+        return result;
+    }
+    
+    private String readText(final ByteBuffer data, final int length) {
+        if (data.hasArray()) {
+            return new String(data.array(), data.arrayOffset() + data.position(), length, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[length];
+        data.duplicate().get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    private String readString(final ByteBuffer data) {
+        int end = data.position();
+        while (0 != data.get(end)) {
+            end++;
+        }
+        String result = readText(data, end - data.position());
+        data.position(end + 1);
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class Relation {
+        
+        private final String schemaName;
+        
+        private final String tableName;
+        
+        private final int[] columnTypes;
+        
+        private final boolean[] keyColumns;
+    }
+}
@@ -40,6 +40,8 @@ import java.util.List;
 @AllArgsConstructor
 public final class TestDecodingPlugin implements DecodingPlugin {
     
+    private static final String COMMIT_TIME_PREFIX = "(at ";
+    
     private final BaseTimestampUtils timestampUtils;
     
     @Override
@@ -48,6 +50,8 @@ public final class TestDecodingPlugin implements DecodingPlugin {
         String eventType = readEventType(data);
         if ("table".equals(eventType)) {
             result = readTableEvent(data);
+        } else if ("COMMIT".equals(eventType)) {
+            result = readCommitEvent(data);
         } else {
             result = new PlaceholderEvent();
         }
@@ -59,6 +63,25 @@ public final class TestDecodingPlugin implements DecodingPlugin {
         return readNextSegment(data);
     }
     
+    private AbstractWalEvent readCommitEvent(final ByteBuffer data) {
+        PlaceholderEvent result = new PlaceholderEvent();
+        StringBuilder commitInfo = new StringBuilder();
+        while (data.hasRemaining()) {
+            commitInfo.append((char) data.get());
+        }
+        int startIndex = commitInfo.indexOf(COMMIT_TIME_PREFIX);
+        int endIndex = commitInfo.lastIndexOf(")");
+        if (startIndex < 0 || endIndex < startIndex) {
+            return result;
+        }
+        try {
+            result.setCommitTime(timestampUtils.toTimestamp(null, commitInfo.substring(startIndex + COMMIT_TIME_PREFIX.length(), endIndex)).getTime());
+        } catch (final SQLException ex) {
+            throw new DecodingException(ex);
+        }
+        return result;
+    }
+    
     private AbstractRowEvent readTableEvent(final ByteBuffer data) {
         AbstractRowEvent result;
         String tableName = readTableName(data);
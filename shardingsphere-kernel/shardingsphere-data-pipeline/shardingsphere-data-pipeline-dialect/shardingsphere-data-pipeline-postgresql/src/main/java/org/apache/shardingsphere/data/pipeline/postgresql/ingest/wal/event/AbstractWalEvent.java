@@ -31,4 +31,6 @@ import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.Base
 public abstract class AbstractWalEvent {
     
     private BaseLogSequenceNumber logSequenceNumber;
+    
+    private long commitTime;
 }
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.AbstractPipelineS
 
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * PostgreSQL pipeline SQL builder.
@@ -32,6 +33,10 @@ import java.util.Set;
 @NoArgsConstructor
 public final class PostgreSQLPipelineSQLBuilder extends AbstractPipelineSQLBuilder {
     
+    private static final String COPY_STAGING_SCHEMA_NAME = "pg_temp";
+    
+    private static final int MAX_STAGING_TABLE_NAME_PART_LENGTH = 40;
+    
     public PostgreSQLPipelineSQLBuilder(final Map<String, Set<String>> shardingColumnsMap) {
         super(shardingColumnsMap);
     }
@@ -51,6 +56,51 @@ public final class PostgreSQLPipelineSQLBuilder extends AbstractPipelineSQLBuild
         return super.buildInsertSQL(dataRecord) + buildConflictSQL(dataRecord);
     }
     
+    /**
+     * Build create COPY staging table SQL, rows of the staging table are deleted on commit.
+     *
+     * @param tableName table name
+     * @return create staging table SQL
+     */
+    public String buildCreateCopyStagingTableSQL(final String tableName) {
+        return String.format("CREATE TEMPORARY TABLE IF NOT EXISTS %s (LIKE %s INCLUDING DEFAULTS) ON COMMIT DELETE ROWS", getCopyStagingTableName(tableName), quote(tableName));
+    }
+    
+    /**
+     * Build COPY FROM STDIN SQL into staging table.
+     *
+     * @param dataRecord data record
+     * @return COPY SQL
+     */
+    public String buildCopyToStagingTableSQL(final DataRecord dataRecord) {
+        return String.format("COPY %s(%s) FROM STDIN WITH CSV", getCopyStagingTableName(dataRecord.getTableName()), buildColumnsLiteral(dataRecord));
+    }
+    
+    /**
+     * Build insert from staging table SQL, conflict rows are updated as insert SQL does.
+     *
+     * @param dataRecord data record
+     * @return insert SQL
+     */
+    public String buildInsertFromCopyStagingTableSQL(final DataRecord dataRecord) {
+        String columnsLiteral = buildColumnsLiteral(dataRecord);
+        return String.format("INSERT INTO %s(%s) SELECT %s FROM %s", quote(dataRecord.getTableName()), columnsLiteral, columnsLiteral, getCopyStagingTableName(dataRecord.getTableName()))
+                + buildConflictSQL(dataRecord);
+    }
+    
+    // Temporary table is always in pg_temp schema, name is bounded by identifier max length 63 and suffixed by hash of table name to keep unique
+    private String getCopyStagingTableName(final String tableName) {
+        String tableNamePart = tableName.replaceAll("[^A-Za-z0-9_]", "_");
+        if (tableNamePart.length() > MAX_STAGING_TABLE_NAME_PART_LENGTH) {
+            tableNamePart = tableNamePart.substring(0, MAX_STAGING_TABLE_NAME_PART_LENGTH);
+        }
+        return String.format("%s.%s", COPY_STAGING_SCHEMA_NAME, quote(String.format("pipeline_copy_%s_%08x", tableNamePart, tableName.hashCode())));
+    }
+    
+    private String buildColumnsLiteral(final DataRecord dataRecord) {
+        return dataRecord.getColumns().stream().map(each -> quote(each.getName()).toString()).collect(Collectors.joining(","));
+    }
+    
     // Refer to https://www.postgresql.org/docs/current/sql-insert.html
     private String buildConflictSQL(final DataRecord dataRecord) {
         StringBuilder result = new StringBuilder(" ON CONFLICT (");
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.importer;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class PostgreSQLCopyDataEncoderTest {
+    
+    @Test
+    public void assertEncode() {
+        String actual = PostgreSQLCopyDataEncoder.encode(Arrays.asList(mockDataRecord(1, "a \"b\",c", new byte[]{1, (byte) 0xAB}), mockDataRecord(2, "", null)));
+        assertThat(actual, is("\"1\",\"a \"\"b\"\",c\",\"\\x01ab\"\n\"2\",\"\",\n"));
+    }
+    
+    @Test
+    public void assertEncodeNonTextValues() {
+        Timestamp timestamp = Timestamp.valueOf("2022-01-02 03:04:05.123456");
+        DataRecord dataRecord = new DataRecord(new PlaceholderPosition(), 4);
+        dataRecord.setTableName("t_order");
+        dataRecord.addColumn(new Column("id", new BigDecimal("1E+3"), true, true));
+        dataRecord.addColumn(new Column("enabled", true, true, false));
+        dataRecord.addColumn(new Column("created_at", timestamp, true, false));
+        dataRecord.addColumn(new Column("created_date", Date.valueOf("2022-01-02"), true, false));
+        String expectedOffset = ZoneId.systemDefault().getRules().getOffset(timestamp.toInstant()).getId().replace("Z", "+00:00");
+        assertThat(PostgreSQLCopyDataEncoder.encode(Collections.singletonList(dataRecord)), is("\"1000\",\"t\",\"2022-01-02 03:04:05.123456" + expectedOffset + "\",\"2022-01-02\"\n"));
+    }
+    
+    private DataRecord mockDataRecord(final int id, final String name, final byte[] data) {
+        DataRecord result = new DataRecord(new PlaceholderPosition(), 3);
+        result.setTableName("t_order");
+        result.addColumn(new Column("id", id, true, true));
+        result.addColumn(new Column("name", name, true, false));
+        result.addColumn(new Column("data", data, true, false));
+        return result;
+    }
+}
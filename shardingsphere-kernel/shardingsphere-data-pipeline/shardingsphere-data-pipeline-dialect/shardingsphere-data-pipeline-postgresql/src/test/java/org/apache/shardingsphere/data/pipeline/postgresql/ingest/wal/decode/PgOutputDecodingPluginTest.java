@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode;
+
+import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.WriteRowEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.postgresql.core.Oid;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class PgOutputDecodingPluginTest {
+    
+    private final PostgreSQLLogSequenceNumber logSequenceNumber = new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf("0/14EFDB8"));
+    
+    private PgOutputDecodingPlugin decodingPlugin;
+    
+    @Before
+    public void setUp() {
+        decodingPlugin = new PgOutputDecodingPlugin(null);
+        ByteBuffer relation = ByteBuffer.allocate(256);
+        relation.put((byte) 'R').putInt(16384);
+        putString(relation, "public");
+        putString(relation, "t_order");
+        relation.put((byte) 'd').putShort((short) 4);
+        putColumn(relation, true, "order_id", Oid.INT8);
+        putColumn(relation, false, "user_id", Oid.INT4);
+        putColumn(relation, false, "amount", Oid.NUMERIC);
+        putColumn(relation, false, "status", Oid.VARCHAR);
+        relation.flip();
+        assertTrue(decodingPlugin.decode(relation, logSequenceNumber) instanceof PlaceholderEvent);
+    }
+    
+    @Test
+    public void assertDecodeCommitTimeFromBeginMessage() {
+        ByteBuffer begin = ByteBuffer.allocate(32);
+        begin.put((byte) 'B').putLong(1L).putLong(694224000123456L).putInt(1);
+        begin.flip();
+        assertThat(decodingPlugin.decode(begin, logSequenceNumber).getCommitTime(), is(1640908800123L));
+        ByteBuffer data = ByteBuffer.allocate(256);
+        data.put((byte) 'I').putInt(16384).put((byte) 'N');
+        putTuple(data, "1", "1", "12.50", "ok");
+        data.flip();
+        assertThat(decodingPlugin.decode(data, logSequenceNumber).getCommitTime(), is(1640908800123L));
+    }
+    
+    @Test
+    public void assertDecodeWriteRowEvent() {
+        ByteBuffer data = ByteBuffer.allocate(256);
+        data.put((byte) 'I').putInt(16384).put((byte) 'N');
+        putTuple(data, "-101", "1", "12.50", "ok 中");
+        data.flip();
+        WriteRowEvent actual = (WriteRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getLogSequenceNumber(), is(logSequenceNumber));
+        assertThat(actual.getSchemaName(), is("public"));
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getAfterRow(), is(Arrays.asList(-101L, 1, new BigDecimal("12.50"), "ok 中")));
+    }
+    
+    @Test
+    public void assertDecodeUpdateRowEventWithUnchangedToastValue() {
+        ByteBuffer data = ByteBuffer.allocate(256);
+        data.put((byte) 'U').putInt(16384).put((byte) 'O');
+        putTuple(data, "1", "1", "12.50", "large");
+        data.put((byte) 'N');
+        putTuple(data, "1", "2", null, "u");
+        data.flip();
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getAfterRow(), is(Arrays.asList(1L, 2, null, "large")));
+    }
+    
+    @Test(expected = IngestException.class)
+    public void assertDecodeUpdateRowEventWithoutOldTuple() {
+        ByteBuffer data = ByteBuffer.allocate(256);
+        data.put((byte) 'U').putInt(16384).put((byte) 'N');
+        putTuple(data, "1", "2", null, "u");
+        data.flip();
+        decodingPlugin.decode(data, logSequenceNumber);
+    }
+    
+    @Test
+    public void assertDecodeDeleteRowEvent() {
+        ByteBuffer data = ByteBuffer.allocate(256);
+        data.put((byte) 'D').putInt(16384).put((byte) 'K');
+        putTuple(data, "1", null, null, null);
+        data.flip();
+        DeleteRowEvent actual = (DeleteRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getPrimaryKeys(), is(Arrays.asList((Object) 1L)));
+    }
+    
+    @Test
+    public void assertDecodeBeginEvent() {
+        ByteBuffer data = ByteBuffer.allocate(21);
+        data.put((byte) 'B').putLong(1L).putLong(2L).putInt(3);
+        data.flip();
+        assertTrue(decodingPlugin.decode(data, logSequenceNumber) instanceof PlaceholderEvent);
+    }
+    
+    @Test(expected = IngestException.class)
+    public void assertDecodeUnknownRelation() {
+        ByteBuffer data = ByteBuffer.allocate(256);
+        data.put((byte) 'I').putInt(1).put((byte) 'N');
+        putTuple(data, "1", "1", "1", "1");
+        data.flip();
+        decodingPlugin.decode(data, logSequenceNumber);
+    }
+    
+    private void putColumn(final ByteBuffer data, final boolean key, final String name, final int type) {
+        data.put((byte) (key ? 1 : 0));
+        putString(data, name);
+        data.putInt(type).putInt(-1);
+    }
+    
+    private void putString(final ByteBuffer data, final String value) {
+        data.put(value.getBytes(StandardCharsets.UTF_8)).put((byte) 0);
+    }
+    
+    private void putTuple(final ByteBuffer data, final String... values) {
+        data.putShort((short) values.length);
+        for (String each : values) {
+            if (null == each) {
+                data.put((byte) 'n');
+            } else if ("u".equals(each)) {
+                data.put((byte) 'u');
+            } else {
+                byte[] bytes = each.getBytes(StandardCharsets.UTF_8);
+                data.put((byte) 't').putInt(bytes.length).put(bytes);
+            }
+        }
+    }
+}
@@ -30,6 +30,7 @@ import org.postgresql.replication.LogSequenceNumber;
 
 import java.nio.ByteBuffer;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -86,6 +87,17 @@ public final class TestDecodingPluginTest {
         assertTrue(actual instanceof PlaceholderEvent);
     }
     
+    @Test
+    @SneakyThrows(SQLException.class)
+    public void assertDecodeCommitEventWithCommitTime() {
+        TimestampUtils timestampUtils = mock(TimestampUtils.class);
+        when(timestampUtils.toTimestamp(null, "2022-01-01 10:00:00.123456+08")).thenReturn(new Timestamp(1641002400123L));
+        ByteBuffer data = ByteBuffer.wrap("COMMIT 123 (at 2022-01-01 10:00:00.123456+08)".getBytes());
+        AbstractWalEvent actual = new TestDecodingPlugin(new PostgreSQLTimestampUtils(timestampUtils)).decode(data, logSequenceNumber);
+        assertTrue(actual instanceof PlaceholderEvent);
+        assertThat(actual.getCommitTime(), is(1641002400123L));
+    }
+    
     @Test(expected = IngestException.class)
     public void assertDecodeUnknownRowEventType() {
         ByteBuffer data = ByteBuffer.wrap("table public.test: UNKNOWN: data[character varying]:'1 2 3'''".getBytes());
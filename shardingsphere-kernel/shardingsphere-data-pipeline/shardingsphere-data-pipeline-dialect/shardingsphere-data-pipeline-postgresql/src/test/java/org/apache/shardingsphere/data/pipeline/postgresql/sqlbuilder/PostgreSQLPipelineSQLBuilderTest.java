@@ -25,6 +25,8 @@ import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.Post
 import org.junit.Test;
 import org.postgresql.replication.LogSequenceNumber;
 
+import java.util.Collections;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -37,6 +39,33 @@ public final class PostgreSQLPipelineSQLBuilderTest {
                 + " DO UPDATE SET \"user_id\"=EXCLUDED.\"user_id\",\"status\"=EXCLUDED.\"status\""));
     }
     
+    @Test
+    public void assertBuildMultiValuesInsertSQL() {
+        String actual = PipelineSQLBuilderFactory.newInstance("PostgreSQL").buildMultiValuesInsertSQL(mockDataRecord(), 2);
+        assertThat(actual, is("INSERT INTO \"t_order\"(\"order_id\",\"user_id\",\"status\") VALUES(?,?,?),(?,?,?) ON CONFLICT (order_id)"
+                + " DO UPDATE SET \"user_id\"=EXCLUDED.\"user_id\",\"status\"=EXCLUDED.\"status\""));
+    }
+    
+    @Test
+    public void assertBuildCopyStagingTableSQL() {
+        PostgreSQLPipelineSQLBuilder sqlBuilder = new PostgreSQLPipelineSQLBuilder();
+        assertThat(sqlBuilder.buildCreateCopyStagingTableSQL("t_order"),
+                is("CREATE TEMPORARY TABLE IF NOT EXISTS pg_temp.\"pipeline_copy_t_order_a0c0c3c3\" (LIKE \"t_order\" INCLUDING DEFAULTS) ON COMMIT DELETE ROWS"));
+        assertThat(sqlBuilder.buildCopyToStagingTableSQL(mockDataRecord()), is("COPY pg_temp.\"pipeline_copy_t_order_a0c0c3c3\"(\"order_id\",\"user_id\",\"status\") FROM STDIN WITH CSV"));
+        assertThat(sqlBuilder.buildInsertFromCopyStagingTableSQL(mockDataRecord()), is("INSERT INTO \"t_order\"(\"order_id\",\"user_id\",\"status\")"
+                + " SELECT \"order_id\",\"user_id\",\"status\" FROM pg_temp.\"pipeline_copy_t_order_a0c0c3c3\""
+                + " ON CONFLICT (order_id) DO UPDATE SET \"user_id\"=EXCLUDED.\"user_id\",\"status\"=EXCLUDED.\"status\""));
+    }
+    
+    @Test
+    public void assertBuildCopyStagingTableSQLWithLongTableName() {
+        String tableName = String.join("", Collections.nCopies(7, "t_long_name"));
+        String actual = new PostgreSQLPipelineSQLBuilder().buildCreateCopyStagingTableSQL(tableName);
+        String stagingTableName = actual.substring(actual.indexOf("pg_temp.\"") + "pg_temp.\"".length(), actual.indexOf("\" (LIKE"));
+        assertThat(stagingTableName.length(), is(63));
+        assertThat(stagingTableName, is(String.format("pipeline_copy_%s_%08x", tableName.substring(0, 40), tableName.hashCode())));
+    }
+    
     private DataRecord mockDataRecord() {
         DataRecord result = new DataRecord(new WalPosition(new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf(100L))), 2);
         result.setTableName("t_order");
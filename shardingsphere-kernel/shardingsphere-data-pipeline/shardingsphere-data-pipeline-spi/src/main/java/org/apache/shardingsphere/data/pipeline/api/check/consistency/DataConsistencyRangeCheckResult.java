@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.api.check.consistency;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Data consistency range check result.
+ */
+@RequiredArgsConstructor
+@Getter
+@ToString
+public final class DataConsistencyRangeCheckResult {
+    
+    /**
+     * Exclusive lower bound of unique key value.
+     */
+    private final long lowerBound;
+    
+    /**
+     * Inclusive upper bound of unique key value.
+     */
+    private final long upperBound;
+    
+    /**
+     * Matched or not, it's null if range is not checked yet.
+     */
+    private final Boolean matched;
+}
@@ -22,6 +22,8 @@ import lombok.Setter;
 import lombok.ToString;
 import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
 
+import java.util.List;
+
 /**
  * Inventory dumper configuration.
  */
@@ -34,6 +36,8 @@ public final class InventoryDumperConfiguration extends DumperConfiguration {
     
     private String primaryKey;
     
+    private List<String> uniqueKeys;
+    
     private Integer shardingItem;
     
     private int batchSize = 1000;
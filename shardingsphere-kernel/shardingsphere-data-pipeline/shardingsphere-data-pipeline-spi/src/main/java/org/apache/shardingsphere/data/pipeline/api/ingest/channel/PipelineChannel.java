@@ -50,6 +50,13 @@ public interface PipelineChannel {
      */
     void ack(List<Record> records);
     
+    /**
+     * Flush channel.
+     * Fetching returns records already pushed without waiting for batch size reached.
+     */
+    default void flush() {
+    }
+    
     /**
      * Close channel.
      */
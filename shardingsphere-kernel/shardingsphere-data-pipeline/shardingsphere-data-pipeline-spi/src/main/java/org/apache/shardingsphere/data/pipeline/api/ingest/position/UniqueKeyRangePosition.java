@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.api.ingest.position;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+import java.io.UnsupportedEncodingException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Use unique key range as position, the unique key could be of any orderable type and could be composite.
+ *
+ * <p>Begin values are exclusive and end values are inclusive, empty values mean the range is unbounded on that side.
+ * Values are persisted with their types, so they are restored and compared as the values read from database;
+ * values of other types are persisted as string and bound with column type by dumper.</p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class UniqueKeyRangePosition implements IngestPosition<UniqueKeyRangePosition> {
+    
+    private static final String PREFIX = "r|";
+    
+    private static final String RANGE_SEPARATOR = "|";
+    
+    private static final String VALUE_SEPARATOR = ",";
+    
+    private static final String TYPE_SEPARATOR = ":";
+    
+    private static final String UNBOUNDED = "~";
+    
+    private final List<Object> beginValues;
+    
+    private final List<Object> endValues;
+    
+    /**
+     * Judge whether string data is unique key range position.
+     *
+     * @param data string data
+     * @return is unique key range position or not
+     */
+    public static boolean isUniqueKeyRangePosition(final String data) {
+        return null != data && data.startsWith(PREFIX);
+    }
+    
+    /**
+     * Init by string data.
+     *
+     * @param data string data
+     * @return unique key range position
+     */
+    public static UniqueKeyRangePosition init(final String data) {
+        Preconditions.checkArgument(isUniqueKeyRangePosition(data), "Unknown unique key range position: " + data);
+        String[] array = data.substring(PREFIX.length()).split("\\" + RANGE_SEPARATOR, -1);
+        Preconditions.checkArgument(array.length == 2, "Unknown unique key range position: " + data);
+        return new UniqueKeyRangePosition(decodeValues(array[0]), decodeValues(array[1]));
+    }
+    
+    private static List<Object> decodeValues(final String data) {
+        if (UNBOUNDED.equals(data)) {
+            return Collections.emptyList();
+        }
+        String[] array = data.split(VALUE_SEPARATOR, -1);
+        List<Object> result = new ArrayList<>(array.length);
+        for (String each : array) {
+            result.add(decodeValue(each));
+        }
+        return result;
+    }
+    
+    @SneakyThrows(UnsupportedEncodingException.class)
+    private static Object decodeValue(final String data) {
+        int index = data.indexOf(TYPE_SEPARATOR);
+        Preconditions.checkArgument(index > 0, "Unknown unique key value: " + data);
+        String value = URLDecoder.decode(data.substring(index + 1), StandardCharsets.UTF_8.name());
+        ValueType valueType = ValueType.valueOf(data.substring(0, index));
+        switch (valueType) {
+            case INTEGER:
+                return Integer.parseInt(value);
+            case LONG:
+                return Long.parseLong(value);
+            case BIG_INTEGER:
+                return new BigInteger(value);
+            case BIG_DECIMAL:
+                return new BigDecimal(value);
+            case DOUBLE:
+                return Double.parseDouble(value);
+            case UUID:
+                return UUID.fromString(value);
+            case DATE:
+                return Date.valueOf(LocalDate.parse(value));
+            case TIME:
+                return Time.valueOf(LocalTime.parse(value));
+            case TIMESTAMP:
+                return Timestamp.from(Instant.parse(value));
+            default:
+                return value;
+        }
+    }
+    
+    @Override
+    public int compareTo(final UniqueKeyRangePosition position) {
+        if (null == position) {
+            return 1;
+        }
+        int result = compareValues(beginValues, position.beginValues, -1);
+        return 0 == result ? compareValues(endValues, position.endValues, 1) : result;
+    }
+    
+    private static int compareValues(final List<Object> values, final List<Object> otherValues, final int unboundedResult) {
+        if (values.isEmpty() && otherValues.isEmpty()) {
+            return 0;
+        }
+        if (values.isEmpty()) {
+            return unboundedResult;
+        }
+        if (otherValues.isEmpty()) {
+            return -unboundedResult;
+        }
+        for (int i = 0; i < Math.min(values.size(), otherValues.size()); i++) {
+            int result = compareValue(values.get(i), otherValues.get(i));
+            if (0 != result) {
+                return result;
+            }
+        }
+        return Integer.compare(values.size(), otherValues.size());
+    }
+    
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static int compareValue(final Object value, final Object otherValue) {
+        if (value instanceof Number && otherValue instanceof Number) {
+            return new BigDecimal(value.toString()).compareTo(new BigDecimal(otherValue.toString()));
+        }
+        if (value instanceof Comparable && value.getClass() == otherValue.getClass()) {
+            return ((Comparable) value).compareTo(otherValue);
+        }
+        return String.valueOf(value).compareTo(String.valueOf(otherValue));
+    }
+    
+    @Override
+    public String toString() {
+        return PREFIX + encodeValues(beginValues) + RANGE_SEPARATOR + encodeValues(endValues);
+    }
+    
+    private static String encodeValues(final List<Object> values) {
+        if (values.isEmpty()) {
+            return UNBOUNDED;
+        }
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                result.append(VALUE_SEPARATOR);
+            }
+            result.append(encodeValue(values.get(i)));
+        }
+        return result.toString();
+    }
+    
+    @SneakyThrows(UnsupportedEncodingException.class)
+    private static String encodeValue(final Object value) {
+        ValueType valueType = ValueType.of(value);
+        String result = ValueType.TIMESTAMP == valueType ? ((Timestamp) value).toInstant().toString() : String.valueOf(value);
+        return valueType.name() + TYPE_SEPARATOR + URLEncoder.encode(result, StandardCharsets.UTF_8.name());
+    }
+    
+    private enum ValueType {
+        
+        STRING, INTEGER, LONG, BIG_INTEGER, BIG_DECIMAL, DOUBLE, UUID, DATE, TIME, TIMESTAMP;
+        
+        private static ValueType of(final Object value) {
+            if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                return INTEGER;
+            }
+            if (value instanceof Long) {
+                return LONG;
+            }
+            if (value instanceof BigInteger) {
+                return BIG_INTEGER;
+            }
+            if (value instanceof BigDecimal) {
+                return BIG_DECIMAL;
+            }
+            if (value instanceof Double || value instanceof Float) {
+                return DOUBLE;
+            }
+            if (value instanceof UUID) {
+                return UUID;
+            }
+            if (value instanceof Timestamp) {
+                return TIMESTAMP;
+            }
+            if (value instanceof Date) {
+                return DATE;
+            }
+            if (value instanceof Time) {
+                return TIME;
+            }
+            return STRING;
+        }
+    }
+}
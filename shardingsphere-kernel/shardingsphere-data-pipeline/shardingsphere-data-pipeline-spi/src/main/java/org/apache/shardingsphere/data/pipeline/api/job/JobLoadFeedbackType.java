@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.api.job;
+
+/**
+ * Job load feedback type.
+ */
+public enum JobLoadFeedbackType {
+    
+    /**
+     * Latency of one statement, in milliseconds.
+     */
+    STATEMENT_LATENCY,
+    
+    /**
+     * Replication lag of database, in milliseconds.
+     */
+    REPLICATION_LAG,
+    
+    /**
+     * Count of threads running in database.
+     */
+    THREADS_RUNNING
+}
@@ -49,6 +49,8 @@ public final class JobProgress {
     
     private Map<String, IncrementalTaskProgress> incrementalTaskProgressMap;
     
+    private JobMetrics metrics = new JobMetrics();
+    
     /**
      * Get incremental position.
      *
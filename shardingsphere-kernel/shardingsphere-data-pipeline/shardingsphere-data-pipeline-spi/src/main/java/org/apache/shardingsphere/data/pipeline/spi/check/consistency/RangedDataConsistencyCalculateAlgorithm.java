@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.spi.check.consistency;
+
+/**
+ * Ranged data consistency calculate algorithm.
+ *
+ * <p>
+ * Table is split into unique key value ranges, which are calculated in parallel and checked independently.
+ * Unique key value range is set in calculate parameter, calculated result of one range should be small enough to be compared at one time.
+ * </p>
+ */
+public interface RangedDataConsistencyCalculateAlgorithm extends DataConsistencyCalculateAlgorithm {
+    
+    /**
+     * Get maximum records count of one range.
+     *
+     * @return range size
+     */
+    int getRangeSize();
+    
+    /**
+     * Get maximum count of ranges calculated at the same time.
+     *
+     * @return concurrency
+     */
+    int getConcurrency();
+}
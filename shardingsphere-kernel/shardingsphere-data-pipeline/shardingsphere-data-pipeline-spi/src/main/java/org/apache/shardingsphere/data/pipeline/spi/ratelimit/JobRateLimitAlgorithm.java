@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.spi.ratelimit;
 
+import org.apache.shardingsphere.data.pipeline.api.job.JobLoadFeedbackType;
 import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithm;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmPostProcessor;
@@ -33,4 +34,13 @@ public interface JobRateLimitAlgorithm extends ShardingSphereAlgorithm, Sharding
      * @param data it's delta that means how much changed if type is INSERT, DELETE, UPDATE, SELECT; it's null if type is SYSTEM_LOAD, CPU_USAGE
      */
     void intercept(JobOperationType type, Number data);
+    
+    /**
+     * Feedback load of database, algorithm could adjust rate by it.
+     *
+     * @param type job load feedback type
+     * @param value feedback value
+     */
+    default void feedback(JobLoadFeedbackType type, long value) {
+    }
 }
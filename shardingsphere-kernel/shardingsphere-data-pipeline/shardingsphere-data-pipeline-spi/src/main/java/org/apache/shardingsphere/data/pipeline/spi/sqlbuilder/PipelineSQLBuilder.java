@@ -41,6 +41,16 @@ public interface PipelineSQLBuilder extends StatelessTypedSPI {
      */
     String buildInsertSQL(DataRecord dataRecord);
     
+    /**
+     * Build multi-values insert SQL, which inserts several rows of the same table in one statement.
+     * Used in {@linkplain org.apache.shardingsphere.data.pipeline.spi.importer.Importer}.
+     *
+     * @param dataRecord data record
+     * @param valuesCount values count
+     * @return multi-values insert SQL
+     */
+    String buildMultiValuesInsertSQL(DataRecord dataRecord, int valuesCount);
+    
     /**
      * Build update SQL.
      *
@@ -95,6 +105,28 @@ public interface PipelineSQLBuilder extends StatelessTypedSPI {
      */
     String buildChunkedQuerySQL(String tableName, String uniqueKey, Number startUniqueValue);
     
+    /**
+     * Build query SQL in unique key value range.
+     *
+     * @param tableName table name
+     * @param uniqueKey unique key, it may be primary key, not null
+     * @param hasLowerBound whether exclusive lower bound parameter is required
+     * @param hasUpperBound whether inclusive upper bound parameter is required
+     * @return query SQL, parameters are exclusive start unique value if has lower bound, inclusive end unique value if has upper bound and limit
+     */
+    String buildRangedChunkedQuerySQL(String tableName, String uniqueKey, boolean hasLowerBound, boolean hasUpperBound);
+    
+    /**
+     * Build query SQL in unique keys value range.
+     *
+     * @param tableName table name
+     * @param uniqueKeys unique key columns, could be composite
+     * @param hasLowerBound whether exclusive lower bound parameters are required
+     * @param hasUpperBound whether inclusive upper bound parameters are required
+     * @return query SQL, parameters are exclusive start unique values if has lower bound, inclusive end unique values if has upper bound and limit
+     */
+    String buildUniqueKeysRangedChunkedQuerySQL(String tableName, List<String> uniqueKeys, boolean hasLowerBound, boolean hasUpperBound);
+    
     /**
      * Build check empty SQL.
      *
@@ -112,6 +144,16 @@ public interface PipelineSQLBuilder extends StatelessTypedSPI {
      */
     String buildSplitByPrimaryKeyRangeSQL(String tableName, String primaryKey);
     
+    /**
+     * Build split by unique key range SQL, which seeks the next range boundary for unique keys of any orderable type.
+     *
+     * @param tableName table name
+     * @param uniqueKeys unique key columns, could be composite
+     * @param hasLowerBound whether the seek starts after a lower bound or from the first row
+     * @return split SQL
+     */
+    String buildSplitByUniqueKeyRangeSQL(String tableName, List<String> uniqueKeys, boolean hasLowerBound);
+    
     /**
      * Build CRC32 SQL.
      *
@@ -17,12 +17,16 @@
 
 package org.apache.shardingsphere.parser.rule;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.parser.ParserConfiguration;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
 import org.apache.shardingsphere.infra.rule.identifier.scope.GlobalRule;
 import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 
+import java.util.Map;
+
 /**
  * SQL parser rule.
  */
@@ -50,6 +54,15 @@ public final class SQLParserRule implements GlobalRule {
         return new ParserConfiguration(sqlStatementCache, parseTreeCache, sqlCommentParseEnabled);
     }
     
+    /**
+     * Get SQL statement cache stats.
+     * 
+     * @return SQL statement cache stats, key is name of database type
+     */
+    public Map<String, CacheStats> getSQLStatementCacheStats() {
+        return SQLStatementParserEngineFactory.getSQLStatementCacheStats();
+    }
+    
     @Override
     public String getType() {
         return SQLParserRule.class.getSimpleName();
@@ -67,7 +67,8 @@ public final class MetaDataContextsBuilder {
     public MetaDataContextsBuilder(final Collection<RuleConfiguration> globalRuleConfigs, final Properties props) {
         this.globalRuleConfigs = globalRuleConfigs;
         this.props = new ConfigurationProperties(props);
-        executorEngine = new ExecutorEngine(this.props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE));
+        executorEngine = new ExecutorEngine(
+                this.props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), this.props.<Boolean>getValue(ConfigurationPropertyKey.VIRTUAL_THREAD_EXECUTOR_ENABLED));
     }
     
     /**
@@ -138,7 +138,7 @@ public final class SchemaMetaDataPersistService {
         tables.forEach(each -> {
             String content = repository.get(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, each));
             TableMetaData tableMetaData = new TableMetaDataYamlSwapper().swapToObject(YamlEngine.unmarshal(content, YamlTableMetaData.class));
-            schema.getTables().put(each, tableMetaData);
+            schema.put(each, tableMetaData);
         });
         return Optional.of(schema);
     }
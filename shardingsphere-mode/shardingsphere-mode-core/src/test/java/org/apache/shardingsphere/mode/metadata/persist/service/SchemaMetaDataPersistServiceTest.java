@@ -59,7 +59,7 @@ public final class SchemaMetaDataPersistServiceTest {
     public void assertPersist() {
         TableMetaData tableMetaData = new TableMetaDataYamlSwapper().swapToObject(YamlEngine.unmarshal(readYAML(), YamlTableMetaData.class));
         ShardingSphereSchema schema = new ShardingSphereSchema();
-        schema.getTables().put("t_order", tableMetaData);
+        schema.put("t_order", tableMetaData);
         new SchemaMetaDataPersistService(repository).persist("foo_db", "foo_schema", schema);
         verify(repository).persist(eq("/metadata/foo_db/schemas/foo_schema/tables/t_order"), anyString());
     }
@@ -205,7 +205,7 @@ public abstract class DatabaseCommunicationEngine<T> {
         List<QueryResponseCell> cells = new ArrayList<>(queryHeaders.size());
         boolean isBinary = isBinary();
         for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
-            Object data = mergedResult.getValue(columnIndex, Object.class);
+            Object data = getQueryResponseValue(columnIndex);
             if (isBinary) {
                 cells.add(new BinaryQueryResponseCell(queryHeaders.get(columnIndex - 1).getColumnType(), data));
             } else {
@@ -215,6 +215,17 @@ public abstract class DatabaseCommunicationEngine<T> {
         return new QueryResponseRow(cells);
     }
     
+    /**
+     * Get query response value of current row.
+     *
+     * @param columnIndex column index, start from 1
+     * @return query response value
+     * @throws SQLException SQL exception
+     */
+    public Object getQueryResponseValue(final int columnIndex) throws SQLException {
+        return mergedResult.getValue(columnIndex, Object.class);
+    }
+    
     protected boolean isBinary() {
         return !JDBCDriverType.STATEMENT.equals(driverType);
     }
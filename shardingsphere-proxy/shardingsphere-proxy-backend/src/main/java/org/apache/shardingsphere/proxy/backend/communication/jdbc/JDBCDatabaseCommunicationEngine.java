@@ -181,6 +181,7 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
      */
     public void close() throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
+        result.addAll(closeMergedResult());
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         if (result.isEmpty()) {
@@ -191,6 +192,18 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
         throw ex;
     }
     
+    private Collection<SQLException> closeMergedResult() {
+        if (null == getMergedResult()) {
+            return Collections.emptyList();
+        }
+        try {
+            getMergedResult().close();
+        } catch (final SQLException ex) {
+            return Collections.singletonList(ex);
+        }
+        return Collections.emptyList();
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
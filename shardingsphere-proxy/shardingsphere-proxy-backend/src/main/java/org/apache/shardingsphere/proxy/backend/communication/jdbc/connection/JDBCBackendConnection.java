@@ -36,6 +36,7 @@ import org.apache.shardingsphere.transaction.core.TransactionType;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -101,6 +102,7 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
         List<Connection> result = ProxyContext.getInstance().getBackendDataSource().getConnections(connectionSession.getDatabaseName(), dataSourceName, connectionSize, connectionMode);
         for (Connection each : result) {
             replayTransactionOption(each);
+            replaySessionVariables(each);
         }
         if (connectionSession.getTransactionStatus().isInTransaction()) {
             for (Connection each : result) {
@@ -128,6 +130,17 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
         }
     }
     
+    private void replaySessionVariables(final Connection connection) throws SQLException {
+        if (null == connection) {
+            return;
+        }
+        for (String each : connectionSession.getSessionVariableRecorder().getReplaySQLs()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(each);
+            }
+        }
+    }
+    
     /**
      * Whether execute SQL serial or not.
      *
@@ -279,6 +292,11 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
         if (null != connectionSession.getDefaultIsolationLevel()) {
             connection.setTransactionIsolation(TransactionUtil.getTransactionIsolationLevel(connectionSession.getIsolationLevel()));
         }
+        for (String each : connectionSession.getSessionVariableRecorder().getResetSQLs()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(each);
+            }
+        }
     }
     
     /**
@@ -23,6 +23,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
 
 /**
  * Resource lock.
@@ -48,6 +49,26 @@ public final class ResourceLock {
         }
     }
     
+    /**
+     * Await until condition satisfied.
+     *
+     * <p>Condition is checked while holding the lock, so a notification sent after condition changed will never be missed.
+     * Timeout of each await is kept as a safeguard for condition changes without notification.</p>
+     *
+     * @param satisfied condition to be satisfied
+     */
+    @SneakyThrows(InterruptedException.class)
+    public void doAwaitUntil(final BooleanSupplier satisfied) {
+        lock.lock();
+        try {
+            while (!satisfied.getAsBoolean()) {
+                condition.await(DEFAULT_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
     /**
      * Notify.
      */
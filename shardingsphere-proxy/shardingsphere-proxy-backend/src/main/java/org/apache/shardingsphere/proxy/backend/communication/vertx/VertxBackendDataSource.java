@@ -27,6 +27,8 @@ import io.vertx.core.VertxOptions;
 import io.vertx.core.impl.cpu.CpuCoreSensor;
 import io.vertx.mysqlclient.MySQLConnectOptions;
 import io.vertx.mysqlclient.MySQLPool;
+import io.vertx.pgclient.PgConnectOptions;
+import io.vertx.pgclient.PgPool;
 import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.PoolOptions;
 import io.vertx.sqlclient.SqlConnection;
@@ -135,9 +137,8 @@ public final class VertxBackendDataSource implements BackendDataSource {
             case "mysql":
                 return createMySQLPool(value, uri);
             case "postgresql":
-                throw new UnsupportedOperationException("For now");
             case "opengauss":
-                throw new UnsupportedOperationException("For now");
+                return createPostgreSQLPool(value, uri);
             default:
                 throw new UnsupportedOperationException("Database " + uri.getScheme() + " unsupported");
         }
@@ -149,8 +150,20 @@ public final class VertxBackendDataSource implements BackendDataSource {
         if (!Strings.isNullOrEmpty(value.getPassword())) {
             options = options.setPassword(value.getPassword());
         }
-        PoolOptions poolOptions = new PoolOptions().setMaxSize(value.getMaximumPoolSize()).setIdleTimeout((int) value.getIdleTimeout()).setIdleTimeoutUnit(TimeUnit.MILLISECONDS)
+        return MySQLPool.pool(vertx, options, createPoolOptions(value));
+    }
+    
+    private PgPool createPostgreSQLPool(final HikariDataSource value, final URI uri) {
+        PgConnectOptions options = new PgConnectOptions().setHost(uri.getHost()).setPort(uri.getPort()).setDatabase(uri.getPath().replace("/", ""))
+                .setUser(value.getUsername()).setCachePreparedStatements(true).setPreparedStatementCacheMaxSize(16384);
+        if (!Strings.isNullOrEmpty(value.getPassword())) {
+            options = options.setPassword(value.getPassword());
+        }
+        return PgPool.pool(vertx, options, createPoolOptions(value));
+    }
+    
+    private PoolOptions createPoolOptions(final HikariDataSource value) {
+        return new PoolOptions().setMaxSize(value.getMaximumPoolSize()).setIdleTimeout((int) value.getIdleTimeout()).setIdleTimeoutUnit(TimeUnit.MILLISECONDS)
                 .setConnectionTimeout((int) value.getConnectionTimeout()).setConnectionTimeoutUnit(TimeUnit.MILLISECONDS);
-        return MySQLPool.pool(vertx, options, poolOptions);
     }
 }
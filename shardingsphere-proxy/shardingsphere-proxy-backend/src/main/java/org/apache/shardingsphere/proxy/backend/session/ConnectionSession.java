@@ -73,12 +73,15 @@ public final class ConnectionSession {
     
     private final ExecutorStatementManager statementManager;
     
+    private final SessionVariableRecorder sessionVariableRecorder;
+    
     public ConnectionSession(final DatabaseType databaseType, final TransactionType initialTransactionType, final AttributeMap attributeMap) {
         this.databaseType = databaseType;
         transactionStatus = new TransactionStatus(initialTransactionType);
         this.attributeMap = attributeMap;
         backendConnection = determineBackendConnection();
         statementManager = determineStatementManager();
+        sessionVariableRecorder = new SessionVariableRecorder(databaseType);
     }
     
     private BackendConnection determineBackendConnection() {
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.session;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.MariaDBDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.OpenGaussDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableAssignSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.SetStatement;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Session variable recorder.
+ * 
+ * <p>Backend connections are returned to data source pool at transaction boundaries,
+ * so session variables set by client are recorded here, replayed on backend connections acquired later and reset before connections returned.
+ * Character set is not recorded, because it is kept on frontend side.</p>
+ */
+@RequiredArgsConstructor
+public final class SessionVariableRecorder {
+    
+    private static final Collection<String> IGNORED_VARIABLES = new HashSet<>(Arrays.asList("charset", "client_encoding"));
+    
+    private static final Collection<String> GLOBAL_SCOPES = new HashSet<>(Arrays.asList("GLOBAL", "PERSIST", "PERSIST_ONLY"));
+    
+    private final DatabaseType databaseType;
+    
+    private final Map<String, String> sessionVariableAssignments = new LinkedHashMap<>();
+    
+    /**
+     * Record session variables set by SQL.
+     * 
+     * <p>Each session scoped variable is recorded as its own assignment, so that variables of other scopes assigned by the same SQL are never replayed.</p>
+     *
+     * @param setStatement set statement
+     * @param sql SQL which sets session variables
+     */
+    public synchronized void record(final SetStatement setStatement, final String sql) {
+        for (VariableAssignSegment each : setStatement.getVariableAssigns()) {
+            Optional<String> variableName = findSessionVariableName(each.getVariable());
+            if (variableName.isPresent() && null != each.getAssignValue()) {
+                sessionVariableAssignments.remove(variableName.get());
+                sessionVariableAssignments.put(variableName.get(), createReplayAssignment(variableName.get(), getAssignValue(each, sql)));
+            }
+        }
+    }
+    
+    private Optional<String> findSessionVariableName(final VariableSegment variable) {
+        if (null == variable || null == variable.getVariable() || null != variable.getScope() && !isSessionScope(variable.getScope())) {
+            return Optional.empty();
+        }
+        String result = variable.getVariable().toLowerCase();
+        if (IGNORED_VARIABLES.contains(result)) {
+            return Optional.empty();
+        }
+        if (!result.startsWith("@@")) {
+            return Optional.of(result);
+        }
+        result = result.substring(2);
+        int dotIndex = result.indexOf('.');
+        if (-1 == dotIndex) {
+            return Optional.of(result);
+        }
+        return isSessionScope(result.substring(0, dotIndex)) ? Optional.of(result.substring(dotIndex + 1)) : Optional.empty();
+    }
+    
+    private String getAssignValue(final VariableAssignSegment variableAssign, final String sql) {
+        String variableText = variableAssign.getVariable().getVariable();
+        if (isPostgreSQLFamily() || variableAssign.getStartIndex() >= variableAssign.getStopIndex() || variableAssign.getStopIndex() >= sql.length()) {
+            return variableAssign.getAssignValue();
+        }
+        String assignSQL = sql.substring(variableAssign.getStartIndex(), variableAssign.getStopIndex() + 1);
+        String scope = variableAssign.getVariable().getScope();
+        int variableIndex = assignSQL.indexOf(variableText, null == scope ? 0 : scope.length());
+        int operatorIndex = -1 == variableIndex ? -1 : assignSQL.indexOf('=', variableIndex + variableText.length());
+        return -1 == operatorIndex ? variableAssign.getAssignValue() : assignSQL.substring(operatorIndex + 1).trim();
+    }
+    
+    private String createReplayAssignment(final String variableName, final String assignValue) {
+        return variableName.startsWith("@") ? String.format("%s = %s", variableName, assignValue) : String.format("SESSION %s = %s", variableName, assignValue);
+    }
+    
+    private boolean isSessionScope(final String scope) {
+        return !GLOBAL_SCOPES.contains(scope.toUpperCase()) && !("LOCAL".equalsIgnoreCase(scope) && isPostgreSQLFamily());
+    }
+    
+    private boolean isPostgreSQLFamily() {
+        return databaseType instanceof PostgreSQLDatabaseType || databaseType instanceof OpenGaussDatabaseType;
+    }
+    
+    /**
+     * Judge whether session variables recorded.
+     *
+     * @return session variables recorded or not
+     */
+    public synchronized boolean isEmpty() {
+        return sessionVariableAssignments.isEmpty();
+    }
+    
+    /**
+     * Get SQLs to replay session variables with the values assigned latest.
+     * 
+     * <p>MySQL assigns all variables by one {@code SET} SQL, and PostgreSQL sends all {@code SET} SQLs in one multi-statement SQL, so only one round trip is needed.</p>
+     *
+     * @return SQLs to replay session variables
+     */
+    public synchronized Collection<String> getReplaySQLs() {
+        if (sessionVariableAssignments.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (databaseType instanceof MySQLDatabaseType || databaseType instanceof MariaDBDatabaseType) {
+            return Collections.singletonList("SET " + String.join(", ", sessionVariableAssignments.values()));
+        }
+        Collection<String> result = sessionVariableAssignments.values().stream().map(each -> "SET " + each).collect(Collectors.toList());
+        return isPostgreSQLFamily() ? Collections.singletonList(String.join("; ", result)) : result;
+    }
+    
+    /**
+     * Get SQLs to reset session variables to default before backend connection returned to data source pool.
+     *
+     * @return SQLs to reset session variables
+     */
+    public synchronized Collection<String> getResetSQLs() {
+        if (sessionVariableAssignments.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (isPostgreSQLFamily()) {
+            return Collections.singletonList("RESET ALL");
+        }
+        if (databaseType instanceof MySQLDatabaseType || databaseType instanceof MariaDBDatabaseType) {
+            return Collections.singletonList("SET " + sessionVariableAssignments.keySet().stream().map(this::getMySQLResetAssignment).collect(Collectors.joining(", ")));
+        }
+        return Collections.emptyList();
+    }
+    
+    private String getMySQLResetAssignment(final String variableName) {
+        return variableName.startsWith("@") ? variableName + " = NULL" : "SESSION " + variableName + " = DEFAULT";
+    }
+}
@@ -18,11 +18,13 @@
 package org.apache.shardingsphere.proxy.backend.text;
 
 import io.vertx.core.Future;
+import org.apache.shardingsphere.db.protocol.row.RowValueReader;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Optional;
 
 /**
  * Text protocol backend handler.
@@ -70,6 +72,15 @@ public interface TextProtocolBackendHandler {
         return Collections.emptyList();
     }
     
+    /**
+     * Get row value reader, which reads values of current row without creating row data.
+     *
+     * @return row value reader
+     */
+    default Optional<RowValueReader> getRowValueReader() {
+        return Optional.empty();
+    }
+    
     /**
      * Close handler.
      *
@@ -25,9 +25,11 @@ import org.apache.shardingsphere.distsql.parser.statement.DistSQLStatement;
 import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.type.TableAvailable;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.check.SQLCheckEngine;
 import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.infra.parser.literal.ParameterizedSQLStatement;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
@@ -36,6 +38,7 @@ import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.text.admin.DatabaseAdminBackendHandlerFactory;
 import org.apache.shardingsphere.proxy.backend.text.data.DatabaseBackendHandlerFactory;
+import org.apache.shardingsphere.proxy.backend.text.data.impl.SchemaAssignedDatabaseBackendHandler;
 import org.apache.shardingsphere.proxy.backend.text.database.DatabaseOperateBackendHandlerFactory;
 import org.apache.shardingsphere.proxy.backend.text.distsql.DistSQLBackendHandlerFactory;
 import org.apache.shardingsphere.proxy.backend.text.extra.ExtraTextProtocolBackendHandler;
@@ -48,6 +51,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.dcl.DCLStatemen
 import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.CreateDatabaseStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.DropDatabaseStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.EmptyStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.tcl.TCLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLShowCreateUserStatement;
@@ -56,6 +60,7 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -79,18 +84,20 @@ public final class TextProtocolBackendHandlerFactory {
      * @return text protocol backend handler
      * @throws SQLException SQL exception
      */
-    @SuppressWarnings("unchecked")
     public static TextProtocolBackendHandler newInstance(final DatabaseType databaseType, final String sql, final Supplier<Optional<SQLStatement>> sqlStatementSupplier,
                                                          final ConnectionSession connectionSession) throws SQLException {
         String trimSQL = SQLUtil.trimComment(sql);
         if (Strings.isNullOrEmpty(trimSQL)) {
             return new SkipBackendHandler(new EmptyStatement());
         }
-        SQLStatement sqlStatement = sqlStatementSupplier.get().orElseGet(() -> {
-            Optional<SQLParserRule> sqlParserRule = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getGlobalRuleMetaData().findSingleRule(SQLParserRule.class);
-            Preconditions.checkState(sqlParserRule.isPresent());
-            return new ShardingSphereSQLParserEngine(getBackendDatabaseType(databaseType, connectionSession).getName(), sqlParserRule.get().toParserConfiguration()).parse(sql, false);
-        });
+        Optional<SQLStatement> suppliedSQLStatement = sqlStatementSupplier.get();
+        if (!suppliedSQLStatement.isPresent() && isSQLLiteralParameterizedEnabled()) {
+            Optional<TextProtocolBackendHandler> parameterizedBackendHandler = newParameterizedInstance(databaseType, sql, connectionSession);
+            if (parameterizedBackendHandler.isPresent()) {
+                return parameterizedBackendHandler.get();
+            }
+        }
+        SQLStatement sqlStatement = suppliedSQLStatement.orElseGet(() -> createSQLParserEngine(databaseType, connectionSession).parse(sql, false));
         databaseType.handleRollbackOnly(connectionSession.getTransactionStatus().isRollbackOnly(), sqlStatement);
         checkUnsupportedSQLStatement(sqlStatement);
         if (sqlStatement instanceof DistSQLStatement) {
@@ -98,6 +105,13 @@ public final class TextProtocolBackendHandlerFactory {
         }
         SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaDataMap(),
                 sqlStatement, connectionSession.getDefaultDatabaseName());
+        Supplier<TextProtocolBackendHandler> databaseBackendHandlerSupplier = () -> DatabaseBackendHandlerFactory.newInstance(sqlStatementContext, sql, connectionSession);
+        return newInstance(databaseType, sql, sqlStatementContext, Collections.emptyList(), databaseBackendHandlerSupplier, connectionSession);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static TextProtocolBackendHandler newInstance(final DatabaseType databaseType, final String sql, final SQLStatementContext<?> sqlStatementContext, final List<Object> parameters,
+                                                          final Supplier<TextProtocolBackendHandler> databaseBackendHandlerSupplier, final ConnectionSession connectionSession) throws SQLException {
         Optional<TextProtocolBackendHandler> backendHandler = DatabaseAdminBackendHandlerFactory.newInstance(databaseType, sqlStatementContext, connectionSession, sql);
         if (backendHandler.isPresent()) {
             return backendHandler.get();
@@ -106,6 +120,7 @@ public final class TextProtocolBackendHandlerFactory {
         if (sqlStatementContext instanceof TableAvailable) {
             ((TableAvailable) sqlStatementContext).getTablesContext().getDatabaseName().ifPresent(SQLStatementSchemaHolder::set);
         }
+        SQLStatement sqlStatement = sqlStatementContext.getSqlStatement();
         Optional<ExtraTextProtocolBackendHandler> extraHandler = findExtraTextProtocolBackendHandler(sqlStatement);
         if (extraHandler.isPresent()) {
             return extraHandler.get();
@@ -117,13 +132,45 @@ public final class TextProtocolBackendHandlerFactory {
         String databaseName = sqlStatementContext.getTablesContext().getDatabaseName().isPresent()
                 ? sqlStatementContext.getTablesContext().getDatabaseName().get()
                 : connectionSession.getDatabaseName();
-        SQLCheckEngine.check(sqlStatement, Collections.emptyList(),
+        SQLCheckEngine.check(sqlStatement, parameters,
                 getRules(databaseName), databaseName, ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaDataMap(), connectionSession.getGrantee());
         if (sqlStatement instanceof TCLStatement) {
             return TransactionBackendHandlerFactory.newInstance((SQLStatementContext<TCLStatement>) sqlStatementContext, sql, connectionSession);
         }
         backendHandler = DatabaseAdminBackendHandlerFactory.newInstance(databaseType, sqlStatementContext, connectionSession);
-        return backendHandler.orElseGet(() -> DatabaseBackendHandlerFactory.newInstance(sqlStatementContext, sql, connectionSession));
+        return backendHandler.orElseGet(databaseBackendHandlerSupplier);
+    }
+    
+    private static ShardingSphereSQLParserEngine createSQLParserEngine(final DatabaseType databaseType, final ConnectionSession connectionSession) {
+        Optional<SQLParserRule> sqlParserRule = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getGlobalRuleMetaData().findSingleRule(SQLParserRule.class);
+        Preconditions.checkState(sqlParserRule.isPresent());
+        return new ShardingSphereSQLParserEngine(getBackendDatabaseType(databaseType, connectionSession).getName(), sqlParserRule.get().toParserConfiguration());
+    }
+    
+    private static boolean isSQLLiteralParameterizedEnabled() {
+        return ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_SQL_LITERAL_PARAMETERIZED_ENABLED);
+    }
+    
+    private static Optional<TextProtocolBackendHandler> newParameterizedInstance(final DatabaseType databaseType, final String sql, final ConnectionSession connectionSession) throws SQLException {
+        Optional<ParameterizedSQLStatement> parameterizedSQLStatement = createSQLParserEngine(databaseType, connectionSession).parseParameterized(sql);
+        if (!parameterizedSQLStatement.isPresent() || parameterizedSQLStatement.get().getParameters().isEmpty()) {
+            return Optional.empty();
+        }
+        SQLStatement sqlStatement = parameterizedSQLStatement.get().getSqlStatement();
+        if (sqlStatement instanceof SelectStatement && null == ((SelectStatement) sqlStatement).getFrom() || findExtraTextProtocolBackendHandler(sqlStatement).isPresent()) {
+            return Optional.empty();
+        }
+        List<Object> parameters = parameterizedSQLStatement.get().getParameters();
+        SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(
+                ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaDataMap(), parameters, sqlStatement, connectionSession.getDefaultDatabaseName());
+        if (DatabaseAdminBackendHandlerFactory.newInstance(databaseType, sqlStatementContext, connectionSession, sql).isPresent()
+                || DatabaseAdminBackendHandlerFactory.newInstance(databaseType, sqlStatementContext, connectionSession).isPresent()) {
+            return Optional.empty();
+        }
+        databaseType.handleRollbackOnly(connectionSession.getTransactionStatus().isRollbackOnly(), sqlStatement);
+        String parameterizedSQL = parameterizedSQLStatement.get().getSql();
+        Supplier<TextProtocolBackendHandler> databaseBackendHandlerSupplier = () -> new SchemaAssignedDatabaseBackendHandler(sqlStatementContext, parameterizedSQL, parameters, connectionSession);
+        return Optional.of(newInstance(databaseType, sql, sqlStatementContext, parameters, databaseBackendHandlerSupplier, connectionSession));
     }
     
     private static DatabaseType getBackendDatabaseType(final DatabaseType defaultDatabaseType, final ConnectionSession connectionSession) {
@@ -18,7 +18,7 @@
 package org.apache.shardingsphere.proxy.backend.text.data.impl;
 
 import io.vertx.core.Future;
-import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.row.RowValueReader;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.distsql.exception.resource.RequiredResourceMissedException;
 import org.apache.shardingsphere.infra.metadata.schema.util.SystemSchemaUtil;
@@ -33,11 +33,13 @@ import org.apache.shardingsphere.proxy.backend.text.data.DatabaseBackendHandler;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Database backend handler with assigned schema.
  */
-@RequiredArgsConstructor
 public final class SchemaAssignedDatabaseBackendHandler implements DatabaseBackendHandler {
     
     private final DatabaseCommunicationEngineFactory databaseCommunicationEngineFactory = DatabaseCommunicationEngineFactory.getInstance();
@@ -46,10 +48,23 @@ public final class SchemaAssignedDatabaseBackendHandler implements DatabaseBacke
     
     private final String sql;
     
+    private final List<Object> parameters;
+    
     private final ConnectionSession connectionSession;
     
     private DatabaseCommunicationEngine<?> databaseCommunicationEngine;
     
+    public SchemaAssignedDatabaseBackendHandler(final SQLStatementContext<?> sqlStatementContext, final String sql, final ConnectionSession connectionSession) {
+        this(sqlStatementContext, sql, Collections.emptyList(), connectionSession);
+    }
+    
+    public SchemaAssignedDatabaseBackendHandler(final SQLStatementContext<?> sqlStatementContext, final String sql, final List<Object> parameters, final ConnectionSession connectionSession) {
+        this.sqlStatementContext = sqlStatementContext;
+        this.sql = sql;
+        this.parameters = parameters;
+        this.connectionSession = connectionSession;
+    }
+    
     @Override
     public ResponseHeader execute() throws SQLException {
         prepareDatabaseCommunicationEngine();
@@ -77,7 +92,9 @@ public final class SchemaAssignedDatabaseBackendHandler implements DatabaseBacke
         if (!isSystemSchema && !ProxyContext.getInstance().getMetaData(connectionSession.getDatabaseName()).isComplete()) {
             throw new RuleNotExistedException();
         }
-        databaseCommunicationEngine = databaseCommunicationEngineFactory.newTextProtocolInstance(sqlStatementContext, sql, connectionSession.getBackendConnection());
+        databaseCommunicationEngine = parameters.isEmpty()
+                ? databaseCommunicationEngineFactory.newTextProtocolInstance(sqlStatementContext, sql, connectionSession.getBackendConnection())
+                : databaseCommunicationEngineFactory.newBinaryProtocolInstance(sqlStatementContext, sql, parameters, connectionSession.getBackendConnection());
     }
     
     @Override
@@ -90,6 +107,11 @@ public final class SchemaAssignedDatabaseBackendHandler implements DatabaseBacke
         return databaseCommunicationEngine.getQueryResponseRow().getData();
     }
     
+    @Override
+    public Optional<RowValueReader> getRowValueReader() {
+        return Optional.of(databaseCommunicationEngine::getQueryResponseValue);
+    }
+    
     @Override
     public void close() throws SQLException {
         if (databaseCommunicationEngine instanceof JDBCDatabaseCommunicationEngine) {
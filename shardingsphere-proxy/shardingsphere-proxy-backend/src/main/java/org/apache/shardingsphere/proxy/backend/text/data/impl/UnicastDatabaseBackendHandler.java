@@ -19,6 +19,7 @@ package org.apache.shardingsphere.proxy.backend.text.data.impl;
 
 import io.vertx.core.Future;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.row.RowValueReader;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngine;
 import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngineFactory;
@@ -103,6 +104,11 @@ public final class UnicastDatabaseBackendHandler implements DatabaseBackendHandl
         return databaseCommunicationEngine.getQueryResponseRow().getData();
     }
     
+    @Override
+    public Optional<RowValueReader> getRowValueReader() {
+        return Optional.of(databaseCommunicationEngine::getQueryResponseValue);
+    }
+    
     @Override
     public void close() throws SQLException {
         if (databaseCommunicationEngine instanceof JDBCDatabaseCommunicationEngine) {
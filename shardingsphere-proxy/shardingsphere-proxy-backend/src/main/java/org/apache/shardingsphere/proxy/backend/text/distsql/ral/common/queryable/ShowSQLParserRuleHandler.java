@@ -17,18 +17,23 @@
 
 package org.apache.shardingsphere.proxy.backend.text.distsql.ral.common.queryable;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.gson.Gson;
 import org.apache.shardingsphere.distsql.parser.statement.ral.common.queryable.ShowSQLParserRuleStatement;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.text.distsql.ral.QueryableRALBackendHandler;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 
 /**
@@ -44,9 +49,11 @@ public final class ShowSQLParserRuleHandler extends QueryableRALBackendHandler<S
     
     private static final String SQL_STATEMENT_CACHE = "sql_statement_cache";
     
+    private static final String SQL_STATEMENT_CACHE_STATS = "sql_statement_cache_stats";
+    
     @Override
     protected Collection<String> getColumnNames() {
-        return Arrays.asList(SQL_COMMENT_PARSE_ENABLE, PARSE_TREE_CACHE, SQL_STATEMENT_CACHE);
+        return Arrays.asList(SQL_COMMENT_PARSE_ENABLE, PARSE_TREE_CACHE, SQL_STATEMENT_CACHE, SQL_STATEMENT_CACHE_STATS);
     }
     
     @Override
@@ -61,8 +68,23 @@ public final class ShowSQLParserRuleHandler extends QueryableRALBackendHandler<S
         row.add(String.valueOf(sqlParserRuleConfiguration.isSqlCommentParseEnabled()));
         row.add(GSON.toJson(sqlParserRuleConfiguration.getParseTreeCache()));
         row.add(GSON.toJson(sqlParserRuleConfiguration.getSqlStatementCache()));
+        Map<String, CacheStats> sqlStatementCacheStats = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getGlobalRuleMetaData()
+                .findSingleRule(SQLParserRule.class).map(SQLParserRule::getSQLStatementCacheStats).orElseGet(Collections::emptyMap);
+        row.add(GSON.toJson(convertCacheStats(sqlStatementCacheStats)));
         Collection<List<Object>> result = new LinkedList<>();
         result.add(row);
         return result;
     }
+    
+    private Map<String, Map<String, Long>> convertCacheStats(final Map<String, CacheStats> cacheStats) {
+        Map<String, Map<String, Long>> result = new LinkedHashMap<>(cacheStats.size(), 1);
+        for (Entry<String, CacheStats> entry : cacheStats.entrySet()) {
+            Map<String, Long> stats = new LinkedHashMap<>(3, 1);
+            stats.put("hitCount", entry.getValue().hitCount());
+            stats.put("missCount", entry.getValue().missCount());
+            stats.put("evictionCount", entry.getValue().evictionCount());
+            result.put(entry.getKey(), stats);
+        }
+        return result;
+    }
 }
@@ -77,6 +77,6 @@ public final class AlterSQLParserRuleHandler extends UpdatableRALBackendHandler<
         int initialCapacity = null == segment.getInitialCapacity() ? cacheOption.getInitialCapacity() : segment.getInitialCapacity();
         long maximumSize = null == segment.getMaximumSize() ? cacheOption.getMaximumSize() : segment.getMaximumSize();
         int concurrencyLevel = null == segment.getConcurrencyLevel() ? cacheOption.getConcurrencyLevel() : segment.getConcurrencyLevel();
-        return new CacheOption(initialCapacity, maximumSize, concurrencyLevel);
+        return new CacheOption(initialCapacity, maximumSize, concurrencyLevel, cacheOption.getMaximumWeight());
     }
 }
@@ -35,7 +35,11 @@ import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.JDBC
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.exception.BackendConnectionException;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.SessionVariableRecorder;
 import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableAssignSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableSegment;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLSetStatement;
 import org.apache.shardingsphere.transaction.ShardingSphereTransactionManagerEngine;
 import org.apache.shardingsphere.transaction.context.TransactionContexts;
 import org.apache.shardingsphere.transaction.core.TransactionType;
@@ -52,6 +56,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -191,6 +196,34 @@ public final class JDBCBackendConnectionTest {
         assertTrue(connectionSession.getTransactionStatus().isInTransaction());
     }
     
+    @Test
+    public void assertGetConnectionWithSessionVariablesReplayed() throws SQLException {
+        connectionSession.getTransactionStatus().setInTransaction(false);
+        SessionVariableRecorder sessionVariableRecorder = new SessionVariableRecorder(new MySQLDatabaseType());
+        sessionVariableRecorder.record(createSetStatement("sql_mode"), "SET sql_mode = ''");
+        when(connectionSession.getSessionVariableRecorder()).thenReturn(sessionVariableRecorder);
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(backendDataSource.getConnections(anyString(), anyString(), eq(1), any())).thenReturn(Collections.singletonList(connection));
+        backendConnection.getConnections("ds1", 1, ConnectionMode.MEMORY_STRICTLY);
+        verify(statement).execute("SET SESSION sql_mode = ''");
+        backendConnection.closeConnections(false);
+        verify(statement).execute("SET SESSION sql_mode = DEFAULT");
+        verify(connection).close();
+    }
+    
+    private MySQLSetStatement createSetStatement(final String variableName) {
+        VariableSegment variable = new VariableSegment();
+        variable.setVariable(variableName);
+        VariableAssignSegment variableAssign = new VariableAssignSegment();
+        variableAssign.setVariable(variable);
+        variableAssign.setAssignValue("''");
+        MySQLSetStatement result = new MySQLSetStatement();
+        result.getVariableAssigns().add(variableAssign);
+        return result;
+    }
+    
     @SneakyThrows(ReflectiveOperationException.class)
     private void setConnectionPostProcessors() {
         ConnectionPostProcessor invocation = mock(ConnectionPostProcessor.class);
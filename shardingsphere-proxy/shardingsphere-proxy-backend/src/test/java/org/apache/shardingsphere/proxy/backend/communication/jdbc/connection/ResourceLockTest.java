@@ -21,6 +21,9 @@ import org.junit.Test;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.Assert.assertTrue;
 
@@ -49,4 +52,18 @@ public final class ResourceLockTest {
         resourceLock.doAwait();
         assertTrue(System.currentTimeMillis() > startTime);
     }
+    
+    @Test
+    public void assertDoAwaitUntil() {
+        ResourceLock resourceLock = new ResourceLock();
+        AtomicBoolean satisfied = new AtomicBoolean();
+        ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor();
+        executorService.schedule(() -> {
+            satisfied.set(true);
+            resourceLock.doNotify();
+        }, 50L, TimeUnit.MILLISECONDS);
+        resourceLock.doAwaitUntil(satisfied::get);
+        assertTrue(satisfied.get());
+        executorService.shutdown();
+    }
 }
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.session;
+
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableAssignSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.SetStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLSetStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dal.PostgreSQLSetStatement;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SessionVariableRecorderTest {
+    
+    @Test
+    public void assertRecordMySQLSessionVariables() {
+        SessionVariableRecorder recorder = new SessionVariableRecorder(new MySQLDatabaseType());
+        String sql = "SET sql_mode = '', @x = 1 DIV 2";
+        SetStatement setStatement = new MySQLSetStatement();
+        setStatement.getVariableAssigns().add(createVariableAssign(sql, null, "sql_mode", "''"));
+        setStatement.getVariableAssigns().add(createVariableAssign(sql, null, "@x", "1DIV2"));
+        recorder.record(setStatement, sql);
+        recorder.record(createSetStatement(new MySQLSetStatement(), "GLOBAL", "max_connections", "1000"), "SET GLOBAL max_connections = 1000");
+        recorder.record(createSetStatement(new MySQLSetStatement(), null, "@@SESSION.sql_mode", "'ANSI'"), "SET @@SESSION.sql_mode = 'ANSI'");
+        recorder.record(createSetStatement(new MySQLSetStatement(), null, "charset", "utf8mb4"), "SET NAMES utf8mb4");
+        assertThat(new ArrayList<>(recorder.getReplaySQLs()), is(Collections.singletonList("SET @x = 1 DIV 2, SESSION sql_mode = 'ANSI'")));
+        assertThat(recorder.getResetSQLs(), is(Collections.singletonList("SET @x = NULL, SESSION sql_mode = DEFAULT")));
+    }
+    
+    @Test
+    public void assertRecordMySQLMixedScopeVariables() {
+        SessionVariableRecorder recorder = new SessionVariableRecorder(new MySQLDatabaseType());
+        String sql = "SET GLOBAL a=1, SESSION b=2";
+        SetStatement setStatement = new MySQLSetStatement();
+        setStatement.getVariableAssigns().add(createVariableAssign(sql, "GLOBAL", "a", "1"));
+        setStatement.getVariableAssigns().add(createVariableAssign(sql, "SESSION", "b", "2"));
+        recorder.record(setStatement, sql);
+        assertThat(new ArrayList<>(recorder.getReplaySQLs()), is(Collections.singletonList("SET SESSION b = 2")));
+        assertThat(recorder.getResetSQLs(), is(Collections.singletonList("SET SESSION b = DEFAULT")));
+    }
+    
+    @Test
+    public void assertRecordPostgreSQLSessionVariables() {
+        SessionVariableRecorder recorder = new SessionVariableRecorder(new PostgreSQLDatabaseType());
+        recorder.record(createSetStatement(new PostgreSQLSetStatement(), "LOCAL", "statement_timeout", "1000"), "SET LOCAL statement_timeout = 1000");
+        recorder.record(createSetStatement(new PostgreSQLSetStatement(), null, "client_encoding", "'UTF8'"), "SET NAMES 'UTF8'");
+        assertTrue(recorder.isEmpty());
+        assertTrue(recorder.getResetSQLs().isEmpty());
+        recorder.record(createSetStatement(new PostgreSQLSetStatement(), null, "search_path", "foo,public"), "SET search_path TO foo, public");
+        recorder.record(createSetStatement(new PostgreSQLSetStatement(), "SESSION", "statement_timeout", "1000"), "SET SESSION statement_timeout = 1000");
+        assertThat(new ArrayList<>(recorder.getReplaySQLs()), is(Collections.singletonList("SET SESSION search_path = foo,public; SET SESSION statement_timeout = 1000")));
+        assertThat(recorder.getResetSQLs(), is(Collections.singletonList("RESET ALL")));
+    }
+    
+    private SetStatement createSetStatement(final SetStatement setStatement, final String scope, final String variableName, final String assignValue) {
+        VariableSegment variable = new VariableSegment();
+        variable.setScope(scope);
+        variable.setVariable(variableName);
+        VariableAssignSegment variableAssign = new VariableAssignSegment();
+        variableAssign.setVariable(variable);
+        variableAssign.setAssignValue(assignValue);
+        setStatement.getVariableAssigns().add(variableAssign);
+        return setStatement;
+    }
+    
+    private VariableAssignSegment createVariableAssign(final String sql, final String scope, final String variableName, final String assignValue) {
+        VariableAssignSegment result = createSetStatement(new MySQLSetStatement(), scope, variableName, assignValue).getVariableAssigns().iterator().next();
+        String assignSQLPrefix = null == scope ? variableName : scope + " " + variableName;
+        result.setStartIndex(sql.indexOf(assignSQLPrefix));
+        int nextAssignIndex = sql.indexOf(',', result.getStartIndex());
+        result.setStopIndex(-1 == nextAssignIndex ? sql.length() - 1 : nextAssignIndex - 1);
+        return result;
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.backend.text;
 
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -26,8 +27,11 @@ import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngine;
+import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngineFactory;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.text.admin.DatabaseAdminQueryBackendHandler;
 import org.apache.shardingsphere.proxy.backend.text.admin.DatabaseAdminUpdateBackendHandler;
@@ -50,6 +54,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Answers;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.sql.SQLException;
@@ -58,9 +63,13 @@ import java.util.Optional;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -232,6 +241,34 @@ public final class TextProtocolBackendHandlerFactoryTest {
         assertThat(actual, instanceOf(DatabaseAdminQueryBackendHandler.class));
     }
     
+    @Test
+    public void assertNewInstanceWithSQLLiteralParameterized() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.PROXY_SQL_LITERAL_PARAMETERIZED_ENABLED.getKey(), Boolean.TRUE.toString());
+        ProxyContext instance = ProxyContext.getInstance();
+        MetaDataContexts metaDataContexts = instance.getContextManager().getMetaDataContexts();
+        when(metaDataContexts.getProps()).thenReturn(new ConfigurationProperties(props));
+        when(metaDataContexts.getMetaData("db").getResource().getDatabaseType()).thenReturn(databaseType);
+        when(metaDataContexts.getMetaData("db").hasDataSource()).thenReturn(true);
+        when(metaDataContexts.getMetaData("db").isComplete()).thenReturn(true);
+        when(metaDataContexts.getMetaData("db").getRuleMetaData().getRules()).thenReturn(Collections.emptyList());
+        when(instance.getAllDatabaseNames()).thenReturn(Collections.singletonList("db"));
+        when(connectionSession.getDatabaseName()).thenReturn("db");
+        DatabaseCommunicationEngineFactory databaseCommunicationEngineFactory = mock(DatabaseCommunicationEngineFactory.class);
+        DatabaseCommunicationEngine<?> databaseCommunicationEngine = mock(DatabaseCommunicationEngine.class);
+        ResponseHeader responseHeader = mock(ResponseHeader.class);
+        when(databaseCommunicationEngine.execute()).thenReturn(responseHeader);
+        when(databaseCommunicationEngineFactory.newBinaryProtocolInstance(any(), eq("select * from t_order where order_id = ?"), eq(Collections.singletonList(1)), any()))
+                .thenReturn(databaseCommunicationEngine);
+        try (MockedStatic<DatabaseCommunicationEngineFactory> mockedFactory = mockStatic(DatabaseCommunicationEngineFactory.class)) {
+            mockedFactory.when(DatabaseCommunicationEngineFactory::getInstance).thenReturn(databaseCommunicationEngineFactory);
+            TextProtocolBackendHandler actual = TextProtocolBackendHandlerFactory.newInstance(databaseType, "select * from t_order where order_id = 1", Optional::empty, connectionSession);
+            assertThat(actual.execute(), is(responseHeader));
+        }
+        String sql = "select * from information_schema.schemata where schema_name = 'db'";
+        assertThat(TextProtocolBackendHandlerFactory.newInstance(databaseType, sql, Optional::empty, connectionSession), instanceOf(DatabaseAdminQueryBackendHandler.class));
+    }
+    
     @Test
     public void assertNewInstanceWithEmptyString() throws SQLException {
         String sql = "";
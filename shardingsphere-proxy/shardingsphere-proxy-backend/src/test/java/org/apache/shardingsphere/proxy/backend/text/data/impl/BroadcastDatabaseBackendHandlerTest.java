@@ -34,7 +34,9 @@ import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.SessionVariableRecorder;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLSetStatement;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -96,6 +98,21 @@ public final class BroadcastDatabaseBackendHandlerTest {
         verify(databaseCommunicationEngine, times(10)).execute();
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertExecuteSetStatementWithSessionVariablesRecorded() throws SQLException {
+        mockDatabaseCommunicationEngine(new UpdateResponseHeader(mock(SQLStatement.class)));
+        SessionVariableRecorder sessionVariableRecorder = mock(SessionVariableRecorder.class);
+        when(connectionSession.getSessionVariableRecorder()).thenReturn(sessionVariableRecorder);
+        SQLStatementContext<MySQLSetStatement> sqlStatementContext = mock(SQLStatementContext.class);
+        MySQLSetStatement setStatement = new MySQLSetStatement();
+        when(sqlStatementContext.getSqlStatement()).thenReturn(setStatement);
+        BroadcastDatabaseBackendHandler broadcastBackendHandler = new BroadcastDatabaseBackendHandler(sqlStatementContext, "SET sql_mode = ''", connectionSession);
+        setBackendHandlerFactory(broadcastBackendHandler);
+        broadcastBackendHandler.execute();
+        verify(sessionVariableRecorder).record(setStatement, "SET sql_mode = ''");
+    }
+    
     private Map<String, ShardingSphereMetaData> getMetaDataMap() {
         Map<String, ShardingSphereMetaData> result = new HashMap<>(10, 1);
         for (int i = 0; i < 10; i++) {
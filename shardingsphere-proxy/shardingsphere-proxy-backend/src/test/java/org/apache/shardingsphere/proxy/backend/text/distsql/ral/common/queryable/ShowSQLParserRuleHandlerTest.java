@@ -17,10 +17,12 @@
 
 package org.apache.shardingsphere.proxy.backend.text.distsql.ral.common.queryable;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.apache.shardingsphere.distsql.parser.statement.ral.common.queryable.ShowSQLParserRuleStatement;
 import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.junit.Test;
@@ -41,14 +43,15 @@ public final class ShowSQLParserRuleHandlerTest {
     
     @Test
     public void assertSQLParserRule() throws SQLException {
+        ShardingSphereRuleMetaData globalRuleMetaData = getGlobalRuleMetaData();
         ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
-        when(contextManager.getMetaDataContexts().getGlobalRuleMetaData()).thenReturn(getGlobalRuleMetaData());
+        when(contextManager.getMetaDataContexts().getGlobalRuleMetaData()).thenReturn(globalRuleMetaData);
         ProxyContext.getInstance().init(contextManager);
         ShowSQLParserRuleHandler handler = new ShowSQLParserRuleHandler().initStatement(new ShowSQLParserRuleStatement());
         handler.execute();
         handler.next();
         List<Object> data = new ArrayList<>(handler.getRowData());
-        assertThat(data.size(), is(3));
+        assertThat(data.size(), is(4));
         assertThat(data.get(0), is("true"));
         String parseTreeCache = String.valueOf(data.get(1));
         assertThat(parseTreeCache, containsString("\"initialCapacity\":128"));
@@ -58,12 +61,15 @@ public final class ShowSQLParserRuleHandlerTest {
         assertThat(sqlStatementCache, containsString("\"initialCapacity\":2000"));
         assertThat(sqlStatementCache, containsString("\"maximumSize\":65535"));
         assertThat(sqlStatementCache, containsString("\"concurrencyLevel\":4"));
+        assertThat(data.get(3), is("{\"MySQL\":{\"hitCount\":10,\"missCount\":2,\"evictionCount\":1}}"));
     }
     
     private ShardingSphereRuleMetaData getGlobalRuleMetaData() {
         CacheOption parseTreeCache = new CacheOption(128, 1024, 4);
         CacheOption sqlStatementCache = new CacheOption(2000, 65535, 4);
         SQLParserRuleConfiguration sqlParserRuleConfiguration = new SQLParserRuleConfiguration(true, parseTreeCache, sqlStatementCache);
-        return new ShardingSphereRuleMetaData(Collections.singleton(sqlParserRuleConfiguration), Collections.emptyList());
+        SQLParserRule sqlParserRule = mock(SQLParserRule.class);
+        when(sqlParserRule.getSQLStatementCacheStats()).thenReturn(Collections.singletonMap("MySQL", CacheStats.of(10L, 2L, 2L, 0L, 0L, 1L, 1L)));
+        return new ShardingSphereRuleMetaData(Collections.singleton(sqlParserRuleConfiguration), Collections.singleton(sqlParserRule));
     }
 }
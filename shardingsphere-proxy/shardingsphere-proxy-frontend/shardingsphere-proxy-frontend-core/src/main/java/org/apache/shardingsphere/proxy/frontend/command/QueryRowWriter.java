@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ResourceLock;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.frontend.connection.ConnectionWriteStatistics;
+import org.apache.shardingsphere.proxy.frontend.connection.ConnectionWriteStatisticsContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query row writer.
+ * 
+ * <p>Rows are flushed by written bytes. Flush bytes starts small, so small results and first rows of large results reach client promptly,
+ * and doubles after every flush up to {@code proxy-frontend-flush-bytes-threshold}, so large results are coalesced into few flushes.
+ * {@code proxy-frontend-flush-threshold} limits rows of every flush.</p>
+ * 
+ * <p>Reading backend result is paused while channel is not writable, and resumed by channel writability changed event.</p>
+ */
+public final class QueryRowWriter {
+    
+    private static final int INITIAL_FLUSH_BYTES = 4096;
+    
+    private static final int ESTIMATED_PACKET_BYTES = 64;
+    
+    private final ChannelHandlerContext context;
+    
+    private final ResourceLock resourceLock;
+    
+    private final ConnectionWriteStatistics statistics;
+    
+    private final int maxFlushRows;
+    
+    private final int maxFlushBytes;
+    
+    private int flushBytes;
+    
+    private int pendingRows;
+    
+    private int pendingBytes;
+    
+    public QueryRowWriter(final ChannelHandlerContext context, final JDBCBackendConnection backendConnection) {
+        this(context, backendConnection.getResourceLock(), getStatistics(backendConnection), ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps());
+    }
+    
+    public QueryRowWriter(final ChannelHandlerContext context, final ResourceLock resourceLock, final ConnectionWriteStatistics statistics, final ConfigurationProperties props) {
+        this.context = context;
+        this.resourceLock = resourceLock;
+        this.statistics = statistics;
+        maxFlushRows = Math.max(1, props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD));
+        maxFlushBytes = Math.max(1, props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD));
+        flushBytes = Math.min(INITIAL_FLUSH_BYTES, maxFlushBytes);
+    }
+    
+    private static ConnectionWriteStatistics getStatistics(final JDBCBackendConnection backendConnection) {
+        return ConnectionWriteStatisticsContext.getInstance().find(backendConnection.getConnectionSession().getConnectionId()).orElseGet(ConnectionWriteStatistics::new);
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row, encoded byte buffer or database packet
+     */
+    public void write(final Object row) {
+        awaitWritable();
+        int rowBytes = row instanceof ByteBuf ? ((ByteBuf) row).readableBytes() : ESTIMATED_PACKET_BYTES;
+        context.write(row);
+        statistics.onRowWritten(rowBytes);
+        pendingRows++;
+        pendingBytes += rowBytes;
+        if (pendingBytes >= flushBytes || pendingRows >= maxFlushRows) {
+            flush();
+            flushBytes = (int) Math.min((long) flushBytes << 1, maxFlushBytes);
+        }
+    }
+    
+    private void awaitWritable() {
+        Channel channel = context.channel();
+        if (channel.isWritable() || !channel.isActive()) {
+            return;
+        }
+        flush();
+        long startNanos = System.nanoTime();
+        resourceLock.doAwaitUntil(() -> channel.isWritable() || !channel.isActive());
+        statistics.onBackpressurePaused(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+    
+    /**
+     * Finish writing, flush rows and packets written after last row immediately.
+     */
+    public void finish() {
+        flush();
+    }
+    
+    private void flush() {
+        context.flush();
+        statistics.onFlush();
+        pendingRows = 0;
+        pendingBytes = 0;
+    }
+}
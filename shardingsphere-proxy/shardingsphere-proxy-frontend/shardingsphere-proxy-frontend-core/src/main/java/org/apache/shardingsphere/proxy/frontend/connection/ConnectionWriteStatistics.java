@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.connection;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write statistics of frontend connection.
+ */
+public final class ConnectionWriteStatistics {
+    
+    private final LongAdder writtenRows = new LongAdder();
+    
+    private final LongAdder writtenBytes = new LongAdder();
+    
+    private final LongAdder flushes = new LongAdder();
+    
+    private final LongAdder backpressurePauses = new LongAdder();
+    
+    private final LongAdder backpressurePausedMillis = new LongAdder();
+    
+    /**
+     * Record row written.
+     *
+     * @param bytes bytes of row, estimated if row is not encoded yet
+     */
+    public void onRowWritten(final int bytes) {
+        writtenRows.increment();
+        writtenBytes.add(bytes);
+    }
+    
+    /**
+     * Record flush.
+     */
+    public void onFlush() {
+        flushes.increment();
+    }
+    
+    /**
+     * Record backpressure pause, which means stop reading backend result until channel writable.
+     *
+     * @param pausedMillis paused milliseconds
+     */
+    public void onBackpressurePaused(final long pausedMillis) {
+        backpressurePauses.increment();
+        backpressurePausedMillis.add(pausedMillis);
+    }
+    
+    /**
+     * Get written row count.
+     *
+     * @return written row count
+     */
+    public long getWrittenRowCount() {
+        return writtenRows.sum();
+    }
+    
+    /**
+     * Get written byte count.
+     *
+     * @return written byte count
+     */
+    public long getWrittenByteCount() {
+        return writtenBytes.sum();
+    }
+    
+    /**
+     * Get flush count.
+     *
+     * @return flush count
+     */
+    public long getFlushCount() {
+        return flushes.sum();
+    }
+    
+    /**
+     * Get backpressure pause count.
+     *
+     * @return backpressure pause count
+     */
+    public long getBackpressurePauseCount() {
+        return backpressurePauses.sum();
+    }
+    
+    /**
+     * Get backpressure paused milliseconds.
+     *
+     * @return backpressure paused milliseconds
+     */
+    public long getBackpressurePausedMillis() {
+        return backpressurePausedMillis.sum();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.connection;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Connection write statistics context.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ConnectionWriteStatisticsContext {
+    
+    private static final ConnectionWriteStatisticsContext INSTANCE = new ConnectionWriteStatisticsContext();
+    
+    private final Map<Integer, ConnectionWriteStatistics> statistics = new ConcurrentHashMap<>();
+    
+    /**
+     * Get instance of ConnectionWriteStatisticsContext.
+     *
+     * @return instance of ConnectionWriteStatisticsContext
+     */
+    public static ConnectionWriteStatisticsContext getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Register connection.
+     *
+     * @param connectionId connection ID
+     */
+    public void register(final int connectionId) {
+        statistics.put(connectionId, new ConnectionWriteStatistics());
+    }
+    
+    /**
+     * Unregister connection.
+     *
+     * @param connectionId connection ID
+     */
+    public void unregister(final int connectionId) {
+        statistics.remove(connectionId);
+    }
+    
+    /**
+     * Find write statistics of connection.
+     *
+     * @param connectionId connection ID
+     * @return write statistics
+     */
+    public Optional<ConnectionWriteStatistics> find(final int connectionId) {
+        return Optional.ofNullable(statistics.get(connectionId));
+    }
+    
+    /**
+     * Get write statistics of all registered connections.
+     *
+     * @return connection ID and write statistics map
+     */
+    public Map<Integer, ConnectionWriteStatistics> getAll() {
+        return Collections.unmodifiableMap(statistics);
+    }
+}
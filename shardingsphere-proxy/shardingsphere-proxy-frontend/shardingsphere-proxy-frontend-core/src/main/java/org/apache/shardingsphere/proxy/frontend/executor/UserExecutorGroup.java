@@ -19,7 +19,9 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import com.google.common.util.concurrent.ListeningExecutorService;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 
 /**
  * User executor group.
@@ -34,7 +36,8 @@ public final class UserExecutorGroup {
     private final ListeningExecutorService executorService;
     
     private UserExecutorGroup() {
-        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(0, NAME_FORMAT);
+        boolean virtualThreadEnabled = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps().<Boolean>getValue(ConfigurationPropertyKey.VIRTUAL_THREAD_EXECUTOR_ENABLED);
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(0, NAME_FORMAT, virtualThreadEnabled);
         executorService = executorServiceManager.getExecutorService();
     }
     
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ResourceLock;
+import org.apache.shardingsphere.proxy.frontend.connection.ConnectionWriteStatistics;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class QueryRowWriterTest {
+    
+    @Mock
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private Channel channel;
+    
+    @Mock
+    private ResourceLock resourceLock;
+    
+    private final ConnectionWriteStatistics statistics = new ConnectionWriteStatistics();
+    
+    @Before
+    public void setUp() {
+        when(context.channel()).thenReturn(channel);
+        when(channel.isWritable()).thenReturn(true);
+    }
+    
+    @Test
+    public void assertFlushByAdaptiveBytes() {
+        QueryRowWriter queryRowWriter = new QueryRowWriter(context, resourceLock, statistics, createProperties(1000, 16384));
+        for (int i = 0; i < 4; i++) {
+            queryRowWriter.write(Unpooled.buffer(1024).writeZero(1024));
+        }
+        verify(context, times(1)).flush();
+        for (int i = 0; i < 8; i++) {
+            queryRowWriter.write(Unpooled.buffer(1024).writeZero(1024));
+        }
+        verify(context, times(2)).flush();
+        for (int i = 0; i < 16; i++) {
+            queryRowWriter.write(Unpooled.buffer(1024).writeZero(1024));
+        }
+        verify(context, times(3)).flush();
+        for (int i = 0; i < 16; i++) {
+            queryRowWriter.write(Unpooled.buffer(1024).writeZero(1024));
+        }
+        verify(context, times(4)).flush();
+        assertThat(statistics.getWrittenRowCount(), is(44L));
+        assertThat(statistics.getWrittenByteCount(), is(44L * 1024));
+        assertThat(statistics.getFlushCount(), is(4L));
+    }
+    
+    @Test
+    public void assertFlushByRows() {
+        QueryRowWriter queryRowWriter = new QueryRowWriter(context, resourceLock, statistics, createProperties(2, 65536));
+        queryRowWriter.write(mock(DatabasePacket.class));
+        verify(context, never()).flush();
+        queryRowWriter.write(mock(DatabasePacket.class));
+        verify(context).flush();
+    }
+    
+    @Test
+    public void assertFinish() {
+        QueryRowWriter queryRowWriter = new QueryRowWriter(context, resourceLock, statistics, createProperties(128, 65536));
+        queryRowWriter.write(mock(DatabasePacket.class));
+        queryRowWriter.finish();
+        verify(context).flush();
+        assertThat(statistics.getFlushCount(), is(1L));
+    }
+    
+    @Test
+    public void assertPauseWhenNotWritable() {
+        when(channel.isWritable()).thenReturn(false);
+        when(channel.isActive()).thenReturn(true);
+        QueryRowWriter queryRowWriter = new QueryRowWriter(context, resourceLock, statistics, createProperties(128, 65536));
+        DatabasePacket<?> packet = mock(DatabasePacket.class);
+        queryRowWriter.write(packet);
+        verify(context).flush();
+        verify(resourceLock).doAwaitUntil(any());
+        verify(context).write(packet);
+        assertThat(statistics.getBackpressurePauseCount(), is(1L));
+    }
+    
+    private ConfigurationProperties createProperties(final int flushThreshold, final int flushBytesThreshold) {
+        Properties result = new Properties();
+        result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), String.valueOf(flushThreshold));
+        result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD.getKey(), String.valueOf(flushBytesThreshold));
+        return new ConfigurationProperties(result);
+    }
+}
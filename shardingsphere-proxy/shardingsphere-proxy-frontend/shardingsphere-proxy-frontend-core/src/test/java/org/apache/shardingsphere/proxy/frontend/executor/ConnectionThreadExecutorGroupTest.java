@@ -27,7 +27,7 @@ public final class ConnectionThreadExecutorGroupTest {
     @Test
     public void assertRegister() {
         int connectionId = 1;
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId, false);
         assertNotNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
     }
@@ -35,8 +35,16 @@ public final class ConnectionThreadExecutorGroupTest {
     @Test
     public void assertUnregister() {
         int connectionId = 2;
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId, false);
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
         assertNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
     }
+    
+    @Test
+    public void assertRegisterWithVirtualThreadEnabled() {
+        int connectionId = 3;
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId, true);
+        assertNotNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
+        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+    }
 }
@@ -20,6 +20,11 @@ package org.apache.shardingsphere.proxy.frontend.mysql.authentication;
 import com.google.common.base.Strings;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLCompressedPacketCodec;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLCompressionAlgorithm;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLZlibCompressionAlgorithm;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLZstdCompressionAlgorithm;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCapabilityFlag;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCharacterSet;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConnectionPhase;
@@ -34,6 +39,7 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandsha
 import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandshakeResponse41Packet;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.frontend.authentication.AuthenticationEngine;
 import org.apache.shardingsphere.proxy.frontend.authentication.AuthenticationResult;
@@ -56,6 +62,10 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
     
     private int sequenceId;
     
+    private int clientCapabilityFlags;
+    
+    private int zstdCompressionLevel;
+    
     private byte[] authResponse;
     
     private AuthenticationResult currentAuthResult;
@@ -80,7 +90,12 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
             authenticationMethodMismatch((MySQLPacketPayload) payload);
         }
         Optional<MySQLServerErrorCode> errorCode = authenticationHandler.login(currentAuthResult.getUsername(), getHostAddress(context), authResponse, currentAuthResult.getDatabase());
-        context.writeAndFlush(errorCode.isPresent() ? createErrorPacket(errorCode.get(), context) : new MySQLOKPacket(++sequenceId));
+        if (errorCode.isPresent()) {
+            context.writeAndFlush(createErrorPacket(errorCode.get(), context));
+        } else {
+            context.writeAndFlush(new MySQLOKPacket(++sequenceId));
+            createCompressionAlgorithm().ifPresent(optional -> enableCompression(context, optional));
+        }
         return AuthenticationResultBuilder.finished(currentAuthResult.getUsername(), getHostAddress(context), currentAuthResult.getDatabase());
     }
     
@@ -88,6 +103,8 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
         MySQLHandshakeResponse41Packet packet = new MySQLHandshakeResponse41Packet((MySQLPacketPayload) payload);
         authResponse = packet.getAuthResponse();
         sequenceId = packet.getSequenceId();
+        clientCapabilityFlags = packet.getCapabilityFlags();
+        zstdCompressionLevel = packet.getZstdCompressionLevel();
         MySQLCharacterSet mySQLCharacterSet = MySQLCharacterSet.findById(packet.getCharacterSet());
         context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).set(mySQLCharacterSet.getCharset());
         context.channel().attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY).set(mySQLCharacterSet);
@@ -108,6 +125,22 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
         return 0 != (packet.getCapabilityFlags() & MySQLCapabilityFlag.CLIENT_PLUGIN_AUTH.getValue());
     }
     
+    private Optional<MySQLCompressionAlgorithm> createCompressionAlgorithm() {
+        if (0 != (clientCapabilityFlags & MySQLCapabilityFlag.CLIENT_ZSTD_COMPRESSION_ALGORITHM.getValue())) {
+            return Optional.of(0 == zstdCompressionLevel ? new MySQLZstdCompressionAlgorithm() : new MySQLZstdCompressionAlgorithm(zstdCompressionLevel));
+        }
+        if (0 != (clientCapabilityFlags & MySQLCapabilityFlag.CLIENT_COMPRESS.getValue())) {
+            return Optional.of(new MySQLZlibCompressionAlgorithm());
+        }
+        return Optional.empty();
+    }
+    
+    private void enableCompression(final ChannelHandlerContext context, final MySQLCompressionAlgorithm algorithm) {
+        int minCompressLength = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_MYSQL_COMPRESSION_MIN_LENGTH);
+        String packetCodecName = context.pipeline().context(PacketCodec.class).name();
+        context.pipeline().addBefore(packetCodecName, MySQLCompressedPacketCodec.class.getSimpleName(), new MySQLCompressedPacketCodec(algorithm, minCompressLength));
+    }
+    
     private void authenticationMethodMismatch(final MySQLPacketPayload payload) {
         MySQLAuthSwitchResponsePacket packet = new MySQLAuthSwitchResponsePacket(payload);
         sequenceId = packet.getSequenceId();
@@ -17,16 +17,22 @@
 
 package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLServerErrorCode;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.admin.MySQLComSetOptionPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowEncoder;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.row.RowValueReader;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
@@ -34,6 +40,7 @@ import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.ClientEncodingResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
@@ -48,10 +55,12 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteState
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.EmptyStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
 
+import java.nio.charset.Charset;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * COM_QUERY command packet executor for MySQL.
@@ -62,17 +71,33 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     
     private final int characterSet;
     
+    private final Charset charset;
+    
     @Getter
     private volatile ResponseType responseType;
     
     private int currentSequenceId;
     
+    private RowValueReader rowValueReader;
+    
+    private MySQLTextResultSetRowEncoder rowEncoder;
+    
     public MySQLComQueryPacketExecutor(final MySQLComQueryPacket packet, final ConnectionSession connectionSession) throws SQLException {
         DatabaseType databaseType = DatabaseTypeRegistry.getActualDatabaseType("MySQL");
-        SQLStatement sqlStatement = parseSql(packet.getSql(), databaseType);
-        textProtocolBackendHandler = areMultiStatements(connectionSession, sqlStatement, packet.getSql()) ? new MySQLMultiStatementsHandler(connectionSession, sqlStatement, packet.getSql())
-                : TextProtocolBackendHandlerFactory.newInstance(databaseType, packet.getSql(), () -> Optional.of(sqlStatement), connectionSession);
+        if (isSQLLiteralParameterized(packet.getSql())) {
+            textProtocolBackendHandler = TextProtocolBackendHandlerFactory.newInstance(databaseType, packet.getSql(), Optional::empty, connectionSession);
+        } else {
+            SQLStatement sqlStatement = parseSql(packet.getSql(), databaseType);
+            textProtocolBackendHandler = areMultiStatements(connectionSession, sqlStatement, packet.getSql()) ? new MySQLMultiStatementsHandler(connectionSession, sqlStatement, packet.getSql())
+                    : TextProtocolBackendHandlerFactory.newInstance(databaseType, packet.getSql(), () -> Optional.of(sqlStatement), connectionSession);
+        }
         characterSet = connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY).get().getId();
+        charset = connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get();
+    }
+    
+    private boolean isSQLLiteralParameterized(final String sql) {
+        return !sql.isEmpty() && !sql.contains(";")
+                && ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_SQL_LITERAL_PARAMETERIZED_ENABLED);
     }
     
     private SQLStatement parseSql(final String sql, final DatabaseType databaseType) {
@@ -106,6 +131,10 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
         responseType = ResponseType.QUERY;
         Collection<DatabasePacket<?>> result = ResponsePacketBuilder.buildQueryResponsePackets(queryResponseHeader, characterSet);
         currentSequenceId = result.size();
+        textProtocolBackendHandler.getRowValueReader().ifPresent(optional -> {
+            rowValueReader = optional;
+            rowEncoder = new MySQLTextResultSetRowEncoder(queryResponseHeader.getQueryHeaders().stream().map(QueryHeader::getColumnType).collect(Collectors.toList()));
+        });
         return result;
     }
     
@@ -131,6 +160,16 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
         return new MySQLTextResultSetRowPacket(++currentSequenceId, textProtocolBackendHandler.getRowData());
     }
     
+    @Override
+    public boolean isQueryRowEncodable() {
+        return null != rowEncoder;
+    }
+    
+    @Override
+    public ByteBuf encodeQueryRow(final ByteBufAllocator allocator) throws SQLException {
+        return rowEncoder.encode(allocator, charset, ++currentSequenceId, rowValueReader);
+    }
+    
     @Override
     public void close() throws SQLException {
         textProtocolBackendHandler.close();
@@ -19,9 +19,13 @@ package org.apache.shardingsphere.proxy.frontend.mysql.authentication;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
 import io.netty.util.Attribute;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLCompressedPacketCodec;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLZstdCompressionAlgorithm;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCapabilityFlag;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConnectionPhase;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
@@ -44,6 +48,7 @@ import org.apache.shardingsphere.proxy.frontend.authentication.AuthenticationRes
 import org.apache.shardingsphere.proxy.frontend.mysql.authentication.authenticator.MySQLNativePasswordAuthenticator;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.lang.reflect.Field;
 import java.net.InetSocketAddress;
@@ -57,6 +62,7 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
@@ -157,6 +163,45 @@ public final class MySQLAuthenticationEngineTest {
         verify(context).writeAndFlush(any(MySQLOKPacket.class));
     }
     
+    @Test
+    public void assertAuthWithCompression() throws NoSuchFieldException, IllegalAccessException {
+        setConnectionPhase(MySQLConnectionPhase.AUTH_PHASE_FAST_PATH);
+        ChannelHandlerContext context = getContext();
+        ChannelPipeline pipeline = mock(ChannelPipeline.class);
+        ChannelHandlerContext packetCodecContext = mock(ChannelHandlerContext.class);
+        when(packetCodecContext.name()).thenReturn("PacketCodec");
+        when(pipeline.context(PacketCodec.class)).thenReturn(packetCodecContext);
+        when(context.pipeline()).thenReturn(pipeline);
+        when(authenticationHandler.login(anyString(), any(), any(), anyString())).thenReturn(Optional.empty());
+        setMetaDataContexts();
+        MySQLPacketPayload payload = getPayload("root", "sharding_db", authResponse);
+        when(payload.readInt4()).thenReturn(MySQLCapabilityFlag.calculateCapabilityFlags(MySQLCapabilityFlag.CLIENT_CONNECT_WITH_DB, MySQLCapabilityFlag.CLIENT_COMPRESS));
+        authenticationEngine.authenticate(context, payload);
+        verify(context).writeAndFlush(any(MySQLOKPacket.class));
+        verify(pipeline).addBefore(eq("PacketCodec"), anyString(), any(MySQLCompressedPacketCodec.class));
+    }
+    
+    @Test
+    public void assertAuthWithZstdCompression() throws NoSuchFieldException, IllegalAccessException {
+        setConnectionPhase(MySQLConnectionPhase.AUTH_PHASE_FAST_PATH);
+        ChannelHandlerContext context = getContext();
+        ChannelPipeline pipeline = mock(ChannelPipeline.class);
+        ChannelHandlerContext packetCodecContext = mock(ChannelHandlerContext.class);
+        when(packetCodecContext.name()).thenReturn("PacketCodec");
+        when(pipeline.context(PacketCodec.class)).thenReturn(packetCodecContext);
+        when(context.pipeline()).thenReturn(pipeline);
+        when(authenticationHandler.login(anyString(), any(), any(), anyString())).thenReturn(Optional.empty());
+        setMetaDataContexts();
+        MySQLPacketPayload payload = getPayload("root", "sharding_db", authResponse);
+        when(payload.readInt4()).thenReturn(MySQLCapabilityFlag.calculateCapabilityFlags(MySQLCapabilityFlag.CLIENT_CONNECT_WITH_DB, MySQLCapabilityFlag.CLIENT_ZSTD_COMPRESSION_ALGORITHM));
+        authenticationEngine.authenticate(context, payload);
+        ArgumentCaptor<MySQLCompressedPacketCodec> codecCaptor = ArgumentCaptor.forClass(MySQLCompressedPacketCodec.class);
+        verify(pipeline).addBefore(eq("PacketCodec"), anyString(), codecCaptor.capture());
+        Field algorithmField = MySQLCompressedPacketCodec.class.getDeclaredField("algorithm");
+        algorithmField.setAccessible(true);
+        assertTrue(algorithmField.get(codecCaptor.getValue()) instanceof MySQLZstdCompressionAlgorithm);
+    }
+    
     private void setMetaDataContexts() throws NoSuchFieldException, IllegalAccessException {
         Field contextManagerField = ProxyContext.getInstance().getClass().getDeclaredField("contextManager");
         contextManagerField.setAccessible(true);
@@ -17,6 +17,9 @@
 
 package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCharacterSet;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
@@ -24,6 +27,7 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MyS
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.row.RowValueReader;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
@@ -45,7 +49,9 @@ import org.mockito.MockedStatic;
 import org.mockito.internal.util.reflection.FieldSetter;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Optional;
@@ -134,6 +140,26 @@ public final class MySQLComQueryPacketExecutorTest {
         assertTrue(actual instanceof MySQLTextResultSetRowPacket);
     }
     
+    @Test
+    public void assertEncodeQueryRow() throws SQLException, NoSuchFieldException {
+        when(connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get()).thenReturn(StandardCharsets.UTF_8);
+        MySQLComQueryPacketExecutor actual = new MySQLComQueryPacketExecutor(packet, connectionSession);
+        FieldSetter.setField(actual, MySQLComQueryPacketExecutor.class.getDeclaredField("textProtocolBackendHandler"), textProtocolBackendHandler);
+        assertFalse(actual.isQueryRowEncodable());
+        QueryHeader queryHeader = mock(QueryHeader.class);
+        when(queryHeader.getColumnType()).thenReturn(Types.BIGINT);
+        when(textProtocolBackendHandler.execute()).thenReturn(new QueryResponseHeader(Collections.singletonList(queryHeader)));
+        RowValueReader rowValueReader = columnIndex -> 12L;
+        when(textProtocolBackendHandler.getRowValueReader()).thenReturn(Optional.of(rowValueReader));
+        int headerPacketsCount = actual.execute().size();
+        assertTrue(actual.isQueryRowEncodable());
+        ByteBuf encodedRow = actual.encodeQueryRow(new UnpooledByteBufAllocator(false));
+        assertThat(encodedRow.readMediumLE(), is(3));
+        assertThat(encodedRow.readUnsignedByte(), is((short) (headerPacketsCount + 1)));
+        assertThat(encodedRow.readUnsignedByte(), is((short) 2));
+        assertThat(encodedRow.toString(StandardCharsets.US_ASCII), is("12"));
+    }
+    
     @Test
     public void assertClose() throws SQLException, NoSuchFieldException {
         MySQLComQueryPacketExecutor actual = new MySQLComQueryPacketExecutor(packet, connectionSession);
@@ -17,16 +17,21 @@
 
 package org.apache.shardingsphere.proxy.frontend.opengauss.command.query.simple;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLColumnDescription;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowEncoder;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLEmptyQueryResponsePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLRowDescriptionPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.simple.PostgreSQLComQueryPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.handshake.PostgreSQLParameterStatusPacket;
+import org.apache.shardingsphere.db.protocol.row.RowValueReader;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
@@ -46,11 +51,13 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.EmptyStatem
 import org.apache.shardingsphere.sql.parser.sql.common.statement.tcl.CommitStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.tcl.RollbackStatement;
 
+import java.nio.charset.Charset;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Command query executor for openGauss.
@@ -59,14 +66,23 @@ public final class OpenGaussComQueryExecutor implements QueryCommandExecutor {
     
     private final PostgreSQLConnectionContext connectionContext;
     
+    private final ConnectionSession connectionSession;
+    
     private final TextProtocolBackendHandler textProtocolBackendHandler;
     
     @Getter
     private volatile ResponseType responseType;
     
+    private RowValueReader rowValueReader;
+    
+    private PostgreSQLDataRowEncoder rowEncoder;
+    
+    private Charset charset;
+    
     public OpenGaussComQueryExecutor(final PostgreSQLConnectionContext connectionContext, final PostgreSQLComQueryPacket comQueryPacket,
                                      final ConnectionSession connectionSession) throws SQLException {
         this.connectionContext = connectionContext;
+        this.connectionSession = connectionSession;
         textProtocolBackendHandler = TextProtocolBackendHandlerFactory.newInstance(DatabaseTypeRegistry.getActualDatabaseType("openGauss"),
                 comQueryPacket.getSql(), Optional::empty, connectionSession);
     }
@@ -85,6 +101,11 @@ public final class OpenGaussComQueryExecutor implements QueryCommandExecutor {
     private PostgreSQLRowDescriptionPacket createRowDescriptionPacket(final QueryResponseHeader queryResponseHeader) {
         Collection<PostgreSQLColumnDescription> columnDescriptions = createColumnDescriptions(queryResponseHeader);
         responseType = ResponseType.QUERY;
+        textProtocolBackendHandler.getRowValueReader().ifPresent(optional -> {
+            rowValueReader = optional;
+            rowEncoder = new PostgreSQLDataRowEncoder(queryResponseHeader.getQueryHeaders().stream().map(QueryHeader::getColumnType).collect(Collectors.toList()));
+            charset = connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get();
+        });
         return new PostgreSQLRowDescriptionPacket(columnDescriptions.size(), columnDescriptions);
     }
     
@@ -127,6 +148,16 @@ public final class OpenGaussComQueryExecutor implements QueryCommandExecutor {
         return new PostgreSQLDataRowPacket(textProtocolBackendHandler.getRowData());
     }
     
+    @Override
+    public boolean isQueryRowEncodable() {
+        return null != rowEncoder;
+    }
+    
+    @Override
+    public ByteBuf encodeQueryRow(final ByteBufAllocator allocator) throws SQLException {
+        return rowEncoder.encode(allocator, charset, rowValueReader);
+    }
+    
     @Override
     public void close() throws SQLException {
         textProtocolBackendHandler.close();
@@ -30,12 +30,11 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.Pos
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
-import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.proxy.backend.communication.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
-import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.CommandExecuteEngine;
+import org.apache.shardingsphere.proxy.frontend.command.QueryRowWriter;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
@@ -92,32 +91,29 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
                     : PostgreSQLReadyForQueryPacket.NOT_IN_TRANSACTION);
             return;
         }
-        long dataRows = writeDataPackets(context, backendConnection, queryExecutor);
+        QueryRowWriter queryRowWriter = new QueryRowWriter(context, backendConnection);
+        long dataRows = writeDataPackets(context, queryRowWriter, queryExecutor);
         if (ResponseType.QUERY == queryExecutor.getResponseType()) {
             context.write(new PostgreSQLCommandCompletePacket(PostgreSQLCommand.SELECT.name(), dataRows));
         }
         context.write(backendConnection.getConnectionSession().getTransactionStatus().isInTransaction() ? PostgreSQLReadyForQueryPacket.IN_TRANSACTION
                 : PostgreSQLReadyForQueryPacket.NOT_IN_TRANSACTION);
+        queryRowWriter.finish();
     }
     
-    private long writeDataPackets(final ChannelHandlerContext context, final JDBCBackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor) throws SQLException {
+    private long writeDataPackets(final ChannelHandlerContext context, final QueryRowWriter queryRowWriter, final QueryCommandExecutor queryCommandExecutor) throws SQLException {
         long dataRows = 0;
-        int flushCount = 0;
-        int proxyFrontendFlushThreshold = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
+        boolean queryRowEncodable = queryCommandExecutor.isQueryRowEncodable();
         while (queryCommandExecutor.next()) {
-            flushCount++;
-            while (!context.channel().isWritable() && context.channel().isActive()) {
-                context.flush();
-                backendConnection.getResourceLock().doAwait();
-            }
-            DatabasePacket<?> resultValue = queryCommandExecutor.getQueryRowPacket();
-            context.write(resultValue);
-            if (proxyFrontendFlushThreshold == flushCount) {
-                context.flush();
-                flushCount = 0;
-            }
-            if (resultValue instanceof PostgreSQLDataRowPacket) {
+            if (queryRowEncodable) {
+                queryRowWriter.write(queryCommandExecutor.encodeQueryRow(context.alloc()));
                 dataRows++;
+            } else {
+                DatabasePacket<?> resultValue = queryCommandExecutor.getQueryRowPacket();
+                queryRowWriter.write(resultValue);
+                if (resultValue instanceof PostgreSQLDataRowPacket) {
+                    dataRows++;
+                }
             }
         }
         return dataRows;
@@ -41,7 +41,7 @@ public final class PostgreSQLFrontendEngineTest {
         when(connectionSession.getConnectionId()).thenReturn(connectionId);
         PostgreSQLConnectionContextRegistry.getInstance().get(connectionId);
         PostgreSQLFrontendEngine frontendEngine = new PostgreSQLFrontendEngine();
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId, false);
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
         frontendEngine.release(connectionSession);
         assertTrue(getConnectionContexts().isEmpty());
@@ -84,6 +84,7 @@ public final class PostgreSQLBatchedStatementsExecutorTest {
         previousContextManager = ProxyContext.getInstance().getContextManager();
         ProxyContext.getInstance().init(contextManager);
         when(contextManager.getMetaDataContexts().getProps().getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE)).thenReturn(1);
+        when(contextManager.getMetaDataContexts().getProps().getValue(ConfigurationPropertyKey.VIRTUAL_THREAD_EXECUTOR_ENABLED)).thenReturn(false);
         when(contextManager.getMetaDataContexts().getProps().getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY)).thenReturn(1);
         when(contextManager.getMetaDataContexts().getProps().getValue(ConfigurationPropertyKey.SQL_SHOW)).thenReturn(false);
     }
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.reactive.opengauss.command;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.db.protocol.opengauss.packet.command.query.extended.bind.OpenGaussComBatchBindPacket;
+import org.apache.shardingsphere.db.protocol.packet.CommandPacketType;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLAggregatedCommandPacket;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.opengauss.command.OpenGaussCommandExecutorFactory;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLConnectionContext;
+import org.apache.shardingsphere.proxy.frontend.reactive.command.executor.ReactiveCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.reactive.postgresql.command.ReactivePostgreSQLCommandExecutorFactory;
+import org.apache.shardingsphere.proxy.frontend.reactive.wrap.WrappedReactiveCommandExecutor;
+
+import java.sql.SQLException;
+
+/**
+ * Reactive command executor factory for openGauss.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ReactiveOpenGaussCommandExecutorFactory {
+    
+    /**
+     * Create new instance of reactive command executor.
+     *
+     * @param commandPacketType command packet type for PostgreSQL/openGauss
+     * @param commandPacket command packet for PostgreSQL/openGauss
+     * @param connectionSession connection session
+     * @param connectionContext PostgreSQL connection context
+     * @return reactive command executor
+     */
+    @SneakyThrows(SQLException.class)
+    public static ReactiveCommandExecutor newInstance(final CommandPacketType commandPacketType, final PostgreSQLCommandPacket commandPacket,
+                                                      final ConnectionSession connectionSession, final PostgreSQLConnectionContext connectionContext) {
+        if (commandPacketType instanceof PostgreSQLCommandPacketType && !containsBatchBindPacket(commandPacket)) {
+            return ReactivePostgreSQLCommandExecutorFactory.newInstance((PostgreSQLCommandPacketType) commandPacketType, commandPacket, connectionSession, connectionContext);
+        }
+        return new WrappedReactiveCommandExecutor(OpenGaussCommandExecutorFactory.newInstance(commandPacketType, commandPacket, connectionSession, connectionContext));
+    }
+    
+    private static boolean containsBatchBindPacket(final PostgreSQLCommandPacket commandPacket) {
+        return commandPacket instanceof PostgreSQLAggregatedCommandPacket
+                && ((PostgreSQLAggregatedCommandPacket) commandPacket).getPackets().stream().anyMatch(each -> each instanceof OpenGaussComBatchBindPacket);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.reactive.postgresql.command;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLAggregatedCommandPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.simple.PostgreSQLComQueryPacket;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLCommandExecutorFactory;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLConnectionContext;
+import org.apache.shardingsphere.proxy.frontend.reactive.command.executor.ReactiveCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.reactive.postgresql.command.query.extended.ReactivePostgreSQLAggregatedCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.reactive.postgresql.command.query.extended.bind.ReactivePostgreSQLComBindExecutor;
+import org.apache.shardingsphere.proxy.frontend.reactive.postgresql.command.query.simple.ReactivePostgreSQLComQueryExecutor;
+import org.apache.shardingsphere.proxy.frontend.reactive.wrap.WrappedReactiveCommandExecutor;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reactive command executor factory for PostgreSQL.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class ReactivePostgreSQLCommandExecutorFactory {
+    
+    /**
+     * Create new instance of reactive command executor.
+     *
+     * <p>Batched statements in an aggregated packet are executed one by one, because batch execution relies on JDBC.</p>
+     *
+     * @param commandPacketType command packet type for PostgreSQL
+     * @param commandPacket command packet for PostgreSQL
+     * @param connectionSession connection session
+     * @param connectionContext PostgreSQL connection context
+     * @return reactive command executor
+     */
+    @SneakyThrows(SQLException.class)
+    public static ReactiveCommandExecutor newInstance(final PostgreSQLCommandPacketType commandPacketType, final PostgreSQLCommandPacket commandPacket,
+                                                      final ConnectionSession connectionSession, final PostgreSQLConnectionContext connectionContext) {
+        log.debug("Execute packet type: {}, value: {}", commandPacketType, commandPacket);
+        if (!(commandPacket instanceof PostgreSQLAggregatedCommandPacket)) {
+            return getReactiveCommandExecutor(commandPacketType, commandPacket, connectionSession, connectionContext);
+        }
+        List<PostgreSQLCommandPacket> packets = ((PostgreSQLAggregatedCommandPacket) commandPacket).getPackets();
+        List<ReactiveCommandExecutor> result = new ArrayList<>(packets.size());
+        for (PostgreSQLCommandPacket each : packets) {
+            result.add(getReactiveCommandExecutor((PostgreSQLCommandPacketType) each.getIdentifier(), each, connectionSession, connectionContext));
+        }
+        return new ReactivePostgreSQLAggregatedCommandExecutor(result);
+    }
+    
+    private static ReactiveCommandExecutor getReactiveCommandExecutor(final PostgreSQLCommandPacketType commandPacketType, final PostgreSQLCommandPacket commandPacket,
+                                                                      final ConnectionSession connectionSession, final PostgreSQLConnectionContext connectionContext) throws SQLException {
+        switch (commandPacketType) {
+            case SIMPLE_QUERY:
+                return new ReactivePostgreSQLComQueryExecutor(connectionContext, (PostgreSQLComQueryPacket) commandPacket, connectionSession);
+            case BIND_COMMAND:
+                return new ReactivePostgreSQLComBindExecutor(connectionContext, (PostgreSQLComBindPacket) commandPacket, connectionSession);
+            default:
+                return new WrappedReactiveCommandExecutor(PostgreSQLCommandExecutorFactory.newInstance(commandPacketType, commandPacket, connectionSession, connectionContext));
+        }
+    }
+}
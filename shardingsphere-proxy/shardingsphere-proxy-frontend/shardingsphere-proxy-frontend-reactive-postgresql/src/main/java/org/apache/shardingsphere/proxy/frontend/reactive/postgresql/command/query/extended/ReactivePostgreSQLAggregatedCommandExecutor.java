@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.reactive.postgresql.command.query.extended;
+
+import io.vertx.core.Future;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLAggregatedResponsesPacket;
+import org.apache.shardingsphere.proxy.frontend.reactive.command.executor.ReactiveCommandExecutor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Reactive aggregated command executor for PostgreSQL.
+ */
+@RequiredArgsConstructor
+public final class ReactivePostgreSQLAggregatedCommandExecutor implements ReactiveCommandExecutor {
+    
+    private final List<ReactiveCommandExecutor> executors;
+    
+    @Override
+    public Future<Collection<DatabasePacket<?>>> executeFuture() {
+        List<DatabasePacket<?>> result = new LinkedList<>();
+        Future<Void> future = Future.succeededFuture();
+        for (ReactiveCommandExecutor each : executors) {
+            future = future.compose(unused -> each.executeFuture().eventually(unused0 -> each.closeFuture())).compose(packets -> {
+                result.addAll(packets);
+                return Future.succeededFuture();
+            });
+        }
+        return future.map(unused -> Collections.singletonList(new PostgreSQLAggregatedResponsesPacket(result)));
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.reactive.postgresql.command.query.extended;
+
+import io.vertx.core.Future;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLErrorCode;
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLMessageSeverityLevel;
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLValueFormat;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLColumnDescription;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLEmptyQueryResponsePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLNoDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLRowDescriptionPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLPreparedStatement;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.execute.PostgreSQLPortalSuspendedPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLErrorResponsePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.handshake.PostgreSQLParameterStatusPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierPacket;
+import org.apache.shardingsphere.distsql.parser.statement.DistSQLStatement;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.schema.builder.SystemSchemaBuilderRule;
+import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngineFactory;
+import org.apache.shardingsphere.proxy.backend.communication.vertx.VertxBackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.vertx.VertxDatabaseCommunicationEngine;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
+import org.apache.shardingsphere.proxy.backend.response.data.impl.BinaryQueryResponseCell;
+import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.update.ClientEncodingResponseHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
+import org.apache.shardingsphere.proxy.backend.text.TextProtocolBackendHandler;
+import org.apache.shardingsphere.proxy.backend.text.TextProtocolBackendHandlerFactory;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.PostgreSQLCommand;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.Portal;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.SetStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.EmptyStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.tcl.TCLStatement;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * PostgreSQL portal using Vert.x backend.
+ */
+public final class VertxPortal implements Portal<Future<Void>> {
+    
+    @Getter
+    private final String name;
+    
+    @Getter
+    private final SQLStatement sqlStatement;
+    
+    private final List<PostgreSQLValueFormat> resultFormats;
+    
+    private final VertxDatabaseCommunicationEngine databaseCommunicationEngine;
+    
+    private final TextProtocolBackendHandler textProtocolBackendHandler;
+    
+    private ResponseHeader responseHeader;
+    
+    public VertxPortal(final String name, final PostgreSQLPreparedStatement preparedStatement, final List<Object> parameters, final List<PostgreSQLValueFormat> resultFormats,
+                       final VertxBackendConnection backendConnection) throws SQLException {
+        this.name = name;
+        this.sqlStatement = preparedStatement.getSqlStatement();
+        this.resultFormats = resultFormats;
+        if (sqlStatement instanceof TCLStatement || sqlStatement instanceof EmptyStatement || sqlStatement instanceof DistSQLStatement || sqlStatement instanceof SetStatement) {
+            databaseCommunicationEngine = null;
+            textProtocolBackendHandler = TextProtocolBackendHandlerFactory.newInstance(backendConnection.getConnectionSession().getDatabaseType(),
+                    preparedStatement.getSql(), () -> Optional.of(sqlStatement), backendConnection.getConnectionSession());
+            return;
+        }
+        String databaseName = backendConnection.getConnectionSession().getDefaultDatabaseName();
+        SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(
+                ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaDataMap(), parameters, sqlStatement, databaseName);
+        if (containsSystemTable(sqlStatementContext.getTablesContext().getTableNames())) {
+            databaseCommunicationEngine = null;
+            DatabaseType databaseType = ProxyContext.getInstance().getMetaData(databaseName).getResource().getDatabaseType();
+            textProtocolBackendHandler = TextProtocolBackendHandlerFactory.newInstance(databaseType,
+                    preparedStatement.getSql(), () -> Optional.of(sqlStatement), backendConnection.getConnectionSession());
+            return;
+        }
+        databaseCommunicationEngine = DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolInstance(sqlStatementContext, preparedStatement.getSql(), parameters, backendConnection);
+        textProtocolBackendHandler = null;
+    }
+    
+    private boolean containsSystemTable(final Collection<String> tableNames) {
+        for (String each : tableNames) {
+            if (SystemSchemaBuilderRule.POSTGRESQL_PG_CATALOG.getTables().contains(each)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public Future<Void> bind() {
+        Future<ResponseHeader> future = null != databaseCommunicationEngine ? databaseCommunicationEngine.execute() : textProtocolBackendHandler.executeFuture();
+        return future.compose(result -> {
+            responseHeader = result;
+            return Future.succeededFuture();
+        });
+    }
+    
+    @Override
+    public PostgreSQLPacket describe() {
+        if (responseHeader instanceof QueryResponseHeader) {
+            return createRowDescriptionPacket((QueryResponseHeader) responseHeader);
+        }
+        if (responseHeader instanceof UpdateResponseHeader || responseHeader instanceof ClientEncodingResponseHeader) {
+            return PostgreSQLNoDataPacket.getInstance();
+        }
+        throw new IllegalStateException("Cannot describe portal [" + name + "] before bind");
+    }
+    
+    private PostgreSQLRowDescriptionPacket createRowDescriptionPacket(final QueryResponseHeader queryResponseHeader) {
+        Collection<PostgreSQLColumnDescription> columnDescriptions = new LinkedList<>();
+        int columnIndex = 0;
+        for (QueryHeader each : queryResponseHeader.getQueryHeaders()) {
+            columnDescriptions.add(new PostgreSQLColumnDescription(each.getColumnLabel(), ++columnIndex, each.getColumnType(), each.getColumnLength(), each.getColumnTypeName()));
+        }
+        return new PostgreSQLRowDescriptionPacket(columnDescriptions.size(), columnDescriptions);
+    }
+    
+    @SneakyThrows(SQLException.class)
+    @Override
+    public List<PostgreSQLPacket> execute(final int maxRows) {
+        int fetchSize = maxRows > 0 ? maxRows : Integer.MAX_VALUE;
+        List<PostgreSQLPacket> result = new LinkedList<>();
+        for (int i = 0; i < fetchSize && hasNext(); i++) {
+            result.add(nextPacket());
+        }
+        if (responseHeader instanceof ClientEncodingResponseHeader) {
+            result.addAll(handleSetClientEncoding((ClientEncodingResponseHeader) responseHeader));
+            return result;
+        }
+        result.add(createExecutionCompletedPacket(maxRows > 0 && maxRows == result.size(), result.size()));
+        return result;
+    }
+    
+    private Collection<PostgreSQLPacket> handleSetClientEncoding(final ClientEncodingResponseHeader clientEncodingResponseHeader) {
+        Collection<PostgreSQLPacket> result = new LinkedList<>();
+        Optional<String> currentCharsetValue = clientEncodingResponseHeader.getCurrentCharsetValue();
+        if (currentCharsetValue.isPresent()) {
+            result.add(new PostgreSQLCommandCompletePacket("SET", 0));
+            result.add(new PostgreSQLParameterStatusPacket("client_encoding", currentCharsetValue.get()));
+            return result;
+        }
+        result.add(PostgreSQLErrorResponsePacket.newBuilder(PostgreSQLMessageSeverityLevel.ERROR, PostgreSQLErrorCode.INVALID_PARAMETER_VALUE,
+                String.format("invalid value for parameter \"clientEncoding\": \"%s\"", clientEncodingResponseHeader.getInputValue())).build());
+        return result;
+    }
+    
+    private boolean hasNext() throws SQLException {
+        return null != databaseCommunicationEngine && databaseCommunicationEngine.next() || null != textProtocolBackendHandler && textProtocolBackendHandler.next();
+    }
+    
+    private PostgreSQLPacket nextPacket() throws SQLException {
+        return null != databaseCommunicationEngine ? new PostgreSQLDataRowPacket(getData(databaseCommunicationEngine.getQueryResponseRow()))
+                : new PostgreSQLDataRowPacket(textProtocolBackendHandler.getRowData());
+    }
+    
+    private List<Object> getData(final QueryResponseRow queryResponseRow) {
+        List<QueryResponseCell> cells = new ArrayList<>(queryResponseRow.getCells());
+        List<Object> result = new ArrayList<>(cells.size());
+        for (int i = 0; i < cells.size(); i++) {
+            PostgreSQLValueFormat format = resultFormats.isEmpty() ? PostgreSQLValueFormat.TEXT : resultFormats.get(i % resultFormats.size());
+            result.add(PostgreSQLValueFormat.BINARY == format ? createBinaryCell(cells.get(i)) : cells.get(i).getData());
+        }
+        return result;
+    }
+    
+    private BinaryCell createBinaryCell(final QueryResponseCell cell) {
+        return new BinaryCell(PostgreSQLColumnType.valueOfJDBCType(((BinaryQueryResponseCell) cell).getJdbcType()), cell.getData());
+    }
+    
+    private PostgreSQLIdentifierPacket createExecutionCompletedPacket(final boolean isSuspended, final int fetchedRows) {
+        if (isSuspended) {
+            return new PostgreSQLPortalSuspendedPacket();
+        }
+        if (sqlStatement instanceof EmptyStatement) {
+            return new PostgreSQLEmptyQueryResponsePacket();
+        }
+        String sqlCommand = PostgreSQLCommand.valueOf(sqlStatement.getClass()).map(PostgreSQLCommand::getTag).orElse("");
+        long updateCount = responseHeader instanceof UpdateResponseHeader ? ((UpdateResponseHeader) responseHeader).getUpdateCount() : 0;
+        return new PostgreSQLCommandCompletePacket(sqlCommand, Math.max(fetchedRows, updateCount));
+    }
+    
+    @SneakyThrows(SQLException.class)
+    @Override
+    public void close() {
+        if (null != textProtocolBackendHandler) {
+            textProtocolBackendHandler.close();
+        }
+    }
+}
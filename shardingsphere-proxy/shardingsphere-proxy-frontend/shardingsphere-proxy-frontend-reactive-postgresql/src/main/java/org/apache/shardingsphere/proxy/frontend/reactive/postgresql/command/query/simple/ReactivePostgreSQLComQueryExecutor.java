@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.reactive.postgresql.command.query.simple;
+
+import io.vertx.core.Future;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLColumnDescription;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLEmptyQueryResponsePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLRowDescriptionPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.simple.PostgreSQLComQueryPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.handshake.PostgreSQLParameterStatusPacket;
+import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.update.ClientEncodingResponseHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.text.TextProtocolBackendHandler;
+import org.apache.shardingsphere.proxy.backend.text.TextProtocolBackendHandlerFactory;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLConnectionContext;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.PostgreSQLCommand;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.exception.InvalidParameterValueException;
+import org.apache.shardingsphere.proxy.frontend.reactive.command.executor.ReactiveCommandExecutor;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.EmptyStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.tcl.CommitStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.tcl.RollbackStatement;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reactive command query executor for PostgreSQL.
+ */
+public final class ReactivePostgreSQLComQueryExecutor implements ReactiveCommandExecutor {
+    
+    private final PostgreSQLConnectionContext connectionContext;
+    
+    private final ConnectionSession connectionSession;
+    
+    private final TextProtocolBackendHandler textProtocolBackendHandler;
+    
+    public ReactivePostgreSQLComQueryExecutor(final PostgreSQLConnectionContext connectionContext, final PostgreSQLComQueryPacket comQueryPacket,
+                                              final ConnectionSession connectionSession) throws SQLException {
+        this.connectionContext = connectionContext;
+        this.connectionSession = connectionSession;
+        textProtocolBackendHandler = TextProtocolBackendHandlerFactory.newInstance(connectionSession.getDatabaseType(), comQueryPacket.getSql(), Optional::empty, connectionSession);
+    }
+    
+    @Override
+    public Future<Collection<DatabasePacket<?>>> executeFuture() {
+        return textProtocolBackendHandler.executeFuture().compose(responseHeader -> {
+            try {
+                return Future.succeededFuture(createResponsePackets(responseHeader));
+            } catch (final SQLException ex) {
+                return Future.failedFuture(ex);
+            }
+        });
+    }
+    
+    private Collection<DatabasePacket<?>> createResponsePackets(final ResponseHeader responseHeader) throws SQLException {
+        List<DatabasePacket<?>> result = new LinkedList<>();
+        if (responseHeader instanceof QueryResponseHeader) {
+            result.add(createRowDescriptionPacket((QueryResponseHeader) responseHeader));
+            long dataRows = 0;
+            while (textProtocolBackendHandler.next()) {
+                result.add(new PostgreSQLDataRowPacket(textProtocolBackendHandler.getRowData()));
+                dataRows++;
+            }
+            result.add(new PostgreSQLCommandCompletePacket(PostgreSQLCommand.SELECT.name(), dataRows));
+        } else if (responseHeader instanceof UpdateResponseHeader) {
+            result.add(createUpdatePacket((UpdateResponseHeader) responseHeader));
+        } else {
+            result.addAll(createClientEncodingPackets((ClientEncodingResponseHeader) responseHeader));
+        }
+        result.add(connectionSession.getTransactionStatus().isInTransaction() ? PostgreSQLReadyForQueryPacket.IN_TRANSACTION : PostgreSQLReadyForQueryPacket.NOT_IN_TRANSACTION);
+        return result;
+    }
+    
+    private PostgreSQLRowDescriptionPacket createRowDescriptionPacket(final QueryResponseHeader queryResponseHeader) {
+        Collection<PostgreSQLColumnDescription> columnDescriptions = new LinkedList<>();
+        int columnIndex = 0;
+        for (QueryHeader each : queryResponseHeader.getQueryHeaders()) {
+            columnDescriptions.add(new PostgreSQLColumnDescription(each.getColumnLabel(), ++columnIndex, each.getColumnType(), each.getColumnLength(), each.getColumnTypeName()));
+        }
+        return new PostgreSQLRowDescriptionPacket(columnDescriptions.size(), columnDescriptions);
+    }
+    
+    private PostgreSQLPacket createUpdatePacket(final UpdateResponseHeader updateResponseHeader) {
+        SQLStatement sqlStatement = updateResponseHeader.getSqlStatement();
+        if (sqlStatement instanceof CommitStatement || sqlStatement instanceof RollbackStatement) {
+            connectionContext.closeAllPortals();
+        }
+        return sqlStatement instanceof EmptyStatement ? new PostgreSQLEmptyQueryResponsePacket()
+                : new PostgreSQLCommandCompletePacket(PostgreSQLCommand.valueOf(sqlStatement.getClass()).map(PostgreSQLCommand::getTag).orElse(""), updateResponseHeader.getUpdateCount());
+    }
+    
+    private Collection<DatabasePacket<?>> createClientEncodingPackets(final ClientEncodingResponseHeader clientEncodingResponseHeader) {
+        Collection<DatabasePacket<?>> result = new LinkedList<>();
+        Optional<String> currentCharsetValue = clientEncodingResponseHeader.getCurrentCharsetValue();
+        if (currentCharsetValue.isPresent()) {
+            result.add(new PostgreSQLCommandCompletePacket("SET", 0));
+            result.add(new PostgreSQLParameterStatusPacket("client_encoding", currentCharsetValue.get()));
+            return result;
+        }
+        throw new InvalidParameterValueException(String.format("invalid value for parameter \"clientEncoding\": \"%s\"", clientEncodingResponseHeader.getInputValue()));
+    }
+    
+    @Override
+    public Future<Void> closeFuture() {
+        try {
+            textProtocolBackendHandler.close();
+            return Future.succeededFuture();
+        } catch (final SQLException ex) {
+            return Future.failedFuture(ex);
+        }
+    }
+}
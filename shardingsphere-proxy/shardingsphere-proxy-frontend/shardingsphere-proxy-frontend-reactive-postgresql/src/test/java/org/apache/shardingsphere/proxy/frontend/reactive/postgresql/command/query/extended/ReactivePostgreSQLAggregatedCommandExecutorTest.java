@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.reactive.postgresql.command.query.extended;
+
+import io.vertx.core.Future;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLAggregatedResponsesPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.apache.shardingsphere.proxy.frontend.reactive.command.executor.ReactiveCommandExecutor;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class ReactivePostgreSQLAggregatedCommandExecutorTest {
+    
+    @Test
+    public void assertExecuteFuture() {
+        PostgreSQLPacket firstPacket = mock(PostgreSQLPacket.class);
+        PostgreSQLPacket secondPacket = mock(PostgreSQLPacket.class);
+        ReactiveCommandExecutor firstExecutor = mockReactiveCommandExecutor(Future.succeededFuture(Collections.singletonList(firstPacket)));
+        ReactiveCommandExecutor secondExecutor = mockReactiveCommandExecutor(Future.succeededFuture(Collections.singletonList(secondPacket)));
+        Future<Collection<DatabasePacket<?>>> actual = new ReactivePostgreSQLAggregatedCommandExecutor(Arrays.asList(firstExecutor, secondExecutor)).executeFuture();
+        assertTrue(actual.succeeded());
+        assertThat(actual.result().size(), is(1));
+        DatabasePacket<?> actualPacket = actual.result().iterator().next();
+        assertThat(actualPacket, instanceOf(PostgreSQLAggregatedResponsesPacket.class));
+        PostgreSQLPacketPayload payload = mock(PostgreSQLPacketPayload.class);
+        ((PostgreSQLAggregatedResponsesPacket) actualPacket).write(payload);
+        InOrder inOrder = inOrder(firstPacket, secondPacket);
+        inOrder.verify(firstPacket).write(payload);
+        inOrder.verify(secondPacket).write(payload);
+        verify(firstExecutor).closeFuture();
+        verify(secondExecutor).closeFuture();
+    }
+    
+    @Test
+    public void assertExecuteFutureFailed() {
+        SQLException expected = new SQLException("failed");
+        ReactiveCommandExecutor failedExecutor = mockReactiveCommandExecutor(Future.failedFuture(expected));
+        ReactiveCommandExecutor skippedExecutor = mock(ReactiveCommandExecutor.class);
+        Future<Collection<DatabasePacket<?>>> actual = new ReactivePostgreSQLAggregatedCommandExecutor(Arrays.asList(failedExecutor, skippedExecutor)).executeFuture();
+        assertTrue(actual.failed());
+        assertThat(actual.cause(), is(expected));
+        verify(failedExecutor).closeFuture();
+        verify(skippedExecutor, never()).executeFuture();
+    }
+    
+    private ReactiveCommandExecutor mockReactiveCommandExecutor(final Future<Collection<DatabasePacket<?>>> executeResult) {
+        ReactiveCommandExecutor result = mock(ReactiveCommandExecutor.class);
+        when(result.executeFuture()).thenReturn(executeResult);
+        when(result.closeFuture()).thenReturn(Future.succeededFuture());
+        return result;
+    }
+}
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.proxy.frontend.command.executor;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 
 import java.sql.SQLException;
@@ -48,4 +50,24 @@ public interface QueryCommandExecutor extends CommandExecutor {
      * @throws SQLException SQL exception
      */
     DatabasePacket<?> getQueryRowPacket() throws SQLException;
+    
+    /**
+     * Judge whether query rows can be encoded into byte buffer directly.
+     *
+     * @return can be encoded into byte buffer directly or not
+     */
+    default boolean isQueryRowEncodable() {
+        return false;
+    }
+    
+    /**
+     * Encode query row into byte buffer directly, without creating database packet of query row.
+     *
+     * @param allocator byte buffer allocator
+     * @return byte buffer of query row, which is a complete message of the database protocol
+     * @throws SQLException SQL exception
+     */
+    default ByteBuf encodeQueryRow(final ByteBufAllocator allocator) throws SQLException {
+        throw new UnsupportedOperationException("encodeQueryRow");
+    }
 }
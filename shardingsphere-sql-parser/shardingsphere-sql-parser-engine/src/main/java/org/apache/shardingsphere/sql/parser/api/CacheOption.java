@@ -32,4 +32,19 @@ public final class CacheOption {
     private final long maximumSize;
     
     private final int concurrencyLevel;
+    
+    private final long maximumWeight;
+    
+    public CacheOption(final int initialCapacity, final long maximumSize, final int concurrencyLevel) {
+        this(initialCapacity, maximumSize, concurrencyLevel, 0L);
+    }
+    
+    /**
+     * Judge whether cache is bounded by estimated weight instead of entry size.
+     * 
+     * @return is weighted or not
+     */
+    public boolean isWeighted() {
+        return maximumWeight > 0L;
+    }
 }
@@ -17,8 +17,8 @@
 
 package org.apache.shardingsphere.sql.parser.core.database.cache;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
@@ -26,6 +26,8 @@ import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
 
 /**
  * Parse tree cache builder.
+ * 
+ * <p>Cache is bounded by maximum size only, so entries are evicted by W-TinyLFU policy instead of being cleared in bulk by GC.</p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ParseTreeCacheBuilder {
@@ -38,8 +40,6 @@ public final class ParseTreeCacheBuilder {
      * @return built parse tree cache
      */
     public static LoadingCache<String, ParseASTNode> build(final CacheOption option, final String databaseType) {
-        return CacheBuilder.newBuilder().softValues()
-                .initialCapacity(option.getInitialCapacity()).maximumSize(option.getMaximumSize()).concurrencyLevel(option.getConcurrencyLevel())
-                .build(new ParseTreeCacheLoader(databaseType));
+        return Caffeine.newBuilder().initialCapacity(option.getInitialCapacity()).maximumSize(option.getMaximumSize()).build(new ParseTreeCacheLoader(databaseType));
     }
 }
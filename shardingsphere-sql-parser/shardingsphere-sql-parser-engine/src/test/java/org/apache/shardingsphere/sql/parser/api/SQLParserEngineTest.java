@@ -17,14 +17,12 @@
 
 package org.apache.shardingsphere.sql.parser.api;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
 import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
 import org.junit.Test;
 
-import javax.annotation.ParametersAreNonnullByDefault;
 import java.lang.reflect.Field;
 
 import static org.mockito.Mockito.mock;
@@ -47,15 +45,7 @@ public final class SQLParserEngineTest {
         sqlParserExecutorFiled.setAccessible(true);
         parseTreeCacheField.setAccessible(true);
         sqlParserExecutorFiled.set(sqlParserEngine, sqlParserExecutor);
-        LoadingCache<String, ParseASTNode> parseTreeCache = CacheBuilder.newBuilder().softValues().initialCapacity(128)
-                .maximumSize(1024).concurrencyLevel(4).build(new CacheLoader<String, ParseASTNode>() {
-                    
-                    @ParametersAreNonnullByDefault
-                    @Override
-                    public ParseASTNode load(final String sql) {
-                        return sqlParserExecutor.parse(sql);
-                    }
-                });
+        LoadingCache<String, ParseASTNode> parseTreeCache = Caffeine.newBuilder().initialCapacity(128).maximumSize(1024).build(sqlParserExecutor::parse);
         parseTreeCacheField.set(sqlParserEngine, parseTreeCache);
         sqlParserEngine.parse(SQL, true);
         verify(sqlParserExecutor, times(1)).parse(SQL);
@@ -17,14 +17,11 @@
 
 package org.apache.shardingsphere.sql.parser.core;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
 import org.junit.Test;
 
-import javax.annotation.ParametersAreNonnullByDefault;
-
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
@@ -36,18 +33,10 @@ public final class SQLParserEngineTest {
     public void assertParse() {
         SQLParserExecutor sqlParserExecutor = mock(SQLParserExecutor.class);
         when(sqlParserExecutor.parse("")).thenReturn(mock(ParseASTNode.class));
-        LoadingCache<String, ParseASTNode> parseTreeCache = CacheBuilder.newBuilder().softValues()
-                .initialCapacity(128).maximumSize(1024).concurrencyLevel(4).build(new CacheLoader<String, ParseASTNode>() {
-                    
-                    @ParametersAreNonnullByDefault
-                    @Override
-                    public ParseASTNode load(final String sql) {
-                        return sqlParserExecutor.parse(sql);
-                    }
-                });
-        parseTreeCache.getUnchecked("");
+        LoadingCache<String, ParseASTNode> parseTreeCache = Caffeine.newBuilder().initialCapacity(128).maximumSize(1024).build(sqlParserExecutor::parse);
+        parseTreeCache.get("");
         verify(sqlParserExecutor, times(1)).parse("");
-        parseTreeCache.getUnchecked("");
+        parseTreeCache.get("");
         verify(sqlParserExecutor, times(1)).parse("");
         sqlParserExecutor.parse("");
         verify(sqlParserExecutor, times(2)).parse("");
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.executor;
+
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Benchmark for {@code ExecutorEngine.execute} with platform thread pool and virtual thread per task executor.
+ * 
+ * <p>Every benchmark thread plays one client connection of OLTP workload, which fans out to a few shards, 
+ * and every shard blocks for a fixed backend latency to simulate blocking JDBC calls. 
+ * Sample time mode publishes p99 latency, run with {@code -t} to raise client connections and find the max concurrent connections under an expected p99 latency.
+ * Virtual thread executor falls back to platform thread pool when not running on JDK 21 or above, and the fallback is logged as warning by executor service manager.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(256)
+@Fork(1)
+public class ExecutorEngineBenchmark {
+    
+    @Param({"false", "true"})
+    private boolean virtualThreadEnabled;
+    
+    @Param("64")
+    private int kernelExecutorSize;
+    
+    @Param("4")
+    private int shardCount;
+    
+    @Param("1000")
+    private long backendLatencyMicros;
+    
+    private ExecutorEngine executorEngine;
+    
+    private ExecutionGroupContext<Integer> executionGroupContext;
+    
+    private ExecutorCallback<Integer, Integer> callback;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        executorEngine = new ExecutorEngine(kernelExecutorSize, virtualThreadEnabled);
+        Collection<ExecutionGroup<Integer>> inputGroups = new LinkedList<>();
+        for (int i = 0; i < shardCount; i++) {
+            inputGroups.add(new ExecutionGroup<>(Collections.singletonList(i)));
+        }
+        executionGroupContext = new ExecutionGroupContext<>(inputGroups);
+        long backendLatencyNanos = TimeUnit.MICROSECONDS.toNanos(backendLatencyMicros);
+        callback = (inputs, isTrunkThread, dataMap) -> {
+            List<Integer> result = new ArrayList<>(inputs.size());
+            for (Integer each : inputs) {
+                LockSupport.parkNanos(backendLatencyNanos);
+                result.add(each);
+            }
+            return result;
+        };
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() {
+        executorEngine.close();
+    }
+    
+    /**
+     * Benchmark execute.
+     * 
+     * @return execute results
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public List<Integer> execute() throws SQLException {
+        return executorEngine.execute(executionGroupContext, callback);
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import com.google.common.io.ByteStreams;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
+import org.apache.shardingsphere.infra.config.database.impl.DataSourceProvidedDatabaseConfiguration;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.builder.schema.SchemaRulesBuilder;
+import org.apache.shardingsphere.infra.yaml.config.pojo.YamlRootConfiguration;
+import org.apache.shardingsphere.infra.yaml.config.swapper.YamlRuleConfigurationSwapperEngine;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Benchmark context, which holds sharding, readwrite-splitting and encrypt rules over in-memory H2 data sources.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class BenchmarkContext {
+    
+    public static final String DATABASE_NAME = "sharding_db";
+    
+    public static final String DATABASE_TYPE = "MySQL";
+    
+    private static final String RULE_CONFIG_FILE = "/config/benchmark-rules.yaml";
+    
+    private static final int DATA_SOURCE_GROUP_COUNT = 4;
+    
+    private static final int READ_DATA_SOURCE_COUNT = 2;
+    
+    private final Map<String, ShardingSphereMetaData> metaDataMap;
+    
+    private final ConfigurationProperties props;
+    
+    /**
+     * Load benchmark context.
+     *
+     * @return loaded benchmark context
+     * @throws IOException IO exception
+     * @throws SQLException SQL exception
+     */
+    public static BenchmarkContext load() throws IOException, SQLException {
+        YamlRootConfiguration rootConfig = loadRootConfiguration();
+        ConfigurationProperties props = new ConfigurationProperties(rootConfig.getProps());
+        DatabaseConfiguration databaseConfig = new DataSourceProvidedDatabaseConfiguration(
+                createDataSources(), new YamlRuleConfigurationSwapperEngine().swapToRuleConfigurations(rootConfig.getRules()));
+        Collection<ShardingSphereRule> rules = SchemaRulesBuilder.buildRules(DATABASE_NAME, databaseConfig, props);
+        ShardingSphereMetaData metaData = ShardingSphereMetaData.create(DATABASE_NAME, Collections.singletonMap(DATABASE_NAME, createSchema()), databaseConfig, rules, new MySQLDatabaseType());
+        return new BenchmarkContext(Collections.singletonMap(DATABASE_NAME, metaData), props);
+    }
+    
+    private static YamlRootConfiguration loadRootConfiguration() throws IOException {
+        try (InputStream inputStream = BenchmarkContext.class.getResourceAsStream(RULE_CONFIG_FILE)) {
+            return YamlEngine.unmarshal(ByteStreams.toByteArray(inputStream), YamlRootConfiguration.class);
+        }
+    }
+    
+    private static Map<String, DataSource> createDataSources() {
+        Map<String, DataSource> result = new LinkedHashMap<>(DATA_SOURCE_GROUP_COUNT * (READ_DATA_SOURCE_COUNT + 1), 1);
+        for (int i = 0; i < DATA_SOURCE_GROUP_COUNT; i++) {
+            result.put("write_ds_" + i, createDataSource("write_ds_" + i));
+            for (int j = 0; j < READ_DATA_SOURCE_COUNT; j++) {
+                result.put(String.format("read_ds_%s_%s", i, j), createDataSource(String.format("read_ds_%s_%s", i, j)));
+            }
+        }
+        return result;
+    }
+    
+    private static DataSource createDataSource(final String name) {
+        HikariDataSource result = new HikariDataSource();
+        result.setDriverClassName("org.h2.Driver");
+        result.setJdbcUrl(String.format("jdbc:h2:mem:%s;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL", name));
+        result.setUsername("sa");
+        result.setPassword("");
+        result.setMaximumPoolSize(2);
+        return result;
+    }
+    
+    private static ShardingSphereSchema createSchema() {
+        Map<String, TableMetaData> tables = new LinkedHashMap<>(4, 1);
+        tables.put("t_order", new TableMetaData("t_order", Arrays.asList(new ColumnMetaData("order_id", Types.BIGINT, true, true, false),
+                new ColumnMetaData("user_id", Types.INTEGER, false, false, false), new ColumnMetaData("status", Types.VARCHAR, false, false, false),
+                new ColumnMetaData("amount", Types.DECIMAL, false, false, false), new ColumnMetaData("create_time", Types.TIMESTAMP, false, false, false)),
+                Collections.emptyList(), Collections.emptyList()));
+        tables.put("t_order_item", new TableMetaData("t_order_item", Arrays.asList(new ColumnMetaData("item_id", Types.BIGINT, true, true, false),
+                new ColumnMetaData("order_id", Types.BIGINT, false, false, false), new ColumnMetaData("user_id", Types.INTEGER, false, false, false),
+                new ColumnMetaData("product_id", Types.INTEGER, false, false, false), new ColumnMetaData("quantity", Types.INTEGER, false, false, false)),
+                Collections.emptyList(), Collections.emptyList()));
+        tables.put("t_user", new TableMetaData("t_user", Arrays.asList(new ColumnMetaData("user_id", Types.INTEGER, true, false, false),
+                new ColumnMetaData("user_name", Types.VARCHAR, false, false, false), new ColumnMetaData("pwd", Types.VARCHAR, false, false, false),
+                new ColumnMetaData("mobile", Types.VARCHAR, false, false, false)), Collections.emptyList(), Collections.emptyList()));
+        tables.put("t_config", new TableMetaData("t_config", Arrays.asList(new ColumnMetaData("config_id", Types.INTEGER, true, false, false),
+                new ColumnMetaData("config_value", Types.VARCHAR, false, false, false)), Collections.emptyList(), Collections.emptyList()));
+        return new ShardingSphereSchema(tables);
+    }
+    
+    /**
+     * Get meta data.
+     *
+     * @return meta data
+     */
+    public ShardingSphereMetaData getMetaData() {
+        return metaDataMap.get(DATABASE_NAME);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Benchmark SQL.
+ */
+@Getter
+public enum BenchmarkSQL {
+    
+    SHARDING_SELECT_BY_KEY("SELECT order_id, user_id, status, amount FROM t_order WHERE user_id = ? AND order_id = ?", 10, 1000L),
+    
+    SHARDING_SELECT_BINDING_JOIN("SELECT o.order_id, i.item_id, i.quantity FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id WHERE o.user_id = ? AND o.order_id IN (?, ?, ?)",
+            10, 1000L, 1001L, 1002L),
+    
+    SHARDING_SELECT_ORDER_BY_LIMIT("SELECT order_id, user_id, amount FROM t_order WHERE status = ? ORDER BY order_id DESC LIMIT ?, ?", "PAID", 100, 20),
+    
+    SHARDING_SELECT_ORDER_BY("SELECT order_id, user_id, amount FROM t_order WHERE status = ? ORDER BY order_id DESC", "PAID"),
+    
+    SHARDING_SELECT_GROUP_BY("SELECT user_id, COUNT(order_id), SUM(amount), AVG(amount) FROM t_order WHERE status = ? GROUP BY user_id ORDER BY user_id", "PAID"),
+    
+    SHARDING_SELECT_GROUP_BY_ORDER_BY_AGGREGATION("SELECT user_id, COUNT(order_id), SUM(amount) FROM t_order WHERE status = ? GROUP BY user_id ORDER BY COUNT(order_id) DESC", "PAID"),
+    
+    SHARDING_INSERT("INSERT INTO t_order (user_id, status, amount) VALUES (?, ?, ?)", 10, "INIT", new BigDecimal("99.90")),
+    
+    SHARDING_UPDATE("UPDATE t_order SET status = ? WHERE user_id = ? AND order_id = ?", "PAID", 10, 1000L),
+    
+    ENCRYPT_SELECT("SELECT user_id, user_name, pwd, mobile FROM t_user WHERE user_id = ? AND mobile = ?", 10, "13800000000"),
+    
+    ENCRYPT_INSERT("INSERT INTO t_user (user_id, user_name, pwd, mobile) VALUES (?, ?, ?, ?)", 10, "user_10", "pwd_10", "13800000000"),
+    
+    BROADCAST_SELECT("SELECT config_value FROM t_config WHERE config_id = ?", 1);
+    
+    private final String sql;
+    
+    private final List<Object> parameters;
+    
+    BenchmarkSQL(final String sql, final Object... parameters) {
+        this.sql = sql;
+        this.parameters = Arrays.asList(parameters);
+    }
+    
+    /**
+     * Create a new copy of parameters, because parameters may be changed during SQL rewriting.
+     *
+     * @return new copy of parameters
+     */
+    public List<Object> newParameters() {
+        return new ArrayList<>(parameters);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.kernel;
+
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkContext;
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkSQL;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@code KernelProcessor.generateExecutionContext}.
+ * 
+ * <p>Routing may change SQL statement context (such as generated keys), so each operation binds a new SQL statement context.
+ * Subtract the result of {@code SQLStatementContextBenchmark} to get cost of route and rewrite only.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class KernelProcessorBenchmark {
+    
+    @Param
+    private BenchmarkSQL benchmarkSQL;
+    
+    private BenchmarkContext context;
+    
+    private SQLStatement sqlStatement;
+    
+    private final KernelProcessor kernelProcessor = new KernelProcessor();
+    
+    /**
+     * Set up.
+     *
+     * @throws IOException IO exception
+     * @throws SQLException SQL exception
+     */
+    @Setup
+    public void setUp() throws IOException, SQLException {
+        context = BenchmarkContext.load();
+        SQLParserRule sqlParserRule = new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build());
+        sqlStatement = new ShardingSphereSQLParserEngine(BenchmarkContext.DATABASE_TYPE, sqlParserRule.toParserConfiguration()).parse(benchmarkSQL.getSql(), false);
+    }
+    
+    /**
+     * Generate execution context.
+     *
+     * @return execution context
+     */
+    @Benchmark
+    public ExecutionContext generateExecutionContext() {
+        List<Object> parameters = benchmarkSQL.newParameters();
+        LogicSQL logicSQL = new LogicSQL(SQLStatementContextFactory.newInstance(context.getMetaDataMap(), parameters, sqlStatement, BenchmarkContext.DATABASE_NAME), benchmarkSQL.getSql(), parameters);
+        return kernelProcessor.generateExecutionContext(logicSQL, context.getMetaData(), context.getProps());
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.merge;
+
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkContext;
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkSQL;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.ColumnProjection;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.MergeEngine;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@code MergeEngine.merge}, which merges in-memory query results of every table shard.
+ * 
+ * <p>Rows of each shard are sorted by {@code order_id} descending and {@code user_id} ascending,
+ * so both stream merge and memory merge could be measured with same query results.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MergeEngineBenchmark {
+    
+    private static final int ROWS_PER_USER = 4;
+    
+    @Param({"SHARDING_SELECT_ORDER_BY", "SHARDING_SELECT_GROUP_BY", "SHARDING_SELECT_GROUP_BY_ORDER_BY_AGGREGATION"})
+    private BenchmarkSQL benchmarkSQL;
+    
+    @Param({"16", "64", "256"})
+    private int shardCount;
+    
+    @Param({"false", "true"})
+    private boolean loserTreeEnabled;
+    
+    @Param("1000")
+    private int rowsPerShard;
+    
+    private BenchmarkContext context;
+    
+    private SelectStatementContext sqlStatementContext;
+    
+    private RawQueryResultMetaData queryResultMetaData;
+    
+    private List<List<MemoryQueryResultDataRow>> shardRows;
+    
+    private MergeEngine mergeEngine;
+    
+    /**
+     * Set up.
+     *
+     * @throws IOException IO exception
+     * @throws SQLException SQL exception
+     */
+    @Setup
+    public void setUp() throws IOException, SQLException {
+        context = BenchmarkContext.load();
+        SQLParserRule sqlParserRule = new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build());
+        sqlStatementContext = (SelectStatementContext) SQLStatementContextFactory.newInstance(context.getMetaDataMap(), benchmarkSQL.newParameters(),
+                new ShardingSphereSQLParserEngine(BenchmarkContext.DATABASE_TYPE, sqlParserRule.toParserConfiguration()).parse(benchmarkSQL.getSql(), false), BenchmarkContext.DATABASE_NAME);
+        List<Projection> projections = sqlStatementContext.getProjectionsContext().getExpandProjections();
+        queryResultMetaData = createQueryResultMetaData(projections);
+        shardRows = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shardRows.add(createRows(projections, i));
+        }
+        Properties props = new Properties();
+        props.putAll(context.getProps().getProps());
+        props.setProperty(ConfigurationPropertyKey.SHARDING_STREAM_MERGE_LOSER_TREE_ENABLED.getKey(), String.valueOf(loserTreeEnabled));
+        mergeEngine = new MergeEngine(BenchmarkContext.DATABASE_NAME, new MySQLDatabaseType(), context.getMetaData().getDefaultSchema(), new ConfigurationProperties(props),
+                context.getMetaData().getRuleMetaData().getRules());
+    }
+    
+    private RawQueryResultMetaData createQueryResultMetaData(final List<Projection> projections) {
+        List<RawQueryResultColumnMetaData> result = new ArrayList<>(projections.size());
+        for (Projection each : projections) {
+            result.add(new RawQueryResultColumnMetaData("t_order", each.getColumnLabel(), each.getColumnLabel(), getColumnType(each), "", 20, 0));
+        }
+        return new RawQueryResultMetaData(result);
+    }
+    
+    private int getColumnType(final Projection projection) {
+        if (projection instanceof AggregationProjection) {
+            return AggregationType.COUNT == ((AggregationProjection) projection).getType() ? Types.BIGINT : Types.DECIMAL;
+        }
+        switch (((ColumnProjection) projection).getName()) {
+            case "order_id":
+                return Types.BIGINT;
+            case "user_id":
+                return Types.INTEGER;
+            default:
+                return Types.DECIMAL;
+        }
+    }
+    
+    private List<MemoryQueryResultDataRow> createRows(final List<Projection> projections, final int shardIndex) {
+        List<MemoryQueryResultDataRow> result = new ArrayList<>(rowsPerShard);
+        for (int i = 0; i < rowsPerShard; i++) {
+            List<Object> row = new ArrayList<>(projections.size());
+            for (Projection each : projections) {
+                row.add(createValue(each, shardIndex, i));
+            }
+            result.add(new MemoryQueryResultDataRow(row));
+        }
+        return result;
+    }
+    
+    private Object createValue(final Projection projection, final int shardIndex, final int rowIndex) {
+        if (projection instanceof AggregationProjection) {
+            return AggregationType.COUNT == ((AggregationProjection) projection).getType() ? (Object) (long) (rowIndex % ROWS_PER_USER + 1) : BigDecimal.valueOf(rowIndex * 100 + shardIndex, 2);
+        }
+        switch (((ColumnProjection) projection).getName()) {
+            case "order_id":
+                return (long) (rowsPerShard - rowIndex) * shardCount + shardIndex;
+            case "user_id":
+                return rowIndex / ROWS_PER_USER;
+            default:
+                return BigDecimal.valueOf(rowIndex * 100 + shardIndex, 2);
+        }
+    }
+    
+    /**
+     * Merge query results and iterate all merged rows.
+     *
+     * @param blackhole black hole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void merge(final Blackhole blackhole) throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(shardCount);
+        for (List<MemoryQueryResultDataRow> each : shardRows) {
+            queryResults.add(new RawMemoryQueryResult(queryResultMetaData, each));
+        }
+        MergedResult mergedResult = mergeEngine.merge(queryResults, sqlStatementContext);
+        while (mergedResult.next()) {
+            blackhole.consume(mergedResult.getValue(1, Object.class));
+        }
+    }
+}
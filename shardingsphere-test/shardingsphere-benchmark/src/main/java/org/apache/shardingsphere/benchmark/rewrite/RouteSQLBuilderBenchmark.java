@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.rewrite;
+
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkContext;
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkSQL;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorator;
+import org.apache.shardingsphere.infra.rewrite.sql.impl.RouteSQLBuilder;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.spi.type.ordered.OrderedSPIRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@code RouteSQLBuilder.toSQL} of large batch INSERT statements.
+ * 
+ * <p>Single row INSERT of {@link BenchmarkSQL} is repeated as multiple value lists with different sharding values,
+ * so SQL tokens of generated key, encrypt columns and sharding insert values grow with count of value lists.
+ * Route and token generation are prepared once, each operation only rebuilds SQL of all route units.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RouteSQLBuilderBenchmark {
+    
+    static {
+        ShardingSphereServiceLoader.register(SQLRewriteContextDecorator.class);
+    }
+    
+    @Param({"SHARDING_INSERT", "ENCRYPT_INSERT"})
+    private BenchmarkSQL benchmarkSQL;
+    
+    @Param({"100", "1000", "5000"})
+    private int valueListCount;
+    
+    private SQLRewriteContext sqlRewriteContext;
+    
+    private Collection<RouteUnit> routeUnits;
+    
+    /**
+     * Set up.
+     *
+     * @throws IOException IO exception
+     * @throws SQLException SQL exception
+     */
+    @Setup
+    public void setUp() throws IOException, SQLException {
+        BenchmarkContext context = BenchmarkContext.load();
+        String sql = createBatchInsertSQL();
+        List<Object> parameters = createBatchInsertParameters();
+        SQLParserRule sqlParserRule = new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build());
+        SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(context.getMetaDataMap(), parameters,
+                new ShardingSphereSQLParserEngine(BenchmarkContext.DATABASE_TYPE, sqlParserRule.toParserConfiguration()).parse(sql, false), BenchmarkContext.DATABASE_NAME);
+        Collection<ShardingSphereRule> rules = context.getMetaData().getRuleMetaData().getRules();
+        RouteContext routeContext = new SQLRouteEngine(rules, context.getProps()).route(new LogicSQL(sqlStatementContext, sql, parameters), context.getMetaData());
+        sqlRewriteContext = new SQLRewriteContext(BenchmarkContext.DATABASE_NAME, context.getMetaData().getDefaultSchema(), sqlStatementContext, sql, parameters);
+        decorate(rules, context, routeContext);
+        sqlRewriteContext.generateSQLTokens();
+        routeUnits = routeContext.getRouteUnits();
+    }
+    
+    private String createBatchInsertSQL() {
+        String sql = benchmarkSQL.getSql();
+        String valueList = sql.substring(sql.indexOf(" VALUES ") + " VALUES ".length());
+        StringBuilder result = new StringBuilder(sql.length() + (valueList.length() + 2) * valueListCount);
+        result.append(sql);
+        for (int i = 1; i < valueListCount; i++) {
+            result.append(", ").append(valueList);
+        }
+        return result.toString();
+    }
+    
+    private List<Object> createBatchInsertParameters() {
+        List<Object> result = new ArrayList<>(valueListCount * benchmarkSQL.newParameters().size());
+        for (int i = 0; i < valueListCount; i++) {
+            List<Object> valueListParameters = benchmarkSQL.newParameters();
+            valueListParameters.set(0, i);
+            result.addAll(valueListParameters);
+        }
+        return result;
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void decorate(final Collection<ShardingSphereRule> rules, final BenchmarkContext context, final RouteContext routeContext) {
+        Map<ShardingSphereRule, SQLRewriteContextDecorator> decorators = OrderedSPIRegistry.getRegisteredServices(SQLRewriteContextDecorator.class, rules);
+        for (Entry<ShardingSphereRule, SQLRewriteContextDecorator> entry : decorators.entrySet()) {
+            entry.getValue().decorate(entry.getKey(), context.getProps(), sqlRewriteContext, routeContext);
+        }
+    }
+    
+    /**
+     * Build SQL of all route units.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void toSQL(final Blackhole blackhole) {
+        for (RouteUnit each : routeUnits) {
+            blackhole.consume(new RouteSQLBuilder(sqlRewriteContext, each).toSQL());
+        }
+    }
+}
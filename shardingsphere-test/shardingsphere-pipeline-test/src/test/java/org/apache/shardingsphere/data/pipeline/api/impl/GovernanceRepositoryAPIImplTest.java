@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.api.impl;
 
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyRangeCheckResult;
 import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.config.ingest.InventoryDumperConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.TaskConfiguration;
@@ -42,6 +43,7 @@ import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEve
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
@@ -85,6 +87,25 @@ public final class GovernanceRepositoryAPIImplTest {
         assertTrue(checkResult.isPresent() && checkResult.get());
     }
     
+    @Test
+    public void assertPersistJobCheckRangeResults() {
+        String jobId = mockJobContext().getJobId();
+        governanceRepositoryAPI.persistJobCheckRangeResults(jobId, "t_order",
+                Arrays.asList(new DataConsistencyRangeCheckResult(Long.MIN_VALUE, 100L, true), new DataConsistencyRangeCheckResult(100L, Long.MAX_VALUE, null)));
+        List<DataConsistencyRangeCheckResult> actual = governanceRepositoryAPI.getJobCheckRangeResults(jobId, "t_order");
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getLowerBound(), is(Long.MIN_VALUE));
+        assertThat(actual.get(0).getUpperBound(), is(100L));
+        assertTrue(actual.get(0).getMatched());
+        assertThat(actual.get(1).getLowerBound(), is(100L));
+        assertThat(actual.get(1).getUpperBound(), is(Long.MAX_VALUE));
+        assertNull(actual.get(1).getMatched());
+        governanceRepositoryAPI.persistJobCheckRangeResult(jobId, "t_order", 1, false);
+        assertFalse(governanceRepositoryAPI.getJobCheckRangeResults(jobId, "t_order").get(1).getMatched());
+        governanceRepositoryAPI.deleteJobCheckRangeResults(jobId, "t_order");
+        assertTrue(governanceRepositoryAPI.getJobCheckRangeResults(jobId, "t_order").isEmpty());
+    }
+    
     @Test
     public void assertDeleteJob() {
         governanceRepositoryAPI.persist(DataPipelineConstants.DATA_PIPELINE_ROOT + "/1", "");
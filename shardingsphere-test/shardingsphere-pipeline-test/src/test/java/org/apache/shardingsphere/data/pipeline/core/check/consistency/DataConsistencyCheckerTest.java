@@ -18,22 +18,28 @@
 package org.apache.shardingsphere.data.pipeline.core.check.consistency;
 
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCheckResult;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyRangeCheckResult;
 import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.JobConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.PipelineDataSourceConfiguration;
+import org.apache.shardingsphere.data.pipeline.core.api.PipelineAPIFactory;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.core.fixture.FixtureDataConsistencyCalculateAlgorithm;
 import org.apache.shardingsphere.data.pipeline.core.util.JobConfigurationBuilder;
 import org.apache.shardingsphere.data.pipeline.core.util.PipelineContextUtil;
 import org.apache.shardingsphere.data.pipeline.scenario.rulealtered.RuleAlteredJobContext;
+import org.apache.shardingsphere.data.pipeline.spi.check.consistency.DataConsistencyCalculateAlgorithm;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Arrays;
 import java.util.Map;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -52,11 +58,60 @@ public final class DataConsistencyCheckerTest {
         assertTrue(actual.get("t_order").getContentCheckResult().isMatched());
     }
     
+    @Test
+    public void assertDataCheckByRanges() throws SQLException {
+        JobConfiguration jobConfig = createJobConfiguration();
+        Map<String, DataConsistencyCheckResult> actual = new DataConsistencyChecker(jobConfig).check(createChunkHashMatchAlgorithm());
+        assertTrue(actual.get("t_order").getContentCheckResult().isMatched());
+        assertTrue(PipelineAPIFactory.getGovernanceRepositoryAPI().getJobCheckRangeResults(jobConfig.getHandleConfig().getJobId(), "t_order").isEmpty());
+    }
+    
+    @Test
+    public void assertDataCheckByRangesNotMatched() throws SQLException {
+        RuleAlteredJobContext jobContext = createJobContext();
+        try (Connection connection = new PipelineDataSourceManager().getDataSource(jobContext.getTaskConfig().getImporterConfig().getDataSourceConfig()).getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("UPDATE t_order SET user_id = 'zzz' WHERE order_id = 999");
+        }
+        JobConfiguration jobConfig = jobContext.getJobConfig();
+        Map<String, DataConsistencyCheckResult> actual = new DataConsistencyChecker(jobConfig).check(createChunkHashMatchAlgorithm());
+        assertFalse(actual.get("t_order").getContentCheckResult().isMatched());
+        assertThat(actual.get("t_order").getContentCheckResult().getMismatchedRanges().size(), is(1));
+        assertThat(actual.get("t_order").getContentCheckResult().getMismatchedRanges().iterator().next().getLowerBound(), is(1L));
+        assertTrue(PipelineAPIFactory.getGovernanceRepositoryAPI().getJobCheckRangeResults(jobConfig.getHandleConfig().getJobId(), "t_order").isEmpty());
+    }
+    
+    @Test
+    public void assertDataCheckByRangesResumed() throws SQLException {
+        RuleAlteredJobContext jobContext = createJobContext();
+        try (Connection connection = new PipelineDataSourceManager().getDataSource(jobContext.getTaskConfig().getImporterConfig().getDataSourceConfig()).getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("UPDATE t_order SET user_id = 'zzz' WHERE order_id = 1");
+        }
+        JobConfiguration jobConfig = jobContext.getJobConfig();
+        PipelineAPIFactory.getGovernanceRepositoryAPI().persistJobCheckRangeResults(jobConfig.getHandleConfig().getJobId(), "t_order",
+                Arrays.asList(new DataConsistencyRangeCheckResult(Long.MIN_VALUE, 1L, true), new DataConsistencyRangeCheckResult(1L, Long.MAX_VALUE, null)));
+        Map<String, DataConsistencyCheckResult> actual = new DataConsistencyChecker(jobConfig).check(createChunkHashMatchAlgorithm());
+        assertTrue(actual.get("t_order").getContentCheckResult().isMatched());
+        assertTrue(PipelineAPIFactory.getGovernanceRepositoryAPI().getJobCheckRangeResults(jobConfig.getHandleConfig().getJobId(), "t_order").isEmpty());
+    }
+    
+    private DataConsistencyCalculateAlgorithm createChunkHashMatchAlgorithm() {
+        Properties props = new Properties();
+        props.setProperty("chunk-size", "1");
+        props.setProperty("range-size", "1");
+        return DataConsistencyCalculateAlgorithmFactory.newInstance("CHUNK_HASH_MATCH", props);
+    }
+    
     private JobConfiguration createJobConfiguration() throws SQLException {
-        RuleAlteredJobContext jobContext = new RuleAlteredJobContext(JobConfigurationBuilder.createJobConfiguration());
-        initTableData(jobContext.getTaskConfig().getDumperConfig().getDataSourceConfig());
-        initTableData(jobContext.getTaskConfig().getImporterConfig().getDataSourceConfig());
-        return jobContext.getJobConfig();
+        return createJobContext().getJobConfig();
+    }
+    
+    private RuleAlteredJobContext createJobContext() throws SQLException {
+        RuleAlteredJobContext result = new RuleAlteredJobContext(JobConfigurationBuilder.createJobConfiguration());
+        initTableData(result.getTaskConfig().getDumperConfig().getDataSourceConfig());
+        initTableData(result.getTaskConfig().getImporterConfig().getDataSourceConfig());
+        return result;
     }
     
     private void initTableData(final PipelineDataSourceConfiguration dataSourceConfig) throws SQLException {
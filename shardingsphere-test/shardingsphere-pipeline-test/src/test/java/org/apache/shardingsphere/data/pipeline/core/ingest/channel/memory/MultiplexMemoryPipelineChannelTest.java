@@ -22,16 +22,20 @@ import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -62,6 +66,94 @@ public final class MultiplexMemoryPipelineChannelTest {
         execute(records -> assertThat(records.size(), is(1)), 2, new FinishedRecord(new PlaceholderPosition()));
     }
     
+    @Test
+    @SneakyThrows(InterruptedException.class)
+    public void assertPrimaryKeyUpdatedRecordAckedInOrder() {
+        List<Integer> ackedIds = new CopyOnWriteArrayList<>();
+        AckCallback ackCallback = ackRecords -> ackRecords.forEach(each -> ackedIds.add(((IntPosition) each.getPosition()).getId()));
+        MultiplexMemoryPipelineChannel memoryChannel = new MultiplexMemoryPipelineChannel(CHANNEL_NUMBER, 10000, ackCallback);
+        Thread[] consumers = new Thread[CHANNEL_NUMBER];
+        for (int i = 0; i < CHANNEL_NUMBER; i++) {
+            consumers[i] = new Thread(() -> consumeUntilFinished(memoryChannel));
+            consumers[i].start();
+        }
+        for (int i = 0; i < 10; i++) {
+            memoryChannel.pushRecord(createDataRecord(i * 3 + 1, IngestDataChangeType.INSERT, null, i));
+            memoryChannel.pushRecord(createDataRecord(i * 3 + 2, IngestDataChangeType.UPDATE, i, i + 100));
+            memoryChannel.pushRecord(createDataRecord(i * 3 + 3, IngestDataChangeType.UPDATE, null, i + 100));
+        }
+        memoryChannel.pushRecord(new FinishedRecord(new IntPosition(31)));
+        for (Thread each : consumers) {
+            each.join(10000L);
+        }
+        memoryChannel.close();
+        for (int i = 0; i < 10; i++) {
+            int primaryKeyUpdatedIndex = ackedIds.indexOf(i * 3 + 2);
+            assertTrue(ackedIds.indexOf(i * 3 + 1) < primaryKeyUpdatedIndex);
+            assertTrue(ackedIds.indexOf(i * 3 + 3) > primaryKeyUpdatedIndex);
+        }
+    }
+    
+    @Test
+    @SneakyThrows(InterruptedException.class)
+    public void assertPrimaryKeyUpdatedRecordNotWaitFetchTimeout() {
+        List<Integer> ackedIds = new CopyOnWriteArrayList<>();
+        AckCallback ackCallback = ackRecords -> ackRecords.forEach(each -> ackedIds.add(((IntPosition) each.getPosition()).getId()));
+        MultiplexMemoryPipelineChannel memoryChannel = new MultiplexMemoryPipelineChannel(CHANNEL_NUMBER, 10000, ackCallback);
+        Thread[] consumers = new Thread[CHANNEL_NUMBER];
+        for (int i = 0; i < CHANNEL_NUMBER; i++) {
+            consumers[i] = new Thread(() -> consumeUntilFinished(memoryChannel, 10));
+            consumers[i].start();
+        }
+        int newPrimaryKey = 1;
+        while (getChannelIndex(0) == getChannelIndex(newPrimaryKey)) {
+            newPrimaryKey++;
+        }
+        long startMillis = System.currentTimeMillis();
+        memoryChannel.pushRecord(createDataRecord(1, IngestDataChangeType.INSERT, null, 0));
+        memoryChannel.pushRecord(createDataRecord(2, IngestDataChangeType.UPDATE, 0, newPrimaryKey));
+        memoryChannel.pushRecord(createDataRecord(3, IngestDataChangeType.DELETE, null, 0));
+        final long pushedMillis = System.currentTimeMillis() - startMillis;
+        memoryChannel.pushRecord(new FinishedRecord(new IntPosition(4)));
+        memoryChannel.flush();
+        for (Thread each : consumers) {
+            each.join(30000L);
+        }
+        memoryChannel.close();
+        assertTrue(pushedMillis < 5000L);
+        assertTrue(ackedIds.indexOf(1) < ackedIds.indexOf(2));
+        assertTrue(ackedIds.indexOf(2) < ackedIds.indexOf(3));
+    }
+    
+    private int getChannelIndex(final int primaryKey) {
+        return Math.abs(new DataRecord.Key("t_order", Collections.singletonList(primaryKey)).hashCode() % CHANNEL_NUMBER);
+    }
+    
+    private void consumeUntilFinished(final MultiplexMemoryPipelineChannel memoryChannel) {
+        consumeUntilFinished(memoryChannel, 0);
+    }
+    
+    private void consumeUntilFinished(final MultiplexMemoryPipelineChannel memoryChannel, final int timeoutSeconds) {
+        while (true) {
+            List<Record> records = memoryChannel.fetchRecords(100, timeoutSeconds);
+            if (records.isEmpty()) {
+                continue;
+            }
+            memoryChannel.ack(records);
+            if (records.get(records.size() - 1) instanceof FinishedRecord) {
+                return;
+            }
+        }
+    }
+    
+    private DataRecord createDataRecord(final int id, final String type, final Integer oldPrimaryKey, final int primaryKey) {
+        DataRecord result = new DataRecord(new IntPosition(id), 1);
+        result.setTableName("t_order");
+        result.setType(type);
+        result.addColumn(new Column("order_id", oldPrimaryKey, primaryKey, true, true));
+        return result;
+    }
+    
     @SneakyThrows(InterruptedException.class)
     private void execute(final AckCallback ackCallback, final int recordCount, final Record... records) {
         CountDownLatch countDownLatch = new CountDownLatch(recordCount);
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallback;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class OffHeapPipelineChannelTest {
+    
+    @Test
+    public void assertDecodeDataRecord() {
+        Timestamp timestamp = new Timestamp(1650000000123L);
+        timestamp.setNanos(123456789);
+        UUID uuid = UUID.randomUUID();
+        DataRecord expected = new DataRecord(new PlaceholderPosition(), 6);
+        expected.setType(IngestDataChangeType.UPDATE);
+        expected.setTableName("t_order");
+        expected.setCommitTime(1650000000000L);
+        expected.addColumn(new Column("order_id", 1L, 2L, true, true));
+        expected.addColumn(new Column("content", "中文 content", true, false));
+        expected.addColumn(new Column("data", new byte[]{1, 2, 3}, false, false));
+        expected.addColumn(new Column("amount", new BigDecimal("-12345.6789"), true, false));
+        expected.addColumn(new Column("created_at", timestamp, false, false));
+        expected.addColumn(new Column("token", uuid, false, false));
+        expected.addColumn(new Column("remark", null, false, false));
+        OffHeapPipelineChannel channel = new OffHeapPipelineChannel(1024L * 1024);
+        channel.pushRecord(expected);
+        DataRecord actual = (DataRecord) channel.fetchRecords(1, 0).get(0);
+        assertThat(actual.getType(), is(IngestDataChangeType.UPDATE));
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getCommitTime(), is(1650000000000L));
+        assertThat(actual.getPosition(), is(expected.getPosition()));
+        assertThat(actual.getColumnCount(), is(7));
+        assertThat(actual.getColumn(0).getOldValue(), is(1L));
+        assertThat(actual.getColumn(0).getValue(), is(2L));
+        assertTrue(actual.getColumn(0).isPrimaryKey());
+        assertThat(actual.getKey(), is(expected.getKey()));
+        assertThat(actual.getColumn(1).getValue(), is("中文 content"));
+        assertTrue(actual.getColumn(1).isUpdated());
+        assertFalse(actual.getColumn(1).isPrimaryKey());
+        assertArrayEquals((byte[]) actual.getColumn(2).getValue(), new byte[]{1, 2, 3});
+        assertThat(actual.getColumn(3).getValue(), is(new BigDecimal("-12345.6789")));
+        assertThat(actual.getColumn(4).getValue(), is(timestamp));
+        assertThat(actual.getColumn(5).getValue(), is(uuid));
+        assertNull(actual.getColumn(6).getValue());
+    }
+    
+    @Test
+    public void assertPassThroughNonDataRecord() {
+        OffHeapPipelineChannel channel = new OffHeapPipelineChannel(1024L);
+        Record expected = new FinishedRecord(new PlaceholderPosition());
+        channel.pushRecord(expected);
+        assertThat(channel.fetchRecords(1, 0), is(Collections.singletonList(expected)));
+    }
+    
+    @Test
+    public void assertPushBlockedByBufferedBytes() throws InterruptedException, ExecutionException, TimeoutException {
+        OffHeapPipelineChannel channel = new OffHeapPipelineChannel(2048L, UnpooledByteBufAllocator.DEFAULT, new EmptyAckCallback());
+        List<DataRecord> expected = new ArrayList<>(100);
+        for (int i = 0; i < 100; i++) {
+            expected.add(createDataRecord(i, new String(new char[1000])));
+        }
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> expected.forEach(channel::pushRecord));
+        Thread.sleep(100L);
+        assertFalse(future.isDone());
+        List<Record> actual = new ArrayList<>(expected.size());
+        while (actual.size() < expected.size()) {
+            actual.addAll(channel.fetchRecords(1, 5));
+        }
+        future.get(5L, TimeUnit.SECONDS);
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(((DataRecord) actual.get(i)).getKey(), is(expected.get(i).getKey()));
+        }
+    }
+    
+    @Test
+    public void assertOversizedRecordAcceptedWhenEmpty() {
+        OffHeapPipelineChannel channel = new OffHeapPipelineChannel(16L);
+        channel.pushRecord(createDataRecord(1, new String(new char[1000])));
+        assertThat(channel.fetchRecords(1, 0).size(), is(1));
+    }
+    
+    @Test
+    public void assertFetchEmptyAfterTimeout() {
+        assertTrue(new OffHeapPipelineChannel(1024L).fetchRecords(100, 0).isEmpty());
+    }
+    
+    @Test
+    public void assertCloseReleaseBufferedRecords() {
+        OffHeapPipelineChannel channel = new OffHeapPipelineChannel(1024L * 1024);
+        channel.pushRecord(createDataRecord(1, "foo"));
+        channel.close();
+        assertTrue(channel.fetchRecords(1, 0).isEmpty());
+    }
+    
+    @Test
+    public void assertCreatePipelineChannelByFactory() {
+        OffHeapPipelineChannelFactory factory = new OffHeapPipelineChannelFactory();
+        Properties props = new Properties();
+        props.setProperty("max-buffered-bytes", "1048576");
+        factory.setProps(props);
+        factory.init();
+        assertThat(factory.getMaxBufferedBytes(), is(1048576L));
+        assertThat(factory.createPipelineChannel(1, new EmptyAckCallback()), instanceOf(OffHeapPipelineChannel.class));
+        assertThat(factory.createPipelineChannel(2, new EmptyAckCallback()), instanceOf(MultiplexMemoryPipelineChannel.class));
+    }
+    
+    private DataRecord createDataRecord(final int id, final String content) {
+        DataRecord result = new DataRecord(new PlaceholderPosition(), 2);
+        result.setType(IngestDataChangeType.INSERT);
+        result.setTableName("t_order");
+        result.addColumn(new Column("id", id, true, true));
+        result.addColumn(new Column("content", content, true, false));
+        return result;
+    }
+}
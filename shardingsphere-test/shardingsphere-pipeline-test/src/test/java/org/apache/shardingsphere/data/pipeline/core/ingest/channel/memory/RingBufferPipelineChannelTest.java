@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallback;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class RingBufferPipelineChannelTest {
+    
+    @Test
+    public void assertFetchFullBatch() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(16, 5L);
+        List<Record> expected = createRecords(10);
+        expected.forEach(channel::pushRecord);
+        assertThat(channel.fetchRecords(10, 10), is(expected));
+    }
+    
+    @Test
+    public void assertFetchPartialBatchAfterLinger() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(16, 5L);
+        List<Record> expected = createRecords(3);
+        expected.forEach(channel::pushRecord);
+        long startMillis = System.currentTimeMillis();
+        assertThat(channel.fetchRecords(100, 10), is(expected));
+        assertTrue(System.currentTimeMillis() - startMillis < TimeUnit.SECONDS.toMillis(5L));
+    }
+    
+    @Test
+    public void assertFetchEmptyAfterTimeout() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(16, 5L);
+        assertTrue(channel.fetchRecords(100, 0).isEmpty());
+    }
+    
+    @Test
+    public void assertFetchWokenUpByPush() throws InterruptedException, ExecutionException, TimeoutException {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(16, 5L);
+        CompletableFuture<List<Record>> future = CompletableFuture.supplyAsync(() -> channel.fetchRecords(100, 30));
+        Thread.sleep(100L);
+        List<Record> expected = createRecords(1);
+        channel.pushRecord(expected.get(0));
+        assertThat(future.get(5L, TimeUnit.SECONDS), is(expected));
+    }
+    
+    @Test
+    public void assertPushBlockedUntilFetched() throws InterruptedException, ExecutionException, TimeoutException {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, 0L);
+        List<Record> expected = createRecords(1000);
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> expected.forEach(channel::pushRecord));
+        List<Record> actual = new ArrayList<>(expected.size());
+        while (actual.size() < expected.size()) {
+            actual.addAll(channel.fetchRecords(3, 5));
+        }
+        future.get(5L, TimeUnit.SECONDS);
+        assertThat(actual, is(expected));
+    }
+    
+    @Test
+    public void assertCreatePipelineChannelByFactory() {
+        RingBufferPipelineChannelFactory factory = new RingBufferPipelineChannelFactory();
+        Properties props = new Properties();
+        props.setProperty("block-queue-size", "100");
+        props.setProperty("batch-linger-millis", "1");
+        factory.setProps(props);
+        factory.init();
+        assertThat(factory.getBlockQueueSize(), is(100));
+        assertThat(factory.getBatchLingerMillis(), is(1L));
+        assertThat(factory.createPipelineChannel(1, new EmptyAckCallback()), instanceOf(RingBufferPipelineChannel.class));
+        assertThat(factory.createPipelineChannel(2, new EmptyAckCallback()), instanceOf(MultiplexMemoryPipelineChannel.class));
+    }
+    
+    private List<Record> createRecords(final int count) {
+        List<Record> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(new PlaceholderRecord(new PlaceholderPosition()));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.dumper;
+
+import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.config.ingest.InventoryDumperConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.api.datasource.config.impl.StandardPipelineDataSourceConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.UniqueKeyRangePosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory.SimpleMemoryPipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataLoader;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class AbstractInventoryDumperTest {
+    
+    private PipelineDataSourceManager dataSourceManager;
+    
+    private InventoryDumperConfiguration dumperConfig;
+    
+    private PipelineDataSourceWrapper dataSource;
+    
+    @Before
+    public void setUp() throws SQLException {
+        dataSourceManager = new PipelineDataSourceManager();
+        DumperConfiguration config = new DumperConfiguration();
+        config.setDataSourceConfig(new StandardPipelineDataSourceConfiguration("jdbc:h2:mem:test_dumper;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL", "root", "root"));
+        config.setTableNameMap(Collections.singletonMap("t_order_item", "t_order_item"));
+        dumperConfig = new InventoryDumperConfiguration(config);
+        dumperConfig.setTableName("t_order_item");
+        dumperConfig.setUniqueKeys(Arrays.asList("user_id", "order_id"));
+        dumperConfig.setBatchSize(2);
+        dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order_item");
+            statement.execute("CREATE TABLE t_order_item (user_id VARCHAR(12), order_id INT, status VARCHAR(12), PRIMARY KEY (user_id, order_id))");
+            statement.execute("INSERT INTO t_order_item (user_id, order_id, status) VALUES ('a', 1, 'x'), ('a', 2, 'x'), ('b', 1, 'x'), ('b', 2, 'x'), ('b', 3, 'x')");
+        }
+    }
+    
+    @After
+    public void tearDown() {
+        dataSourceManager.close();
+    }
+    
+    @Test
+    public void assertDumpByBoundedUniqueKeyRange() {
+        dumperConfig.setPosition(new UniqueKeyRangePosition(Arrays.asList("a", 1), Arrays.asList("b", 2)));
+        List<Record> actual = dump();
+        assertThat(actual.size(), is(4));
+        assertThat(actual.get(0).getPosition().toString(), is("r|STRING:a,INTEGER:2|STRING:b,INTEGER:2"));
+        assertThat(actual.get(1).getPosition().toString(), is("r|STRING:b,INTEGER:1|STRING:b,INTEGER:2"));
+        assertThat(actual.get(2).getPosition().toString(), is("r|STRING:b,INTEGER:2|STRING:b,INTEGER:2"));
+        assertThat(actual.get(3), instanceOf(FinishedRecord.class));
+    }
+    
+    @Test
+    public void assertDumpByUnboundedUniqueKeyRange() {
+        dumperConfig.setPosition(new UniqueKeyRangePosition(Collections.emptyList(), Collections.emptyList()));
+        List<Record> actual = dump();
+        assertThat(actual.size(), is(6));
+        assertThat(actual.get(0).getPosition().toString(), is("r|STRING:a,INTEGER:1|~"));
+        assertThat(actual.get(4).getPosition().toString(), is("r|STRING:b,INTEGER:3|~"));
+    }
+    
+    private List<Record> dump() {
+        SimpleMemoryPipelineChannel channel = new SimpleMemoryPipelineChannel(100);
+        new AbstractInventoryDumper(dumperConfig, channel, dataSource, new PipelineTableMetaDataLoader(dataSource)) {
+            
+            @Override
+            protected PreparedStatement createPreparedStatement(final Connection connection, final String sql) throws SQLException {
+                return connection.prepareStatement(sql);
+            }
+        }.start();
+        return channel.fetchRecords(100, 1);
+    }
+}
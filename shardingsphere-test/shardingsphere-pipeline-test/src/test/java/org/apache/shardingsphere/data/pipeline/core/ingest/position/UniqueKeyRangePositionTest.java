@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.position;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.UniqueKeyRangePosition;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class UniqueKeyRangePositionTest {
+    
+    @Test
+    public void assertCompareTo() {
+        UniqueKeyRangePosition position1 = new UniqueKeyRangePosition(Collections.singletonList("a"), Collections.singletonList("m"));
+        UniqueKeyRangePosition position2 = new UniqueKeyRangePosition(Collections.singletonList("m"), Collections.emptyList());
+        assertThat(position1.compareTo(null), is(1));
+        assertTrue(position1.compareTo(position2) < 0);
+    }
+    
+    @Test
+    public void assertCompareToWithNumberValues() {
+        UniqueKeyRangePosition position1 = new UniqueKeyRangePosition(Collections.singletonList(9), Collections.singletonList(10L));
+        UniqueKeyRangePosition position2 = new UniqueKeyRangePosition(Collections.singletonList(10L), Collections.singletonList(new BigDecimal("100.5")));
+        assertTrue(position1.compareTo(position2) < 0);
+        assertTrue(position2.compareTo(position1) > 0);
+    }
+    
+    @Test
+    public void assertCompareToWithUnboundedValues() {
+        UniqueKeyRangePosition position1 = new UniqueKeyRangePosition(Collections.emptyList(), Collections.singletonList(1));
+        UniqueKeyRangePosition position2 = new UniqueKeyRangePosition(Collections.emptyList(), Collections.emptyList());
+        assertTrue(position1.compareTo(position2) < 0);
+        assertThat(position2.compareTo(new UniqueKeyRangePosition(Collections.emptyList(), Collections.emptyList())), is(0));
+    }
+    
+    @Test
+    public void assertIsUniqueKeyRangePosition() {
+        assertTrue(UniqueKeyRangePosition.isUniqueKeyRangePosition("r|~|~"));
+        assertFalse(UniqueKeyRangePosition.isUniqueKeyRangePosition("1,100"));
+    }
+    
+    @Test
+    public void assertInit() {
+        UniqueKeyRangePosition position = UniqueKeyRangePosition.init("r|INTEGER:1,STRING:a%2Cb|~");
+        assertThat(position.getBeginValues(), is(Arrays.<Object>asList(1, "a,b")));
+        assertTrue(position.getEndValues().isEmpty());
+    }
+    
+    @Test
+    public void assertToString() {
+        assertThat(new UniqueKeyRangePosition(Arrays.asList(1L, "a|b"), Collections.singletonList("")).toString(), is("r|LONG:1,STRING:a%7Cb|STRING:"));
+        assertThat(new UniqueKeyRangePosition(Collections.emptyList(), Arrays.asList(2, "c")).toString(), is("r|~|INTEGER:2,STRING:c"));
+    }
+    
+    @Test
+    public void assertToStringAndInit() {
+        UniqueKeyRangePosition expected = new UniqueKeyRangePosition(Arrays.asList(Timestamp.valueOf("2021-01-01 00:00:00.123456789"), "~", new BigDecimal("1.10")),
+                Arrays.asList(UUID.fromString("6e2ec5b8-8b3c-4c1e-9a8a-0b5d0b2f9b1a"), Date.valueOf("2021-01-01"), 1.5D));
+        UniqueKeyRangePosition actual = UniqueKeyRangePosition.init(expected.toString());
+        assertThat(actual.getBeginValues(), is(expected.getBeginValues()));
+        assertThat(actual.getEndValues(), is(expected.getEndValues()));
+        assertThat(actual.compareTo(expected), is(0));
+    }
+}
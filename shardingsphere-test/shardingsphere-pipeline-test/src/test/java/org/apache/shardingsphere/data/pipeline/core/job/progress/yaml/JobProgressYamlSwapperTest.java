@@ -51,6 +51,9 @@ public final class JobProgressYamlSwapperTest {
         assertThat(actual.getIncremental().size(), is(1));
         assertTrue(actual.getIncremental().containsKey("ds0"));
         assertNull(actual.getIncremental().get("position"));
+        assertThat(actual.getMetrics().getDumperRecordsPerSecond(), is(100L));
+        assertThat(actual.getMetrics().getImporterBytesPerSecond(), is(1024L));
+        assertThat(actual.getMetrics().getLagSeconds(), is(2L));
     }
     
     @Test
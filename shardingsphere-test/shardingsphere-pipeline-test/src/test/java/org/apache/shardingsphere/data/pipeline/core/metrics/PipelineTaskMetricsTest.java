@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.metrics;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.MetricsPipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory.SimpleMemoryPipelineChannel;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class PipelineTaskMetricsTest {
+    
+    @Test
+    public void assertCountersCollectedByChannel() {
+        PipelineTaskMetrics metrics = new PipelineTaskMetrics();
+        PipelineChannel channel = new MetricsPipelineChannel(new SimpleMemoryPipelineChannel(100, records -> {
+        }), metrics);
+        channel.pushRecord(createDataRecord("foo", System.currentTimeMillis() - 10000L));
+        channel.pushRecord(createDataRecord("bar", System.currentTimeMillis() - 5000L));
+        assertThat(metrics.getDumpedRecordCount(), is(2L));
+        assertThat(metrics.getDumpedByteCount(), is(14L));
+        assertThat(metrics.getChannelQueueDepth(), is(2L));
+        assertTrue(metrics.getLagSeconds() >= 9L);
+        List<Record> records = channel.fetchRecords(1, 0);
+        assertThat(metrics.getChannelQueueDepth(), is(1L));
+        channel.ack(records);
+        assertThat(metrics.getImportedRecordCount(), is(1L));
+        assertThat(metrics.getImportedByteCount(), is(7L));
+        assertTrue(metrics.getLagSeconds() >= 4L && metrics.getLagSeconds() < 9L);
+        channel.ack(channel.fetchRecords(1, 0));
+        assertThat(metrics.getChannelQueueDepth(), is(0L));
+        assertThat(metrics.getLagSeconds(), is(0L));
+    }
+    
+    @Test
+    public void assertRatesCalculatedInSlidingWindow() throws InterruptedException {
+        PipelineTaskMetrics metrics = new PipelineTaskMetrics();
+        for (int i = 0; i < 10; i++) {
+            metrics.onPushed(createDataRecord("foo", 0L));
+        }
+        assertThat(metrics.getDumperRecordsPerSecond(), is(0L));
+        Thread.sleep(1010L - System.currentTimeMillis() % 1000L);
+        assertThat(metrics.getDumperRecordsPerSecond(), is(2L));
+        assertThat(metrics.getDumperBytesPerSecond(), is(14L));
+        assertThat(metrics.getImporterRecordsPerSecond(), is(0L));
+    }
+    
+    private DataRecord createDataRecord(final String name, final long commitTime) {
+        DataRecord result = new DataRecord(new PlaceholderPosition(), 2);
+        result.addColumn(new Column("id", 1, true, true));
+        result.addColumn(new Column("name", name, true, false));
+        result.setCommitTime(commitTime);
+        return result;
+    }
+}
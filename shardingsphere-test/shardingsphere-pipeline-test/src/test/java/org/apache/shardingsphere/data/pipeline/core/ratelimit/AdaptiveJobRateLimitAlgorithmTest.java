@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ratelimit;
+
+import org.apache.shardingsphere.data.pipeline.api.job.JobLoadFeedbackType;
+import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
+import org.apache.shardingsphere.data.pipeline.core.util.ReflectionUtil;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class AdaptiveJobRateLimitAlgorithmTest {
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertInitWithoutMaxRate() {
+        new AdaptiveJobRateLimitAlgorithm().init();
+    }
+    
+    @Test
+    public void assertInterceptWithoutFeedback() throws ReflectiveOperationException {
+        AdaptiveJobRateLimitAlgorithm algorithm = createAlgorithm();
+        interceptAfterAdjustInterval(algorithm);
+        assertThat(algorithm.getRate(), is(100D));
+    }
+    
+    @Test
+    public void assertRateHalvedWhenOverloaded() throws ReflectiveOperationException {
+        AdaptiveJobRateLimitAlgorithm algorithm = createAlgorithm();
+        algorithm.feedback(JobLoadFeedbackType.STATEMENT_LATENCY, 5000L);
+        interceptAfterAdjustInterval(algorithm);
+        assertThat(algorithm.getRate(), is(50D));
+        algorithm.intercept(JobOperationType.SELECT, 1);
+        assertThat(algorithm.getRate(), is(50D));
+        interceptAfterAdjustInterval(algorithm);
+        interceptAfterAdjustInterval(algorithm);
+        interceptAfterAdjustInterval(algorithm);
+        assertThat(algorithm.getRate(), is(10D));
+    }
+    
+    @Test
+    public void assertRateIncreasedAfterLoadRecovered() throws ReflectiveOperationException {
+        AdaptiveJobRateLimitAlgorithm algorithm = createAlgorithm();
+        algorithm.feedback(JobLoadFeedbackType.THREADS_RUNNING, 64L);
+        interceptAfterAdjustInterval(algorithm);
+        assertThat(algorithm.getRate(), is(50D));
+        for (int i = 0; i < 10; i++) {
+            algorithm.feedback(JobLoadFeedbackType.THREADS_RUNNING, 1L);
+        }
+        interceptAfterAdjustInterval(algorithm);
+        assertThat(algorithm.getRate(), is(55D));
+    }
+    
+    @Test
+    public void assertIgnoreSystemLoadIntercept() {
+        AdaptiveJobRateLimitAlgorithm algorithm = createAlgorithm();
+        algorithm.intercept(JobOperationType.SYSTEM_LOAD, null);
+        assertThat(algorithm.getRate(), is(100D));
+    }
+    
+    private AdaptiveJobRateLimitAlgorithm createAlgorithm() {
+        Properties props = new Properties();
+        props.setProperty(AdaptiveJobRateLimitAlgorithm.MAX_RATE_KEY, "100");
+        props.setProperty(AdaptiveJobRateLimitAlgorithm.MIN_RATE_KEY, "10");
+        props.setProperty(AdaptiveJobRateLimitAlgorithm.THREADS_RUNNING_THRESHOLD_KEY, "32");
+        AdaptiveJobRateLimitAlgorithm result = new AdaptiveJobRateLimitAlgorithm();
+        result.setProps(props);
+        result.init();
+        return result;
+    }
+    
+    private void interceptAfterAdjustInterval(final AdaptiveJobRateLimitAlgorithm algorithm) throws ReflectiveOperationException {
+        ReflectionUtil.setFieldValue(algorithm, "lastAdjustMillis", 0L);
+        algorithm.intercept(JobOperationType.INSERT, 1);
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.data.pipeline.scenario.rulealtered.prepare;
 import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.TaskConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.UniqueKeyRangePosition;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.core.exception.PipelineJobCreationException;
 import org.apache.shardingsphere.data.pipeline.core.task.InventoryTask;
@@ -33,6 +34,7 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -88,16 +90,38 @@ public final class InventoryTaskSplitterTest {
         assertThat(((PrimaryKeyPosition) actual.get(9).getProgress().getPosition()).getEndValue(), is(100L));
     }
     
-    @Test(expected = PipelineJobCreationException.class)
+    @Test
     public void assertSplitInventoryDataWithCharPrimary() throws SQLException {
+        taskConfig.getHandleConfig().setShardingSize(1);
         initCharPrimaryEnvironment(taskConfig.getDumperConfig());
-        inventoryTaskSplitter.splitInventoryData(jobContext);
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobContext);
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0).getProgress().getPosition().toString(), is("r|~|STRING:1"));
+        assertThat(actual.get(1).getProgress().getPosition().toString(), is("r|STRING:1|STRING:999"));
+        assertThat(actual.get(2).getProgress().getPosition().toString(), is("r|STRING:999|~"));
     }
     
-    @Test(expected = PipelineJobCreationException.class)
+    @Test
     public void assertSplitInventoryDataWithUnionPrimary() throws SQLException {
+        taskConfig.getHandleConfig().setShardingSize(1);
         initUnionPrimaryEnvironment(taskConfig.getDumperConfig());
-        inventoryTaskSplitter.splitInventoryData(jobContext);
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobContext);
+        assertThat(actual.size(), is(3));
+        UniqueKeyRangePosition position = (UniqueKeyRangePosition) actual.get(1).getProgress().getPosition();
+        assertThat(position.getBeginValues(), is(Arrays.<Object>asList(1, "xxx")));
+        assertThat(position.getEndValues(), is(Arrays.<Object>asList(999, "yyy")));
+    }
+    
+    @Test
+    public void assertSplitInventoryDataWithEmptyTableAndCharPrimary() throws SQLException {
+        initCharPrimaryEnvironment(taskConfig.getDumperConfig());
+        try (Connection connection = dataSourceManager.getDataSource(taskConfig.getDumperConfig().getDataSourceConfig()).getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM t_order");
+        }
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobContext);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getProgress().getPosition().toString(), is("r|~|~"));
     }
     
     @Test(expected = PipelineJobCreationException.class)